@@ -25,6 +25,13 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:${project.properties["springDocOpenApiVersion"]}")
 
+    // cache serialization
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
+    implementation("org.lz4:lz4-java:${project.properties["lz4JavaVersion"]}")
+
+    // data generator (LOAD DATA LOCAL INFILE 스트림)
+    compileOnly("com.mysql:mysql-connector-j")
+
     // security
     implementation("org.springframework.security:spring-security-crypto")
 
@@ -5,7 +5,9 @@ import com.loopers.application.brand.dto.BrandResult;
 import com.loopers.domain.brand.BrandModel;
 import com.loopers.domain.brand.BrandService;
 import com.loopers.domain.product.ProductService;
+import com.loopers.support.cache.CacheKeys;
 import com.loopers.support.cache.CacheType;
+import com.loopers.support.cache.RedisCacheHelper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
@@ -21,6 +23,7 @@ public class BrandFacade {
 
     private final BrandService brandService;
     private final ProductService productService;
+    private final RedisCacheHelper cacheHelper;
 
     @CacheEvict(cacheNames = CacheType.Names.BRAND_LIST, allEntries = true)
     @Transactional
@@ -42,6 +45,7 @@ public class BrandFacade {
     @Transactional
     public void updateBrand(Long id, BrandCriteria.Update criteria) {
         brandService.update(id, criteria.name());
+        cacheHelper.deleteAfterCommit(CacheKeys.brandName(id));
     }
 
     @Caching(evict = {
@@ -53,6 +57,7 @@ public class BrandFacade {
     public void deleteBrand(Long id) {
         brandService.delete(id);
         productService.deleteAllByBrandId(id);
+        cacheHelper.deleteAfterCommit(CacheKeys.brandName(id));
     }
 
     @Cacheable(cacheNames = CacheType.Names.BRAND_LIST, key = "'all'")
@@ -30,7 +30,8 @@ public class CouponFacade {
     @Transactional
     public CouponResult.Detail registerCoupon(CouponCriteria.Create criteria) {
         CouponModel coupon = couponService.register(criteria.toCommand());
-        couponIssueLimiter.registerTotalQuantity(coupon.getId(), coupon.getTotalQuantity());
+        couponIssueLimiter.registerTotalQuantity(
+                coupon.getId(), coupon.getTotalQuantity(), coupon.getExpiredAt());
         return CouponResult.Detail.from(coupon, 0);
     }
 
@@ -14,6 +14,7 @@ import com.loopers.domain.product.dto.ProductInfo;
 import com.loopers.domain.waitingroom.WaitingRoomService;
 import com.loopers.domain.user.UserService;
 import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.micrometer.observation.annotation.Observed;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -35,6 +36,7 @@ public class OrderFacade {
     private final WaitingRoomService waitingRoomService;
     private final ApplicationEventPublisher eventPublisher;
 
+    @Observed(name = "order.create.token")
     @Bulkhead(name = "orderApi", type = Bulkhead.Type.SEMAPHORE)
     @Transactional
     public OrderResult.OrderSummary createOrderWithToken(
@@ -0,0 +1,29 @@
+package com.loopers.application.payment;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * PG 콜백 반영 워커.
+ * 200ms마다 수신함에서 최대 100건을 꺼내 결제/주문을 묶음 단위로 커밋한다.
+ * 배치가 가득 차면 같은 주기 안에서 이어서 비운다 (재시도 폭주 시 적체 해소).
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentCallbackScheduler {
+
+    private static final int BATCH_SIZE = 100;
+    private static final int MAX_BATCHES_PER_RUN = 10;
+
+    private final PaymentFacade paymentFacade;
+
+    @Scheduled(fixedDelay = 200)
+    public void run() {
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            if (paymentFacade.applyPendingCallbacks(BATCH_SIZE) < BATCH_SIZE) {
+                return;
+            }
+        }
+    }
+}
@@ -2,15 +2,19 @@ package com.loopers.application.payment;
 
 import com.loopers.domain.order.OrderModel;
 import com.loopers.domain.order.OrderService;
+import com.loopers.domain.payment.PaymentCallbackBatch;
+import com.loopers.domain.payment.PaymentCallbackModel;
+import com.loopers.domain.payment.PaymentCallbackService;
 import com.loopers.domain.payment.PaymentErrorCode;
 import com.loopers.domain.payment.PaymentGateway;
 import com.loopers.domain.payment.PaymentModel;
 import com.loopers.domain.payment.PaymentService;
-import com.loopers.domain.payment.PgCallbackStatus;
 import com.loopers.domain.payment.PgPaymentRequest;
 import com.loopers.domain.payment.PgPaymentResult;
 import com.loopers.domain.payment.PgRequestStatus;
 import com.loopers.support.error.CoreException;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -24,6 +28,7 @@ public class PaymentFacade {
     private static final String CALLBACK_URL = "http://localhost:8080/api/v1/payments/callback";
 
     private final PaymentService paymentService;
+    private final PaymentCallbackService paymentCallbackService;
     private final PaymentGateway paymentGateway;
     private final OrderService orderService;
 
@@ -61,36 +66,76 @@ public class PaymentFacade {
         return PaymentStatusResult.from(payment);
     }
 
-    public void handleCallback(String transactionKey, String pgStatus, String pgReason) {
-        PgCallbackStatus callbackStatus = PgCallbackStatus.from(pgStatus, pgReason);
+    /**
+     * PG 콜백은 수신함에 적재만 하고 즉시 응답한다. 반영은 {@link PaymentCallbackScheduler}가 배치로 처리한다.
+     */
+    public void receiveCallback(String transactionKey, String pgStatus, String pgReason) {
+        paymentCallbackService.receive(transactionKey, pgStatus, pgReason);
+    }
+
+    /**
+     * 결제 전이는 배치 한 트랜잭션으로 커밋하고, 완료된 결제의 주문은 IN 조회 한 번으로 읽어 한 트랜잭션에서 완료한다.
+     * 일괄 완료가 실패하면 그 주문들만 주문마다 별도 트랜잭션으로 다시 반영해, 한 주문의 실패가 다른 주문을 막지 않게 한다.
+     *
+     * @return 이번 배치에서 선점한 콜백 수
+     */
+    public int applyPendingCallbacks(int batchSize) {
+        PaymentCallbackBatch batch = paymentCallbackService.applyPending(batchSize);
+
+        List<Long> completedOrderIds = new ArrayList<>();
+        for (PaymentModel payment : batch.transitioned()) {
+            if (payment.isCompleted()) {
+                completedOrderIds.add(payment.getOrderId());
+            }
+            if (payment.isFailed()) {
+                // TODO: 결제 실패 시 보상 트랜잭션 전략 별도 논의
+                log.info("결제 실패. orderId={}, failureCode={}",
+                        payment.getOrderId(), payment.getFailureCode());
+            }
+        }
+        completeOrders(completedOrderIds.stream().distinct().toList());
+        for (PaymentCallbackModel callback : batch.abandoned()) {
+            log.error("결제를 찾지 못한 PG 콜백 반영 포기. 수동 확인 필요. transactionKey={}, pgStatus={}, attempts={}, receivedAt={}",
+                    callback.getTransactionKey(), callback.getPgStatus(), callback.getAttempts(), callback.getReceivedAt());
+        }
+        return batch.claimedCount();
+    }
 
-        PaymentModel payment;
-        if (callbackStatus.isSuccess()) {
-            payment = paymentService.updateCompleted(transactionKey);
-        } else {
-            payment = paymentService.updateFailed(
-                    transactionKey, callbackStatus.name(), pgReason);
+    private void completeOrders(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        List<OrderModel> skipped;
+        try {
+            skipped = orderService.completeOrders(orderIds);
+        } catch (Exception e) {
+            log.warn("Order 상태 일괄 갱신 실패. 주문별로 다시 반영한다. orderIds={}", orderIds, e);
+            orderIds.forEach(this::completeOrder);
+            return;
+        }
+        for (OrderModel order : skipped) {
+            if (order.isCancelled()) {
+                // TODO: PG 환불 API 연동 시 여기서 refund 호출
+                log.warn("늦은 콜백으로 인한 자동 환불 필요. orderId={}", order.getId());
+            }
         }
+    }
 
-        if (payment.isCompleted()) {
+    private void completeOrder(Long orderId) {
+        try {
+            orderService.completeOrder(orderId);
+        } catch (Exception e) {
             try {
-                orderService.completeOrder(payment.getOrderId());
-            } catch (Exception e) {
-                OrderModel order = orderService.getById(payment.getOrderId());
+                OrderModel order = orderService.getById(orderId);
                 if (order.isCancelled()) {
                     // TODO: PG 환불 API 연동 시 여기서 refund 호출
-                    log.warn("늦은 콜백으로 인한 자동 환불 필요. orderId={}", payment.getOrderId());
-                } else {
-                    log.warn("Order 상태 갱신 실패. 폴링 배치가 복구 예정. orderId={}",
-                            payment.getOrderId(), e);
+                    log.warn("늦은 콜백으로 인한 자동 환불 필요. orderId={}", orderId);
+                    return;
                 }
+            } catch (Exception lookupFailure) {
+                e.addSuppressed(lookupFailure);
             }
-        }
-
-        if (payment.isFailed()) {
-            // TODO: 결제 실패 시 보상 트랜잭션 전략 별도 논의
-            log.info("결제 실패. orderId={}, failureCode={}",
-                    payment.getOrderId(), payment.getFailureCode());
+            log.warn("Order 상태 갱신 실패. 폴링 배치가 복구 예정. orderId={}", orderId, e);
         }
     }
 
@@ -5,6 +5,7 @@ import com.loopers.application.product.dto.ProductResult;
 import com.loopers.domain.brand.BrandService;
 import com.loopers.domain.product.ImageType;
 import com.loopers.domain.product.ProductImageService;
+import com.loopers.domain.product.ProductLikeService;
 import com.loopers.domain.product.ProductModel;
 import com.loopers.domain.product.ProductService;
 import com.loopers.domain.product.event.ProductViewedEvent;
@@ -12,6 +13,7 @@ import com.loopers.domain.rank.RankService;
 import com.loopers.support.cache.CacheType;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -36,6 +38,7 @@ public class ProductFacade {
     private final ProductImageService productImageService;
     private final RankService rankingScoreService;
     private final ApplicationEventPublisher eventPublisher;
+    private final ProductLikeService productLikeService;
 
     @Caching(evict = {
             @CacheEvict(cacheNames = CacheType.Names.PRODUCT_LIST_LATEST, allEntries = true),
@@ -53,7 +56,7 @@ public class ProductFacade {
         return ProductResult.of(
                 product,
                 brandService.getById(product.getBrandId()).getName(),
-                productService.getLikeCountByProductId(id));
+                likeCountOf(id));
     }
 
     @Transactional(readOnly = true)
@@ -66,7 +69,7 @@ public class ProductFacade {
                 ProductResult.of(
                         product,
                         brandService.getById(product.getBrandId()).getName(),
-                        productService.getLikeCountByProductId(id)),
+                        likeCountOf(id)),
                 productImageService.getImagesByProductIdAndType(id, ImageType.MAIN).stream()
                         .map(ProductResult.ImageResult::from)
                         .toList(),
@@ -138,6 +141,25 @@ public class ProductFacade {
         return toResultPage(products);
     }
 
+    /**
+     * 좋아요 버퍼에 올라온 상품은 버퍼의 수를, 나머지는 상품 지표의 집계를 쓴다.
+     */
+    private long likeCountOf(Long productId) {
+        Long buffered = productLikeService.getBufferedLikeCounts(List.of(productId)).get(productId);
+        return buffered != null ? buffered : productService.getLikeCountByProductId(productId);
+    }
+
+    private Map<Long, Long> likeCountsOf(List<Long> productIds) {
+        Map<Long, Long> buffered = productLikeService.getBufferedLikeCounts(productIds);
+        if (buffered.size() == productIds.size()) {
+            return buffered;
+        }
+        List<Long> missing = productIds.stream().filter(id -> !buffered.containsKey(id)).toList();
+        Map<Long, Long> counts = new HashMap<>(productService.getLikeCountsByProductIds(missing));
+        counts.putAll(buffered);
+        return counts;
+    }
+
     private Page<ProductResult> toResultPage(Page<ProductModel> products) {
         List<Long> productIds = ProductModel.extractIds(products.getContent());
         return new PageImpl<>(
@@ -145,7 +167,7 @@ public class ProductFacade {
                         products.getContent(),
                         brandService.getActiveNameMapByIds(
                                 ProductModel.extractDistinctBrandIds(products.getContent())),
-                        productService.getLikeCountsByProductIds(productIds)),
+                        likeCountsOf(productIds)),
                 products.getPageable(),
                 products.getTotalElements());
     }
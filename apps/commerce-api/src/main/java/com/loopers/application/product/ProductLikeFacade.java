@@ -3,7 +3,7 @@ package com.loopers.application.product;
 import com.loopers.application.product.dto.ProductLikeResult;
 import com.loopers.domain.product.ProductLikeService;
 import com.loopers.domain.product.ProductService;
-import java.util.List;
+import com.loopers.domain.product.dto.ProductLikeInfo;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,12 +25,29 @@ public class ProductLikeFacade {
         productLikeService.unlike(userId, productId);
     }
 
+    /**
+     * 삭제된 상품은 좋아요 조회 쿼리에서 함께 걸러지므로 상품별 존재 확인을 하지 않는다.
+     */
     @Transactional(readOnly = true)
-    public List<ProductLikeResult> getMyLikedProducts(Long userId) {
-        return productLikeService.getLikesByUserId(userId).stream()
-            .filter(like -> productService.existsById(like.getProductId()))
-            .map(ProductLikeResult::from)
-            .toList();
+    public ProductLikeResult.Slice getMyLikedProducts(Long userId, String cursor, int size) {
+        ProductLikeInfo.Slice slice =
+            productLikeService.getActiveLikesByUserId(userId, ProductLikeInfo.Cursor.decode(cursor), size);
+        return ProductLikeResult.Slice.from(slice);
+    }
+
+    /**
+     * 좋아요 버퍼 저널을 한 묶음 DB에 반영하고, 커밋이 끝난 뒤에 저널에서 지운다.
+     * 트랜잭션은 서비스에서 열고 닫으므로 여기서는 열지 않는다.
+     *
+     * @return 처리한 저널 항목 수
+     */
+    public int flushBufferedLikes(int batchSize) {
+        ProductLikeInfo.Journal journal = productLikeService.flushBuffered(batchSize);
+        productLikeService.acknowledgeFlushed(journal);
+        return journal.entryIds().size();
     }
-}
 
+    public int reconcileBufferedLikes(int batchSize) {
+        return productLikeService.reconcileBuffered(batchSize);
+    }
+}
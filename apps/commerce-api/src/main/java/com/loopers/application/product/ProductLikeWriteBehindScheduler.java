@@ -0,0 +1,61 @@
+package com.loopers.application.product;
+
+import com.loopers.infrastructure.product.LikeFlushLease;
+import com.loopers.infrastructure.product.LikeWriteBehindProperties;
+import com.loopers.support.error.CoreException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좋아요 write-behind 반영 워커.
+ * 임대를 가진 한 대만 flush-interval-ms마다 저널을 batch-size건씩 DB에 반영한다.
+ * 묶음이 가득 차면 같은 주기 안에서 이어서 비운다 (좋아요 폭주 시 적체 해소). 묶음마다 임대를 연장하고, 잃으면 멈춘다.
+ * reconcile-interval-ms마다 버퍼에 올라온 상품을 조금씩 DB와 맞춘다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "like.write-behind", name = "enabled", havingValue = "true")
+public class ProductLikeWriteBehindScheduler {
+
+    private static final int MAX_BATCHES_PER_RUN = 10;
+
+    private final ProductLikeFacade productLikeFacade;
+    private final LikeFlushLease flushLease;
+    private final LikeWriteBehindProperties properties;
+
+    @Scheduled(fixedDelayString = "${like.write-behind.flush-interval-ms:1000}")
+    public void flush() {
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            if (!flushLease.tryAcquire()) {
+                return;
+            }
+            int flushed;
+            try {
+                flushed = productLikeFacade.flushBufferedLikes(properties.batchSize());
+            } catch (CoreException e) {
+                log.warn("[LikeFlush] 반영 묶음을 되돌렸다 — 다음 주기에 다시 반영한다: {}", e.getMessage());
+                return;
+            }
+            if (flushed < properties.batchSize()) {
+                return;
+            }
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${like.write-behind.reconcile-interval-ms:60000}",
+            fixedDelayString = "${like.write-behind.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        if (!flushLease.tryAcquire()) {
+            return;
+        }
+        int rebuilt = productLikeFacade.reconcileBufferedLikes(properties.reconcileBatchSize());
+        if (rebuilt > 0) {
+            log.info("[LikeFlush] 좋아요 버퍼 {}개 상품을 DB 기준으로 다시 맞췄다", rebuilt);
+        }
+    }
+}
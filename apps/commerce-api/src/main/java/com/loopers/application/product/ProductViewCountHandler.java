@@ -1,28 +1,31 @@
 package com.loopers.application.product;
 
 import com.loopers.domain.product.ProductViewLogModel;
-import com.loopers.domain.product.ProductViewLogRepository;
 import com.loopers.domain.product.event.ProductViewedEvent;
+import com.loopers.infrastructure.product.ProductViewLogWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * 상품 조회 로그 기록.
+ * 조회마다 트랜잭션을 열어 INSERT 하지 않고 쓰기 버퍼에 넘긴다. 적재는 ProductViewLogWriter가 묶어서 한다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "product.view-log", name = "enabled", havingValue = "true", matchIfMissing = true)
 public class ProductViewCountHandler {
 
-    private final ProductViewLogRepository productViewLogRepository;
+    private final ProductViewLogWriter productViewLogWriter;
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handle(ProductViewedEvent event) {
         try {
-            productViewLogRepository.save(
+            productViewLogWriter.append(
                     ProductViewLogModel.create(event.productId(), event.userId(), event.viewedAt()));
         } catch (Exception e) {
             log.warn("[ViewCount] 조회수 기록 실패 — productId={}", event.productId(), e);
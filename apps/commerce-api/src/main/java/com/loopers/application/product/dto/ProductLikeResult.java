@@ -1,6 +1,7 @@
 package com.loopers.application.product.dto;
 
 import com.loopers.domain.product.ProductLikeModel;
+import com.loopers.domain.product.dto.ProductLikeInfo;
 import java.time.ZonedDateTime;
 import java.util.List;
 
@@ -14,4 +15,15 @@ public record ProductLikeResult(Long id, Long userId, Long productId, ZonedDateT
                         new ProductLikeResult(model.getId(), model.getUserId(), model.getProductId(), model.getCreatedAt()))
                 .toList();
     }
+
+    /**
+     * @param nextCursor 다음 페이지를 읽을 때 넘길 커서. 마지막 페이지면 null
+     */
+    public record Slice(List<ProductLikeResult> items, String nextCursor) {
+        public static Slice from(ProductLikeInfo.Slice slice) {
+            return new Slice(
+                    ProductLikeResult.from(slice.likes()),
+                    slice.nextCursor() == null ? null : slice.nextCursor().encode());
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.loopers.application.rank;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.loopers.application.rank.dto.RankResult;
 import com.loopers.domain.brand.BrandService;
 import com.loopers.domain.product.ProductModel;
@@ -9,6 +10,8 @@ import com.loopers.domain.rank.RankPeriod;
 import com.loopers.domain.rank.RankService;
 import com.loopers.domain.rank.WeeklyRankService;
 import com.loopers.domain.rank.dto.RankInfo;
+import com.loopers.support.cache.CacheKeys;
+import com.loopers.support.cache.RedisCacheHelper;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -24,11 +27,14 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class RankFacade {
 
+    private static final TypeReference<String> BRAND_NAME = new TypeReference<>() {};
+
     private final RankService rankService;
     private final ProductService productService;
     private final BrandService brandService;
     private final WeeklyRankService weeklyRankService;
     private final MonthlyRankService monthlyRankService;
+    private final RedisCacheHelper cacheHelper;
 
     @Transactional(readOnly = true)
     public RankResult.RankingPage getTopRankings(LocalDate date, Pageable pageable) {
@@ -74,7 +80,9 @@ public class RankFacade {
                 .map(ProductModel::getBrandId)
                 .distinct()
                 .toList();
-        Map<Long, String> brandNameMap = brandService.getNameMapByIds(brandIds);
+        Map<Long, String> brandNameMap = cacheHelper.getAll(
+                brandIds, CacheKeys::brandName, BRAND_NAME,
+                brandService::getNameMapByIds, CacheKeys.BRAND_NAME_TTL);
 
         List<RankResult.RankingEntry> items = rankedScores.stream()
                 .filter(ranked -> productMap.containsKey(ranked.productId()))
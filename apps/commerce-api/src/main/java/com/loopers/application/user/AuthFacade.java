@@ -0,0 +1,31 @@
+package com.loopers.application.user;
+
+import com.loopers.application.user.dto.AuthTokenResult;
+import com.loopers.domain.user.AuthTokenService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class AuthFacade {
+
+    private final AuthTokenService authTokenService;
+
+    @Transactional(readOnly = true)
+    public AuthTokenResult login(String loginId, String rawPassword) {
+        return AuthTokenResult.from(authTokenService.login(loginId, rawPassword));
+    }
+
+    @Transactional(readOnly = true)
+    public AuthTokenResult refresh(String refreshToken) {
+        return AuthTokenResult.from(authTokenService.refresh(refreshToken));
+    }
+
+    public void logout(String accessToken, String refreshToken) {
+        if (accessToken != null) {
+            authTokenService.revoke(accessToken);
+        }
+        authTokenService.revoke(refreshToken);
+    }
+}
@@ -0,0 +1,38 @@
+package com.loopers.application.user;
+
+import com.loopers.domain.user.CredentialCache;
+import com.loopers.domain.user.TokenRevocationList;
+import com.loopers.domain.user.event.UserPasswordChangedEvent;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 비밀번호 변경이 커밋된 뒤 이전 비밀번호로 얻은 인증 수단을 무효화한다.
+ *
+ * - 캐시된 이전 자격 증명을 지우고 새 비밀번호 해시를 버전으로 남긴다.
+ *   무효화 뒤에 도착한 이전 비밀번호 인증의 저장은 버전이 달라 거절된다.
+ * - 지금까지 발급된 refresh 토큰을 모두 폐기한다. 기준 시각을 커밋 뒤에 잡아 변경 도중 재발급된 토큰도 포함한다.
+ *   access 토큰은 요청마다 Redis를 보지 않으므로 남은 유효 시간 동안은 쓸 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasswordChangedHandler {
+
+    private final CredentialCache credentialCache;
+    private final TokenRevocationList tokenRevocationList;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(UserPasswordChangedEvent event) {
+        credentialCache.evict(event.loginId(), event.credentialVersion());
+        try {
+            tokenRevocationList.revokeAllIssuedBefore(event.userId(), Instant.now().toEpochMilli());
+        } catch (Exception e) {
+            log.error("[Auth] 비밀번호 변경 후 refresh 토큰 폐기 실패 — userId={}", event.userId(), e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.loopers.application.user.dto;
+
+import com.loopers.domain.user.AuthTokenPair;
+
+public record AuthTokenResult(
+    String accessToken,
+    long accessTokenExpiresAt,
+    String refreshToken,
+    long refreshTokenExpiresAt
+) {
+    public static AuthTokenResult from(AuthTokenPair pair) {
+        return new AuthTokenResult(
+                pair.accessToken().value(),
+                pair.accessToken().claims().expiresAt(),
+                pair.refreshToken().value(),
+                pair.refreshToken().claims().expiresAt());
+    }
+}
@@ -2,6 +2,7 @@ package com.loopers.application.waitingroom;
 
 import com.loopers.application.waitingroom.dto.WaitingRoomResult;
 import com.loopers.domain.waitingroom.WaitingRoomService;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
@@ -10,6 +11,7 @@ import org.springframework.stereotype.Service;
 public class WaitingRoomFacade {
 
     private final WaitingRoomService waitingRoomService;
+    private final WaitingRoomPositionBroadcaster positionBroadcaster;
 
     public WaitingRoomResult enter(Long userId) {
         return WaitingRoomResult.from(waitingRoomService.enter(userId));
@@ -19,7 +21,16 @@ public class WaitingRoomFacade {
         return WaitingRoomResult.from(waitingRoomService.getPosition(userId));
     }
 
+    public void subscribe(Long userId, Consumer<WaitingRoomResult> listener) {
+        positionBroadcaster.subscribe(userId, listener);
+    }
+
+    public void unsubscribe(Long userId, Consumer<WaitingRoomResult> listener) {
+        positionBroadcaster.unsubscribe(userId, listener);
+    }
+
     public void cancel(Long userId) {
         waitingRoomService.cancel(userId);
+        positionBroadcaster.close(userId);
     }
 }
@@ -0,0 +1,224 @@
+package com.loopers.application.waitingroom;
+
+import com.loopers.application.waitingroom.dto.WaitingRoomResult;
+import com.loopers.domain.waitingroom.QueueProgress;
+import com.loopers.domain.waitingroom.WaitingRoomErrorCode;
+import com.loopers.domain.waitingroom.WaitingRoomPosition;
+import com.loopers.domain.waitingroom.WaitingRoomService;
+import com.loopers.support.error.CoreException;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기 중인 구독자(SSE)에게 순번 변화를 일괄 전송한다.
+ *
+ * 구독 시점의 순위와 누적 입장 인원을 기준으로 잡아 두고, 매 주기마다 누적 입장 인원 1회 + 전체 대기 인원 1회만 조회해
+ * "그 사이 입장한 인원만큼 앞당긴" 순위를 모든 구독자에게 계산해 보낸다. 구독자 수와 무관하게 Redis 호출은 일정하다.
+ * 추정 순위가 0 아래로 내려간(입장했을 수 있는) 유저만 개별 조회해 토큰을 전달하거나 기준을 다시 잡는다.
+ * 앞사람의 취소는 추정에 반영되지 않으므로, 구독자마다 resyncTicks 주기로 한 번씩 실제 순위로 다시 맞춘다 (userId로 분산).
+ * 개별 조회와 전송은 가상 스레드에서 처리해 Redis 왕복이나 느린 클라이언트가 스케줄러 스레드를 붙잡지 않게 한다.
+ * 조회 중인 구독자는 끝날 때까지 추정 전송과 다음 조회를 건너뛴다.
+ * 구독마다 보낼 결과를 큐에 쌓고 한 번에 한 작업만 꺼내 보내므로, 같은 연결에는 순서대로 하나씩 전송된다.
+ * 구독 시점의 순번도 같은 큐로 보내, 이후 변화보다 먼저 도착한다.
+ * 개별 조회가 실패한 구독자는 로그만 남기고 다음 주기에 다시 조회한다. 다른 구독자 전송은 계속된다.
+ */
+@Slf4j
+@Component
+public class WaitingRoomPositionBroadcaster {
+
+    private final WaitingRoomService waitingRoomService;
+    private final Executor sender;
+    private final int resyncTicks;
+    private final Map<Long, Subscription> subscriptions = new ConcurrentHashMap<>();
+    private long tick;
+
+    @Autowired
+    public WaitingRoomPositionBroadcaster(
+            WaitingRoomService waitingRoomService,
+            @Value("${queue.stream.resync-ticks:30}") int resyncTicks) {
+        this(waitingRoomService, Executors.newVirtualThreadPerTaskExecutor(), resyncTicks);
+    }
+
+    WaitingRoomPositionBroadcaster(WaitingRoomService waitingRoomService, Executor sender, int resyncTicks) {
+        this.waitingRoomService = waitingRoomService;
+        this.sender = sender;
+        this.resyncTicks = Math.max(1, resyncTicks);
+    }
+
+    /**
+     * 현재 순번을 listener로 보내고, 아직 대기 중이면 이후 변화도 받도록 등록한다.
+     * 현재 순번을 큐에 넣은 뒤에 등록하므로 일괄 전송이 먼저 도착하지 않는다.
+     * 같은 유저가 다시 구독하면 이전 구독을 대체한다.
+     */
+    public void subscribe(Long userId, Consumer<WaitingRoomResult> listener) {
+        long baseSequence = waitingRoomService.getAdmittedSequence();
+        WaitingRoomPosition position = waitingRoomService.getPosition(userId);
+        Subscription subscription = new Subscription(listener, position.position() - 1, baseSequence);
+        dispatch(userId, subscription, WaitingRoomResult.from(position));
+        if (!position.isEntryReady()) {
+            subscriptions.put(userId, subscription);
+            if (subscription.failed) {
+                subscriptions.remove(userId, subscription);
+            }
+        }
+    }
+
+    public void unsubscribe(Long userId, Consumer<WaitingRoomResult> listener) {
+        subscriptions.computeIfPresent(userId, (id, subscription) ->
+                subscription.listener == listener ? null : subscription);
+    }
+
+    /**
+     * 대기열을 나간 유저의 구독을 닫는다.
+     */
+    public void close(Long userId) {
+        Subscription subscription = subscriptions.remove(userId);
+        if (subscription != null) {
+            dispatch(userId, subscription, WaitingRoomResult.notInQueue());
+        }
+    }
+
+    public int subscriberCount() {
+        return subscriptions.size();
+    }
+
+    @Scheduled(fixedDelayString = "${queue.stream.push-interval-ms:1000}")
+    public void broadcast() {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        QueueProgress progress = waitingRoomService.getProgress();
+        long currentTick = tick++;
+        subscriptions.forEach((userId, subscription) -> {
+            if (subscription.resolving.get()) {
+                return;
+            }
+            long rank = progress.estimateRank(subscription.baseRank, subscription.baseSequence);
+            if (rank < 0 || (currentTick + userId) % resyncTicks == 0) {
+                resolveAsync(userId, subscription, progress);
+            } else if (rank != subscription.lastSentRank) {
+                subscription.lastSentRank = rank;
+                dispatch(userId, subscription, WaitingRoomResult.from(progress.positionAt(rank)));
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sender instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    private void resolveAsync(Long userId, Subscription subscription, QueueProgress progress) {
+        if (!subscription.resolving.compareAndSet(false, true)) {
+            return;
+        }
+        sender.execute(() -> {
+            try {
+                resolve(userId, subscription, progress);
+            } catch (RuntimeException e) {
+                log.warn("[WaitingRoom] 순번 조회 실패, 다음 주기에 다시 조회 — userId={}", userId, e);
+            } finally {
+                subscription.resolving.set(false);
+            }
+        });
+    }
+
+    private void resolve(Long userId, Subscription subscription, QueueProgress progress) {
+        WaitingRoomResult result;
+        try {
+            WaitingRoomPosition position = waitingRoomService.getPosition(userId);
+            if (!position.isEntryReady()) {
+                subscription.rebase(position.position() - 1, progress.admittedSequence());
+            }
+            result = WaitingRoomResult.from(position);
+        } catch (CoreException e) {
+            if (e.getErrorCode() != WaitingRoomErrorCode.NOT_IN_QUEUE) {
+                throw e;
+            }
+            result = WaitingRoomResult.notInQueue();
+        }
+
+        if (!result.isWaiting()) {
+            if (subscriptions.remove(userId, subscription)) {
+                dispatch(userId, subscription, result);
+            }
+        } else if (subscriptions.get(userId) == subscription && result.position() - 1 != subscription.lastSentRank) {
+            subscription.lastSentRank = result.position() - 1;
+            dispatch(userId, subscription, result);
+        }
+    }
+
+    private void dispatch(Long userId, Subscription subscription, WaitingRoomResult result) {
+        if (subscription.failed) {
+            return;
+        }
+        subscription.outbox.add(result);
+        drain(userId, subscription);
+    }
+
+    /**
+     * 전송 중인 작업이 없을 때만 새 작업을 띄운다. 작업이 끝난 뒤 큐에 남은 결과가 있으면 다시 띄운다.
+     */
+    private void drain(Long userId, Subscription subscription) {
+        if (!subscription.sending.compareAndSet(false, true)) {
+            return;
+        }
+        sender.execute(() -> {
+            try {
+                WaitingRoomResult next;
+                while ((next = subscription.outbox.poll()) != null) {
+                    subscription.listener.accept(next);
+                }
+            } catch (RuntimeException e) {
+                log.debug("[WaitingRoom] 순번 전송 실패, 구독 해제 — userId={}", userId, e);
+                subscription.failed = true;
+                subscription.outbox.clear();
+                subscriptions.remove(userId, subscription);
+            } finally {
+                subscription.sending.set(false);
+            }
+            if (!subscription.outbox.isEmpty()) {
+                drain(userId, subscription);
+            }
+        });
+    }
+
+    private static final class Subscription {
+
+        private final Consumer<WaitingRoomResult> listener;
+        private final Queue<WaitingRoomResult> outbox = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private final AtomicBoolean resolving = new AtomicBoolean();
+        private volatile boolean failed;
+        private volatile long baseRank;
+        private volatile long baseSequence;
+        private volatile long lastSentRank;
+
+        private Subscription(Consumer<WaitingRoomResult> listener, long baseRank, long baseSequence) {
+            this.listener = listener;
+            this.baseRank = baseRank;
+            this.baseSequence = baseSequence;
+            this.lastSentRank = baseRank;
+        }
+
+        private void rebase(long baseRank, long baseSequence) {
+            this.baseRank = baseRank;
+            this.baseSequence = baseSequence;
+        }
+    }
+}
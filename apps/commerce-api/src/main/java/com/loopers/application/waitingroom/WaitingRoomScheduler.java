@@ -2,8 +2,11 @@ package com.loopers.application.waitingroom;
 
 import com.loopers.domain.waitingroom.WaitingEntry;
 import com.loopers.domain.waitingroom.WaitingRoomService;
+import com.loopers.infrastructure.waitingroom.WaitingRoomSchedulerLease;
+import com.loopers.infrastructure.waitingroom.metrics.GlobalAdmitRateRecorder;
 import com.loopers.infrastructure.waitingroom.metrics.WaitingRoomProcessQueueMetrics;
 import com.loopers.infrastructure.waitingroom.metrics.WaitingRoomSchedulerTimer;
+import com.loopers.support.config.SchedulingConfig;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -11,9 +14,10 @@ import org.springframework.stereotype.Component;
 
 /**
  * 대기열 스케줄러.
- * 100ms마다 2명씩 꺼내서 1초에 최대 20명 입장 (Jitter 효과).
- * 1초에 20명을 한 번에 꺼내면 20명이 동시에 주문 API로 몰리는 Thundering Herd 발생.
- * 100ms 간격으로 분산하면 부하가 10배 평탄화된다.
+ * 100ms마다 입장 정책(AdmissionPolicy)이 정한 인원만큼 꺼낸다 (Jitter 효과).
+ * 1초치 인원을 한 번에 꺼내면 주문 API로 동시에 몰리는 Thundering Herd 발생.
+ * 100ms 간격으로 분산하면 부하가 10배 평탄화된다. 초당 인원은 주문 API 지표에 따라 AIMD로 조절된다.
+ * 여러 인스턴스가 떠 있어도 Redis 임대를 가진 리더 한 대만 입장 처리를 하므로 전체 입장 속도는 목표 속도 하나로 유지된다.
  */
 @Component
 @RequiredArgsConstructor
@@ -22,12 +26,19 @@ public class WaitingRoomScheduler {
     private final WaitingRoomService waitingRoomService;
     private final WaitingRoomSchedulerTimer schedulerTimer;
     private final WaitingRoomProcessQueueMetrics processQueueMetrics;
+    private final WaitingRoomSchedulerLease schedulerLease;
+    private final GlobalAdmitRateRecorder globalAdmitRateRecorder;
 
-    @Scheduled(fixedDelay = 100)
+    @Scheduled(fixedDelayString = "${queue.admission.tick-interval-ms:100}",
+            scheduler = SchedulingConfig.WAITING_ROOM_SCHEDULER)
     public void run() {
+        if (!schedulerLease.isLeader()) {
+            return;
+        }
         schedulerTimer.record(() -> {
             List<WaitingEntry> admitted = waitingRoomService.processQueue();
             processQueueMetrics.recordBatch(admitted);
+            globalAdmitRateRecorder.record(admitted.size());
         });
     }
 }
@@ -18,4 +18,12 @@ public record WaitingRoomResult(
                 position.estimatedWaitSeconds(),
                 position.token());
     }
+
+    public static WaitingRoomResult notInQueue() {
+        return new WaitingRoomResult("NOT_IN_QUEUE", 0, 0, 0, null);
+    }
+
+    public boolean isWaiting() {
+        return "WAITING".equals(status);
+    }
 }
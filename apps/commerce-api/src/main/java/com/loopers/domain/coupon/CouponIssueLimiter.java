@@ -1,10 +1,20 @@
 package com.loopers.domain.coupon;
 
+import java.time.ZonedDateTime;
+
 public interface CouponIssueLimiter {
 
     CouponIssueResult tryIssue(Long couponId, Long userId);
 
     void rollback(Long couponId, Long userId);
 
-    void registerTotalQuantity(Long couponId, int totalQuantity);
+    /**
+     * 발급 가능 수량을 등록한다. 구현체는 expiredAt 이후의 발급 기록을 보관하지 않아도 된다.
+     */
+    void registerTotalQuantity(Long couponId, int totalQuantity, ZonedDateTime expiredAt);
+
+    /**
+     * 남은 발급 가능 수량. 등록되지 않은 쿠폰이면 0이다.
+     */
+    long getRemainingQuantity(Long couponId);
 }
@@ -3,6 +3,7 @@ package com.loopers.domain.coupon;
 import com.loopers.domain.coupon.dto.CouponCommand;
 import com.loopers.support.error.CoreException;
 import java.time.ZonedDateTime;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +18,7 @@ public class CouponService {
 
     private final CouponRepository couponRepository;
     private final OwnedCouponRepository ownedCouponRepository;
+    private final CouponTermsCache couponTermsCache;
 
     @Transactional
     public CouponModel register(CouponCommand.Create command) {
@@ -55,7 +57,31 @@ public class CouponService {
     public OwnedCouponModel issue(Long couponId, Long userId) {
         CouponModel coupon = getById(couponId);
         coupon.validateIssuable();
-        return ownedCouponRepository.save(OwnedCouponModel.create(coupon, userId));
+        OwnedCouponModel owned = ownedCouponRepository.save(OwnedCouponModel.create(coupon, userId));
+        couponTermsCache.put(owned.getId(), CouponTerms.from(owned));
+        return owned;
+    }
+
+    /**
+     * 같은 쿠폰의 발급 요청을 모아 한 번에 반영한다. 쿠폰은 한 번만 조회/검증하고,
+     * 이미 발급된 사용자는 건너뛰므로 같은 요청이 다시 들어와도 안전하다.
+     * 새로 발급된 건이 있으면 보유 쿠폰 ID를 한 번에 읽어 사용 조건 캐시를 채운다.
+     *
+     * @return 새로 발급된 건수
+     */
+    @Transactional
+    public int issueAll(Long couponId, List<Long> userIds) {
+        CouponModel coupon = getById(couponId);
+        coupon.validateIssuable();
+        int inserted = ownedCouponRepository.saveAllIgnoringDuplicates(coupon, userIds);
+        if (inserted > 0) {
+            Map<Long, CouponTerms> termsByOwnedCouponId = new HashMap<>();
+            ownedCouponRepository.findIdsByCouponIdAndUserIds(couponId, userIds)
+                    .forEach((userId, ownedCouponId) ->
+                            termsByOwnedCouponId.put(ownedCouponId, CouponTerms.of(coupon, userId)));
+            couponTermsCache.putAll(termsByOwnedCouponId);
+        }
+        return inserted;
     }
 
     @Transactional(readOnly = true)
@@ -68,19 +94,33 @@ public class CouponService {
         return ownedCouponRepository.countByCouponIds(couponIds);
     }
 
+    /**
+     * 캐시된 사용 조건으로 먼저 검증하고, 조건부 UPDATE 한 번으로 사용 처리한다.
+     * 사용 조건은 발급 때 캐시에 들어가므로, 캐시 hit이면 첫 사용이라도 쿠폰 관련 DB 왕복은 UPDATE 1회뿐이다.
+     * UPDATE가 0건이면 캐시를 버리고 DB에서 다시 읽어 실패 사유를 판정하고, 조건이 맞으면 한 번 더 시도한다.
+     */
     @Transactional
     public long useAndCalculateDiscount(Long ownedCouponId, Long userId, Long orderId,
                                         long orderAmount) {
+        ZonedDateTime now = ZonedDateTime.now();
+        CouponTerms terms = couponTermsCache.find(ownedCouponId)
+                .orElseGet(() -> loadTerms(ownedCouponId));
+        terms.validateUsable(userId, orderAmount, now);
+        if (ownedCouponRepository.useIfUsable(ownedCouponId, terms, orderId, orderAmount, now) == 1) {
+            return terms.calculateDiscount(orderAmount);
+        }
+
+        couponTermsCache.evict(ownedCouponId);
         OwnedCouponModel owned = ownedCouponRepository.findById(ownedCouponId)
                 .orElseThrow(() -> new CoreException(CouponErrorCode.NOT_FOUND));
         owned.validateMinOrderAmount(orderAmount);
         owned.validateUsable(userId);
-        int updated = ownedCouponRepository.useByIdWhenAvailable(
-                ownedCouponId, orderId, ZonedDateTime.now());
-        if (updated == 0) {
+        CouponTerms fresh = CouponTerms.from(owned);
+        if (ownedCouponRepository.useIfUsable(ownedCouponId, fresh, orderId, orderAmount, now) == 0) {
             throw new CoreException(CouponErrorCode.ALREADY_USED);
         }
-        return owned.calculateDiscount(orderAmount);
+        couponTermsCache.put(ownedCouponId, fresh);
+        return fresh.calculateDiscount(orderAmount);
     }
 
     @Transactional
@@ -93,4 +133,12 @@ public class CouponService {
     public List<OwnedCouponModel> getMyOwnedCoupons(Long userId) {
         return ownedCouponRepository.findAllByUserId(userId);
     }
+
+    private CouponTerms loadTerms(Long ownedCouponId) {
+        CouponTerms terms = ownedCouponRepository.findById(ownedCouponId)
+                .map(CouponTerms::from)
+                .orElseThrow(() -> new CoreException(CouponErrorCode.NOT_FOUND));
+        couponTermsCache.put(ownedCouponId, terms);
+        return terms;
+    }
 }
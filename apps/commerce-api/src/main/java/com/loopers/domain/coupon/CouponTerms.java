@@ -0,0 +1,55 @@
+package com.loopers.domain.coupon;
+
+import com.loopers.support.error.CoreException;
+import java.time.ZonedDateTime;
+
+/**
+ * 보유 쿠폰의 사용 조건 스냅샷. 발급 시점에 쿠폰 템플릿에서 복사되고 이후 바뀌지 않으므로 캐시해도 안전하다.
+ * 사용 여부(orderId)는 담지 않는다. 사용 처리는 조건부 UPDATE 한 번으로 DB가 판정한다.
+ */
+public record CouponTerms(
+        Long couponId,
+        Long userId,
+        CouponDiscountType discountType,
+        long discountValue,
+        Long minOrderAmount,
+        ZonedDateTime expiredAt
+) {
+
+    public static CouponTerms of(CouponModel coupon, Long userId) {
+        return new CouponTerms(
+                coupon.getId(), userId,
+                coupon.getDiscountType(), coupon.getDiscountValue(),
+                coupon.getMinOrderAmount(), coupon.getExpiredAt());
+    }
+
+    public static CouponTerms from(OwnedCouponModel owned) {
+        return new CouponTerms(
+                owned.getCouponId(), owned.getUserId(),
+                owned.getDiscountType(), owned.getDiscountValue(),
+                owned.getMinOrderAmount(), owned.getExpiredAt());
+    }
+
+    public long calculateDiscount(long orderAmount) {
+        long discount = this.discountValue;
+        if (this.discountType == CouponDiscountType.RATE) {
+            discount = orderAmount * this.discountValue / 100;
+        }
+        return Math.min(discount, orderAmount);
+    }
+
+    /**
+     * 최소 주문 금액, 소유자, 만료 여부를 순서대로 확인한다.
+     */
+    public void validateUsable(Long userId, long orderAmount, ZonedDateTime now) {
+        if (this.minOrderAmount != null && orderAmount < this.minOrderAmount) {
+            throw new CoreException(CouponErrorCode.MIN_ORDER_AMOUNT_NOT_MET);
+        }
+        if (!this.userId.equals(userId)) {
+            throw new CoreException(CouponErrorCode.NOT_OWNED);
+        }
+        if (this.expiredAt.isBefore(now)) {
+            throw new CoreException(CouponErrorCode.EXPIRED);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.loopers.domain.coupon;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 보유 쿠폰 ID별 사용 조건 캐시. 조건은 발급 후 바뀌지 않으므로 만료 시각까지 보관해도 된다.
+ * 발급할 때 채워 두므로, 첫 사용도 DB 조회 없이 조건부 UPDATE 한 번으로 끝난다.
+ * 구현체는 장애 시 빈 결과를 돌려 DB 조회로 넘어가게 해야 한다.
+ */
+public interface CouponTermsCache {
+
+    Optional<CouponTerms> find(Long ownedCouponId);
+
+    void put(Long ownedCouponId, CouponTerms terms);
+
+    /**
+     * 보유 쿠폰 ID → 사용 조건을 한 번에 저장한다.
+     */
+    void putAll(Map<Long, CouponTerms> termsByOwnedCouponId);
+
+    void evict(Long ownedCouponId);
+}
@@ -83,11 +83,7 @@ public class OwnedCouponModel extends BaseEntity {
     }
 
     public long calculateDiscount(long orderAmount) {
-        long discount = this.discountValue;
-        if (this.discountType == CouponDiscountType.RATE) {
-            discount = orderAmount * this.discountValue / 100;
-        }
-        return Math.min(discount, orderAmount);
+        return CouponTerms.from(this).calculateDiscount(orderAmount);
     }
 
     public void validateMinOrderAmount(long orderAmount) {
@@ -11,17 +11,35 @@ public interface OwnedCouponRepository {
 
     OwnedCouponModel save(OwnedCouponModel ownedCouponModel);
 
+    /**
+     * 여러 사용자에게 같은 쿠폰을 한 번에 발급한다. 이미 보유한 (couponId, userId)는 건너뛴다.
+     *
+     * @return 실제로 새로 발급된 건수
+     */
+    int saveAllIgnoringDuplicates(CouponModel coupon, List<Long> userIds);
+
     Optional<OwnedCouponModel> findById(Long id);
 
     Optional<OwnedCouponModel> findByCouponIdAndUserId(Long couponId, Long userId);
 
+    /**
+     * @return 사용자 ID → 보유 쿠폰 ID. 보유하지 않은 사용자는 빠진다.
+     */
+    Map<Long, Long> findIdsByCouponIdAndUserIds(Long couponId, List<Long> userIds);
+
     List<OwnedCouponModel> findAllByUserId(Long userId);
 
     Page<OwnedCouponModel> findAllByCouponId(Long couponId, Pageable pageable);
 
     Optional<OwnedCouponModel> findByOrderId(Long orderId);
 
-    int useByIdWhenAvailable(Long id, Long orderId, ZonedDateTime usedAt);
+    /**
+     * 미사용이고, 소유자와 할인 조건이 terms와 같고, 만료 전이며, 최소 주문 금액을 충족할 때만 사용 처리한다.
+     * 조회 없이 UPDATE 한 문장으로 검증과 사용을 함께 수행한다.
+     *
+     * @return 사용 처리된 행 수 (0 또는 1)
+     */
+    int useIfUsable(Long id, CouponTerms terms, Long orderId, long orderAmount, ZonedDateTime now);
 
     long countByCouponId(Long couponId);
 
@@ -12,6 +12,8 @@ public interface OrderRepository {
 
     Optional<OrderModel> findById(Long id);
 
+    List<OrderModel> findAllByIdIn(List<Long> ids);
+
     List<OrderModel> findAllByUserIdAndCreatedAtBetween(Long userId, ZonedDateTime startAt, ZonedDateTime endAt);
 
     Optional<OrderModel> findByIdWithLock(Long id);
@@ -5,6 +5,7 @@ import com.loopers.domain.order.dto.OrderCommand;
 import com.loopers.domain.order.dto.OrderInfo;
 import com.loopers.support.error.CoreException;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
@@ -95,6 +96,36 @@ public class OrderService {
                         orderId, order.getUserId(), order.getTotalPrice(), productIds));
     }
 
+    /**
+     * 결제 완료된 주문들을 IN 조회 한 번으로 읽어 ORDERED로 전이한다.
+     * PENDING_PAYMENT가 아닌 주문(이미 취소 등)은 건너뛰고 반환한다. 없는 주문이 섞여 있으면 NOT_FOUND로 전부 되돌린다.
+     */
+    @Transactional
+    public List<OrderModel> completeOrders(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        List<OrderModel> orders = orderRepository.findAllByIdIn(orderIds);
+        if (orders.size() < orderIds.size()) {
+            throw new CoreException(OrderErrorCode.NOT_FOUND);
+        }
+        List<OrderModel> skipped = new ArrayList<>();
+        for (OrderModel order : orders) {
+            if (!order.isPendingPayment()) {
+                skipped.add(order);
+                continue;
+            }
+            order.completePayment();
+            eventPublisher.publishEvent(
+                    new OrderCompletedEvent(
+                            order.getId(), order.getUserId(), order.getTotalPrice(),
+                            order.getItems().stream()
+                                    .map(OrderItemModel::getProductId)
+                                    .toList()));
+        }
+        return skipped;
+    }
+
     @Transactional
     public OrderInfo.PaymentFailureCancellation cancelByPaymentFailure(Long orderId) {
         OrderModel order = getById(orderId);
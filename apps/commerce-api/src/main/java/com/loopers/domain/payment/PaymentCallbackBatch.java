@@ -0,0 +1,25 @@
+package com.loopers.domain.payment;
+
+import java.util.List;
+
+/**
+ * 콜백 배치 반영 결과.
+ *
+ * @param claimedCount 이번 배치에서 선점한 콜백 수 (중복 포함)
+ * @param transitioned COMPLETED/FAILED로 전이된 결제
+ * @param abandoned    재시도 한도까지 결제를 찾지 못해 포기한 콜백
+ */
+public record PaymentCallbackBatch(
+        int claimedCount,
+        List<PaymentModel> transitioned,
+        List<PaymentCallbackModel> abandoned
+) {
+
+    public PaymentCallbackBatch(int claimedCount, List<PaymentModel> transitioned) {
+        this(claimedCount, transitioned, List.of());
+    }
+
+    public static PaymentCallbackBatch empty() {
+        return new PaymentCallbackBatch(0, List.of());
+    }
+}
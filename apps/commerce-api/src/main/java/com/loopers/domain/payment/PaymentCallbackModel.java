@@ -0,0 +1,118 @@
+package com.loopers.domain.payment;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * PG 콜백 수신함(Inbox).
+ * 콜백 요청 스레드는 INSERT 한 번으로 응답하고, 실제 결제/주문 반영은 워커가 배치로 처리한다.
+ * 거래 키가 아직 저장되지 않아 결제를 못 찾은 콜백은 미처리로 남기고 nextAttemptAt까지 미룬다.
+ */
+@Getter
+@Entity
+@Table(name = "payment_callbacks", indexes = {
+        @Index(name = "idx_payment_callbacks_processed", columnList = "processed, next_attempt_at")})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentCallbackModel {
+
+    private static final Duration MAX_RETRY_DELAY = Duration.ofMinutes(1);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "transaction_key", nullable = false, length = 100)
+    private String transactionKey;
+
+    @Column(name = "pg_status", length = 50)
+    private String pgStatus;
+
+    @Column(name = "pg_reason")
+    private String pgReason;
+
+    @Column(name = "processed", nullable = false)
+    private boolean processed;
+
+    @Column(name = "abandoned", nullable = false)
+    private boolean abandoned;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "received_at", nullable = false, updatable = false)
+    private ZonedDateTime receivedAt;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private ZonedDateTime nextAttemptAt;
+
+    @Column(name = "processed_at")
+    private ZonedDateTime processedAt;
+
+    // === 생성 === //
+
+    private PaymentCallbackModel(String transactionKey, String pgStatus, String pgReason) {
+        this.transactionKey = transactionKey;
+        this.pgStatus = pgStatus;
+        this.pgReason = pgReason;
+        this.processed = false;
+        this.receivedAt = ZonedDateTime.now();
+        this.nextAttemptAt = this.receivedAt;
+    }
+
+    public static PaymentCallbackModel receive(String transactionKey, String pgStatus, String pgReason) {
+        validateTransactionKey(transactionKey);
+        return new PaymentCallbackModel(transactionKey, pgStatus, pgReason);
+    }
+
+    // === 상태 변경 === //
+
+    public void markProcessed() {
+        this.processed = true;
+        this.processedAt = ZonedDateTime.now();
+    }
+
+    /**
+     * 결제를 찾지 못한 콜백을 다음 시도까지 미룬다. 간격은 1초부터 두 배씩 늘려 최대 1분이다.
+     */
+    public void deferUnmatched(ZonedDateTime now) {
+        this.attempts++;
+        long delaySeconds = Math.min(1L << Math.min(attempts - 1, 6), MAX_RETRY_DELAY.toSeconds());
+        this.nextAttemptAt = now.plusSeconds(delaySeconds);
+    }
+
+    /**
+     * 재시도 한도를 넘겨 더는 결제와 맞춰 보지 않는다. 미처리 목록에서는 빠지고 abandoned로 남는다.
+     */
+    public void markAbandoned() {
+        markProcessed();
+        this.abandoned = true;
+    }
+
+    public boolean isRetryExhausted(int maxAttempts, Duration maxAge, ZonedDateTime now) {
+        return attempts >= maxAttempts || !receivedAt.plus(maxAge).isAfter(now);
+    }
+
+    public PgCallbackStatus toCallbackStatus() {
+        return PgCallbackStatus.from(pgStatus, pgReason);
+    }
+
+    // === 검증 === //
+
+    private static void validateTransactionKey(String transactionKey) {
+        if (transactionKey == null || transactionKey.isBlank()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "PG 거래 키는 필수값입니다.");
+        }
+    }
+}
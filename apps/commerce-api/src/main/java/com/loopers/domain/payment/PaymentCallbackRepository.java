@@ -0,0 +1,15 @@
+package com.loopers.domain.payment;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public interface PaymentCallbackRepository {
+
+    PaymentCallbackModel save(PaymentCallbackModel callback);
+
+    /**
+     * 재시도 시각이 된 미처리 콜백을 수신 순서대로 최대 limit건 선점한다.
+     * 다른 워커가 잡고 있는 행은 건너뛴다.
+     */
+    List<PaymentCallbackModel> findPendingForUpdate(ZonedDateTime now, int limit);
+}
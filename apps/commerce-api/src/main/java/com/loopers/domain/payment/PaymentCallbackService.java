@@ -0,0 +1,87 @@
+package com.loopers.domain.payment;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class PaymentCallbackService {
+
+    static final int MAX_UNMATCHED_ATTEMPTS = 10;
+    static final Duration MAX_UNMATCHED_AGE = Duration.ofMinutes(10);
+
+    private final PaymentCallbackRepository paymentCallbackRepository;
+    private final PaymentRepository paymentRepository;
+
+    @Transactional
+    public void receive(String transactionKey, String pgStatus, String pgReason) {
+        paymentCallbackRepository.save(
+                PaymentCallbackModel.receive(transactionKey, pgStatus, pgReason));
+    }
+
+    /**
+     * 재시도 시각이 된 미처리 콜백을 최대 batchSize건 선점해 한 트랜잭션으로 반영한다.
+     * 같은 transactionKey의 중복 콜백은 먼저 수신된 1건만 반영하고, 결제는 키 목록으로 한 번에 조회한다.
+     *
+     * - 결제에 반영했거나 결제가 이미 터미널이면 처리 완료로 마킹한다.
+     * - 결제를 못 찾으면(PG가 거래 키 저장보다 먼저 콜백한 경우) 미처리로 남기고 다음 시도까지 미룬다.
+     * - MAX_UNMATCHED_ATTEMPTS번 또는 MAX_UNMATCHED_AGE가 지나도 못 찾으면 포기하고 abandoned로 돌려준다.
+     */
+    @Transactional
+    public PaymentCallbackBatch applyPending(int batchSize) {
+        return applyPending(batchSize, ZonedDateTime.now());
+    }
+
+    PaymentCallbackBatch applyPending(int batchSize, ZonedDateTime now) {
+        List<PaymentCallbackModel> callbacks = paymentCallbackRepository.findPendingForUpdate(now, batchSize);
+        if (callbacks.isEmpty()) {
+            return PaymentCallbackBatch.empty();
+        }
+
+        Map<String, PaymentCallbackModel> firstByKey = new LinkedHashMap<>();
+        for (PaymentCallbackModel callback : callbacks) {
+            firstByKey.putIfAbsent(callback.getTransactionKey(), callback);
+        }
+
+        Map<String, PaymentModel> paymentByKey = paymentRepository
+                .findAllByPgTransactionIdIn(firstByKey.keySet()).stream()
+                .collect(Collectors.toMap(PaymentModel::getPgTransactionId, Function.identity()));
+
+        List<PaymentModel> transitioned = new ArrayList<>();
+        for (PaymentCallbackModel callback : firstByKey.values()) {
+            PaymentModel payment = paymentByKey.get(callback.getTransactionKey());
+            if (payment == null || payment.isTerminal()) {
+                continue;
+            }
+            PgCallbackStatus callbackStatus = callback.toCallbackStatus();
+            if (callbackStatus.isSuccess()) {
+                payment.complete();
+            } else {
+                payment.fail(callbackStatus.name(), callback.getPgReason());
+            }
+            transitioned.add(payment);
+        }
+
+        List<PaymentCallbackModel> abandoned = new ArrayList<>();
+        for (PaymentCallbackModel callback : callbacks) {
+            if (paymentByKey.containsKey(callback.getTransactionKey())) {
+                callback.markProcessed();
+            } else if (callback.isRetryExhausted(MAX_UNMATCHED_ATTEMPTS, MAX_UNMATCHED_AGE, now)) {
+                callback.markAbandoned();
+                abandoned.add(callback);
+            } else {
+                callback.deferUnmatched(now);
+            }
+        }
+        return new PaymentCallbackBatch(callbacks.size(), transitioned, abandoned);
+    }
+}
@@ -1,5 +1,7 @@
 package com.loopers.domain.payment;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface PaymentRepository {
@@ -11,4 +13,6 @@ public interface PaymentRepository {
     Optional<PaymentModel> findByOrderId(Long orderId);
 
     Optional<PaymentModel> findByPgTransactionId(String pgTransactionId);
+
+    List<PaymentModel> findAllByPgTransactionIdIn(Collection<String> pgTransactionIds);
 }
@@ -0,0 +1,44 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.product.dto.ProductLikeInfo;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 좋아요 관계를 DB보다 먼저 기록하는 쓰기 버퍼 (write-behind).
+ *
+ * - 관계 변경은 멱등이다. 이미 있는 좋아요를 더하거나 없는 좋아요를 빼면 false를 돌려주고 아무것도 남기지 않는다.
+ * - 실제로 바뀐 관계만 저널에 쌓이고, readJournal/acknowledge로 꺼내 DB에 반영한다.
+ * - 좋아요 수는 버퍼에 올라온 상품만 돌려준다. 나머지는 DB 집계를 쓴다.
+ */
+public interface ProductLikeBuffer {
+
+    boolean add(Long userId, Long productId);
+
+    boolean remove(Long userId, Long productId);
+
+    boolean contains(Long userId, Long productId);
+
+    Map<Long, Long> countByProductIds(Collection<Long> productIds);
+
+    /**
+     * 저널 앞에서부터 limit건을 읽어 관계별로 합치고, 각 관계의 현재 상태를 붙여 돌려준다.
+     */
+    ProductLikeInfo.Journal readJournal(int limit);
+
+    void acknowledge(ProductLikeInfo.Journal journal);
+
+    /**
+     * 다음에 DB와 맞춰 볼 상품 ID. 호출할 때마다 버퍼에 올라온 상품을 차례로 훑는다.
+     */
+    List<Long> nextProductsToReconcile(int limit);
+
+    /**
+     * 상품의 좋아요 집합을 DB 기준으로 다시 만든다. DB를 읽는 동안 그 상품에 변경이 있었으면 건너뛴다.
+     *
+     * @return 버퍼와 DB가 달라 다시 만들었으면 true
+     */
+    boolean reconcile(Long productId, Supplier<List<Long>> persistedUserIds);
+}
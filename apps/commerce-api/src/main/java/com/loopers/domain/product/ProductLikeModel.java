@@ -7,6 +7,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import java.time.ZonedDateTime;
@@ -19,6 +20,8 @@ import lombok.NoArgsConstructor;
 @Entity
 @Table(name = "likes", uniqueConstraints = {
     @UniqueConstraint(name = "uk_likes_user_product", columnNames = {"user_id", "product_id"})
+}, indexes = {
+    @Index(name = "idx_likes_user_created", columnList = "user_id, created_at DESC, id DESC")
 })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ProductLikeModel {
@@ -1,20 +1,45 @@
 package com.loopers.domain.product;
 
+import com.loopers.domain.product.dto.ProductLikeInfo;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface ProductLikeRepository {
     ProductLikeModel save(ProductLikeModel productLike);
 
     Optional<ProductLikeModel> findByUserIdAndProductId(Long userId, Long productId);
 
+    boolean existsByUserIdAndProductId(Long userId, Long productId);
+
     void delete(ProductLikeModel productLike);
 
     List<ProductLikeModel> findAllByUserId(Long userId);
 
+    /**
+     * 삭제되지 않은 상품에 대한 좋아요를 (created_at, id) 내림차순으로 cursor 다음부터 limit개 읽는다.
+     */
+    List<ProductLikeModel> findActiveByUserId(Long userId, ProductLikeInfo.Cursor cursor, int limit);
+
     long countByProductId(Long productId);
 
+    List<Long> findUserIdsByProductId(Long productId);
+
+    /**
+     * 주어진 (사용자, 상품) 관계 중 DB에 저장된 것만 돌려준다.
+     */
+    Set<ProductLikeInfo.Relation> findExisting(List<ProductLikeInfo.Relation> relations);
+
+    /**
+     * 좋아요를 한 번에 저장한다. 이미 있는 관계는 건너뛴다.
+     *
+     * @return 새로 저장한 행 수
+     */
+    int insertAllIgnoringDuplicates(List<ProductLikeInfo.BufferedChange> changes);
+
+    int deleteAll(List<ProductLikeInfo.Relation> relations);
+
     Map<Long, Long> countByProductIds(List<Long> productIds);
 
     Map<Long, Long> countByProductIdsWithModulo(int divisor, int remainder);
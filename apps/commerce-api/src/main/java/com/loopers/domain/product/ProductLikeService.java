@@ -1,25 +1,47 @@
 package com.loopers.domain.product;
 
+import com.loopers.domain.product.dto.ProductLikeInfo;
 import com.loopers.domain.product.event.ProductLikedEvent;
 import com.loopers.domain.product.event.ProductUnlikedEvent;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 좋아요 관계 관리.
+ *
+ * ProductLikeBuffer 빈이 있으면(like.write-behind.enabled=true) 좋아요/취소는 버퍼에만 기록하고,
+ * 리더 한 대가 flushBuffered로 모아 DB에 반영한다. 좋아요 이벤트도 그때 DB에 실제로 바뀐 관계만 발행한다.
+ * 버퍼가 없으면 요청마다 DB에 바로 쓴다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ProductLikeService {
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ApplicationEventPublisher publisher;
     private final ProductLikeRepository productLikeRepository;
+    private final Optional<ProductLikeBuffer> likeBuffer;
 
     @Transactional
     public void like(Long userId, Long productId) {
+        if (likeBuffer.isPresent()) {
+            if (!likeBuffer.get().add(userId, productId)) {
+                throw new CoreException(ErrorType.CONFLICT, "이미 좋아요한 상품입니다");
+            }
+            return;
+        }
         if (productLikeRepository.findByUserIdAndProductId(userId, productId).isPresent()) {
             throw new CoreException(ErrorType.CONFLICT, "이미 좋아요한 상품입니다");
         }
@@ -33,6 +55,12 @@ public class ProductLikeService {
 
     @Transactional
     public void unlike(Long userId, Long productId) {
+        if (likeBuffer.isPresent()) {
+            if (!likeBuffer.get().remove(userId, productId)) {
+                throw new CoreException(ErrorType.NOT_FOUND, "좋아요 기록이 없습니다");
+            }
+            return;
+        }
         ProductLikeModel like = productLikeRepository.findByUserIdAndProductId(userId, productId)
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "좋아요 기록이 없습니다"));
         productLikeRepository.delete(like);
@@ -41,7 +69,10 @@ public class ProductLikeService {
 
     @Transactional(readOnly = true)
     public boolean existsByUserIdAndProductId(Long userId, Long productId) {
-        return productLikeRepository.findByUserIdAndProductId(userId, productId).isPresent();
+        if (likeBuffer.isPresent()) {
+            return likeBuffer.get().contains(userId, productId);
+        }
+        return productLikeRepository.existsByUserIdAndProductId(userId, productId);
     }
 
     @Transactional(readOnly = true)
@@ -49,6 +80,22 @@ public class ProductLikeService {
         return productLikeRepository.findAllByUserId(userId);
     }
 
+    /**
+     * 삭제되지 않은 상품의 좋아요를 최근 순으로 size개 읽는다. 다음 페이지 여부는 한 건 더 읽어 판단한다.
+     */
+    @Transactional(readOnly = true)
+    public ProductLikeInfo.Slice getActiveLikesByUserId(Long userId, ProductLikeInfo.Cursor cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        List<ProductLikeModel> likes = productLikeRepository.findActiveByUserId(userId, cursor, size + 1);
+        if (likes.size() <= size) {
+            return new ProductLikeInfo.Slice(likes, null);
+        }
+        List<ProductLikeModel> page = likes.subList(0, size);
+        return new ProductLikeInfo.Slice(page, ProductLikeInfo.Cursor.of(page.get(size - 1)));
+    }
+
     @Transactional(readOnly = true)
     public long countLikes(Long productId) {
         return productLikeRepository.countByProductId(productId);
@@ -58,4 +105,87 @@ public class ProductLikeService {
     public Map<Long, Long> countLikesByProductIds(List<Long> productIds) {
         return productLikeRepository.countByProductIds(productIds);
     }
+
+    /**
+     * 버퍼에 올라온 상품의 좋아요 수. 버퍼가 없거나 아직 올라오지 않은 상품은 결과에서 빠진다.
+     */
+    public Map<Long, Long> getBufferedLikeCounts(List<Long> productIds) {
+        if (likeBuffer.isEmpty() || productIds.isEmpty()) {
+            return Map.of();
+        }
+        return likeBuffer.get().countByProductIds(productIds);
+    }
+
+    /**
+     * 버퍼 저널을 limit건 읽어 관계별 최종 상태를 DB에 반영한다.
+     * DB와 이미 같은 관계는 건너뛰고, 실제로 저장하거나 지운 관계만 이벤트로 발행한다(커밋 후 Kafka 전송).
+     * INSERT/DELETE가 바꾼 행 수가 계획과 다르면 다른 반영이 그 사이 같은 관계를 바꾼 것이다.
+     * 어느 행이 내 것인지 알 수 없으므로 CONFLICT로 묶음 전체를 되돌리고, 다음 반영이 새로 읽은 DB 기준으로 다시 고른다.
+     * 반환한 저널은 커밋이 끝난 뒤 acknowledgeFlushed로 확인 처리한다. 그 전에 죽으면 다음 리더가 같은 저널을 다시 반영한다.
+     */
+    @Transactional
+    public ProductLikeInfo.Journal flushBuffered(int limit) {
+        if (likeBuffer.isEmpty()) {
+            return ProductLikeInfo.Journal.empty();
+        }
+        ProductLikeInfo.Journal journal = likeBuffer.get().readJournal(limit);
+        if (journal.changes().isEmpty()) {
+            return journal;
+        }
+        List<ProductLikeInfo.Relation> relations = journal.changes().stream()
+            .map(ProductLikeInfo.BufferedChange::relation)
+            .toList();
+        Set<ProductLikeInfo.Relation> existing = productLikeRepository.findExisting(relations);
+
+        List<ProductLikeInfo.BufferedChange> toInsert = new ArrayList<>();
+        List<ProductLikeInfo.BufferedChange> toDelete = new ArrayList<>();
+        for (ProductLikeInfo.BufferedChange change : journal.changes()) {
+            boolean persisted = existing.contains(change.relation());
+            if (change.liked() && !persisted) {
+                toInsert.add(change);
+            } else if (!change.liked() && persisted) {
+                toDelete.add(change);
+            }
+        }
+        int inserted = toInsert.isEmpty() ? 0 : productLikeRepository.insertAllIgnoringDuplicates(toInsert);
+        int deleted = toDelete.isEmpty()
+            ? 0
+            : productLikeRepository.deleteAll(toDelete.stream().map(ProductLikeInfo.BufferedChange::relation).toList());
+        if (inserted != toInsert.size() || deleted != toDelete.size()) {
+            throw new CoreException(ErrorType.CONFLICT,
+                "좋아요 반영 중 다른 반영과 겹쳤습니다: inserted=" + inserted + "/" + toInsert.size()
+                    + ", deleted=" + deleted + "/" + toDelete.size());
+        }
+        toInsert.forEach(change -> publisher.publishEvent(new ProductLikedEvent(
+            null, change.relation().userId(), change.relation().productId(), change.changedAt())));
+        toDelete.forEach(change -> publisher.publishEvent(new ProductUnlikedEvent(
+            null, change.relation().userId(), change.relation().productId(), change.changedAt())));
+        return journal;
+    }
+
+    public void acknowledgeFlushed(ProductLikeInfo.Journal journal) {
+        if (likeBuffer.isPresent() && !journal.isEmpty()) {
+            likeBuffer.get().acknowledge(journal);
+        }
+    }
+
+    /**
+     * 버퍼에 올라온 상품을 limit개씩 돌며 DB 기준으로 좋아요 집합을 맞춘다.
+     *
+     * @return 다시 만든 상품 수
+     */
+    public int reconcileBuffered(int limit) {
+        if (likeBuffer.isEmpty()) {
+            return 0;
+        }
+        ProductLikeBuffer buffer = likeBuffer.get();
+        int rebuilt = 0;
+        for (Long productId : buffer.nextProductsToReconcile(limit)) {
+            if (buffer.reconcile(productId, () -> productLikeRepository.findUserIdsByProductId(productId))) {
+                log.warn("좋아요 버퍼가 DB와 달라 다시 만들었다: productId={}", productId);
+                rebuilt++;
+            }
+        }
+        return rebuilt;
+    }
 }
@@ -1,6 +1,15 @@
 package com.loopers.domain.product;
 
+import java.util.List;
+
 public interface ProductViewLogRepository {
 
     ProductViewLogModel save(ProductViewLogModel viewLog);
+
+    /**
+     * 조회 로그를 다중 행 INSERT로 한 번에 저장한다.
+     *
+     * @return 저장한 행 수
+     */
+    int saveAll(List<ProductViewLogModel> viewLogs);
 }
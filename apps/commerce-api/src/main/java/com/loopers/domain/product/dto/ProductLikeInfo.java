@@ -0,0 +1,83 @@
+package com.loopers.domain.product.dto;
+
+import com.loopers.domain.product.ProductLikeModel;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+public class ProductLikeInfo {
+
+    /**
+     * 좋아요 목록 키셋 위치. (created_at, id) 내림차순에서 이 좋아요 다음부터 읽는다.
+     * 문자열로는 "created_at 순간|id"를 URL-safe Base64로 감싼다. created_at은 마이크로초까지 보존한다.
+     */
+    public record Cursor(ZonedDateTime createdAt, Long id) {
+
+        private static final char DELIMITER = '|';
+
+        public static Cursor of(ProductLikeModel like) {
+            return new Cursor(like.getCreatedAt(), like.getId());
+        }
+
+        public String encode() {
+            String raw = createdAt.toInstant().toString() + DELIMITER + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * @return cursor가 비어 있으면 null (첫 페이지)
+         */
+        public static Cursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int delimiter = raw.lastIndexOf(DELIMITER);
+                Instant createdAt = Instant.parse(raw.substring(0, delimiter));
+                long id = Long.parseLong(raw.substring(delimiter + 1));
+                return new Cursor(ZonedDateTime.ofInstant(createdAt, ZoneId.systemDefault()), id);
+            } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+                throw new CoreException(ErrorType.BAD_REQUEST, "잘못된 커서입니다.");
+            }
+        }
+    }
+
+    /**
+     * @param nextCursor 다음 페이지가 없으면 null
+     */
+    public record Slice(List<ProductLikeModel> likes, Cursor nextCursor) {
+    }
+
+    public record Relation(Long userId, Long productId) {
+    }
+
+    /**
+     * 좋아요 버퍼에서 바뀐 (사용자, 상품) 관계와 반영 시점의 최종 상태.
+     *
+     * @param liked     버퍼의 현재 상태. 같은 관계가 여러 번 바뀌었어도 마지막 상태 하나만 남는다
+     * @param changedAt 마지막으로 바뀐 시각. 새로 저장하는 좋아요의 created_at이 된다
+     */
+    public record BufferedChange(Relation relation, boolean liked, ZonedDateTime changedAt) {
+    }
+
+    /**
+     * 저널에서 한 번에 읽은 묶음. DB에 반영한 뒤 entryIds를 확인 처리해야 저널에서 빠진다.
+     */
+    public record Journal(List<String> entryIds, List<BufferedChange> changes) {
+
+        public static Journal empty() {
+            return new Journal(List.of(), List.of());
+        }
+
+        public boolean isEmpty() {
+            return entryIds.isEmpty();
+        }
+    }
+}
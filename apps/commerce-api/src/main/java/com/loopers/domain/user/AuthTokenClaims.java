@@ -0,0 +1,26 @@
+package com.loopers.domain.user;
+
+/**
+ * 서명된 토큰에 담기는 내용. 검증에 필요한 사용자 정보가 모두 들어 있어 DB를 다시 보지 않는다.
+ *
+ * @param tokenId   토큰 고유 ID. 폐기 목록의 키로 쓴다.
+ * @param issuedAt  발급 시각 (epoch milli). 같은 초 안의 비밀번호 변경 전후를 구분한다.
+ * @param expiresAt 만료 시각 (epoch second)
+ */
+public record AuthTokenClaims(
+        String tokenId,
+        AuthTokenType type,
+        Long userId,
+        String loginId,
+        String name,
+        long issuedAt,
+        long expiresAt) {
+
+    public boolean isExpiredAt(long nowEpochSecond) {
+        return nowEpochSecond >= expiresAt;
+    }
+
+    public AuthenticatedUser toAuthenticatedUser() {
+        return new AuthenticatedUser(userId, loginId, name);
+    }
+}
@@ -0,0 +1,21 @@
+package com.loopers.domain.user;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 토큰 서명/검증. 구현체는 외부 IdP 없이 서버 로컬 키로만 서명해야 한다.
+ */
+public interface AuthTokenCodec {
+
+    /**
+     * 새 토큰 ID와 타입별 유효 시간으로 토큰을 발급한다.
+     */
+    IssuedAuthToken issue(AuthenticatedUser user, AuthTokenType type, Instant now);
+
+    /**
+     * 서명이 맞으면 내용을 돌려준다. 형식이 깨졌거나 서명이 다르면 빈 값이다.
+     * 만료 여부는 판단하지 않는다.
+     */
+    Optional<AuthTokenClaims> decode(String token);
+}
@@ -0,0 +1,4 @@
+package com.loopers.domain.user;
+
+public record AuthTokenPair(IssuedAuthToken accessToken, IssuedAuthToken refreshToken) {
+}
@@ -0,0 +1,80 @@
+package com.loopers.domain.user;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 서명 토큰 기반 인증.
+ * 로그인/refresh 때만 DB를 보고, access 토큰 검증은 서명 확인과 폐기 목록 조회만으로 끝난다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AuthTokenService {
+
+    private static final String INVALID_TOKEN_MESSAGE = "유효하지 않은 토큰입니다.";
+
+    private final AuthenticationService authenticationService;
+    private final UserRepository userRepository;
+    private final AuthTokenCodec authTokenCodec;
+    private final TokenRevocationList tokenRevocationList;
+
+    public AuthTokenPair login(String loginIdValue, String rawPassword) {
+        UserModel user = authenticationService.authenticate(loginIdValue, rawPassword);
+        return issuePair(AuthenticatedUser.from(user), Instant.now());
+    }
+
+    /**
+     * refresh 토큰은 한 번만 쓸 수 있다. 사용한 토큰은 폐기하고 새 access/refresh 쌍을 발급한다.
+     * 비밀번호 변경 등으로 사용자별 기준 시각 이전에 발급된 토큰은 쓸 수 없다.
+     * 폐기 목록에 먼저 올린 요청만 발급받는다. 같은 토큰으로 동시에 들어온 나머지 요청은 UNAUTHORIZED다.
+     * 이름 변경이나 탈퇴가 반영되도록 사용자는 다시 조회한다.
+     */
+    public AuthTokenPair refresh(String refreshToken) {
+        Instant now = Instant.now();
+        AuthTokenClaims claims = verify(refreshToken, AuthTokenType.REFRESH, now.getEpochSecond());
+        if (tokenRevocationList.isRevokedForUser(claims.userId(), claims.issuedAt())) {
+            throw new CoreException(ErrorType.UNAUTHORIZED, INVALID_TOKEN_MESSAGE);
+        }
+        UserModel user = userRepository.findById(claims.userId())
+                .orElseThrow(() -> new CoreException(ErrorType.UNAUTHORIZED, INVALID_TOKEN_MESSAGE));
+        if (!tokenRevocationList.revoke(claims.tokenId(), claims.expiresAt())) {
+            throw new CoreException(ErrorType.UNAUTHORIZED, INVALID_TOKEN_MESSAGE);
+        }
+        return issuePair(AuthenticatedUser.from(user), now);
+    }
+
+    /**
+     * 요청마다 호출되는 검증. DB를 조회하지 않는다.
+     */
+    public AuthenticatedUser verifyAccessToken(String accessToken) {
+        return verify(accessToken, AuthTokenType.ACCESS, Instant.now().getEpochSecond()).toAuthenticatedUser();
+    }
+
+    /**
+     * 서명이 맞는 토큰이면 만료 전까지 폐기 목록에 올린다. 깨진 토큰은 무시한다.
+     */
+    public void revoke(String token) {
+        authTokenCodec.decode(token)
+                .ifPresent(claims -> tokenRevocationList.revoke(claims.tokenId(), claims.expiresAt()));
+    }
+
+    private AuthTokenClaims verify(String token, AuthTokenType expectedType, long now) {
+        AuthTokenClaims claims = authTokenCodec.decode(token)
+                .filter(decoded -> decoded.type() == expectedType)
+                .filter(decoded -> !decoded.isExpiredAt(now))
+                .orElseThrow(() -> new CoreException(ErrorType.UNAUTHORIZED, INVALID_TOKEN_MESSAGE));
+        if (tokenRevocationList.isRevoked(claims.tokenId())) {
+            throw new CoreException(ErrorType.UNAUTHORIZED, INVALID_TOKEN_MESSAGE);
+        }
+        return claims;
+    }
+
+    private AuthTokenPair issuePair(AuthenticatedUser user, Instant now) {
+        return new AuthTokenPair(
+                authTokenCodec.issue(user, AuthTokenType.ACCESS, now),
+                authTokenCodec.issue(user, AuthTokenType.REFRESH, now));
+    }
+}
@@ -0,0 +1,6 @@
+package com.loopers.domain.user;
+
+public enum AuthTokenType {
+    ACCESS,
+    REFRESH
+}
@@ -0,0 +1,11 @@
+package com.loopers.domain.user;
+
+/**
+ * 인증을 통과한 사용자의 최소 정보. 자격 증명 캐시에 그대로 담긴다.
+ */
+public record AuthenticatedUser(Long id, String loginId, String name) {
+
+    public static AuthenticatedUser from(UserModel user) {
+        return new AuthenticatedUser(user.getId(), user.getLoginId(), user.getName());
+    }
+}
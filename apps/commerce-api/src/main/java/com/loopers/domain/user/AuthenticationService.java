@@ -11,6 +11,7 @@ public class AuthenticationService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final CredentialCache credentialCache;
 
     public UserModel authenticate(String loginIdValue, String rawPassword) {
         UserModel user = userRepository.findByLoginId(loginIdValue)
@@ -22,4 +23,18 @@ public class AuthenticationService {
 
         return user;
     }
+
+    /**
+     * 요청마다 호출되는 인증. 최근에 검증된 자격 증명이면 DB와 BCrypt를 거치지 않는다.
+     * 캐시에는 검증에 쓴 비밀번호 해시를 버전으로 넘겨, 그 사이 비밀번호가 바뀌었으면 저장되지 않게 한다.
+     */
+    public AuthenticatedUser authenticateCached(String loginIdValue, String rawPassword) {
+        return credentialCache.find(loginIdValue, rawPassword)
+                .orElseGet(() -> {
+                    UserModel user = authenticate(loginIdValue, rawPassword);
+                    AuthenticatedUser authenticated = AuthenticatedUser.from(user);
+                    credentialCache.put(loginIdValue, rawPassword, authenticated, user.getPassword());
+                    return authenticated;
+                });
+    }
 }
@@ -0,0 +1,25 @@
+package com.loopers.domain.user;
+
+import java.util.Optional;
+
+/**
+ * 검증을 마친 (로그인 ID, 비밀번호) 조합을 짧게 기억해 반복 요청의 DB 조회와 BCrypt 비교를 건너뛴다.
+ * 구현체는 비밀번호 원문을 저장하지 않고 키가 있는 해시(HMAC)로만 비교해야 한다.
+ *
+ * credentialVersion은 검증에 쓴 저장된 비밀번호 해시다. 캐시는 로그인 ID별로 마지막 버전을 기억하고,
+ * 다른 버전으로 검증된 자격 증명은 저장하지 않는다. 비밀번호 변경 직전에 시작된 인증이 무효화 뒤에 저장해도 남지 않는다.
+ */
+public interface CredentialCache {
+
+    Optional<AuthenticatedUser> find(String loginId, String rawPassword);
+
+    /**
+     * 캐시가 기억하는 버전과 credentialVersion이 다르면 저장하지 않는다.
+     */
+    void put(String loginId, String rawPassword, AuthenticatedUser user, String credentialVersion);
+
+    /**
+     * 해당 로그인 ID로 캐시된 자격 증명을 모두 지우고 새 버전을 기억한다. 비밀번호 변경 시 호출한다.
+     */
+    void evict(String loginId, String credentialVersion);
+}
@@ -0,0 +1,7 @@
+package com.loopers.domain.user;
+
+/**
+ * 발급된 토큰 문자열과 그 안에 담긴 내용.
+ */
+public record IssuedAuthToken(String value, AuthTokenClaims claims) {
+}
@@ -0,0 +1,28 @@
+package com.loopers.domain.user;
+
+/**
+ * 만료 전에 무효화된 토큰 ID 목록. 로그아웃과 refresh 토큰 교체 시 기록한다.
+ * 비밀번호 변경처럼 사용자의 토큰을 한꺼번에 무효화할 때는 사용자별 기준 시각을 기록한다.
+ */
+public interface TokenRevocationList {
+
+    /**
+     * 이미 폐기된 토큰이면 아무것도 바꾸지 않는다. 확인과 기록은 한 번에 원자적으로 일어난다.
+     *
+     * @param expiresAt 토큰 만료 시각 (epoch second). 이후에는 목록에서 지워도 된다.
+     * @return 이번 호출로 새로 폐기했으면 true, 이미 폐기된 토큰이면 false
+     */
+    boolean revoke(String tokenId, long expiresAt);
+
+    boolean isRevoked(String tokenId);
+
+    /**
+     * 사용자가 issuedBefore(epoch milli)까지 발급받은 refresh 토큰을 모두 무효화한다. 비밀번호 변경 시 호출한다.
+     */
+    void revokeAllIssuedBefore(Long userId, long issuedBefore);
+
+    /**
+     * @param issuedAt 토큰 발급 시각 (epoch milli)
+     */
+    boolean isRevokedForUser(Long userId, long issuedAt);
+}
@@ -1,5 +1,6 @@
 package com.loopers.domain.user;
 
+import com.loopers.domain.user.event.UserPasswordChangedEvent;
 import com.loopers.domain.user.event.UserSignedUpEvent;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
@@ -64,6 +65,7 @@ public class UserService {
 
         user.changePassword(passwordEncoder.encode(rawNewPassword));
         userRepository.save(user);
+        eventPublisher.publishEvent(UserPasswordChangedEvent.from(user));
     }
 
     @Transactional
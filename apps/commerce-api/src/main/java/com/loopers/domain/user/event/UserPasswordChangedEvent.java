@@ -0,0 +1,13 @@
+package com.loopers.domain.user.event;
+
+import com.loopers.domain.user.UserModel;
+
+/**
+ * 비밀번호 변경 이벤트. credentialVersion은 새 비밀번호 해시로, 자격 증명 캐시의 버전 비교에만 쓴다.
+ */
+public record UserPasswordChangedEvent(Long userId, String loginId, String credentialVersion) {
+
+    public static UserPasswordChangedEvent from(UserModel model) {
+        return new UserPasswordChangedEvent(model.getId(), model.getLoginId(), model.getPassword());
+    }
+}
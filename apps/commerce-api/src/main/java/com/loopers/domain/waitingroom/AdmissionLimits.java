@@ -0,0 +1,18 @@
+package com.loopers.domain.waitingroom;
+
+/**
+ * 하위 시스템이 과부하로 판단되는 임계치. 하나라도 넘으면 과부하로 본다.
+ */
+public record AdmissionLimits(
+        double maxBulkheadSaturation,
+        double maxPoolWaitMillis,
+        double maxOrderP99Millis,
+        long maxActiveTokens) {
+
+    public boolean isExceededBy(AdmissionSignals signals) {
+        return signals.bulkheadSaturation() >= maxBulkheadSaturation
+                || signals.poolWaitMillis() >= maxPoolWaitMillis
+                || signals.orderP99Millis() >= maxOrderP99Millis
+                || signals.activeTokens() >= maxActiveTokens;
+    }
+}
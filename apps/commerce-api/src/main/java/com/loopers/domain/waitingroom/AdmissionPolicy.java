@@ -0,0 +1,31 @@
+package com.loopers.domain.waitingroom;
+
+/**
+ * 대기열 입장 속도 정책.
+ * 스케줄러 한 틱에 몇 명을 입장시킬지, 예상 대기시간 계산에 쓸 초당 입장 속도를 결정한다.
+ */
+public interface AdmissionPolicy {
+
+    /**
+     * 이번 틱에 입장시킬 인원. 0이면 이번 틱은 건너뛴다.
+     */
+    int nextBatchSize();
+
+    /**
+     * 제어기가 목표로 하는 초당 입장 인원.
+     */
+    double targetRatePerSecond();
+
+    /**
+     * 실제로 측정된 초당 입장 인원.
+     */
+    double measuredRatePerSecond();
+
+    /**
+     * 예상 대기시간 계산용 속도. 측정값이 아직 없으면 목표값을 쓴다.
+     */
+    default double admitRatePerSecond() {
+        double measured = measuredRatePerSecond();
+        return measured > 0 ? measured : targetRatePerSecond();
+    }
+}
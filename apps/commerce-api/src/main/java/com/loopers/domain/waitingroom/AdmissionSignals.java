@@ -0,0 +1,16 @@
+package com.loopers.domain.waitingroom;
+
+/**
+ * 입장 속도 조절에 쓰는 하위 시스템(주문 API) 상태 스냅샷.
+ *
+ * @param bulkheadSaturation orderApi Bulkhead 사용률 (0.0 ~ 1.0)
+ * @param poolWaitMillis     커넥션 풀 획득 대기시간 (ms)
+ * @param orderP99Millis     주문 API p99 응답시간 (ms)
+ * @param activeTokens       참여열 인원 (발급된 입장 토큰 수)
+ */
+public record AdmissionSignals(
+        double bulkheadSaturation,
+        double poolWaitMillis,
+        double orderP99Millis,
+        long activeTokens) {
+}
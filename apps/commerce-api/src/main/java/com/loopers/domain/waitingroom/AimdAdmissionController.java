@@ -0,0 +1,58 @@
+package com.loopers.domain.waitingroom;
+
+/**
+ * AIMD(Additive Increase / Multiplicative Decrease) 입장 속도 제어기.
+ * 하위 시스템이 여유로우면 목표 속도를 increaseStep만큼 올리고,
+ * 과부하 신호가 하나라도 잡히면 decreaseFactor를 곱해 빠르게 줄인다. 결과는 [minRate, maxRate]로 제한한다.
+ */
+public class AimdAdmissionController {
+
+    private final double minRate;
+    private final double maxRate;
+    private final double increaseStep;
+    private final double decreaseFactor;
+    private final AdmissionLimits limits;
+
+    private double targetRate;
+
+    public AimdAdmissionController(double minRate, double maxRate, double initialRate,
+                                   double increaseStep, double decreaseFactor,
+                                   AdmissionLimits limits) {
+        if (minRate <= 0 || maxRate < minRate) {
+            throw new IllegalArgumentException("입장 속도 범위가 올바르지 않습니다.");
+        }
+        if (decreaseFactor <= 0 || decreaseFactor >= 1) {
+            throw new IllegalArgumentException("감소 계수는 0과 1 사이여야 합니다.");
+        }
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.increaseStep = increaseStep;
+        this.decreaseFactor = decreaseFactor;
+        this.limits = limits;
+        this.targetRate = clamp(initialRate);
+    }
+
+    public synchronized double adjust(AdmissionSignals signals) {
+        if (limits.isExceededBy(signals)) {
+            targetRate = clamp(targetRate * decreaseFactor);
+        } else {
+            targetRate = clamp(targetRate + increaseStep);
+        }
+        return targetRate;
+    }
+
+    /**
+     * 다른 인스턴스가 조절해 둔 목표 속도에서 이어간다. 설정 범위를 벗어나면 범위 안으로 맞춘다.
+     */
+    public synchronized void restore(double rate) {
+        targetRate = clamp(rate);
+    }
+
+    public synchronized double targetRate() {
+        return targetRate;
+    }
+
+    private double clamp(double rate) {
+        return Math.max(minRate, Math.min(maxRate, rate));
+    }
+}
@@ -0,0 +1,23 @@
+package com.loopers.domain.waitingroom;
+
+/**
+ * 대기열 전체 진행 상황. 유저별 조회 없이 순번을 추정하는 데 쓴다.
+ *
+ * @param admittedSequence   지금까지 입장한 누적 인원
+ * @param totalWaiting       전체 대기 인원
+ * @param admitRatePerSecond 초당 입장 인원
+ */
+public record QueueProgress(long admittedSequence, long totalWaiting, double admitRatePerSecond) {
+
+    /**
+     * 기준 시점의 순위(baseRank)에서 그 뒤로 입장한 인원만큼 앞당긴 추정 순위.
+     * 앞사람의 취소는 반영되지 않으므로 실제보다 크거나 같다. 음수면 이미 입장했을 수 있다.
+     */
+    public long estimateRank(long baseRank, long baseSequence) {
+        return baseRank - (admittedSequence - baseSequence);
+    }
+
+    public WaitingRoomPosition positionAt(long rank) {
+        return WaitingRoomPosition.of(rank, Math.max(totalWaiting, rank + 1), admitRatePerSecond);
+    }
+}
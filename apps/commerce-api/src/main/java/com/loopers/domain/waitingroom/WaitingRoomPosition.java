@@ -6,8 +6,8 @@ public record WaitingRoomPosition(
         long estimatedWaitSeconds,
         String token) {
 
-    public static WaitingRoomPosition of(long rank, long totalWaiting, long throughputPerSecond) {
-        long estimatedWaitSeconds = throughputPerSecond > 0 ? rank / throughputPerSecond : 0;
+    public static WaitingRoomPosition of(long rank, long totalWaiting, double admitRatePerSecond) {
+        long estimatedWaitSeconds = admitRatePerSecond > 0 ? (long) (rank / admitRatePerSecond) : 0;
         return new WaitingRoomPosition(rank + 1, totalWaiting, estimatedWaitSeconds, null);
     }
 
@@ -14,43 +14,54 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class WaitingRoomService {
 
-    private static final long THROUGHPUT_PER_SECOND = 20;
-    private static final int BATCH_SIZE = 2; // 100ms마다 2명 × 10회 = 초당 20명 (Jitter)
-
     private final WaitingQueue waitingQueue;
     private final EntryGate entryGate;
+    private final WaitingRoomStore waitingRoomStore;
+    private final AdmissionPolicy admissionPolicy;
     private final ApplicationEventPublisher eventPublisher;
 
     // === (1) 줄 서기 === //
 
     public WaitingRoomPosition enter(Long userId) {
-        waitingQueue.enter(userId);
+        WaitingSnapshot snapshot = waitingRoomStore.enter(userId);
         eventPublisher.publishEvent(new WaitingRoomEnteredEvent(userId));
-        return buildPosition(userId);
+        return toPosition(snapshot);
     }
 
     // === (2) 내 순위 요청 === //
 
     public WaitingRoomPosition getPosition(Long userId) {
-        String token = entryGate.getToken(userId);
-        if (token != null) {
-            return WaitingRoomPosition.ready(token);
+        WaitingSnapshot snapshot = waitingRoomStore.findPosition(userId);
+        if (snapshot.isEntryReady()) {
+            return WaitingRoomPosition.ready(snapshot.token());
         }
-        Long rank = waitingQueue.getRank(userId);
-        if (rank == null) {
+        if (!snapshot.isWaiting()) {
             throw new CoreException(WaitingRoomErrorCode.NOT_IN_QUEUE);
         }
-        long totalWaiting = waitingQueue.getTotalWaiting();
-        return WaitingRoomPosition.of(rank, totalWaiting, THROUGHPUT_PER_SECOND);
+        return toPosition(snapshot);
+    }
+
+    // === 순번 추정용 진행 상황 (SSE 일괄 전송) === //
+
+    public long getAdmittedSequence() {
+        return waitingRoomStore.getAdmittedSequence();
+    }
+
+    public QueueProgress getProgress() {
+        return new QueueProgress(
+                waitingRoomStore.getAdmittedSequence(),
+                waitingQueue.getTotalWaiting(),
+                admissionPolicy.admitRatePerSecond());
     }
 
     // === (3) N명 꺼내기 + (4) 토큰 발급 === //
 
     public List<WaitingEntry> processQueue() {
-        List<WaitingEntry> admitted = waitingQueue.popFrontWithScores(BATCH_SIZE);
-        for (WaitingEntry entry : admitted) {
-            entryGate.issueToken(entry.userId());
+        int batchSize = admissionPolicy.nextBatchSize();
+        if (batchSize <= 0) {
+            return List.of();
         }
+        List<WaitingEntry> admitted = waitingRoomStore.admit(batchSize);
         if (!admitted.isEmpty()) {
             eventPublisher.publishEvent(new WaitingRoomAdmittedEvent(admitted.size()));
         }
@@ -77,9 +88,8 @@ public class WaitingRoomService {
         eventPublisher.publishEvent(new WaitingRoomCancelledEvent(userId));
     }
 
-    private WaitingRoomPosition buildPosition(Long userId) {
-        Long rank = waitingQueue.getRank(userId);
-        long totalWaiting = waitingQueue.getTotalWaiting();
-        return WaitingRoomPosition.of(rank, totalWaiting, THROUGHPUT_PER_SECOND);
+    private WaitingRoomPosition toPosition(WaitingSnapshot snapshot) {
+        return WaitingRoomPosition.of(
+                snapshot.rank(), snapshot.totalWaiting(), admissionPolicy.admitRatePerSecond());
     }
 }
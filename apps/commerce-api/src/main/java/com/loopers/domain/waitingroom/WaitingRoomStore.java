@@ -0,0 +1,30 @@
+package com.loopers.domain.waitingroom;
+
+import java.util.List;
+
+/**
+ * 대기열(WaitingQueue)과 참여열(EntryGate)에 걸친 복합 연산.
+ * 구현체는 각 연산을 원자적으로, 가능하면 저장소 왕복 1회로 처리한다.
+ */
+public interface WaitingRoomStore {
+
+    /**
+     * 대기열에 진입(이미 있으면 유지)하고 순위와 전체 인원을 함께 반환한다.
+     */
+    WaitingSnapshot enter(Long userId);
+
+    /**
+     * 입장 토큰이 있으면 토큰을, 없으면 순위와 전체 인원을 반환한다.
+     */
+    WaitingSnapshot findPosition(Long userId);
+
+    /**
+     * 대기열 앞에서 최대 count명을 꺼내 입장 토큰을 일괄 발급한다.
+     */
+    List<WaitingEntry> admit(int count);
+
+    /**
+     * 지금까지 admit으로 입장한 누적 인원.
+     */
+    long getAdmittedSequence();
+}
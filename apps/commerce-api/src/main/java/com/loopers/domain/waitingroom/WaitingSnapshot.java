@@ -0,0 +1,31 @@
+package com.loopers.domain.waitingroom;
+
+/**
+ * 대기열 저장소에서 한 번에 읽어 온 유저 상태.
+ *
+ * @param rank         0-based 순위. 대기열에 없으면 null
+ * @param totalWaiting 전체 대기 인원
+ * @param token        입장 토큰. 아직 입장 전이면 null
+ */
+public record WaitingSnapshot(Long rank, long totalWaiting, String token) {
+
+    public static WaitingSnapshot waiting(long rank, long totalWaiting) {
+        return new WaitingSnapshot(rank, totalWaiting, null);
+    }
+
+    public static WaitingSnapshot entered(String token) {
+        return new WaitingSnapshot(null, 0, token);
+    }
+
+    public static WaitingSnapshot notInQueue() {
+        return new WaitingSnapshot(null, 0, null);
+    }
+
+    public boolean isEntryReady() {
+        return token != null;
+    }
+
+    public boolean isWaiting() {
+        return rank != null;
+    }
+}
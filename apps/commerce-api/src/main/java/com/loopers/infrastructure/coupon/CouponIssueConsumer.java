@@ -1,40 +1,138 @@
 package com.loopers.infrastructure.coupon;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loopers.application.coupon.event.CouponIssuedMessage;
-import com.loopers.confg.kafka.KafkaConfig;
 import com.loopers.confg.kafka.KafkaTopics;
 import com.loopers.domain.coupon.CouponService;
+import com.loopers.support.error.CoreException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.Acknowledgment;
-import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
+/**
+ * coupon-issued 배치 컨슈머.
+ *
+ * - 한 번에 받은 메시지를 couponId별로 묶어, 쿠폰마다 조회/검증 1회 + 다중 행 INSERT IGNORE로 반영한다.
+ * - 역직렬화 실패, 쿠폰 없음/만료/삭제처럼 재시도해도 결과가 같은 메시지는 DLT로 보내고 넘어간다.
+ * - 그 밖의 실패(DB 장애, DLT 전송 실패)는 해당 묶음의 첫 메시지 위치로 BatchListenerFailedException을 던진다.
+ *   에러 핸들러가 그 앞까지만 커밋하고 나머지를 다시 받는다. 이미 반영된 묶음은 INSERT IGNORE로 건너뛰고,
+ *   DLT에는 같은 메시지가 두 번 갈 수 있다.
+ * - 배치를 끝까지 처리하면 한 번만 커밋한다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CouponIssueConsumer {
 
     private final CouponService couponService;
+    private final CouponIssueDeadLetterPublisher deadLetterPublisher;
+    private final ObjectMapper objectMapper;
 
     @KafkaListener(
             topics = KafkaTopics.COUPON_ISSUED,
             groupId = "coupon-issue-consumer",
-            containerFactory = KafkaConfig.SINGLE_LISTENER)
-    public void consume(@Payload CouponIssuedMessage message, Acknowledgment ack) {
+            containerFactory = CouponIssueKafkaConfig.COUPON_ISSUE_BATCH_LISTENER)
+    public void consume(List<ConsumerRecord<String, byte[]>> records, Acknowledgment ack) {
+        List<CouponIssueGroup> groups = groupByCoupon(records);
+
+        int inserted = 0;
+        for (CouponIssueGroup group : groups) {
+            inserted += process(group, records);
+        }
+        ack.acknowledge();
+        log.info("[CouponIssue] 배치 반영 — records={}, groups={}, inserted={}",
+                records.size(), groups.size(), inserted);
+    }
+
+    /**
+     * 첫 등장 순서대로 묶는다. 역직렬화에 실패한 메시지는 그 자리에서 단독 묶음이 된다.
+     * 따라서 어떤 묶음의 첫 메시지보다 앞선 메시지는 모두 앞선 묶음에 속해 먼저 처리된다.
+     */
+    private List<CouponIssueGroup> groupByCoupon(List<ConsumerRecord<String, byte[]>> records) {
+        List<CouponIssueGroup> groups = new ArrayList<>();
+        Map<Long, CouponIssueGroup> groupByCouponId = new HashMap<>();
+        for (int index = 0; index < records.size(); index++) {
+            CouponIssuedMessage message = parse(records.get(index));
+            if (message == null) {
+                CouponIssueGroup malformed = new CouponIssueGroup(null);
+                malformed.add(index, null);
+                groups.add(malformed);
+                continue;
+            }
+            CouponIssueGroup group = groupByCouponId.computeIfAbsent(message.couponId(), couponId -> {
+                CouponIssueGroup created = new CouponIssueGroup(couponId);
+                groups.add(created);
+                return created;
+            });
+            group.add(index, message.userId());
+        }
+        return groups;
+    }
+
+    private int process(CouponIssueGroup group, List<ConsumerRecord<String, byte[]>> records) {
+        int firstIndex = group.recordIndexes.get(0);
+        try {
+            if (group.couponId == null) {
+                deadLetterPublisher.publish(records.get(firstIndex), "역직렬화 실패");
+                return 0;
+            }
+            return issueOrDeadLetter(group, records);
+        } catch (RuntimeException e) {
+            log.error("[CouponIssue] 반영 실패, offset={}부터 재시도 — couponId={}",
+                    records.get(firstIndex).offset(), group.couponId, e);
+            throw new BatchListenerFailedException("쿠폰 발급 반영 실패: couponId=" + group.couponId, e, firstIndex);
+        }
+    }
+
+    private int issueOrDeadLetter(CouponIssueGroup group, List<ConsumerRecord<String, byte[]>> records) {
         try {
-            couponService.issue(message.couponId(), message.userId());
-            ack.acknowledge();
-        } catch (DataIntegrityViolationException e) {
-            log.warn("중복 발급 메시지 skip: couponId={}, userId={}",
-                    message.couponId(), message.userId());
-            ack.acknowledge();
-        } catch (Exception e) {
-            log.error("쿠폰 발급 실패, 재시도 예정: couponId={}, userId={}",
-                    message.couponId(), message.userId(), e);
-            throw e;
+            return couponService.issueAll(group.couponId, group.userIds);
+        } catch (CoreException e) {
+            String reason = "couponId=" + group.couponId + " " + e.getErrorCode().getMessage();
+            for (int index : group.recordIndexes) {
+                deadLetterPublisher.publish(records.get(index), reason);
+            }
+            return 0;
+        }
+    }
+
+    private CouponIssuedMessage parse(ConsumerRecord<String, byte[]> record) {
+        if (record.value() == null) {
+            return null;
+        }
+        try {
+            CouponIssuedMessage message = objectMapper.readValue(record.value(), CouponIssuedMessage.class);
+            if (message.couponId() == null || message.userId() == null) {
+                return null;
+            }
+            return message;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static final class CouponIssueGroup {
+
+        private final Long couponId;
+        private final List<Integer> recordIndexes = new ArrayList<>();
+        private final List<Long> userIds = new ArrayList<>();
+
+        CouponIssueGroup(Long couponId) {
+            this.couponId = couponId;
+        }
+
+        void add(int recordIndex, Long userId) {
+            recordIndexes.add(recordIndex);
+            userIds.add(userId);
         }
     }
 }
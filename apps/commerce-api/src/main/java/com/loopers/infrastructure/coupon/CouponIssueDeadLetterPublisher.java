@@ -0,0 +1,53 @@
+package com.loopers.infrastructure.coupon;
+
+import com.loopers.confg.kafka.KafkaTopics;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재시도해도 처리할 수 없는 쿠폰 발급 메시지를 원본 그대로 coupon-issued.DLT로 보낸다.
+ * 원본 위치와 사유는 헤더에 남긴다. 전송이 확인되어야 반환하므로, 실패하면 원본 배치가 커밋되지 않는다.
+ */
+@Slf4j
+@Component
+public class CouponIssueDeadLetterPublisher {
+
+    static final String HEADER_REASON = "dlt-reason";
+    static final String HEADER_ORIGINAL_PARTITION = "dlt-original-partition";
+    static final String HEADER_ORIGINAL_OFFSET = "dlt-original-offset";
+    private static final long SEND_TIMEOUT_SECONDS = 10;
+
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    public CouponIssueDeadLetterPublisher(
+            @Qualifier(CouponIssueKafkaConfig.COUPON_ISSUE_DLT_TEMPLATE) KafkaTemplate<String, byte[]> kafkaTemplate) {
+        this.kafkaTemplate = kafkaTemplate;
+    }
+
+    public void publish(ConsumerRecord<String, byte[]> record, String reason) {
+        ProducerRecord<String, byte[]> deadLetter =
+                new ProducerRecord<>(KafkaTopics.COUPON_ISSUED_DLT, record.key(), record.value());
+        deadLetter.headers()
+                .add(HEADER_REASON, String.valueOf(reason).getBytes(StandardCharsets.UTF_8))
+                .add(HEADER_ORIGINAL_PARTITION, String.valueOf(record.partition()).getBytes(StandardCharsets.UTF_8))
+                .add(HEADER_ORIGINAL_OFFSET, String.valueOf(record.offset()).getBytes(StandardCharsets.UTF_8));
+        try {
+            kafkaTemplate.send(deadLetter).get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("DLT 전송 중단", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("DLT 전송 실패", e);
+        }
+        log.warn("[CouponIssue] DLT 전송 — partition={}, offset={}, reason={}",
+                record.partition(), record.offset(), reason);
+    }
+}
@@ -0,0 +1,64 @@
+package com.loopers.infrastructure.coupon;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.ExponentialBackOff;
+
+/**
+ * 쿠폰 발급 배치 컨슈머 설정.
+ *
+ * - 공용 BATCH_LISTENER는 fetch.min.bytes 1MB / fetch.max.wait 5초라 발급 반영이 최대 5초 늦어진다.
+ *   여기서는 대기 없이 한 번에 최대 MAX_POLL_RECORDS건을 받는다.
+ * - 배치 단위로 수동 커밋한다. 컨슈머가 BatchListenerFailedException으로 실패 지점을 알리면
+ *   그 앞까지 커밋하고 나머지를 백오프 후 재시도한다. 발급은 INSERT IGNORE라 재처리해도 중복되지 않는다.
+ * - DB 장애 같은 일시적 실패는 포기하지 않고 계속 재시도한다. 재시도해도 소용없는 메시지는 컨슈머가 DLT로 보낸다.
+ */
+@Configuration
+public class CouponIssueKafkaConfig {
+
+    public static final String COUPON_ISSUE_BATCH_LISTENER = "couponIssueBatchListener";
+    public static final String COUPON_ISSUE_DLT_TEMPLATE = "couponIssueDltTemplate";
+
+    private static final int MAX_POLL_RECORDS = 500;
+    private static final long RETRY_INITIAL_INTERVAL_MS = 1_000;
+    private static final long RETRY_MAX_INTERVAL_MS = 30_000;
+
+    @Bean(COUPON_ISSUE_BATCH_LISTENER)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> couponIssueBatchListener(
+            KafkaProperties kafkaProperties) {
+        Map<String, Object> consumerConfig = new HashMap<>(kafkaProperties.buildConsumerProperties());
+        consumerConfig.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, MAX_POLL_RECORDS);
+
+        ExponentialBackOff backOff = new ExponentialBackOff(RETRY_INITIAL_INTERVAL_MS, 2.0);
+        backOff.setMaxInterval(RETRY_MAX_INTERVAL_MS);
+
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(consumerConfig));
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(backOff));
+        factory.setBatchListener(true);
+        factory.setConcurrency(1);
+        return factory;
+    }
+
+    @Bean(COUPON_ISSUE_DLT_TEMPLATE)
+    public KafkaTemplate<String, byte[]> couponIssueDltTemplate(KafkaProperties kafkaProperties) {
+        Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties());
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props));
+    }
+}
@@ -3,14 +3,20 @@ package com.loopers.infrastructure.coupon;
 import com.loopers.config.redis.RedisConfig;
 import com.loopers.domain.coupon.CouponIssueLimiter;
 import com.loopers.domain.coupon.CouponIssueResult;
+import java.time.ZonedDateTime;
 import java.util.List;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Component;
 
+/**
+ * 쿠폰별 ZSET 하나에 발급 유저를 쌓고 ZCARD로 수량을 확인하는 기본 구현.
+ */
 @Component
+@ConditionalOnProperty(name = "coupon.issue.limiter", havingValue = "zset", matchIfMissing = true)
 public class CouponRedisIssueLimiter implements CouponIssueLimiter {
 
     private static final String ISSUED_KEY_PREFIX = "coupon:issued:";
@@ -43,9 +49,19 @@ public class CouponRedisIssueLimiter implements CouponIssueLimiter {
     }
 
     @Override
-    public void registerTotalQuantity(Long couponId, int totalQuantity) {
+    public void registerTotalQuantity(Long couponId, int totalQuantity, ZonedDateTime expiredAt) {
         redisTemplate.delete(ISSUED_KEY_PREFIX + couponId);
         redisTemplate.opsForValue().set(
                 QUANTITY_KEY_PREFIX + couponId, String.valueOf(totalQuantity));
     }
+
+    @Override
+    public long getRemainingQuantity(Long couponId) {
+        String totalQuantity = redisTemplate.opsForValue().get(QUANTITY_KEY_PREFIX + couponId);
+        if (totalQuantity == null) {
+            return 0;
+        }
+        Long issued = redisTemplate.opsForZSet().zCard(ISSUED_KEY_PREFIX + couponId);
+        return Math.max(0, Long.parseLong(totalQuantity) - (issued == null ? 0 : issued));
+    }
 }
@@ -0,0 +1,173 @@
+package com.loopers.infrastructure.coupon;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.coupon.CouponIssueLimiter;
+import com.loopers.domain.coupon.CouponIssueResult;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 미리 채워 둔 재고 카운터를 N개 키로 나눠 선착순 발급을 처리하는 구현.
+ *
+ * - 발급 유저는 쿠폰별 SET에 넣어 중복을 막고, SET과 메타 키는 쿠폰 만료 시각에 함께 사라진다.
+ * - 재고는 샤드 키마다 나눠 담고, 임의의 샤드부터 돌며 남은 곳에서 DECR한다. 0 아래로는 내려가지 않으므로
+ *   샤드 합계가 곧 정확한 잔여 수량이다.
+ * - 샤드 키는 서로 다른 hash tag를 써서 Cluster에서 여러 노드로 흩어진다.
+ * - 모든 샤드가 비었으면 SET에서 유저를 다시 빼고 QUANTITY_EXHAUSTED를 돌려준다.
+ */
+@Component
+@ConditionalOnProperty(name = "coupon.issue.limiter", havingValue = "stock-pool")
+public class CouponStockPoolIssueLimiter implements CouponIssueLimiter {
+
+    private static final String KEY_PREFIX = "coupon:stock:";
+    private static final long NOT_FOUND = -1;
+    private static final long ALREADY_ISSUED = -2;
+    private static final long SHARD_EMPTY = -1;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final int shardCount;
+    private final DefaultRedisScript<Long> claimScript;
+    private final DefaultRedisScript<Long> takeScript;
+    private final DefaultRedisScript<Long> releaseScript;
+
+    public CouponStockPoolIssueLimiter(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+            @Value("${coupon.issue.stock-pool.shard-count:8}") int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("coupon.issue.stock-pool.shard-count는 1 이상이어야 합니다.");
+        }
+        this.redisTemplate = redisTemplate;
+        this.shardCount = shardCount;
+        this.claimScript = longScript("scripts/coupon-stock-claim.lua");
+        this.takeScript = longScript("scripts/coupon-stock-take.lua");
+        this.releaseScript = longScript("scripts/coupon-stock-release.lua");
+    }
+
+    @Override
+    public CouponIssueResult tryIssue(Long couponId, Long userId) {
+        String member = String.valueOf(userId);
+        Long claimed = redisTemplate.execute(
+                claimScript, List.of(issuedKey(couponId), metaKey(couponId)), member);
+        if (claimed == null || claimed == NOT_FOUND) {
+            return CouponIssueResult.NOT_FOUND;
+        }
+        if (claimed == ALREADY_ISSUED) {
+            return CouponIssueResult.ALREADY_ISSUED;
+        }
+
+        int shards = claimed.intValue();
+        int start = ThreadLocalRandom.current().nextInt(shards);
+        for (int i = 0; i < shards; i++) {
+            String stockKey = stockKey(couponId, (start + i) % shards);
+            Long remaining = redisTemplate.execute(takeScript, List.of(stockKey));
+            if (remaining != null && remaining != SHARD_EMPTY) {
+                return CouponIssueResult.SUCCESS;
+            }
+        }
+        redisTemplate.opsForSet().remove(issuedKey(couponId), member);
+        return CouponIssueResult.QUANTITY_EXHAUSTED;
+    }
+
+    @Override
+    public void rollback(Long couponId, Long userId) {
+        int shards = registeredShardCount(couponId);
+        if (shards > 0) {
+            String stockKey = stockKey(couponId, ThreadLocalRandom.current().nextInt(shards));
+            redisTemplate.execute(releaseScript, List.of(stockKey));
+        }
+        redisTemplate.opsForSet().remove(issuedKey(couponId), String.valueOf(userId));
+    }
+
+    /**
+     * 수량을 샤드에 고르게 나눠 담는다(나머지는 앞쪽 샤드부터 1장씩).
+     * 샤드 수는 수량을 넘지 않게 줄여, 빈 샤드를 도는 왕복을 만들지 않는다.
+     * 재고 키를 먼저 쓰고 메타 키를 마지막에 써서, 메타가 보이면 재고도 준비된 상태가 되게 한다.
+     */
+    @Override
+    public void registerTotalQuantity(Long couponId, int totalQuantity, ZonedDateTime expiredAt) {
+        int previousShards = registeredShardCount(couponId);
+        List<String> staleKeys = new ArrayList<>(List.of(metaKey(couponId), issuedKey(couponId)));
+        IntStream.range(0, Math.max(previousShards, shardCount))
+                .forEach(shard -> staleKeys.add(stockKey(couponId, shard)));
+        redisTemplate.delete(staleKeys);
+
+        Duration ttl = Duration.between(ZonedDateTime.now(), expiredAt);
+        if (ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+
+        int shards = Math.max(1, Math.min(shardCount, totalQuantity));
+        int base = totalQuantity / shards;
+        int remainder = totalQuantity % shards;
+        for (int shard = 0; shard < shards; shard++) {
+            int stock = base + (shard < remainder ? 1 : 0);
+            redisTemplate.opsForValue().set(stockKey(couponId, shard), String.valueOf(stock), ttl);
+        }
+        redisTemplate.opsForHash().put(metaKey(couponId), "shards", String.valueOf(shards));
+        redisTemplate.expire(metaKey(couponId), ttl);
+    }
+
+    /**
+     * 샤드 키는 hash tag가 서로 달라 MGET으로 묶을 수 없으므로, GET N개를 한 번의 파이프라인으로 보내 합산한다.
+     * 카운터는 0 아래로 내려가지 않지만, 혹시 음수가 보여도 0으로 잘라 합계가 줄지 않게 한다.
+     */
+    @Override
+    public long getRemainingQuantity(Long couponId) {
+        int shards = registeredShardCount(couponId);
+        if (shards == 0) {
+            return 0;
+        }
+        List<Object> stocks = redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                IntStream.range(0, shards).forEach(shard -> ops.opsForValue().get(stockKey(couponId, shard)));
+                return null;
+            }
+        });
+        return stocks.stream()
+                .filter(Objects::nonNull)
+                .mapToLong(stock -> Math.max(0, Long.parseLong(stock.toString())))
+                .sum();
+    }
+
+    private int registeredShardCount(Long couponId) {
+        Object shards = redisTemplate.opsForHash().get(metaKey(couponId), "shards");
+        return shards == null ? 0 : Integer.parseInt(shards.toString());
+    }
+
+    private static String metaKey(Long couponId) {
+        return KEY_PREFIX + "{" + couponId + "}:meta";
+    }
+
+    private static String issuedKey(Long couponId) {
+        return KEY_PREFIX + "{" + couponId + "}:issued";
+    }
+
+    private static String stockKey(Long couponId, int shard) {
+        return KEY_PREFIX + "{" + couponId + ":" + shard + "}";
+    }
+
+    private static DefaultRedisScript<Long> longScript(String location) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(location));
+        script.setResultType(Long.class);
+        return script;
+    }
+}
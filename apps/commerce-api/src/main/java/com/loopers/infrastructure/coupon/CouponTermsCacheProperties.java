@@ -0,0 +1,17 @@
+package com.loopers.infrastructure.coupon;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 보유 쿠폰 사용 조건 캐시 설정 (coupon.terms-cache.*).
+ */
+@ConfigurationProperties(prefix = "coupon.terms-cache")
+public record CouponTermsCacheProperties(
+        Boolean enabled,
+        long maxTtlSeconds) {
+
+    public CouponTermsCacheProperties {
+        if (enabled == null) enabled = true;
+        if (maxTtlSeconds <= 0) maxTtlSeconds = 604800;
+    }
+}
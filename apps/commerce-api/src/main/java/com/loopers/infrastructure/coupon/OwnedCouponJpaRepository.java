@@ -1,5 +1,6 @@
 package com.loopers.infrastructure.coupon;
 
+import com.loopers.domain.coupon.CouponDiscountType;
 import com.loopers.domain.coupon.OwnedCouponModel;
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -15,6 +16,12 @@ public interface OwnedCouponJpaRepository extends JpaRepository<OwnedCouponModel
 
     Optional<OwnedCouponModel> findByCouponIdAndUserId(Long couponId, Long userId);
 
+    @Query("SELECT o.userId, o.id FROM OwnedCouponModel o"
+            + " WHERE o.couponId = :couponId AND o.userId IN :userIds")
+    List<Object[]> findIdsByCouponIdAndUserIdIn(
+            @Param("couponId") Long couponId,
+            @Param("userIds") List<Long> userIds);
+
     List<OwnedCouponModel> findAllByUserId(Long userId);
 
     Page<OwnedCouponModel> findAllByCouponId(Long couponId, Pageable pageable);
@@ -23,12 +30,20 @@ public interface OwnedCouponJpaRepository extends JpaRepository<OwnedCouponModel
 
     @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query("UPDATE OwnedCouponModel o"
-            + " SET o.orderId = :orderId, o.usedAt = :usedAt"
-            + " WHERE o.id = :id AND o.orderId IS NULL")
-    int useByIdWhenAvailable(
+            + " SET o.orderId = :orderId, o.usedAt = :now"
+            + " WHERE o.id = :id AND o.orderId IS NULL"
+            + " AND o.userId = :userId"
+            + " AND o.discountType = :discountType AND o.discountValue = :discountValue"
+            + " AND o.expiredAt >= :now"
+            + " AND (o.minOrderAmount IS NULL OR o.minOrderAmount <= :orderAmount)")
+    int useIfUsable(
             @Param("id") Long id,
+            @Param("userId") Long userId,
+            @Param("discountType") CouponDiscountType discountType,
+            @Param("discountValue") long discountValue,
             @Param("orderId") Long orderId,
-            @Param("usedAt") ZonedDateTime usedAt);
+            @Param("orderAmount") long orderAmount,
+            @Param("now") ZonedDateTime now);
 
     long countByCouponId(Long couponId);
 
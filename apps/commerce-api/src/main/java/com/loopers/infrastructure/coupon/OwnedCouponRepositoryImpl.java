@@ -1,8 +1,14 @@
 package com.loopers.infrastructure.coupon;
 
+import com.loopers.domain.coupon.CouponModel;
+import com.loopers.domain.coupon.CouponTerms;
 import com.loopers.domain.coupon.OwnedCouponModel;
 import com.loopers.domain.coupon.OwnedCouponRepository;
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -10,19 +16,62 @@ import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlParameterValue;
 import org.springframework.stereotype.Repository;
 
 @Repository
 @RequiredArgsConstructor
 public class OwnedCouponRepositoryImpl implements OwnedCouponRepository {
 
+    private static final int INSERT_CHUNK_SIZE = 500;
+    private static final String INSERT_IGNORE_PREFIX = "INSERT IGNORE INTO owned_coupons "
+            + "(coupon_id, coupon_name, discount_type, discount_value, min_order_amount, "
+            + "expired_at, user_id, created_at, updated_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
     private final OwnedCouponJpaRepository ownedCouponJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public OwnedCouponModel save(OwnedCouponModel ownedCouponModel) {
         return ownedCouponJpaRepository.save(ownedCouponModel);
     }
 
+    /**
+     * 다중 행 INSERT IGNORE를 INSERT_CHUNK_SIZE 단위로 실행한다.
+     * (coupon_id, user_id) 유니크 제약에 걸리는 행은 MySQL이 건너뛰고 영향 행 수에서도 빠진다.
+     */
+    @Override
+    public int saveAllIgnoringDuplicates(CouponModel coupon, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.from(ZonedDateTime.now().toInstant());
+        Timestamp expiredAt = Timestamp.from(coupon.getExpiredAt().toInstant());
+        SqlParameterValue minOrderAmount = new SqlParameterValue(Types.BIGINT, coupon.getMinOrderAmount());
+
+        int inserted = 0;
+        for (int from = 0; from < userIds.size(); from += INSERT_CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + INSERT_CHUNK_SIZE, userIds.size()));
+            List<Object> args = new ArrayList<>(chunk.size() * 9);
+            for (Long userId : chunk) {
+                args.add(coupon.getId());
+                args.add(coupon.getName());
+                args.add(coupon.getDiscountType().name());
+                args.add(coupon.getDiscountValue());
+                args.add(minOrderAmount);
+                args.add(expiredAt);
+                args.add(userId);
+                args.add(now);
+                args.add(now);
+            }
+            String sql = INSERT_IGNORE_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), ROW_PLACEHOLDER));
+            inserted += jdbcTemplate.update(sql, args.toArray());
+        }
+        return inserted;
+    }
+
     @Override
     public Optional<OwnedCouponModel> findById(Long id) {
         return ownedCouponJpaRepository.findById(id);
@@ -33,6 +82,17 @@ public class OwnedCouponRepositoryImpl implements OwnedCouponRepository {
         return ownedCouponJpaRepository.findByCouponIdAndUserId(couponId, userId);
     }
 
+    @Override
+    public Map<Long, Long> findIdsByCouponIdAndUserIds(Long couponId, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        return ownedCouponJpaRepository.findIdsByCouponIdAndUserIdIn(couponId, userIds).stream()
+                .collect(Collectors.toMap(
+                        row -> (Long) row[0],
+                        row -> (Long) row[1]));
+    }
+
     @Override
     public List<OwnedCouponModel> findAllByUserId(Long userId) {
         return ownedCouponJpaRepository.findAllByUserId(userId);
@@ -49,8 +109,10 @@ public class OwnedCouponRepositoryImpl implements OwnedCouponRepository {
     }
 
     @Override
-    public int useByIdWhenAvailable(Long id, Long orderId, ZonedDateTime usedAt) {
-        return ownedCouponJpaRepository.useByIdWhenAvailable(id, orderId, usedAt);
+    public int useIfUsable(Long id, CouponTerms terms, Long orderId, long orderAmount, ZonedDateTime now) {
+        return ownedCouponJpaRepository.useIfUsable(
+                id, terms.userId(), terms.discountType(), terms.discountValue(),
+                orderId, orderAmount, now);
     }
 
     @Override
@@ -0,0 +1,164 @@
+package com.loopers.infrastructure.coupon;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.coupon.CouponDiscountType;
+import com.loopers.domain.coupon.CouponTerms;
+import com.loopers.domain.coupon.CouponTermsCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 기반 보유 쿠폰 사용 조건 캐시.
+ *
+ * - 키: coupon:terms:v1:{ownedCouponId} (STRING)
+ * - 값: "{couponId}\t{userId}\t{discountType}\t{discountValue}\t{minOrderAmount}\t{expiredAt epoch ms}"
+ *   minOrderAmount가 없으면 빈 문자열. 값 형식을 바꾸면 키의 버전(v1)을 올려 이전 형식을 읽지 않게 한다.
+ * - 발급 시점에 채운다(단건은 SET, 배치 발급은 파이프라인). 사용 시 miss면 DB에서 읽어 다시 채운다.
+ * - TTL은 쿠폰 만료 시각과 max-ttl-seconds 중 이른 쪽까지. 이미 만료된 쿠폰은 저장하지 않는다.
+ * - Redis 장애 시 캐시를 건너뛰고 DB에서 읽는다.
+ */
+@Slf4j
+@Component
+public class RedisCouponTermsCache implements CouponTermsCache {
+
+    private static final String KEY_PREFIX = "coupon:terms:v1:";
+    private static final String VALUE_DELIMITER = "\t";
+    private static final String METRIC_NAME = "coupon.terms.cache.requests";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean enabled;
+    private final Duration maxTtl;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public RedisCouponTermsCache(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+            CouponTermsCacheProperties properties,
+            MeterRegistry registry) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = properties.enabled();
+        this.maxTtl = Duration.ofSeconds(properties.maxTtlSeconds());
+        this.hitCounter = Counter.builder(METRIC_NAME).tag("result", "hit")
+                .description("보유 쿠폰 사용 조건 캐시 조회 (hit)").register(registry);
+        this.missCounter = Counter.builder(METRIC_NAME).tag("result", "miss")
+                .description("보유 쿠폰 사용 조건 캐시 조회 (miss)").register(registry);
+    }
+
+    @Override
+    public Optional<CouponTerms> find(Long ownedCouponId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        String value;
+        try {
+            value = redisTemplate.opsForValue().get(KEY_PREFIX + ownedCouponId);
+        } catch (Exception e) {
+            log.warn("[Coupon] 사용 조건 캐시 조회 실패, DB 조회로 진행 — ownedCouponId={}", ownedCouponId, e);
+            value = null;
+        }
+        if (value == null) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+        hitCounter.increment();
+        return Optional.of(decode(value));
+    }
+
+    @Override
+    public void put(Long ownedCouponId, CouponTerms terms) {
+        if (!enabled) {
+            return;
+        }
+        Duration ttl = ttlOf(terms);
+        if (ttl == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + ownedCouponId, encode(terms), ttl);
+        } catch (Exception e) {
+            log.warn("[Coupon] 사용 조건 캐시 저장 실패 — ownedCouponId={}", ownedCouponId, e);
+        }
+    }
+
+    /**
+     * 발급 배치 하나의 사용 조건을 파이프라인 한 번으로 SET EX 한다.
+     */
+    @Override
+    public void putAll(Map<Long, CouponTerms> termsByOwnedCouponId) {
+        if (!enabled || termsByOwnedCouponId.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    termsByOwnedCouponId.forEach((ownedCouponId, terms) -> {
+                        Duration ttl = ttlOf(terms);
+                        if (ttl != null) {
+                            ops.opsForValue().set(KEY_PREFIX + ownedCouponId, encode(terms), ttl);
+                        }
+                    });
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("[Coupon] 사용 조건 캐시 일괄 저장 실패 — count={}", termsByOwnedCouponId.size(), e);
+        }
+    }
+
+    @Override
+    public void evict(Long ownedCouponId) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + ownedCouponId);
+        } catch (Exception e) {
+            log.warn("[Coupon] 사용 조건 캐시 삭제 실패 — ownedCouponId={}", ownedCouponId, e);
+        }
+    }
+
+    /**
+     * 만료 시각과 max-ttl 중 이른 쪽까지의 TTL. 이미 만료됐으면 null.
+     */
+    private Duration ttlOf(CouponTerms terms) {
+        Duration untilExpired = Duration.between(ZonedDateTime.now(), terms.expiredAt());
+        if (untilExpired.isNegative() || untilExpired.isZero()) {
+            return null;
+        }
+        return untilExpired.compareTo(maxTtl) < 0 ? untilExpired : maxTtl;
+    }
+
+    private static String encode(CouponTerms terms) {
+        return String.join(VALUE_DELIMITER,
+                String.valueOf(terms.couponId()),
+                String.valueOf(terms.userId()),
+                terms.discountType().name(),
+                String.valueOf(terms.discountValue()),
+                terms.minOrderAmount() == null ? "" : String.valueOf(terms.minOrderAmount()),
+                String.valueOf(terms.expiredAt().toInstant().toEpochMilli()));
+    }
+
+    private static CouponTerms decode(String value) {
+        String[] parts = value.split(VALUE_DELIMITER, -1);
+        return new CouponTerms(
+                Long.parseLong(parts[0]),
+                Long.parseLong(parts[1]),
+                CouponDiscountType.valueOf(parts[2]),
+                Long.parseLong(parts[3]),
+                parts[4].isEmpty() ? null : Long.parseLong(parts[4]),
+                ZonedDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(parts[5])), ZoneId.systemDefault()));
+    }
+}
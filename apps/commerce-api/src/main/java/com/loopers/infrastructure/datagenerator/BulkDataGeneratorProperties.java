@@ -2,6 +2,12 @@ package com.loopers.infrastructure.datagenerator;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+/**
+ * @param mode                    행 적재 방식. BATCH_INSERT 는 JDBC 배치 INSERT, LOAD_DATA 는 파이프로 흘린 LOAD DATA LOCAL INFILE
+ * @param parallelism             서로 의존하지 않는 단계(이미지/사용자, 주문/랭킹 점수/일별 지표)를 동시에 돌릴 스레드 수. 1이면 순서대로 돈다
+ * @param seed                    단계마다 같은 seed 로 난수를 만들어 실행 순서와 무관하게 같은 데이터를 만든다
+ * @param rebuildSecondaryIndexes LOAD_DATA 에서 적재 전에 비유니크 보조 인덱스를 지우고 끝나면 다시 만든다
+ */
 @ConfigurationProperties(prefix = "app.data-generator")
 public record BulkDataGeneratorProperties(
         boolean enabled,
@@ -10,7 +16,11 @@ public record BulkDataGeneratorProperties(
         int userCount,
         int likeCount,
         int orderCount,
-        SoftDelete softDelete) {
+        SoftDelete softDelete,
+        WriteMode mode,
+        int parallelism,
+        long seed,
+        boolean rebuildSecondaryIndexes) {
 
     public BulkDataGeneratorProperties {
         if (brandCount <= 0) brandCount = 100;
@@ -19,6 +29,9 @@ public record BulkDataGeneratorProperties(
         if (likeCount <= 0) likeCount = 500_000;
         if (orderCount <= 0) orderCount = 100_000;
         if (softDelete == null) softDelete = new SoftDelete(10, 3, 2);
+        if (mode == null) mode = WriteMode.BATCH_INSERT;
+        if (parallelism <= 0) parallelism = 1;
+        if (seed == 0) seed = 42;
     }
 
     public record SoftDelete(
@@ -32,4 +45,9 @@ public record BulkDataGeneratorProperties(
             if (productWithLikePercent <= 0) productWithLikePercent = 2;
         }
     }
+
+    public enum WriteMode {
+        BATCH_INSERT,
+        LOAD_DATA
+    }
 }
@@ -2,31 +2,54 @@ package com.loopers.infrastructure.datagenerator;
 
 import com.loopers.domain.rank.RankingScorePolicy;
 import com.loopers.domain.user.PasswordEncoder;
+import com.loopers.infrastructure.datagenerator.BulkDataGeneratorProperties.WriteMode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 
+/**
+ * 성능 테스트용 데이터를 단계별로 만든다.
+ *
+ * - 행은 GeneratedTable 별 RowSink 로 흘리고, mode 에 따라 JDBC 배치 INSERT 또는 LOAD DATA 로 적재한다.
+ *   LOAD_DATA 인데 서버 local_infile 이 꺼져 있으면 BATCH_INSERT 로 진행한다.
+ * - parallelism 이 2 이상이면 서로 의존하지 않는 단계(이미지/사용자, 주문/랭킹 점수/일별 지표)를 동시에 돌린다.
+ * - 단계마다 같은 seed 로 난수를 만들므로 동시 실행 여부와 무관하게 같은 데이터가 나온다.
+ * - 진행 상황은 datagenerator.rows{table} 카운터와 PROGRESS_LOG_INTERVAL 행마다 남기는 로그로 본다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class BulkDataGeneratorService {
 
+    private static final int BATCH_SIZE = 10_000;
+    private static final int PROGRESS_LOG_INTERVAL = 100_000;
+
     private final DataGeneratorRepository dataGeneratorRepository;
     private final PasswordEncoder passwordEncoder;
     private final BulkDataGeneratorProperties properties;
     private final CacheManager cacheManager;
     private final RankingScorePolicy rankingScorePolicy;
+    private final LoadDataWriter loadDataWriter;
+    private final MeterRegistry meterRegistry;
 
     private volatile boolean running = false;
+    private volatile boolean loadData = false;
 
     public boolean isRunning() {
         return running;
@@ -38,10 +61,16 @@ public class BulkDataGeneratorService {
             return;
         }
         running = true;
+        ExecutorService executor = properties.parallelism() > 1
+                ? Executors.newFixedThreadPool(properties.parallelism())
+                : null;
         try {
-            log.info("=== BulkDataGenerator START === brands={}, products={}, users={}, likes={}, orders={}",
+            loadData = properties.mode() == WriteMode.LOAD_DATA && loadDataAvailable();
+            log.info("=== BulkDataGenerator START === brands={}, products={}, users={}, likes={}, orders={}, "
+                            + "loadData={}, parallelism={}, seed={}",
                     properties.brandCount(), properties.productCount(),
-                    properties.userCount(), properties.likeCount(), properties.orderCount());
+                    properties.userCount(), properties.likeCount(), properties.orderCount(),
+                    loadData, properties.parallelism(), properties.seed());
 
             long totalStart = System.currentTimeMillis();
 
@@ -83,20 +112,26 @@ public class BulkDataGeneratorService {
                 log.info("  Phase 2.5: Product soft-delete Wave 1 already applied. Skipping.");
             }
 
-            // Phase 2.7: Product Images
-            long totalProductImages = dataGeneratorRepository.countAllInTable("product_images");
-            if (totalProductImages == 0 && totalProducts >= properties.productCount()) {
-                generateProductImages();
-            } else {
-                log.info("  Phase 2.7: Product images {} already exist. Skipping.", totalProductImages);
-            }
-
-            // Phase 3: Users
-            if (totalUsers < properties.userCount()) {
-                generateUsers();
-            } else {
-                log.info("  Phase 3: Users {} already exist. Skipping.", totalUsers);
-            }
+            // Phase 2.7 + 3: 상품 이미지와 사용자는 서로 의존하지 않는다
+            boolean productsReady = totalProducts >= properties.productCount();
+            runConcurrently(executor,
+                    () -> {
+                        // Phase 2.7: Product Images
+                        long totalProductImages = dataGeneratorRepository.countAllInTable("product_images");
+                        if (totalProductImages == 0 && productsReady) {
+                            generateProductImages();
+                        } else {
+                            log.info("  Phase 2.7: Product images {} already exist. Skipping.", totalProductImages);
+                        }
+                    },
+                    () -> {
+                        // Phase 3: Users
+                        if (totalUsers < properties.userCount()) {
+                            generateUsers();
+                        } else {
+                            log.info("  Phase 3: Users {} already exist. Skipping.", totalUsers);
+                        }
+                    });
 
             // Phase 4: Likes
             if (totalLikes < properties.likeCount()) {
@@ -114,25 +149,31 @@ public class BulkDataGeneratorService {
                 log.info("  Phase 4.5: Product soft-delete Wave 2 already applied. Skipping.");
             }
 
-            // Phase 5: Orders
-            if (totalOrders < properties.orderCount()) {
-                generateOrders();
-            } else {
-                log.info("  Phase 5: Orders {} already exist. Skipping.", totalOrders);
-            }
-
-            // Phase 6: Ranking Scores
-            if (totalProducts >= properties.productCount()) {
-                generateRankingScores();
-            }
-
-            // Phase 7: Daily Metrics (30일치)
+            // Phase 5~7: 주문, 랭킹 점수, 일별 지표는 서로 의존하지 않는다
             LocalDate metricsEndDate = LocalDate.now();
-            if (dataGeneratorRepository.countProductMetricsDailyByDate(metricsEndDate) == 0) {
-                generateProductMetricsDaily(30, metricsEndDate);
-            } else {
-                log.info("  Phase 7: Daily metrics for {} already exist. Skipping.", metricsEndDate);
-            }
+            runConcurrently(executor,
+                    () -> {
+                        // Phase 5: Orders
+                        if (totalOrders < properties.orderCount()) {
+                            generateOrders();
+                        } else {
+                            log.info("  Phase 5: Orders {} already exist. Skipping.", totalOrders);
+                        }
+                    },
+                    () -> {
+                        // Phase 6: Ranking Scores
+                        if (productsReady) {
+                            generateRankingScores();
+                        }
+                    },
+                    () -> {
+                        // Phase 7: Daily Metrics (30일치)
+                        if (dataGeneratorRepository.countProductMetricsDailyByDate(metricsEndDate) == 0) {
+                            generateProductMetricsDaily(30, metricsEndDate);
+                        } else {
+                            log.info("  Phase 7: Daily metrics for {} already exist. Skipping.", metricsEndDate);
+                        }
+                    });
 
             // Phase 8: Weekly/Monthly Ranking Aggregation
             Map<String, Integer> aggregated = runRankingAggregation(metricsEndDate);
@@ -148,10 +189,94 @@ public class BulkDataGeneratorService {
                     finalStats.get("brandCount"), finalStats.get("productCount"),
                     finalStats.get("userCount"), finalStats.get("likeCount"), finalStats.get("orderCount"));
         } finally {
+            if (executor != null) {
+                executor.shutdown();
+            }
+            if (properties.mode() == WriteMode.LOAD_DATA) {
+                loadDataWriter.close();
+            }
+            loadData = false;
             running = false;
         }
     }
 
+    private boolean loadDataAvailable() {
+        if (loadDataWriter.isAvailable()) {
+            return true;
+        }
+        log.warn("  local_infile 이 꺼져 있어 LOAD_DATA 대신 BATCH_INSERT 로 진행한다.");
+        return false;
+    }
+
+    /**
+     * executor 가 없으면 주어진 순서대로, 있으면 동시에 돌리고 모두 끝날 때까지 기다린다.
+     */
+    private void runConcurrently(ExecutorService executor, Runnable... phases) {
+        if (executor == null) {
+            Arrays.stream(phases).forEach(Runnable::run);
+            return;
+        }
+        CompletableFuture.allOf(Arrays.stream(phases)
+                        .map(phase -> CompletableFuture.runAsync(phase, executor))
+                        .toArray(CompletableFuture[]::new))
+                .join();
+    }
+
+    /**
+     * generator 가 만든 행을 mode 에 맞게 적재하고 적재한 행 수를 돌려준다.
+     */
+    private long write(GeneratedTable table, Consumer<RowSink> generator) {
+        if (loadData) {
+            return loadDataWriter.load(table, sink -> generator.accept(tracked(table, sink)));
+        }
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        long[] written = {0};
+        generator.accept(tracked(table, values -> {
+            batch.add(values);
+            if (batch.size() >= BATCH_SIZE) {
+                batchInsert(table, batch);
+                written[0] += batch.size();
+                batch.clear();
+            }
+        }));
+        if (!batch.isEmpty()) {
+            batchInsert(table, batch);
+            written[0] += batch.size();
+        }
+        return written[0];
+    }
+
+    private RowSink tracked(GeneratedTable table, RowSink sink) {
+        Counter rows = Counter.builder("datagenerator.rows")
+                .tag("table", table.tableName())
+                .description("생성기가 만든 행 수")
+                .register(meterRegistry);
+        long start = System.currentTimeMillis();
+        long[] count = {0};
+        return values -> {
+            sink.add(values);
+            rows.increment();
+            if (++count[0] % PROGRESS_LOG_INTERVAL == 0) {
+                log.info("  {} {} rows ({}s)", table.tableName(), count[0], elapsed(start));
+            }
+        };
+    }
+
+    private void batchInsert(GeneratedTable table, List<Object[]> rows) {
+        switch (table) {
+            case PRODUCTS -> dataGeneratorRepository.batchInsertProducts(rows);
+            case PRODUCT_IMAGES -> dataGeneratorRepository.batchInsertProductImages(rows);
+            case LIKES -> dataGeneratorRepository.batchInsertLikes(rows.stream()
+                    .map(row -> new long[]{(Long) row[0], (Long) row[1]})
+                    .toList());
+            case ORDERS -> dataGeneratorRepository.batchInsertOrders(rows);
+            case ORDER_ITEMS -> dataGeneratorRepository.batchInsertOrderItems(rows);
+            case RANKING_SCORES -> dataGeneratorRepository.batchInsertRankingScores(rows);
+            case PRODUCT_METRICS_DAILY -> dataGeneratorRepository.batchInsertProductMetricsDaily(rows);
+            case USERS -> throw new IllegalArgumentException("users 는 batchInsertUsers 로 넣는다.");
+        }
+    }
+
     private List<Long> generateBrands() {
         long start = System.currentTimeMillis();
         dataGeneratorRepository.batchInsertBrands(
@@ -177,9 +302,8 @@ public class BulkDataGeneratorService {
         }
 
         long start = System.currentTimeMillis();
-        Random random = new Random(42);
+        Random random = new Random(properties.seed());
         int totalProducts = properties.productCount();
-        int batchSize = 10_000;
 
         // 브랜드별 상품 할당량 계산
         int[] productsPerBrand = new int[activeBrandIds.size()];
@@ -199,35 +323,21 @@ public class BulkDataGeneratorService {
         // 나머지를 첫 번째 브랜드에 조정
         productsPerBrand[0] += totalProducts - allocated;
 
-        List<Object[]> batch = new ArrayList<>(batchSize);
-        int created = 0;
-
-        for (int brandIdx = 0; brandIdx < activeBrandIds.size(); brandIdx++) {
-            Long brandId = activeBrandIds.get(brandIdx);
-            int count = productsPerBrand[brandIdx];
+        long created = write(GeneratedTable.PRODUCTS, sink -> {
+            for (int brandIdx = 0; brandIdx < activeBrandIds.size(); brandIdx++) {
+                Long brandId = activeBrandIds.get(brandIdx);
+                int count = productsPerBrand[brandIdx];
 
-            for (int j = 0; j < count; j++) {
-                FashionDataPool.Category category = FashionDataPool.pickCategory(random);
-                String name = FashionDataPool.generateProductName(category, random);
-                int price = FashionDataPool.generatePrice(category, random);
-                int stock = FashionDataPool.generateStock(category, random);
+                for (int j = 0; j < count; j++) {
+                    FashionDataPool.Category category = FashionDataPool.pickCategory(random);
+                    String name = FashionDataPool.generateProductName(category, random);
+                    int price = FashionDataPool.generatePrice(category, random);
+                    int stock = FashionDataPool.generateStock(category, random);
 
-                batch.add(new Object[]{brandId, name, price, stock, "/image.png"});
-
-                if (batch.size() >= batchSize) {
-                    dataGeneratorRepository.batchInsertProducts(batch);
-                    created += batch.size();
-                    batch.clear();
-                    log.info("  Phase 2: Products {}/{} ({}s)", created, totalProducts, elapsed(start));
+                    sink.add(brandId, name, price, stock, "/image.png");
                 }
             }
-        }
-
-        if (!batch.isEmpty()) {
-            dataGeneratorRepository.batchInsertProducts(batch);
-            created += batch.size();
-            batch.clear();
-        }
+        });
 
         log.info("  Phase 2: Products {} created ({}s)", created, elapsed(start));
     }
@@ -241,34 +351,18 @@ public class BulkDataGeneratorService {
         }
 
         String imageUrl = "/image.png";
-        int batchSize = 10_000;
-        List<Object[]> batch = new ArrayList<>(batchSize);
-        int created = 0;
-
-        for (Long productId : productIds) {
-            // MAIN 이미지 2장
-            for (int i = 0; i < 2; i++) {
-                batch.add(new Object[]{productId, imageUrl, "MAIN", i});
-            }
-            // DETAIL 이미지 3장
-            for (int i = 0; i < 3; i++) {
-                batch.add(new Object[]{productId, imageUrl, "DETAIL", i});
-            }
-
-            if (batch.size() >= batchSize) {
-                dataGeneratorRepository.batchInsertProductImages(batch);
-                created += batch.size();
-                batch.clear();
-                log.info("  Phase 2.7: Product images {}/{} ({}s)",
-                        created, productIds.size() * 5, elapsed(start));
+        long created = write(GeneratedTable.PRODUCT_IMAGES, sink -> {
+            for (Long productId : productIds) {
+                // MAIN 이미지 2장
+                for (int i = 0; i < 2; i++) {
+                    sink.add(productId, imageUrl, "MAIN", i);
+                }
+                // DETAIL 이미지 3장
+                for (int i = 0; i < 3; i++) {
+                    sink.add(productId, imageUrl, "DETAIL", i);
+                }
             }
-        }
-
-        if (!batch.isEmpty()) {
-            dataGeneratorRepository.batchInsertProductImages(batch);
-            created += batch.size();
-            batch.clear();
-        }
+        });
 
         log.info("  Phase 2.7: Product images {} created ({}s)", created, elapsed(start));
     }
@@ -319,8 +413,17 @@ public class BulkDataGeneratorService {
     private void generateUsers() {
         long start = System.currentTimeMillis();
         String encodedPassword = passwordEncoder.encode("Test1234!");
-        int created = dataGeneratorRepository.batchInsertUsers(
-                "bulk", properties.userCount(), encodedPassword, 1_000_000L);
+        long created;
+        if (loadData) {
+            created = write(GeneratedTable.USERS, sink -> {
+                for (int i = 1; i <= properties.userCount(); i++) {
+                    sink.add(DataGeneratorRepository.bulkUserRow("bulk", i, encodedPassword, 1_000_000L));
+                }
+            });
+        } else {
+            created = dataGeneratorRepository.batchInsertUsers(
+                    "bulk", properties.userCount(), encodedPassword, 1_000_000L);
+        }
         log.info("  Phase 3: Users {} created ({}s)", created, elapsed(start));
     }
 
@@ -359,41 +462,25 @@ public class BulkDataGeneratorService {
             }
         }
 
-        // Generate pairs in chunks
-        Random random = new Random(42);
-        int chunkSize = 50_000;
-        List<long[]> chunk = new ArrayList<>(chunkSize);
-        int totalCreated = 0;
-
-        for (int i = 0; i < productIds.size(); i++) {
-            int count = likesPerProduct[i];
-            if (count == 0) continue;
-
-            long productId = productIds.get(i);
-            Set<Integer> selectedUserIndices = new HashSet<>();
-            int attempts = 0;
-            while (selectedUserIndices.size() < count && attempts < count * 3) {
-                selectedUserIndices.add(random.nextInt(userIds.size()));
-                attempts++;
-            }
-
-            for (int userIndex : selectedUserIndices) {
-                chunk.add(new long[]{userIds.get(userIndex), productId});
+        Random random = new Random(properties.seed());
+        long totalCreated = write(GeneratedTable.LIKES, sink -> {
+            for (int i = 0; i < productIds.size(); i++) {
+                int count = likesPerProduct[i];
+                if (count == 0) continue;
+
+                Long productId = productIds.get(i);
+                Set<Integer> selectedUserIndices = new HashSet<>();
+                int attempts = 0;
+                while (selectedUserIndices.size() < count && attempts < count * 3) {
+                    selectedUserIndices.add(random.nextInt(userIds.size()));
+                    attempts++;
+                }
 
-                if (chunk.size() >= chunkSize) {
-                    dataGeneratorRepository.batchInsertLikes(chunk);
-                    totalCreated += chunk.size();
-                    chunk.clear();
-                    log.info("  Phase 4: Likes {}/{} ({}s)", totalCreated, totalLikes, elapsed(start));
+                for (int userIndex : selectedUserIndices) {
+                    sink.add(userIds.get(userIndex), productId);
                 }
             }
-        }
-
-        if (!chunk.isEmpty()) {
-            dataGeneratorRepository.batchInsertLikes(chunk);
-            totalCreated += chunk.size();
-            chunk.clear();
-        }
+        });
 
         log.info("  Phase 4: Likes {} created ({}s)", totalCreated, elapsed(start));
     }
@@ -409,23 +496,31 @@ public class BulkDataGeneratorService {
             return;
         }
 
-        Random random = new Random(42);
+        // 주문 ID 를 직접 매기고 같은 seed 로 두 번 만들어 주문과 주문 항목을 따로 적재한다
+        long firstOrderId = dataGeneratorRepository.getMaxOrderId() + 1;
+        long created = write(GeneratedTable.ORDERS,
+                sink -> generateOrderRows(userIds, productPool, firstOrderId, sink, null));
+        write(GeneratedTable.ORDER_ITEMS,
+                sink -> generateOrderRows(userIds, productPool, firstOrderId, null, sink));
+
+        log.info("  Phase 5: Orders {} created ({}s)", created, elapsed(start));
+    }
+
+    private void generateOrderRows(List<Long> userIds, List<Map<String, Object>> productPool,
+                                   long firstOrderId, RowSink orders, RowSink items) {
+        Random random = new Random(properties.seed());
         int totalOrders = properties.orderCount();
         int ordersPerUser = Math.max(1, totalOrders / userIds.size());
-        int chunkSize = 1000;
-        int created = 0;
         int poolSize = productPool.size();
-
-        List<Object[]> orderBatch = new ArrayList<>(chunkSize);
-        List<List<Object[]>> itemsPerOrder = new ArrayList<>(chunkSize);
+        int created = 0;
 
         for (Long userId : userIds) {
-            if (created + orderBatch.size() >= totalOrders) break;
+            if (created >= totalOrders) break;
 
-            for (int o = 0; o < ordersPerUser && created + orderBatch.size() < totalOrders; o++) {
+            for (int o = 0; o < ordersPerUser && created < totalOrders; o++) {
+                long orderId = firstOrderId + created;
                 int itemCount = 1 + random.nextInt(3);
                 int totalPrice = 0;
-                List<Object[]> items = new ArrayList<>(itemCount);
 
                 for (int i = 0; i < itemCount; i++) {
                     // Power-law: 인기 상품(낮은 인덱스)일수록 더 자주 선택
@@ -434,49 +529,22 @@ public class BulkDataGeneratorService {
                     int price = ((Number) product.get("price")).intValue();
                     int qty = 1 + random.nextInt(3);
                     totalPrice += price * qty;
-                    items.add(new Object[]{
-                            ((Number) product.get("id")).longValue(),
-                            price, qty,
-                            (String) product.get("product_name"),
-                            (String) product.get("brand_name"),
-                            "ORDERED"});
+                    if (items != null) {
+                        items.add(orderId,
+                                ((Number) product.get("id")).longValue(),
+                                price, qty,
+                                (String) product.get("product_name"),
+                                (String) product.get("brand_name"),
+                                "ORDERED");
+                    }
                 }
 
-                orderBatch.add(new Object[]{userId, totalPrice, totalPrice, "ORDERED", 0});
-                itemsPerOrder.add(items);
-            }
-
-            if (orderBatch.size() >= chunkSize) {
-                created += flushOrderBatch(orderBatch, itemsPerOrder);
-                log.info("  Phase 5: Orders {}/{} ({}s)", created, totalOrders, elapsed(start));
-            }
-        }
-
-        if (!orderBatch.isEmpty()) {
-            created += flushOrderBatch(orderBatch, itemsPerOrder);
-        }
-
-        log.info("  Phase 5: Orders {} created ({}s)", created, elapsed(start));
-    }
-
-    private int flushOrderBatch(List<Object[]> orderBatch, List<List<Object[]>> itemsPerOrder) {
-        long maxId = dataGeneratorRepository.getMaxOrderId();
-        dataGeneratorRepository.batchInsertOrders(orderBatch);
-
-        List<Object[]> allItems = new ArrayList<>();
-        for (int i = 0; i < orderBatch.size(); i++) {
-            long orderId = maxId + 1 + i;
-            for (Object[] item : itemsPerOrder.get(i)) {
-                allItems.add(new Object[]{
-                        orderId, item[0], item[1], item[2], item[3], item[4], item[5]});
+                if (orders != null) {
+                    orders.add(orderId, userId, totalPrice, totalPrice, "ORDERED", 0);
+                }
+                created++;
             }
         }
-        dataGeneratorRepository.batchInsertOrderItems(allItems);
-
-        int size = orderBatch.size();
-        orderBatch.clear();
-        itemsPerOrder.clear();
-        return size;
     }
 
     private void generateRankingScores() {
@@ -493,32 +561,17 @@ public class BulkDataGeneratorService {
             return;
         }
 
-        Random random = new Random(42);
+        Random random = new Random(properties.seed());
         double baseScore = 10000.0;
-        int batchSize = 10_000;
-        List<Object[]> batch = new ArrayList<>(batchSize);
-        int created = 0;
 
         // Zipf 분포: 상위 상품일수록 높은 점수 + 약간의 랜덤 노이즈
-        for (int i = 0; i < productIds.size(); i++) {
-            double weight = 1.0 / Math.pow(i + 1, 0.8);
-            double score = weight * baseScore + random.nextDouble() * 10;
-            batch.add(new Object[]{productIds.get(i), today, score});
-
-            if (batch.size() >= batchSize) {
-                dataGeneratorRepository.batchInsertRankingScores(batch);
-                created += batch.size();
-                batch.clear();
-                log.info("  Phase 6: Ranking scores {}/{} ({}s)",
-                        created, productIds.size(), elapsed(start));
+        long created = write(GeneratedTable.RANKING_SCORES, sink -> {
+            for (int i = 0; i < productIds.size(); i++) {
+                double weight = 1.0 / Math.pow(i + 1, 0.8);
+                double score = weight * baseScore + random.nextDouble() * 10;
+                sink.add(productIds.get(i), today, score);
             }
-        }
-
-        if (!batch.isEmpty()) {
-            dataGeneratorRepository.batchInsertRankingScores(batch);
-            created += batch.size();
-            batch.clear();
-        }
+        });
 
         log.info("  Phase 6: Ranking scores {} created for {} ({}s)",
                 created, today, elapsed(start));
@@ -539,38 +592,22 @@ public class BulkDataGeneratorService {
             popularity[i] = 1.0 / Math.pow(i + 1, 0.7);
         }
 
-        Random random = new Random(42);
-        int batchSize = 10_000;
-        List<Object[]> batch = new ArrayList<>(batchSize);
-        long total = (long) productIds.size() * days;
-        int created = 0;
+        Random random = new Random(properties.seed());
+        int created = (int) write(GeneratedTable.PRODUCT_METRICS_DAILY, sink -> {
+            for (int dayOffset = 0; dayOffset < days; dayOffset++) {
+                LocalDate date = endDate.minusDays(dayOffset);
+                double dayMultiplier = 1.0 - dayOffset * 0.01;
 
-        for (int dayOffset = 0; dayOffset < days; dayOffset++) {
-            LocalDate date = endDate.minusDays(dayOffset);
-            double dayMultiplier = 1.0 - dayOffset * 0.01;
+                for (int i = 0; i < productIds.size(); i++) {
+                    double pop = popularity[i] * dayMultiplier;
+                    long views = Math.max(0L, (long) (pop * 5000 * (0.5 + random.nextDouble())));
+                    long likes = Math.max(0L, (long) (pop * 200 * (0.5 + random.nextDouble())));
+                    long orders = Math.max(0L, (long) (pop * 50 * (0.5 + random.nextDouble())));
 
-            for (int i = 0; i < productIds.size(); i++) {
-                double pop = popularity[i] * dayMultiplier;
-                long views = Math.max(0L, (long) (pop * 5000 * (0.5 + random.nextDouble())));
-                long likes = Math.max(0L, (long) (pop * 200 * (0.5 + random.nextDouble())));
-                long orders = Math.max(0L, (long) (pop * 50 * (0.5 + random.nextDouble())));
-
-                batch.add(new Object[]{productIds.get(i), date, views, likes, orders});
-
-                if (batch.size() >= batchSize) {
-                    created += dataGeneratorRepository.batchInsertProductMetricsDaily(batch);
-                    batch.clear();
-                    if (created % 100_000 == 0) {
-                        log.info("[Metrics] {}/{} ({}s)", created, total, elapsed(start));
-                    }
+                    sink.add(productIds.get(i), date, views, likes, orders);
                 }
             }
-        }
-
-        if (!batch.isEmpty()) {
-            created += dataGeneratorRepository.batchInsertProductMetricsDaily(batch);
-            batch.clear();
-        }
+        });
 
         log.info("[Metrics] done {} rows across {} days ({}s)", created, days, elapsed(start));
         return created;
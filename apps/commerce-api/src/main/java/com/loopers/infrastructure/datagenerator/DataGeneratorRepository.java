@@ -3,7 +3,6 @@ package com.loopers.infrastructure.datagenerator;
 import java.sql.PreparedStatement;
 import java.sql.Timestamp;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.util.HashMap;
 import java.util.List;
@@ -16,6 +15,8 @@ import org.springframework.stereotype.Repository;
 @RequiredArgsConstructor
 public class DataGeneratorRepository {
 
+    private static final LocalDate BULK_USER_BASE_BIRTH_DATE = LocalDate.of(1995, 1, 1);
+
     private final JdbcTemplate jdbcTemplate;
 
     public Map<String, Long> getStats() {
@@ -46,20 +47,11 @@ public class DataGeneratorRepository {
     public int batchInsertUsers(String prefix, int count, String encodedPassword, long defaultPoint) {
         String sql = "INSERT INTO users (login_id, password, name, birth_date, email, point, version, created_at, updated_at) "
                 + "VALUES (?, ?, ?, ?, ?, ?, 0, NOW(), NOW())";
-        LocalDate baseBirthDate = LocalDate.of(1995, 1, 1);
-        LocalDateTime now = LocalDateTime.now();
 
         int created = 0;
         for (int i = 1; i <= count; i++) {
-            String loginId = prefix + i;
-            String name = prefix.substring(0, Math.min(prefix.length(), 4)) + i;
-            if (name.length() < 2) name = "user" + i;
-            if (name.length() > 10) name = name.substring(0, 10);
-            String email = loginId + "@test.com";
-            LocalDate birthDate = baseBirthDate.plusDays(i % 3650);
-
             try {
-                jdbcTemplate.update(sql, loginId, encodedPassword, name, birthDate, email, defaultPoint);
+                jdbcTemplate.update(sql, bulkUserRow(prefix, i, encodedPassword, defaultPoint));
                 created++;
             } catch (Exception ignored) {
                 // duplicate login_id, skip
@@ -68,6 +60,19 @@ public class DataGeneratorRepository {
         return created;
     }
 
+    /**
+     * 생성기 사용자 한 명의 (login_id, password, name, birth_date, email, point).
+     */
+    static Object[] bulkUserRow(String prefix, int i, String encodedPassword, long defaultPoint) {
+        String loginId = prefix + i;
+        String name = prefix.substring(0, Math.min(prefix.length(), 4)) + i;
+        if (name.length() < 2) name = "user" + i;
+        if (name.length() > 10) name = name.substring(0, 10);
+        String email = loginId + "@test.com";
+        LocalDate birthDate = BULK_USER_BASE_BIRTH_DATE.plusDays(i % 3650);
+        return new Object[]{loginId, encodedPassword, name, birthDate, email, defaultPoint};
+    }
+
     public List<Long> findAllUserIds() {
         return jdbcTemplate.queryForList("SELECT id FROM users", Long.class);
     }
@@ -197,15 +202,16 @@ public class DataGeneratorRepository {
     public void batchInsertOrders(List<Object[]> orders) {
         if (orders.isEmpty()) return;
         String sql = "INSERT INTO orders "
-                + "(user_id, total_price, original_total_price, status, discount_amount, version, created_at, updated_at) "
-                + "VALUES (?, ?, ?, ?, ?, 0, NOW(), NOW())";
+                + "(id, user_id, total_price, original_total_price, status, discount_amount, version, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, 0, NOW(), NOW())";
         jdbcTemplate.batchUpdate(sql, orders, 1000,
                 (PreparedStatement ps, Object[] o) -> {
                     ps.setLong(1, (Long) o[0]);
-                    ps.setInt(2, (int) o[1]);
+                    ps.setLong(2, (Long) o[1]);
                     ps.setInt(3, (int) o[2]);
-                    ps.setString(4, (String) o[3]);
-                    ps.setInt(5, (int) o[4]);
+                    ps.setInt(4, (int) o[3]);
+                    ps.setString(5, (String) o[4]);
+                    ps.setInt(6, (int) o[5]);
                 });
     }
 
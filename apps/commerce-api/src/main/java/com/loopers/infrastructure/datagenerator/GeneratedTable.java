@@ -0,0 +1,61 @@
+package com.loopers.infrastructure.datagenerator;
+
+import java.util.List;
+
+/**
+ * 생성기가 대량으로 채우는 테이블.
+ *
+ * columns 는 RowSink.add 에 넘기는 값의 순서이고, fixedValues 는 행마다 같은 값(버전, 생성 시각 등)이다.
+ */
+enum GeneratedTable {
+
+    PRODUCTS("products",
+            List.of("brand_id", "name", "price", "stock", "thumbnail_url"),
+            "version = 0, created_at = NOW(), updated_at = NOW()"),
+    PRODUCT_IMAGES("product_images",
+            List.of("product_id", "image_url", "image_type", "sort_order"),
+            "created_at = NOW(), updated_at = NOW()"),
+    USERS("users",
+            List.of("login_id", "password", "name", "birth_date", "email", "point"),
+            "version = 0, created_at = NOW(), updated_at = NOW()"),
+    LIKES("likes",
+            List.of("user_id", "product_id"),
+            "created_at = NOW()"),
+    ORDERS("orders",
+            List.of("id", "user_id", "total_price", "original_total_price", "status", "discount_amount"),
+            "version = 0, created_at = NOW(), updated_at = NOW()"),
+    ORDER_ITEMS("order_items",
+            List.of("order_id", "product_id", "order_price", "quantity", "product_name", "brand_name", "status"),
+            "created_at = NOW(), updated_at = NOW()"),
+    RANKING_SCORES("product_ranking_scores",
+            List.of("product_id", "ranking_date", "score"),
+            "created_at = NOW(), updated_at = NOW()"),
+    PRODUCT_METRICS_DAILY("product_metrics_daily",
+            List.of("product_id", "metric_date", "view_count", "like_count", "order_count"),
+            "updated_at = NOW(6)");
+
+    private final String tableName;
+    private final List<String> columns;
+    private final String fixedValues;
+
+    GeneratedTable(String tableName, List<String> columns, String fixedValues) {
+        this.tableName = tableName;
+        this.columns = columns;
+        this.fixedValues = fixedValues;
+    }
+
+    String tableName() {
+        return tableName;
+    }
+
+    /**
+     * 기본 필드/행 구분자(탭, 줄바꿈, 백슬래시 이스케이프, \N = NULL)를 쓰는 LOAD DATA 문.
+     * 중복 키 행은 기존 INSERT IGNORE 와 같이 건너뛴다.
+     */
+    String loadDataSql() {
+        return "LOAD DATA LOCAL INFILE 'stream' IGNORE INTO TABLE " + tableName
+                + " CHARACTER SET utf8mb4"
+                + " (" + String.join(", ", columns) + ")"
+                + " SET " + fixedValues;
+    }
+}
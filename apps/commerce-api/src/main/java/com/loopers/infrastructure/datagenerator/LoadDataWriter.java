@@ -0,0 +1,246 @@
+package com.loopers.infrastructure.datagenerator;
+
+import com.mysql.cj.jdbc.JdbcStatement;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * LOAD DATA LOCAL INFILE 로 생성한 행을 적재한다.
+ *
+ * - 행은 파일로 내리지 않고 파이프로 흘린다. 생성은 가상 스레드에서, 적재는 호출 스레드의 커넥션에서 동시에 진행된다.
+ * - allowLoadLocalInfile 은 생성기 전용 풀에서만 켠다. 애플리케이션 풀 설정은 건드리지 않는다.
+ * - 적재 전에 비유니크 보조 인덱스를 지우고, 끝나면 ALTER TABLE 한 번으로 다시 만든다.
+ *   InnoDB 는 DISABLE KEYS 를 무시하므로 행마다 인덱스를 갱신하는 대신 정렬 기반 일괄 생성을 쓰기 위함이다.
+ *   유니크 인덱스는 중복 행을 건너뛰는 데 필요하므로 남기고, 외래 키가 쓰는 인덱스는 지울 수 없어 남는다.
+ * - 서버의 local_infile 이 꺼져 있으면 isAvailable() 이 false 다.
+ */
+@Slf4j
+@Component
+public class LoadDataWriter {
+
+    private static final String POOL_NAME = "mysql-datagenerator-pool";
+    private static final int PIPE_BUFFER_BYTES = 1 << 20;
+    private static final int WRITER_BUFFER_CHARS = 1 << 16;
+
+    private final HikariConfig mainHikariConfig;
+    private final BulkDataGeneratorProperties properties;
+    private final ExecutorService producers = Executors.newVirtualThreadPerTaskExecutor();
+    private HikariDataSource dataSource;
+
+    public LoadDataWriter(
+            @Qualifier("mySqlMainHikariConfig") HikariConfig mainHikariConfig,
+            BulkDataGeneratorProperties properties) {
+        this.mainHikariConfig = mainHikariConfig;
+        this.properties = properties;
+    }
+
+    public boolean isAvailable() {
+        try (Connection connection = dataSource().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT @@GLOBAL.local_infile")) {
+            return rs.next() && rs.getBoolean(1);
+        } catch (SQLException e) {
+            log.warn("local_infile 확인 실패", e);
+            return false;
+        }
+    }
+
+    /**
+     * generator 가 만든 행을 table 에 적재하고 적재된 행 수를 돌려준다.
+     */
+    public long load(GeneratedTable table, Consumer<RowSink> generator) {
+        long start = System.currentTimeMillis();
+        try (Connection connection = dataSource().getConnection()) {
+            List<String> droppedIndexes = properties.rebuildSecondaryIndexes()
+                    ? dropSecondaryIndexes(connection, table.tableName())
+                    : List.of();
+            long loaded;
+            try {
+                loaded = stream(connection, table, generator);
+            } finally {
+                restoreSecondaryIndexes(connection, table.tableName(), droppedIndexes);
+            }
+            log.info("  LOAD DATA {}: {} rows, indexes rebuilt={} ({}s)", table.tableName(), loaded,
+                    droppedIndexes.size(), String.format("%.1f", (System.currentTimeMillis() - start) / 1000.0));
+            return loaded;
+        } catch (SQLException e) {
+            throw new IllegalStateException(table.tableName() + " LOAD DATA 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (dataSource != null) {
+            dataSource.close();
+            dataSource = null;
+        }
+    }
+
+    private long stream(Connection connection, GeneratedTable table, Consumer<RowSink> generator)
+            throws SQLException {
+        PipedInputStream in = new PipedInputStream(PIPE_BUFFER_BYTES);
+        CompletableFuture<Void> producer;
+        try {
+            PipedOutputStream out = new PipedOutputStream(in);
+            producer = CompletableFuture.runAsync(() -> produce(out, generator), producers);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.unwrap(JdbcStatement.class).setLocalInfileInputStream(in);
+            long loaded = statement.executeLargeUpdate(table.loadDataSql());
+            producer.join();
+            return loaded;
+        } finally {
+            // 적재가 중간에 실패해 읽기를 멈춰도 생산자가 가득 찬 파이프에서 막히지 않게 닫는다
+            try {
+                in.close();
+            } catch (IOException ignored) {
+                // 닫기 실패는 무시한다
+            }
+        }
+    }
+
+    private void produce(PipedOutputStream out, Consumer<RowSink> generator) {
+        try (Writer writer = new BufferedWriter(
+                new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITER_BUFFER_CHARS)) {
+            StringBuilder line = new StringBuilder(256);
+            generator.accept(values -> {
+                line.setLength(0);
+                appendRow(line, values);
+                try {
+                    writer.append(line);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * LOAD DATA 기본 형식의 한 줄: 탭 구분, 줄바꿈 종료, NULL 은 \N, 특수 문자는 백슬래시로 이스케이프한다.
+     */
+    static void appendRow(StringBuilder line, Object... values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                line.append('\t');
+            }
+            Object value = values[i];
+            if (value == null) {
+                line.append("\\N");
+                continue;
+            }
+            String text = value.toString();
+            for (int j = 0; j < text.length(); j++) {
+                char c = text.charAt(j);
+                switch (c) {
+                    case '\\' -> line.append("\\\\");
+                    case '\t' -> line.append("\\t");
+                    case '\n' -> line.append("\\n");
+                    case '\r' -> line.append("\\r");
+                    case '\0' -> line.append("\\0");
+                    default -> line.append(c);
+                }
+            }
+        }
+        line.append('\n');
+    }
+
+    private List<String> dropSecondaryIndexes(Connection connection, String table) throws SQLException {
+        Map<String, List<String>> definitions = new LinkedHashMap<>();
+        Set<String> expressionIndexes = new HashSet<>();
+        String sql = "SELECT INDEX_NAME, COLUMN_NAME, SUB_PART, COLLATION FROM information_schema.STATISTICS "
+                + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND NON_UNIQUE = 1 AND INDEX_TYPE = 'BTREE' "
+                + "ORDER BY INDEX_NAME, SEQ_IN_INDEX";
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setString(1, table);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String indexName = rs.getString("INDEX_NAME");
+                    String column = rs.getString("COLUMN_NAME");
+                    if (column == null) {
+                        expressionIndexes.add(indexName);
+                        continue;
+                    }
+                    int subPart = rs.getInt("SUB_PART");
+                    String part = "`" + column + "`" + (rs.wasNull() ? "" : "(" + subPart + ")")
+                            + ("D".equals(rs.getString("COLLATION")) ? " DESC" : "");
+                    definitions.computeIfAbsent(indexName, ignored -> new ArrayList<>()).add(part);
+                }
+            }
+        }
+        expressionIndexes.forEach(definitions::remove);
+
+        List<String> dropped = new ArrayList<>();
+        for (Map.Entry<String, List<String>> index : definitions.entrySet()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ALTER TABLE `" + table + "` DROP INDEX `" + index.getKey() + "`");
+                dropped.add("ADD INDEX `" + index.getKey() + "` (" + String.join(", ", index.getValue()) + ")");
+            } catch (SQLException e) {
+                log.info("  {}.{} 인덱스는 유지한다: {}", table, index.getKey(), e.getMessage());
+            }
+        }
+        return dropped;
+    }
+
+    private void restoreSecondaryIndexes(Connection connection, String table, List<String> dropped)
+            throws SQLException {
+        if (dropped.isEmpty()) {
+            return;
+        }
+        String sql = "ALTER TABLE `" + table + "` " + String.join(", ", dropped);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        } catch (SQLException e) {
+            log.error("보조 인덱스 재생성 실패, 수동으로 복구해야 한다: {}", sql, e);
+            throw e;
+        }
+    }
+
+    private synchronized HikariDataSource dataSource() {
+        if (dataSource == null) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName(POOL_NAME);
+            config.setDriverClassName(mainHikariConfig.getDriverClassName());
+            config.setJdbcUrl(mainHikariConfig.getJdbcUrl());
+            config.setUsername(mainHikariConfig.getUsername());
+            config.setPassword(mainHikariConfig.getPassword());
+            mainHikariConfig.getDataSourceProperties()
+                    .forEach((key, value) -> config.addDataSourceProperty(key.toString(), value));
+            config.addDataSourceProperty("allowLoadLocalInfile", "true");
+            config.setMaximumPoolSize(properties.parallelism() + 1);
+            config.setMinimumIdle(0);
+            dataSource = new HikariDataSource(config);
+        }
+        return dataSource;
+    }
+}
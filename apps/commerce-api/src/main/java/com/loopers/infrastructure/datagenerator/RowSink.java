@@ -0,0 +1,10 @@
+package com.loopers.infrastructure.datagenerator;
+
+/**
+ * 생성한 행을 받는 곳. 값의 순서는 GeneratedTable 의 columns 를 따른다.
+ */
+@FunctionalInterface
+interface RowSink {
+
+    void add(Object... values);
+}
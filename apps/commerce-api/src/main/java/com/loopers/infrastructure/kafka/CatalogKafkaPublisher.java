@@ -1,5 +1,6 @@
 package com.loopers.infrastructure.kafka;
 
+import com.loopers.confg.kafka.EventKafkaProducer;
 import com.loopers.confg.kafka.KafkaEventMessage;
 import com.loopers.confg.kafka.KafkaTopics;
 import com.loopers.domain.product.event.ProductLikedEvent;
@@ -9,7 +10,6 @@ import java.util.HashMap;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -19,7 +19,7 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @RequiredArgsConstructor
 public class CatalogKafkaPublisher {
 
-    private final KafkaTemplate<Object, Object> kafkaTemplate;
+    private final EventKafkaProducer eventKafkaProducer;
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleProductLiked(ProductLikedEvent event) {
@@ -46,7 +46,7 @@ public class CatalogKafkaPublisher {
 
     private void publish(String eventType, String partitionKey, Map<String, Object> data) {
         try {
-            kafkaTemplate.send(
+            eventKafkaProducer.send(
                     KafkaTopics.CATALOG_EVENTS,
                     partitionKey,
                     KafkaEventMessage.of(eventType, data));
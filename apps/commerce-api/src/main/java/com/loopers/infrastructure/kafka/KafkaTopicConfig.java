@@ -34,4 +34,12 @@ public class KafkaTopicConfig {
                 .replicas(1)
                 .build();
     }
+
+    @Bean
+    public NewTopic couponIssuedDltTopic() {
+        return TopicBuilder.name(KafkaTopics.COUPON_ISSUED_DLT)
+                .partitions(1)
+                .replicas(1)
+                .build();
+    }
 }
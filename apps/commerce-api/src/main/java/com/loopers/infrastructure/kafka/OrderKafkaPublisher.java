@@ -1,12 +1,12 @@
 package com.loopers.infrastructure.kafka;
 
+import com.loopers.confg.kafka.EventKafkaProducer;
 import com.loopers.confg.kafka.KafkaEventMessage;
 import com.loopers.confg.kafka.KafkaTopics;
 import com.loopers.domain.order.event.OrderCompletedEvent;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -16,12 +16,12 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @RequiredArgsConstructor
 public class OrderKafkaPublisher {
 
-    private final KafkaTemplate<Object, Object> kafkaTemplate;
+    private final EventKafkaProducer eventKafkaProducer;
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleOrderCompleted(OrderCompletedEvent event) {
         try {
-            kafkaTemplate.send(
+            eventKafkaProducer.send(
                     KafkaTopics.ORDER_EVENTS,
                     String.valueOf(event.orderId()),
                     KafkaEventMessage.of("ORDER_COMPLETED", Map.of(
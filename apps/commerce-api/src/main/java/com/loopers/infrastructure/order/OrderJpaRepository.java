@@ -14,6 +14,8 @@ import org.springframework.data.jpa.repository.Query;
 
 public interface OrderJpaRepository extends JpaRepository<OrderModel, Long> {
 
+    List<OrderModel> findAllByIdIn(List<Long> ids);
+
     List<OrderModel> findAllByUserIdAndCreatedAtBetween(Long userId, ZonedDateTime startAt, ZonedDateTime endAt);
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
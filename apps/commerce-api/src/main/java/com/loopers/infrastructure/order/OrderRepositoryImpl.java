@@ -27,6 +27,11 @@ public class OrderRepositoryImpl implements OrderRepository {
         return orderJpaRepository.findById(id);
     }
 
+    @Override
+    public List<OrderModel> findAllByIdIn(List<Long> ids) {
+        return orderJpaRepository.findAllByIdIn(ids);
+    }
+
     @Override
     public List<OrderModel> findAllByUserIdAndCreatedAtBetween(Long userId, ZonedDateTime startAt, ZonedDateTime endAt) {
         return orderJpaRepository.findAllByUserIdAndCreatedAtBetween(userId, startAt, endAt);
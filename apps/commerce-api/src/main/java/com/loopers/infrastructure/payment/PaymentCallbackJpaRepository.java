@@ -0,0 +1,20 @@
+package com.loopers.infrastructure.payment;
+
+import com.loopers.domain.payment.PaymentCallbackModel;
+import java.time.ZonedDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PaymentCallbackJpaRepository extends JpaRepository<PaymentCallbackModel, Long> {
+
+    @Query(value = "SELECT * FROM payment_callbacks"
+            + " WHERE processed = false"
+            + " AND next_attempt_at <= :now"
+            + " ORDER BY id"
+            + " LIMIT :limit"
+            + " FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<PaymentCallbackModel> findPendingForUpdate(@Param("now") ZonedDateTime now, @Param("limit") int limit);
+}
@@ -0,0 +1,25 @@
+package com.loopers.infrastructure.payment;
+
+import com.loopers.domain.payment.PaymentCallbackModel;
+import com.loopers.domain.payment.PaymentCallbackRepository;
+import java.time.ZonedDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class PaymentCallbackRepositoryImpl implements PaymentCallbackRepository {
+
+    private final PaymentCallbackJpaRepository paymentCallbackJpaRepository;
+
+    @Override
+    public PaymentCallbackModel save(PaymentCallbackModel callback) {
+        return paymentCallbackJpaRepository.save(callback);
+    }
+
+    @Override
+    public List<PaymentCallbackModel> findPendingForUpdate(ZonedDateTime now, int limit) {
+        return paymentCallbackJpaRepository.findPendingForUpdate(now, limit);
+    }
+}
@@ -1,6 +1,8 @@
 package com.loopers.infrastructure.payment;
 
 import com.loopers.domain.payment.PaymentModel;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -11,4 +13,6 @@ public interface PaymentJpaRepository extends JpaRepository<PaymentModel, Long>
     Optional<PaymentModel> findByOrderIdAndDeletedAtIsNull(Long orderId);
 
     Optional<PaymentModel> findByPgTransactionIdAndDeletedAtIsNull(String pgTransactionId);
+
+    List<PaymentModel> findAllByPgTransactionIdInAndDeletedAtIsNull(Collection<String> pgTransactionIds);
 }
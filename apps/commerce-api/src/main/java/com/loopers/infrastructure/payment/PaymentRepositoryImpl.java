@@ -2,6 +2,8 @@ package com.loopers.infrastructure.payment;
 
 import com.loopers.domain.payment.PaymentModel;
 import com.loopers.domain.payment.PaymentRepository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
@@ -31,4 +33,9 @@ public class PaymentRepositoryImpl implements PaymentRepository {
     public Optional<PaymentModel> findByPgTransactionId(String pgTransactionId) {
         return paymentJpaRepository.findByPgTransactionIdAndDeletedAtIsNull(pgTransactionId);
     }
+
+    @Override
+    public List<PaymentModel> findAllByPgTransactionIdIn(Collection<String> pgTransactionIds) {
+        return paymentJpaRepository.findAllByPgTransactionIdInAndDeletedAtIsNull(pgTransactionIds);
+    }
 }
@@ -0,0 +1,38 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.support.lease.RedisLease;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좋아요 저널을 DB에 반영할 인스턴스 한 대를 고르는 Redis 임대.
+ * 반영 묶음마다 임대를 얻거나 연장하고, 얻지 못하면 거기서 멈춘다. 한 묶음이 leaseMs 안에 끝나면 두 대가 겹치지 않는다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "like.write-behind", name = "enabled", havingValue = "true")
+public class LikeFlushLease {
+
+    private static final String LEASE_KEY = "like:flusher:leader";
+
+    private final RedisLease lease;
+
+    public LikeFlushLease(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+            LikeWriteBehindProperties properties) {
+        this.lease = new RedisLease(
+                redisTemplate, LEASE_KEY, properties.leaseMs(), properties.flushIntervalMs(), transition -> { });
+    }
+
+    public boolean tryAcquire() {
+        return lease.acquire();
+    }
+
+    @PreDestroy
+    public void release() {
+        lease.release();
+    }
+}
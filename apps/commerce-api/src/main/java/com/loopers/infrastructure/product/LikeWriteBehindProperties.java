@@ -0,0 +1,31 @@
+package com.loopers.infrastructure.product;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 좋아요 write-behind 설정 (like.write-behind.*).
+ *
+ * - flushIntervalMs마다 리더 한 대가 저널을 batchSize건씩 DB에 반영한다. 리더 임대는 leaseMs 동안 유지된다.
+ * - reconcileIntervalMs마다 버퍼에 올라온 상품을 reconcileBatchSize개씩 DB와 맞춘다.
+ */
+@ConfigurationProperties(prefix = "like.write-behind")
+public record LikeWriteBehindProperties(
+        Boolean enabled,
+        long flushIntervalMs,
+        int batchSize,
+        long leaseMs,
+        long reconcileIntervalMs,
+        int reconcileBatchSize) {
+
+    public LikeWriteBehindProperties {
+        if (enabled == null) enabled = false;
+        if (flushIntervalMs <= 0) flushIntervalMs = 1000;
+        if (batchSize <= 0) batchSize = 1000;
+        if (leaseMs <= 0) leaseMs = 5000;
+        if (reconcileIntervalMs <= 0) reconcileIntervalMs = 60000;
+        if (reconcileBatchSize <= 0) reconcileBatchSize = 100;
+        if (flushIntervalMs >= leaseMs) {
+            throw new IllegalArgumentException("like.write-behind.flush-interval-ms는 lease-ms보다 짧아야 합니다.");
+        }
+    }
+}
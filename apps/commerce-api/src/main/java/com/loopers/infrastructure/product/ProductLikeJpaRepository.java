@@ -1,8 +1,10 @@
 package com.loopers.infrastructure.product;
 
 import com.loopers.domain.product.ProductLikeModel;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,10 +12,30 @@ import org.springframework.data.repository.query.Param;
 public interface ProductLikeJpaRepository extends JpaRepository<ProductLikeModel,Long> {
     Optional<ProductLikeModel> findByUserIdAndProductId(Long userId, Long productId);
 
+    boolean existsByUserIdAndProductId(Long userId, Long productId);
+
     List<ProductLikeModel> findAllByUserId(Long userId);
 
+    @Query("SELECT l FROM ProductLikeModel l JOIN ProductModel p ON p.id = l.productId"
+            + " WHERE l.userId = :userId AND p.deletedAt IS NULL"
+            + " ORDER BY l.createdAt DESC, l.id DESC")
+    List<ProductLikeModel> findActiveByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT l FROM ProductLikeModel l JOIN ProductModel p ON p.id = l.productId"
+            + " WHERE l.userId = :userId AND p.deletedAt IS NULL"
+            + " AND (l.createdAt < :createdAt OR (l.createdAt = :createdAt AND l.id < :id))"
+            + " ORDER BY l.createdAt DESC, l.id DESC")
+    List<ProductLikeModel> findActiveByUserIdAfter(
+            @Param("userId") Long userId,
+            @Param("createdAt") ZonedDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable);
+
     long countByProductId(Long productId);
 
+    @Query("SELECT l.userId FROM ProductLikeModel l WHERE l.productId = :productId")
+    List<Long> findUserIdsByProductId(@Param("productId") Long productId);
+
     @Query("SELECT l.productId, COUNT(l) FROM ProductLikeModel l WHERE l.productId IN :productIds GROUP BY l.productId")
     List<Object[]> countByProductIdIn(@Param("productIds") List<Long> productIds);
 
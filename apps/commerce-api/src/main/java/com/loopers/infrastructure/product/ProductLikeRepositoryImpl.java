@@ -2,16 +2,32 @@ package com.loopers.infrastructure.product;
 
 import com.loopers.domain.product.ProductLikeModel;
 import com.loopers.domain.product.ProductLikeRepository;
+import com.loopers.domain.product.dto.ProductLikeInfo;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 @Repository
 @RequiredArgsConstructor
 public class ProductLikeRepositoryImpl implements ProductLikeRepository {
+    private static final int CHUNK_SIZE = 500;
+    private static final String INSERT_IGNORE_PREFIX =
+            "INSERT IGNORE INTO likes (user_id, product_id, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?)";
+    private static final String PAIR_PLACEHOLDER = "(?, ?)";
+
     private final ProductLikeJpaRepository productLikeJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+
     @Override
     public ProductLikeModel save(ProductLikeModel productLike) {
         return productLikeJpaRepository.save(productLike);
@@ -22,6 +38,11 @@ public class ProductLikeRepositoryImpl implements ProductLikeRepository {
         return productLikeJpaRepository.findByUserIdAndProductId(userId, productId);
     }
 
+    @Override
+    public boolean existsByUserIdAndProductId(Long userId, Long productId) {
+        return productLikeJpaRepository.existsByUserIdAndProductId(userId, productId);
+    }
+
     @Override
     public void delete(ProductLikeModel productLike) {
         productLikeJpaRepository.delete(productLike);
@@ -32,11 +53,83 @@ public class ProductLikeRepositoryImpl implements ProductLikeRepository {
         return productLikeJpaRepository.findAllByUserId(userId);
     }
 
+    @Override
+    public List<ProductLikeModel> findActiveByUserId(Long userId, ProductLikeInfo.Cursor cursor, int limit) {
+        PageRequest firstRows = PageRequest.of(0, limit);
+        if (cursor == null) {
+            return productLikeJpaRepository.findActiveByUserId(userId, firstRows);
+        }
+        return productLikeJpaRepository.findActiveByUserIdAfter(userId, cursor.createdAt(), cursor.id(), firstRows);
+    }
+
     @Override
     public long countByProductId(Long productId) {
         return productLikeJpaRepository.countByProductId(productId);
     }
 
+    @Override
+    public List<Long> findUserIdsByProductId(Long productId) {
+        return productLikeJpaRepository.findUserIdsByProductId(productId);
+    }
+
+    /**
+     * (user_id, product_id) IN ((?, ?), ...) 로 CHUNK_SIZE개씩 조회한다. 유니크 인덱스 uk_likes_user_product 를 탄다.
+     */
+    @Override
+    public Set<ProductLikeInfo.Relation> findExisting(List<ProductLikeInfo.Relation> relations) {
+        Set<ProductLikeInfo.Relation> existing = new HashSet<>();
+        for (int from = 0; from < relations.size(); from += CHUNK_SIZE) {
+            List<ProductLikeInfo.Relation> chunk = relations.subList(from, Math.min(from + CHUNK_SIZE, relations.size()));
+            String sql = "SELECT user_id, product_id FROM likes WHERE (user_id, product_id) IN ("
+                    + String.join(", ", Collections.nCopies(chunk.size(), PAIR_PLACEHOLDER)) + ")";
+            jdbcTemplate.query(sql, rs -> {
+                existing.add(new ProductLikeInfo.Relation(rs.getLong(1), rs.getLong(2)));
+            }, pairArgs(chunk));
+        }
+        return existing;
+    }
+
+    /**
+     * 다중 행 INSERT IGNORE를 CHUNK_SIZE 단위로 실행한다. created_at은 버퍼에서 마지막으로 바뀐 시각이다.
+     */
+    @Override
+    public int insertAllIgnoringDuplicates(List<ProductLikeInfo.BufferedChange> changes) {
+        int inserted = 0;
+        for (int from = 0; from < changes.size(); from += CHUNK_SIZE) {
+            List<ProductLikeInfo.BufferedChange> chunk = changes.subList(from, Math.min(from + CHUNK_SIZE, changes.size()));
+            List<Object> args = new ArrayList<>(chunk.size() * 3);
+            for (ProductLikeInfo.BufferedChange change : chunk) {
+                args.add(change.relation().userId());
+                args.add(change.relation().productId());
+                args.add(Timestamp.from(change.changedAt().toInstant()));
+            }
+            String sql = INSERT_IGNORE_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), ROW_PLACEHOLDER));
+            inserted += jdbcTemplate.update(sql, args.toArray());
+        }
+        return inserted;
+    }
+
+    @Override
+    public int deleteAll(List<ProductLikeInfo.Relation> relations) {
+        int deleted = 0;
+        for (int from = 0; from < relations.size(); from += CHUNK_SIZE) {
+            List<ProductLikeInfo.Relation> chunk = relations.subList(from, Math.min(from + CHUNK_SIZE, relations.size()));
+            String sql = "DELETE FROM likes WHERE (user_id, product_id) IN ("
+                    + String.join(", ", Collections.nCopies(chunk.size(), PAIR_PLACEHOLDER)) + ")";
+            deleted += jdbcTemplate.update(sql, pairArgs(chunk));
+        }
+        return deleted;
+    }
+
+    private static Object[] pairArgs(List<ProductLikeInfo.Relation> relations) {
+        Object[] args = new Object[relations.size() * 2];
+        for (int i = 0; i < relations.size(); i++) {
+            args[i * 2] = relations.get(i).userId();
+            args[i * 2 + 1] = relations.get(i).productId();
+        }
+        return args;
+    }
+
     @Override
     public Map<Long, Long> countByProductIds(List<Long> productIds) {
         return productLikeJpaRepository.countByProductIdIn(productIds).stream()
@@ -0,0 +1,25 @@
+package com.loopers.infrastructure.product;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 상품 조회 로그 적재 설정 (product.view-log.*).
+ *
+ * - 조회는 bufferCapacity 크기의 링 버퍼에 쌓이고, 백그라운드 스레드가 flushIntervalMs마다 또는 batchSize건이
+ *   모이면 다중 행 INSERT로 적재한다. 버퍼가 가득 차면 새 조회는 버린다.
+ * - enabled=false면 product_views에 쓰지 않는다. 조회 집계는 Kafka PRODUCT_VIEWED만 쓴다.
+ */
+@ConfigurationProperties(prefix = "product.view-log")
+public record ProductViewLogProperties(
+        Boolean enabled,
+        int bufferCapacity,
+        long flushIntervalMs,
+        int batchSize) {
+
+    public ProductViewLogProperties {
+        if (enabled == null) enabled = true;
+        if (bufferCapacity <= 0) bufferCapacity = 16384;
+        if (flushIntervalMs <= 0) flushIntervalMs = 500;
+        if (batchSize <= 0) batchSize = 500;
+    }
+}
@@ -2,17 +2,47 @@ package com.loopers.infrastructure.product;
 
 import com.loopers.domain.product.ProductViewLogModel;
 import com.loopers.domain.product.ProductViewLogRepository;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 @Repository
 @RequiredArgsConstructor
 public class ProductViewLogRepositoryImpl implements ProductViewLogRepository {
 
+    private static final int INSERT_CHUNK_SIZE = 500;
+    private static final String INSERT_PREFIX = "INSERT INTO product_views (product_id, user_id, viewed_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?)";
+
     private final ProductViewLogJpaRepository productViewLogJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public ProductViewLogModel save(ProductViewLogModel viewLog) {
         return productViewLogJpaRepository.save(viewLog);
     }
+
+    /**
+     * 다중 행 INSERT를 INSERT_CHUNK_SIZE 단위로 실행한다. 행마다 IDENTITY 값을 돌려받지 않는다.
+     */
+    @Override
+    public int saveAll(List<ProductViewLogModel> viewLogs) {
+        int inserted = 0;
+        for (int from = 0; from < viewLogs.size(); from += INSERT_CHUNK_SIZE) {
+            List<ProductViewLogModel> chunk = viewLogs.subList(from, Math.min(from + INSERT_CHUNK_SIZE, viewLogs.size()));
+            List<Object> args = new ArrayList<>(chunk.size() * 3);
+            for (ProductViewLogModel viewLog : chunk) {
+                args.add(viewLog.getProductId());
+                args.add(viewLog.getUserId());
+                args.add(Timestamp.from(viewLog.getViewedAt().toInstant()));
+            }
+            String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), ROW_PLACEHOLDER));
+            inserted += jdbcTemplate.update(sql, args.toArray());
+        }
+        return inserted;
+    }
 }
@@ -0,0 +1,123 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductViewLogModel;
+import com.loopers.domain.product.ProductViewLogRepository;
+import com.loopers.support.buffer.MpscRingBuffer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 조회 로그를 모아 적재하는 쓰기 버퍼.
+ *
+ * - 요청 스레드는 링 버퍼에 넣기만 한다. 커넥션도 트랜잭션도 잡지 않는다.
+ * - 전용 스레드 하나가 flush-interval-ms마다, 또는 batch-size건이 쌓여 깨워지면 버퍼를 비우며 다중 행 INSERT 한다.
+ * - 버퍼가 가득 차면 새 조회는 버리고 product.view.log.rows{result=dropped}로 센다. DB가 느려져도 요청은 밀리지 않는다.
+ * - 종료 시 남은 조회를 한 번 더 적재한다. 그래도 프로세스가 죽으면 버퍼에 있던 조회는 잃는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "product.view-log", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProductViewLogWriter {
+
+    private static final String ROWS_METRIC = "product.view.log.rows";
+
+    private final ProductViewLogRepository productViewLogRepository;
+    private final MpscRingBuffer<ProductViewLogModel> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+    private final AtomicBoolean wakeRequested = new AtomicBoolean();
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    public ProductViewLogWriter(
+            ProductViewLogRepository productViewLogRepository,
+            ProductViewLogProperties properties,
+            MeterRegistry registry) {
+        this.productViewLogRepository = productViewLogRepository;
+        this.buffer = new MpscRingBuffer<>(properties.bufferCapacity());
+        this.batchSize = properties.batchSize();
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(properties.flushIntervalMs());
+        this.written = rows(registry, "written");
+        this.dropped = rows(registry, "dropped");
+        this.failed = rows(registry, "failed");
+        Gauge.builder("product.view.log.buffer.size", buffer, MpscRingBuffer::size)
+                .description("적재를 기다리는 조회 로그 수")
+                .register(registry);
+        this.flusher = Thread.ofPlatform().name("product-view-log-flusher").daemon().unstarted(this::run);
+        this.flusher.start();
+    }
+
+    /**
+     * @return 버퍼가 가득 차 버렸으면 false
+     */
+    public boolean append(ProductViewLogModel viewLog) {
+        if (!buffer.offer(viewLog)) {
+            dropped.increment();
+            return false;
+        }
+        if (buffer.size() >= batchSize && wakeRequested.compareAndSet(false, true)) {
+            LockSupport.unpark(flusher);
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(flusher);
+        flusher.join(TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos) * 4);
+        flushAll();
+    }
+
+    private void run() {
+        while (running) {
+            LockSupport.parkNanos(this, flushIntervalNanos);
+            wakeRequested.set(false);
+            flushAll();
+        }
+    }
+
+    /**
+     * batch-size씩 비우다가 한 묶음이 덜 차면 멈춘다. 적재 중에 쌓인 조회는 다음 주기로 넘긴다.
+     */
+    private synchronized void flushAll() {
+        List<ProductViewLogModel> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            boolean full = batch.size() == batchSize;
+            batch.clear();
+            if (!full) {
+                return;
+            }
+        }
+    }
+
+    private void write(List<ProductViewLogModel> batch) {
+        try {
+            written.increment(productViewLogRepository.saveAll(batch));
+        } catch (Exception e) {
+            failed.increment(batch.size());
+            log.warn("[ViewCount] 조회 로그 적재 실패, {}건 버림", batch.size(), e);
+        }
+    }
+
+    private static Counter rows(MeterRegistry registry, String result) {
+        return Counter.builder(ROWS_METRIC)
+                .tag("result", result)
+                .description("조회 로그 적재 결과별 행 수")
+                .register(registry);
+    }
+}
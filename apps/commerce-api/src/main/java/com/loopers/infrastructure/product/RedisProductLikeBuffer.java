@@ -0,0 +1,296 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.ProductLikeBuffer;
+import com.loopers.domain.product.ProductLikeRepository;
+import com.loopers.domain.product.dto.ProductLikeInfo;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 기반 좋아요 쓰기 버퍼.
+ *
+ * 키 구성
+ * - like:users:{productId} (SET): 좋아요한 사용자 ID와 센티널 "0". 센티널 덕분에 키가 없으면 "아직 안 불러옴",
+ *   있으면 SCARD - 1이 좋아요 수다. 처음 건드릴 때 DB에서 불러온다.
+ * - like:journal (STREAM): 실제로 바뀐 관계마다 u, p, op, t. DB 반영 후 지워지므로 남은 항목이 곧 미반영분이다.
+ * - like:version (HASH): 상품별 변경 횟수. 다시 맞추는 동안 변경이 끼어들었는지 확인하는 데 쓴다.
+ * - like:pending (HASH): 상품별 미반영 저널 수.
+ *
+ * 관계 변경(SADD/SREM)과 저널 기록은 한 스크립트에서 원자적으로 처리한다. 저널이 곧 복구 로그이므로
+ * 이 키들이 있는 Redis는 maxmemory-policy noeviction과 AOF(appendfsync everysec 이상)로 운영해야 한다.
+ * write-behind를 끄기 전에는 저널(XLEN like:journal)이 비었는지 확인한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "like.write-behind", name = "enabled", havingValue = "true")
+public class RedisProductLikeBuffer implements ProductLikeBuffer {
+
+    private static final String USERS_KEY_PREFIX = "like:users:";
+    private static final String LOADING_KEY_PREFIX = "like:loading:";
+    private static final String JOURNAL_KEY = "like:journal";
+    private static final String VERSION_KEY = "like:version";
+    private static final String PENDING_KEY = "like:pending";
+    private static final String SENTINEL = "0";
+    private static final long NOT_LOADED = -1L;
+    private static final int LOAD_CHUNK_SIZE = 1000;
+    private static final int SCAN_COUNT = 500;
+    private static final Duration LOADING_TTL = Duration.ofMinutes(1);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ProductLikeRepository productLikeRepository;
+    private final DefaultRedisScript<Long> toggleScript;
+    private final DefaultRedisScript<Long> loadScript;
+    private final DefaultRedisScript<Long> rebuildScript;
+    private final DefaultRedisScript<Long> acknowledgeScript;
+    @SuppressWarnings("rawtypes")
+    private final DefaultRedisScript<List> stateScript;
+
+    private Cursor<String> reconcileCursor;
+
+    public RedisProductLikeBuffer(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+            ProductLikeRepository productLikeRepository) {
+        this.redisTemplate = redisTemplate;
+        this.productLikeRepository = productLikeRepository;
+        this.toggleScript = script("scripts/like-toggle.lua", Long.class);
+        this.loadScript = script("scripts/like-load.lua", Long.class);
+        this.rebuildScript = script("scripts/like-rebuild.lua", Long.class);
+        this.acknowledgeScript = script("scripts/like-acknowledge.lua", Long.class);
+        this.stateScript = script("scripts/like-state.lua", List.class);
+    }
+
+    @Override
+    public boolean add(Long userId, Long productId) {
+        return toggle(userId, productId, true);
+    }
+
+    @Override
+    public boolean remove(Long userId, Long productId) {
+        return toggle(userId, productId, false);
+    }
+
+    @Override
+    public boolean contains(Long userId, Long productId) {
+        long state = stateOf(List.of(new ProductLikeInfo.Relation(userId, productId))).get(0);
+        if (state == NOT_LOADED) {
+            load(productId);
+            state = stateOf(List.of(new ProductLikeInfo.Relation(userId, productId))).get(0);
+        }
+        return state == 1L;
+    }
+
+    /**
+     * 파이프라인 한 번으로 SCARD한다. Redis 장애 시 빈 결과를 돌려 DB 집계로 넘어가게 한다.
+     */
+    @Override
+    public Map<Long, Long> countByProductIds(Collection<Long> productIds) {
+        List<Long> ids = List.copyOf(productIds);
+        List<Object> cardinalities;
+        try {
+            cardinalities = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    ids.forEach(id -> ops.opsForSet().size(usersKey(id)));
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("좋아요 수 조회 실패, DB 집계 사용: products={}", ids.size(), e);
+            return Map.of();
+        }
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (cardinalities.get(i) instanceof Long cardinality && cardinality > 0) {
+                counts.put(ids.get(i), cardinality - 1);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 같은 관계의 항목은 하나로 합치고, op 대신 지금 버퍼의 상태를 붙인다.
+     * 읽은 뒤에 또 바뀌면 새 저널 항목이 생기므로 다음 반영에서 다시 맞춰진다.
+     */
+    @Override
+    public ProductLikeInfo.Journal readJournal(int limit) {
+        List<MapRecord<String, Object, Object>> records =
+                redisTemplate.opsForStream().range(JOURNAL_KEY, Range.unbounded(), Limit.limit().count(limit));
+        if (records == null || records.isEmpty()) {
+            return ProductLikeInfo.Journal.empty();
+        }
+        List<String> entryIds = new ArrayList<>(records.size());
+        Map<ProductLikeInfo.Relation, ZonedDateTime> changedAt = new LinkedHashMap<>();
+        for (MapRecord<String, Object, Object> record : records) {
+            entryIds.add(record.getId().getValue());
+            Map<Object, Object> fields = record.getValue();
+            ProductLikeInfo.Relation relation = new ProductLikeInfo.Relation(
+                    Long.valueOf((String) fields.get("u")), Long.valueOf((String) fields.get("p")));
+            changedAt.put(relation, Instant.ofEpochMilli(Long.parseLong((String) fields.get("t")))
+                    .atZone(ZoneId.systemDefault()));
+        }
+
+        List<ProductLikeInfo.Relation> relations = List.copyOf(changedAt.keySet());
+        List<Long> states = stateOf(relations);
+        List<ProductLikeInfo.BufferedChange> changes = new ArrayList<>(relations.size());
+        for (int i = 0; i < relations.size(); i++) {
+            long state = states.get(i);
+            if (state == NOT_LOADED) {
+                // 키를 잃은 상품은 DB가 기준이다. 다음 접근 때 DB에서 다시 불러온다.
+                log.warn("좋아요 버퍼 키가 없어 저널 항목을 건너뛴다: relation={}", relations.get(i));
+                continue;
+            }
+            changes.add(new ProductLikeInfo.BufferedChange(relations.get(i), state == 1L, changedAt.get(relations.get(i))));
+        }
+        return new ProductLikeInfo.Journal(entryIds, changes);
+    }
+
+    @Override
+    public void acknowledge(ProductLikeInfo.Journal journal) {
+        redisTemplate.execute(acknowledgeScript, List.of(JOURNAL_KEY, PENDING_KEY), journal.entryIds().toArray());
+    }
+
+    @Override
+    public synchronized List<Long> nextProductsToReconcile(int limit) {
+        List<Long> productIds = new ArrayList<>(limit);
+        try {
+            if (reconcileCursor == null) {
+                reconcileCursor = redisTemplate.scan(
+                        ScanOptions.scanOptions().match(USERS_KEY_PREFIX + "*").count(SCAN_COUNT).build());
+            }
+            while (productIds.size() < limit && reconcileCursor.hasNext()) {
+                String key = reconcileCursor.next();
+                try {
+                    productIds.add(Long.valueOf(key.substring(USERS_KEY_PREFIX.length())));
+                } catch (NumberFormatException ignored) {
+                    // like:users: 아래 다른 키는 건너뛴다
+                }
+            }
+            if (!reconcileCursor.hasNext()) {
+                closeReconcileCursor();
+            }
+        } catch (Exception e) {
+            log.warn("좋아요 버퍼 SCAN 실패, 다음 주기에 처음부터 다시 훑는다", e);
+            closeReconcileCursor();
+        }
+        return productIds;
+    }
+
+    /**
+     * 버전 → 미반영 수 → DB 순서로 읽는다. 버전을 읽은 뒤 미반영이 0이면 그때까지의 변경은 모두 DB에 있고,
+     * 다시 만들 때 버전이 그대로면 DB를 읽는 동안 끼어든 변경도 없다.
+     */
+    @Override
+    public boolean reconcile(Long productId, Supplier<List<Long>> persistedUserIds) {
+        String field = productId.toString();
+        Object version = redisTemplate.opsForHash().get(VERSION_KEY, field);
+        if (redisTemplate.opsForHash().get(PENDING_KEY, field) != null) {
+            return false;
+        }
+        String loadingKey = loadingKey(productId);
+        fill(loadingKey, persistedUserIds.get());
+        Long rebuilt = redisTemplate.execute(rebuildScript, List.of(loadingKey, usersKey(productId), VERSION_KEY),
+                field, version == null ? "0" : version.toString());
+        return rebuilt != null && rebuilt == 1L;
+    }
+
+    @PreDestroy
+    public synchronized void closeReconcileCursor() {
+        if (reconcileCursor != null) {
+            reconcileCursor.close();
+            reconcileCursor = null;
+        }
+    }
+
+    /**
+     * 버퍼에 없는 상품이면 DB에서 불러온 뒤 한 번 더 시도한다.
+     */
+    private boolean toggle(Long userId, Long productId, boolean liked) {
+        List<String> keys = List.of(usersKey(productId), JOURNAL_KEY, VERSION_KEY, PENDING_KEY);
+        for (int attempt = 0; attempt < 2; attempt++) {
+            Long result = redisTemplate.execute(toggleScript, keys,
+                    userId.toString(), productId.toString(), liked ? "1" : "0",
+                    String.valueOf(System.currentTimeMillis()));
+            if (result != null && result != NOT_LOADED) {
+                return result == 1L;
+            }
+            load(productId);
+        }
+        throw new IllegalStateException("좋아요 버퍼를 불러오지 못했습니다: productId=" + productId);
+    }
+
+    /**
+     * 임시 키를 채운 뒤 최종 키가 없을 때만 이름을 바꾼다. 여러 요청이 동시에 불러와도 하나만 반영된다.
+     */
+    private void load(Long productId) {
+        String loadingKey = loadingKey(productId);
+        fill(loadingKey, productLikeRepository.findUserIdsByProductId(productId));
+        redisTemplate.execute(loadScript, List.of(loadingKey, usersKey(productId)));
+    }
+
+    private void fill(String loadingKey, List<Long> userIds) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForSet().add(loadingKey, SENTINEL);
+                for (int from = 0; from < userIds.size(); from += LOAD_CHUNK_SIZE) {
+                    ops.opsForSet().add(loadingKey, userIds.subList(from, Math.min(from + LOAD_CHUNK_SIZE, userIds.size()))
+                            .stream().map(String::valueOf).toArray(String[]::new));
+                }
+                ops.expire(loadingKey, LOADING_TTL);
+                return null;
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> stateOf(List<ProductLikeInfo.Relation> relations) {
+        List<String> keys = relations.stream().map(relation -> usersKey(relation.productId())).toList();
+        Object[] userIds = relations.stream().map(relation -> relation.userId().toString()).toArray();
+        return (List<Long>) redisTemplate.execute(stateScript, keys, userIds);
+    }
+
+    private static String usersKey(Long productId) {
+        return USERS_KEY_PREFIX + productId;
+    }
+
+    private static String loadingKey(Long productId) {
+        return LOADING_KEY_PREFIX + productId + ":" + UUID.randomUUID();
+    }
+
+    private static <T> DefaultRedisScript<T> script(String location, Class<T> resultType) {
+        DefaultRedisScript<T> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(location));
+        script.setResultType(resultType);
+        return script;
+    }
+}
@@ -1,6 +1,7 @@
 package com.loopers.infrastructure.rank;
 
 import com.loopers.config.redis.RedisConfig;
+import com.loopers.config.redis.hotkey.HotKeyCache;
 import com.loopers.domain.rank.RankModel;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -18,22 +19,21 @@ public class RankRedisRepository {
     private static final String KEY_PREFIX = "ranking:all:";
     private static final String DEFAULT_VERSION = "v1";
     private final RedisTemplate<String, String> redisTemplate;
+    private final HotKeyCache hotKeyCache;
 
-    public RankRedisRepository(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate) {
+    public RankRedisRepository(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+            HotKeyCache hotKeyCache) {
         this.redisTemplate = redisTemplate;
+        this.hotKeyCache = hotKeyCache;
     }
 
+    /**
+     * 랭킹 첫 페이지는 모든 요청이 같은 키를 읽으므로 핫 키로 감지되면 로컬 복제본으로 응답한다.
+     */
     public List<RankModel> findTopByDate(String version, LocalDate date, long start, long end) {
-        Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet()
-                .reverseRangeWithScores(keyOf(version, date), start, end);
-        if (tuples == null || tuples.isEmpty()) {
-            return List.of();
-        }
-        return tuples.stream()
-                .map(tuple -> RankModel.create(
-                        Long.parseLong(tuple.getValue()), date,
-                        tuple.getScore() != null ? tuple.getScore() : 0))
-                .toList();
+        String key = keyOf(version, date);
+        return hotKeyCache.get(key, start + ":" + end, () -> loadTop(key, date, start, end));
     }
 
     public List<RankModel> findTopByDate(LocalDate date, long start, long end) {
@@ -41,7 +41,8 @@ public class RankRedisRepository {
     }
 
     public long countByDate(String version, LocalDate date) {
-        Long size = redisTemplate.opsForZSet().zCard(keyOf(version, date));
+        String key = keyOf(version, date);
+        Long size = hotKeyCache.get(key, "zcard", () -> redisTemplate.opsForZSet().zCard(key));
         return size != null ? size : 0;
     }
 
@@ -59,6 +60,19 @@ public class RankRedisRepository {
         return findRankByProductId(DEFAULT_VERSION, productId, date);
     }
 
+    private List<RankModel> loadTop(String key, LocalDate date, long start, long end) {
+        Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                .reverseRangeWithScores(key, start, end);
+        if (tuples == null || tuples.isEmpty()) {
+            return List.of();
+        }
+        return tuples.stream()
+                .map(tuple -> RankModel.create(
+                        Long.parseLong(tuple.getValue()), date,
+                        tuple.getScore() != null ? tuple.getScore() : 0))
+                .toList();
+    }
+
     private String keyOf(String version, LocalDate date) {
         return KEY_PREFIX + version + ":" + date.format(DateTimeFormatter.BASIC_ISO_DATE);
     }
@@ -0,0 +1,20 @@
+package com.loopers.infrastructure.user;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 서명 토큰 설정 (auth.token.*).
+ * secret이 비어 있으면 인스턴스 기동 시 임의로 만든다. 이 경우 다른 인스턴스가 발급한 토큰은 검증하지 못하므로
+ * 여러 대로 운영할 때는 반드시 같은 secret을 주입한다.
+ */
+@ConfigurationProperties(prefix = "auth.token")
+public record AuthTokenProperties(
+        String secret,
+        long accessTtlSeconds,
+        long refreshTtlSeconds) {
+
+    public AuthTokenProperties {
+        if (accessTtlSeconds <= 0) accessTtlSeconds = 900;
+        if (refreshTtlSeconds <= 0) refreshTtlSeconds = 1_209_600;
+    }
+}
@@ -0,0 +1,19 @@
+package com.loopers.infrastructure.user;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 자격 증명 캐시 설정 (auth.credential-cache.*).
+ * secret이 비어 있으면 인스턴스 기동 시 임의로 만든다. 이 경우 인스턴스끼리 캐시를 공유하지 못할 뿐 안전성은 같다.
+ */
+@ConfigurationProperties(prefix = "auth.credential-cache")
+public record CredentialCacheProperties(
+        Boolean enabled,
+        long ttlSeconds,
+        String secret) {
+
+    public CredentialCacheProperties {
+        if (enabled == null) enabled = true;
+        if (ttlSeconds <= 0) ttlSeconds = 60;
+    }
+}
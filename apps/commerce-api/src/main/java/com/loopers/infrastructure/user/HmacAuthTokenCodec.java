@@ -0,0 +1,118 @@
+package com.loopers.infrastructure.user;
+
+import com.loopers.domain.user.AuthTokenClaims;
+import com.loopers.domain.user.AuthTokenCodec;
+import com.loopers.domain.user.AuthTokenType;
+import com.loopers.domain.user.AuthenticatedUser;
+import com.loopers.domain.user.IssuedAuthToken;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * HMAC-SHA256 서명 토큰.
+ *
+ * - 형식: base64url(payload) + "." + base64url(HMAC-SHA256(base64url(payload)))
+ * - payload: 버전, 타입, 토큰 ID, userId, 발급 시각(epoch milli), 만료 시각(epoch second), loginId, 이름을
+ *   줄바꿈으로 이어 붙인 UTF-8 문자열. 이름은 마지막 필드라 줄바꿈이 섞여도 깨지지 않는다.
+ * - 검증은 서명 재계산과 상수 시간 비교뿐이다. Mac 인스턴스는 스레드마다 재사용한다.
+ */
+@Slf4j
+@Component
+public class HmacAuthTokenCodec implements AuthTokenCodec {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String VERSION = "2";
+    private static final String FIELD_DELIMITER = "\n";
+    private static final int FIELD_COUNT = 8;
+    private static final char SIGNATURE_DELIMITER = '.';
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final long accessTtlSeconds;
+    private final long refreshTtlSeconds;
+    private final ThreadLocal<Mac> macs;
+
+    public HmacAuthTokenCodec(AuthTokenProperties properties) {
+        this.accessTtlSeconds = properties.accessTtlSeconds();
+        this.refreshTtlSeconds = properties.refreshTtlSeconds();
+        SecretKeySpec secretKey = new SecretKeySpec(resolveSecret(properties.secret()), HMAC_ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> newMac(secretKey));
+    }
+
+    @Override
+    public IssuedAuthToken issue(AuthenticatedUser user, AuthTokenType type, Instant now) {
+        long ttl = type == AuthTokenType.ACCESS ? accessTtlSeconds : refreshTtlSeconds;
+        AuthTokenClaims claims = new AuthTokenClaims(
+                UUID.randomUUID().toString(), type, user.id(), user.loginId(), user.name(),
+                now.toEpochMilli(), now.getEpochSecond() + ttl);
+
+        String payload = String.join(FIELD_DELIMITER,
+                VERSION, type.name(), claims.tokenId(), String.valueOf(claims.userId()),
+                String.valueOf(claims.issuedAt()), String.valueOf(claims.expiresAt()), claims.loginId(), claims.name());
+        String encodedPayload = ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        String signature = ENCODER.encodeToString(sign(encodedPayload));
+        return new IssuedAuthToken(encodedPayload + SIGNATURE_DELIMITER + signature, claims);
+    }
+
+    @Override
+    public Optional<AuthTokenClaims> decode(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        int delimiterIndex = token.lastIndexOf(SIGNATURE_DELIMITER);
+        if (delimiterIndex <= 0 || delimiterIndex == token.length() - 1) {
+            return Optional.empty();
+        }
+        String encodedPayload = token.substring(0, delimiterIndex);
+        try {
+            byte[] signature = DECODER.decode(token.substring(delimiterIndex + 1));
+            if (!MessageDigest.isEqual(signature, sign(encodedPayload))) {
+                return Optional.empty();
+            }
+            String payload = new String(DECODER.decode(encodedPayload), StandardCharsets.UTF_8);
+            String[] fields = payload.split(FIELD_DELIMITER, FIELD_COUNT);
+            if (fields.length != FIELD_COUNT || !VERSION.equals(fields[0])) {
+                return Optional.empty();
+            }
+            return Optional.of(new AuthTokenClaims(
+                    fields[2], AuthTokenType.valueOf(fields[1]), Long.parseLong(fields[3]),
+                    fields[6], fields[7], Long.parseLong(fields[4]), Long.parseLong(fields[5])));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] sign(String encodedPayload) {
+        return macs.get().doFinal(encodedPayload.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static Mac newMac(SecretKeySpec secretKey) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(secretKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 초기화 실패", e);
+        }
+    }
+
+    private static byte[] resolveSecret(String secret) {
+        if (secret != null && !secret.isBlank()) {
+            return secret.getBytes(StandardCharsets.UTF_8);
+        }
+        log.warn("[Auth] auth.token.secret이 비어 있어 임의 키로 서명한다. 다른 인스턴스가 발급한 토큰은 검증하지 못한다.");
+        byte[] random = new byte[32];
+        new SecureRandom().nextBytes(random);
+        return random;
+    }
+}
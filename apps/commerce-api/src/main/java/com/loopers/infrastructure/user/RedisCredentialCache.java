@@ -0,0 +1,142 @@
+package com.loopers.infrastructure.user;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.user.AuthenticatedUser;
+import com.loopers.domain.user.CredentialCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 기반 자격 증명 캐시.
+ *
+ * - 키: auth:credential:{loginId} (HASH), 필드: HMAC-SHA256(loginId:password), 값: "{userId}\t{name}"
+ * - version 필드에는 검증에 쓴 비밀번호 해시의 HMAC을 둔다. 저장은 Lua로 버전을 비교해 다르면 건너뛴다.
+ * - 비밀번호 원문이나 BCrypt 해시는 저장하지 않는다. 필드는 서버 비밀키 없이는 역산/대조할 수 없다.
+ * - 비밀번호 변경이 커밋되면 키를 지우고 새 버전만 남기므로 모든 인스턴스에서 즉시 무효화되고,
+ *   그 뒤에 도착한 이전 비밀번호 인증의 저장도 버전이 달라 남지 않는다.
+ * - Redis 장애 시 캐시를 건너뛰고 DB + BCrypt 경로로 인증한다.
+ * - enabled=false면 조회/저장은 하지 않고 무효화만 수행한다.
+ */
+@Slf4j
+@Component
+public class RedisCredentialCache implements CredentialCache {
+
+    private static final String KEY_PREFIX = "auth:credential:";
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String VALUE_DELIMITER = "\t";
+    private static final String VERSION_FIELD = "version";
+    private static final String METRIC_NAME = "auth.credential.cache.requests";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean enabled;
+    private final SecretKeySpec secretKey;
+    private final Duration ttl;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final DefaultRedisScript<Long> putScript;
+    private final DefaultRedisScript<Long> evictScript;
+
+    public RedisCredentialCache(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+            CredentialCacheProperties properties,
+            MeterRegistry registry) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = properties.enabled();
+        this.secretKey = new SecretKeySpec(resolveSecret(properties.secret()), HMAC_ALGORITHM);
+        this.ttl = Duration.ofSeconds(properties.ttlSeconds());
+        this.hitCounter = Counter.builder(METRIC_NAME).tag("result", "hit")
+                .description("자격 증명 캐시 조회 (hit)").register(registry);
+        this.missCounter = Counter.builder(METRIC_NAME).tag("result", "miss")
+                .description("자격 증명 캐시 조회 (miss)").register(registry);
+        this.putScript = longScript("scripts/credential-cache-put.lua");
+        this.evictScript = longScript("scripts/credential-cache-evict.lua");
+    }
+
+    @Override
+    public Optional<AuthenticatedUser> find(String loginId, String rawPassword) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Object value;
+        try {
+            value = redisTemplate.opsForHash().get(KEY_PREFIX + loginId, fingerprint(loginId, rawPassword));
+        } catch (Exception e) {
+            log.warn("[Auth] 자격 증명 캐시 조회 실패, DB 인증으로 진행 — loginId={}", loginId, e);
+            value = null;
+        }
+        if (value == null) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+        hitCounter.increment();
+        String[] parts = value.toString().split(VALUE_DELIMITER, 2);
+        return Optional.of(new AuthenticatedUser(Long.parseLong(parts[0]), loginId, parts[1]));
+    }
+
+    @Override
+    public void put(String loginId, String rawPassword, AuthenticatedUser user, String credentialVersion) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.execute(putScript, List.of(KEY_PREFIX + loginId),
+                    VERSION_FIELD, fingerprint(loginId, credentialVersion),
+                    fingerprint(loginId, rawPassword), user.id() + VALUE_DELIMITER + user.name(),
+                    String.valueOf(ttl.toSeconds()));
+        } catch (Exception e) {
+            log.warn("[Auth] 자격 증명 캐시 저장 실패 — loginId={}", loginId, e);
+        }
+    }
+
+    @Override
+    public void evict(String loginId, String credentialVersion) {
+        try {
+            redisTemplate.execute(evictScript, List.of(KEY_PREFIX + loginId),
+                    VERSION_FIELD, fingerprint(loginId, credentialVersion), String.valueOf(ttl.toSeconds()));
+        } catch (Exception e) {
+            log.warn("[Auth] 자격 증명 캐시 무효화 실패, TTL 만료까지 이전 비밀번호가 캐시에 남음 — loginId={}", loginId, e);
+        }
+    }
+
+    private String fingerprint(String loginId, String secret) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(secretKey);
+            byte[] digest = mac.doFinal((loginId + ":" + secret).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 계산 실패", e);
+        }
+    }
+
+    private static DefaultRedisScript<Long> longScript(String location) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(location));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    private static byte[] resolveSecret(String secret) {
+        if (secret != null && !secret.isBlank()) {
+            return secret.getBytes(StandardCharsets.UTF_8);
+        }
+        byte[] random = new byte[32];
+        new SecureRandom().nextBytes(random);
+        return random;
+    }
+}
@@ -0,0 +1,208 @@
+package com.loopers.infrastructure.user;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.user.TokenRevocationList;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 기반 토큰 폐기 목록 + 로컬 Bloom filter.
+ *
+ * - 키: auth:token:revoked (ZSET), member: 토큰 ID, score: 토큰 만료 시각(epoch second)
+ * - 폐기는 ZADD NX와 폐기 로그(auth:token:revocation-log, STREAM) 추가를 한 스크립트로 처리한다.
+ *   새로 폐기된 토큰만 로그에 남고, 로그는 LOG_RETENTION보다 오래된 항목부터 잘린다.
+ * - 조회는 로컬 Bloom filter가 "없음"이라고 하면 Redis를 보지 않는다. 대부분의 토큰은 폐기되지 않았으므로
+ *   access 토큰 검증이 네트워크 왕복 없이 끝난다.
+ * - 동기화는 폐기 로그에서 마지막으로 읽은 항목 이후만 읽어 Bloom filter에 더한다. ZSET 전체는 처음 기동할 때,
+ *   Bloom filter가 용량을 넘었을 때, 로그가 잘려 따라갈 수 없을 때만 읽는다.
+ *   다른 인스턴스에서 폐기한 토큰은 최대 동기화 주기만큼 늦게 반영되고, 같은 인스턴스에서 폐기한 토큰은 즉시 반영된다.
+ * - 만료가 지난 토큰은 서명 검증 단계에서 걸러지므로 동기화 때 ZSET에서 지운다 (Redis 안에서 끝나며 전송량은 없다).
+ * - 사용자별 폐기 기준 시각: auth:token:revoked-before:{userId} (STRING, epoch milli, refresh 토큰 TTL만큼 유지).
+ *   그 시각까지 발급된 refresh 토큰은 재발급에 쓸 수 없다. 밀리초 단위라 변경 직후 같은 초에 받은 토큰은 살아남는다.
+ * - Redis 장애로 "있을 수도 있음"을 확인하지 못하면 폐기된 것으로 본다.
+ */
+@Slf4j
+@Component
+public class RedisTokenRevocationList implements TokenRevocationList {
+
+    static final String REVOKED_KEY = "auth:token:revoked";
+    static final String REVOCATION_LOG_KEY = "auth:token:revocation-log";
+    private static final String REVOKED_BEFORE_KEY_PREFIX = "auth:token:revoked-before:";
+    private static final String LOG_TOKEN_FIELD = "t";
+    private static final Duration LOG_RETENTION = Duration.ofMinutes(10);
+    private static final int SYNC_PAGE_SIZE = 1000;
+    private static final int MIN_BLOOM_CAPACITY = 1024;
+    private static final double BLOOM_FALSE_POSITIVE_RATE = 0.01;
+    private static final String METRIC_NAME = "auth.token.revocation.lookups";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration refreshTtl;
+    private final DefaultRedisScript<Long> revokeScript;
+    private final ReentrantLock swapLock = new ReentrantLock();
+    private final Counter bloomNegativeCounter;
+    private final Counter redisLookupCounter;
+    private volatile RevokedTokenBloomFilter bloomFilter =
+            new RevokedTokenBloomFilter(MIN_BLOOM_CAPACITY, BLOOM_FALSE_POSITIVE_RATE);
+    private int bloomCapacity = MIN_BLOOM_CAPACITY;
+    private int bloomInsertions;
+    private String lastLogId;
+    private Instant lastSyncedAt = Instant.EPOCH;
+
+    public RedisTokenRevocationList(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+            AuthTokenProperties properties,
+            MeterRegistry registry) {
+        this.redisTemplate = redisTemplate;
+        this.refreshTtl = Duration.ofSeconds(properties.refreshTtlSeconds());
+        this.revokeScript = new DefaultRedisScript<>();
+        this.revokeScript.setLocation(new ClassPathResource("scripts/token-revoke.lua"));
+        this.revokeScript.setResultType(Long.class);
+        this.bloomNegativeCounter = Counter.builder(METRIC_NAME).tag("result", "bloom_negative")
+                .description("폐기 목록 조회 (Bloom filter에서 종료)").register(registry);
+        this.redisLookupCounter = Counter.builder(METRIC_NAME).tag("result", "redis")
+                .description("폐기 목록 조회 (Redis 확인)").register(registry);
+    }
+
+    @Override
+    public boolean revoke(String tokenId, long expiresAt) {
+        String minLogId = Instant.now().minus(LOG_RETENTION).toEpochMilli() + "-0";
+        swapLock.lock();
+        try {
+            // ZADD NX: 동시에 같은 토큰을 폐기해도 1을 받는 호출은 하나뿐이다
+            Long added = redisTemplate.execute(revokeScript, List.of(REVOKED_KEY, REVOCATION_LOG_KEY),
+                    tokenId, String.valueOf(expiresAt), minLogId);
+            addToBloomFilter(tokenId);
+            return Long.valueOf(1L).equals(added);
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        if (!bloomFilter.mightContain(tokenId)) {
+            bloomNegativeCounter.increment();
+            return false;
+        }
+        redisLookupCounter.increment();
+        try {
+            return redisTemplate.opsForZSet().score(REVOKED_KEY, tokenId) != null;
+        } catch (Exception e) {
+            log.warn("[Auth] 토큰 폐기 여부 확인 실패, 폐기된 것으로 처리 — tokenId={}", tokenId, e);
+            return true;
+        }
+    }
+
+    @Override
+    public void revokeAllIssuedBefore(Long userId, long issuedBefore) {
+        redisTemplate.opsForValue().set(REVOKED_BEFORE_KEY_PREFIX + userId, String.valueOf(issuedBefore), refreshTtl);
+    }
+
+    @Override
+    public boolean isRevokedForUser(Long userId, long issuedAt) {
+        try {
+            String revokedBefore = redisTemplate.opsForValue().get(REVOKED_BEFORE_KEY_PREFIX + userId);
+            return revokedBefore != null && issuedAt <= Long.parseLong(revokedBefore);
+        } catch (Exception e) {
+            log.warn("[Auth] 사용자별 토큰 폐기 기준 확인 실패, 폐기된 것으로 처리 — userId={}", userId, e);
+            return true;
+        }
+    }
+
+    /**
+     * 폐기 로그에서 새 항목만 읽어 Bloom filter에 더한다. 따라갈 수 없으면 ZSET 전체로 다시 만든다.
+     * 전체 재구성 중 로컬 폐기가 끼어들어 새 필터에서 빠지지 않도록 revoke와 같은 락으로 묶는다.
+     */
+    @Scheduled(fixedDelayString = "${auth.token.revocation-sync-interval-ms:1000}")
+    public void sync() {
+        swapLock.lock();
+        try {
+            redisTemplate.opsForZSet().removeRangeByScore(
+                    REVOKED_KEY, Double.NEGATIVE_INFINITY, Instant.now().getEpochSecond());
+            if (needsRebuild()) {
+                rebuild();
+            } else {
+                readLog();
+            }
+        } catch (Exception e) {
+            log.warn("[Auth] 토큰 폐기 목록 동기화 실패, 기존 Bloom filter 유지", e);
+        } finally {
+            swapLock.unlock();
+        }
+    }
+
+    /**
+     * 로그는 LOG_RETENTION이 지난 항목부터 잘린다. 마지막으로 로그를 읽은 지 그 절반이 넘었으면
+     * 읽지 못한 항목이 잘렸을 수 있으므로 다시 만든다.
+     */
+    private boolean needsRebuild() {
+        return lastLogId == null
+                || bloomInsertions > bloomCapacity
+                || lastSyncedAt.plus(LOG_RETENTION.dividedBy(2)).isBefore(Instant.now());
+    }
+
+    private void readLog() {
+        List<MapRecord<String, Object, Object>> records;
+        do {
+            records = redisTemplate.opsForStream().read(
+                    StreamReadOptions.empty().count(SYNC_PAGE_SIZE),
+                    StreamOffset.create(REVOCATION_LOG_KEY, ReadOffset.from(lastLogId)));
+            if (records == null || records.isEmpty()) {
+                break;
+            }
+            for (MapRecord<String, Object, Object> record : records) {
+                Object tokenId = record.getValue().get(LOG_TOKEN_FIELD);
+                if (tokenId != null) {
+                    addToBloomFilter(tokenId.toString());
+                }
+                lastLogId = record.getId().getValue();
+            }
+        } while (records.size() == SYNC_PAGE_SIZE);
+        lastSyncedAt = Instant.now();
+    }
+
+    /**
+     * 로그의 마지막 ID를 먼저 잡고 ZSET을 읽는다. 그 사이에 추가된 폐기는 다음 동기화에서 로그로 다시 읽힌다.
+     */
+    private void rebuild() {
+        List<MapRecord<String, Object, Object>> latest = redisTemplate.opsForStream()
+                .reverseRange(REVOCATION_LOG_KEY, Range.unbounded(), Limit.limit().count(1));
+        String logId = latest == null || latest.isEmpty() ? "0-0" : latest.get(0).getId().getValue();
+        Set<String> tokenIds = redisTemplate.opsForZSet().range(REVOKED_KEY, 0, -1);
+        int size = tokenIds == null ? 0 : tokenIds.size();
+        int capacity = Math.max(MIN_BLOOM_CAPACITY, size * 2);
+        RevokedTokenBloomFilter rebuilt = new RevokedTokenBloomFilter(capacity, BLOOM_FALSE_POSITIVE_RATE);
+        if (tokenIds != null) {
+            tokenIds.forEach(rebuilt::put);
+        }
+        bloomFilter = rebuilt;
+        bloomCapacity = capacity;
+        bloomInsertions = size;
+        lastLogId = logId;
+        lastSyncedAt = Instant.now();
+        log.info("[Auth] 토큰 폐기 목록 전체 동기화 — 폐기 {}건, Bloom filter 용량 {}", size, capacity);
+    }
+
+    private void addToBloomFilter(String tokenId) {
+        bloomFilter.put(tokenId);
+        bloomInsertions++;
+    }
+}
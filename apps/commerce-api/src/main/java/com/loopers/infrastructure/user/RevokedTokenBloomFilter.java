@@ -0,0 +1,74 @@
+package com.loopers.infrastructure.user;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 폐기된 토큰 ID용 Bloom filter.
+ * "없음"은 확실하고 "있을 수도 있음"만 Redis로 확인하면 되므로, 대부분의 요청은 네트워크 왕복 없이 통과한다.
+ * 한 번 넣은 값은 지울 수 없어 주기적으로 새로 만들어 교체한다.
+ */
+final class RevokedTokenBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final int bitCount;
+    private final int hashCount;
+
+    RevokedTokenBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        int capacity = Math.max(1, expectedInsertions);
+        long optimalBits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (LN2 * LN2));
+        this.bitCount = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(Long.SIZE, optimalBits));
+        this.words = new AtomicLongArray((bitCount + Long.SIZE - 1) / Long.SIZE);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * LN2));
+    }
+
+    void put(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int bit = index(h1 + i * h2);
+            int wordIndex = bit >>> 6;
+            long mask = 1L << bit;
+            long word;
+            do {
+                word = words.get(wordIndex);
+            } while ((word & mask) == 0 && !words.compareAndSet(wordIndex, word, word | mask));
+        }
+    }
+
+    boolean mightContain(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int bit = index(h1 + i * h2);
+            if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int index(int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % bitCount;
+    }
+
+    /**
+     * FNV-1a 64비트 해시에 murmur3 finalizer를 덧씌워 상/하위 32비트를 독립적인 두 해시로 쓴다.
+     */
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,98 @@
+package com.loopers.infrastructure.waitingroom;
+
+import com.loopers.domain.waitingroom.AdmissionPolicy;
+import com.loopers.domain.waitingroom.AdmissionSignals;
+import com.loopers.domain.waitingroom.AimdAdmissionController;
+import com.loopers.domain.waitingroom.event.WaitingRoomAdmittedEvent;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 하위 시스템 지표로 입장 속도를 조절하는 정책.
+ * 1초마다 지표를 모아 AIMD로 목표 속도를 갱신하고, 스케줄러 틱마다 목표 속도만큼 입장 인원을 나눠준다.
+ * 목표 속도는 Redis에 두고 대기열 스케줄러 리더만 조절한다. 다른 인스턴스는 매 주기 읽어 와 예상 대기시간에 쓰고,
+ * 리더가 바뀌면 새 리더는 저장된 값에서 이어서 조절한다.
+ * 틱당 인원이 소수로 떨어지면 잔여분을 누적해 다음 틱에 반영한다 (예: 초당 15명 → 2,1,2,1,...).
+ */
+@Slf4j
+@Component
+public class AdaptiveAdmissionPolicy implements AdmissionPolicy {
+
+    private final AimdAdmissionController controller;
+    private final AdmissionSignalCollector signalCollector;
+    private final WaitingRoomSchedulerLease schedulerLease;
+    private final AdmissionTargetRateStore targetRateStore;
+    private final double ticksPerSecond;
+    private final double smoothing;
+
+    private final LongAdder admittedSinceLastAdjust = new LongAdder();
+    private long lastAdjustedAtMillis = System.currentTimeMillis();
+    private double credit;
+    private volatile double measuredRate;
+
+    public AdaptiveAdmissionPolicy(AdmissionControlProperties properties,
+                                   AdmissionSignalCollector signalCollector,
+                                   WaitingRoomSchedulerLease schedulerLease,
+                                   AdmissionTargetRateStore targetRateStore) {
+        this.controller = new AimdAdmissionController(
+                properties.minRate(), properties.maxRate(), properties.initialRate(),
+                properties.increaseStep(), properties.decreaseFactor(),
+                properties.limits().toAdmissionLimits());
+        this.signalCollector = signalCollector;
+        this.schedulerLease = schedulerLease;
+        this.targetRateStore = targetRateStore;
+        this.ticksPerSecond = 1000.0 / properties.tickIntervalMs();
+        this.smoothing = properties.measuredRateSmoothing();
+    }
+
+    @Override
+    public synchronized int nextBatchSize() {
+        credit += controller.targetRate() / ticksPerSecond;
+        int batchSize = (int) credit;
+        credit -= batchSize;
+        return batchSize;
+    }
+
+    @Override
+    public double targetRatePerSecond() {
+        return controller.targetRate();
+    }
+
+    @Override
+    public double measuredRatePerSecond() {
+        return measuredRate;
+    }
+
+    @EventListener
+    public void onAdmitted(WaitingRoomAdmittedEvent event) {
+        admittedSinceLastAdjust.add(event.admittedCount());
+    }
+
+    @Scheduled(fixedDelayString = "${queue.admission.adjust-interval-ms:1000}")
+    public void adjust() {
+        long now = System.currentTimeMillis();
+        long elapsedMillis = Math.max(1, now - lastAdjustedAtMillis);
+        lastAdjustedAtMillis = now;
+        double instantRate = admittedSinceLastAdjust.sumThenReset() * 1000.0 / elapsedMillis;
+        measuredRate = smoothing * instantRate + (1 - smoothing) * measuredRate;
+
+        try {
+            targetRateStore.load().ifPresent(controller::restore);
+            if (!schedulerLease.isLeader()) {
+                return;
+            }
+            AdmissionSignals signals = signalCollector.collect();
+            double before = controller.targetRate();
+            double after = controller.adjust(signals);
+            targetRateStore.save(after);
+            if (after < before) {
+                log.info("[Admission] 입장 속도 감소 {} → {} — signals={}", before, after, signals);
+            }
+        } catch (Exception e) {
+            log.warn("[Admission] 목표 속도 갱신 실패, 목표 속도 유지", e);
+        }
+    }
+}
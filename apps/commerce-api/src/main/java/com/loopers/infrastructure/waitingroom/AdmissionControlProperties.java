@@ -0,0 +1,49 @@
+package com.loopers.infrastructure.waitingroom;
+
+import com.loopers.domain.waitingroom.AdmissionLimits;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 적응형 입장 제어 설정 (queue.admission.*).
+ * 속도 단위는 초당 입장 인원이다.
+ */
+@ConfigurationProperties(prefix = "queue.admission")
+public record AdmissionControlProperties(
+        long tickIntervalMs,
+        double minRate,
+        double maxRate,
+        double initialRate,
+        double increaseStep,
+        double decreaseFactor,
+        double measuredRateSmoothing,
+        Limits limits) {
+
+    public AdmissionControlProperties {
+        if (tickIntervalMs <= 0) tickIntervalMs = 100;
+        if (minRate <= 0) minRate = 5;
+        if (maxRate <= 0) maxRate = 100;
+        if (initialRate <= 0) initialRate = 20;
+        if (increaseStep <= 0) increaseStep = 2;
+        if (decreaseFactor <= 0) decreaseFactor = 0.5;
+        if (measuredRateSmoothing <= 0) measuredRateSmoothing = 0.3;
+        if (limits == null) limits = new Limits(0, 0, 0, 0);
+    }
+
+    public record Limits(
+            double bulkheadSaturation,
+            double poolWaitMs,
+            double orderP99Ms,
+            long activeTokens) {
+
+        public Limits {
+            if (bulkheadSaturation <= 0) bulkheadSaturation = 0.8;
+            if (poolWaitMs <= 0) poolWaitMs = 500;
+            if (orderP99Ms <= 0) orderP99Ms = 1000;
+            if (activeTokens <= 0) activeTokens = 1000;
+        }
+
+        public AdmissionLimits toAdmissionLimits() {
+            return new AdmissionLimits(bulkheadSaturation, poolWaitMs, orderP99Ms, activeTokens);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.loopers.infrastructure.waitingroom;
+
+import com.loopers.domain.waitingroom.AdmissionSignals;
+import com.loopers.domain.waitingroom.EntryGate;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 API 쪽 실시간 지표를 모아 {@link AdmissionSignals}로 만든다.
+ * <ul>
+ *   <li>Bulkhead: orderApi 세마포어 사용률</li>
+ *   <li>Hikari: hikaricp.connections.acquire 타이머의 최근 max (Micrometer 시간 윈도우)</li>
+ *   <li>주문 p99: order.create.token 타이머의 p99 (management.metrics.distribution.percentiles 설정)</li>
+ *   <li>참여열: EntryGate.getActiveCount()</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class AdmissionSignalCollector {
+
+    static final String ORDER_BULKHEAD = "orderApi";
+    static final String ORDER_TIMER = "order.create.token";
+    private static final String HIKARI_ACQUIRE_TIMER = "hikaricp.connections.acquire";
+    private static final double P99 = 0.99;
+
+    private final BulkheadRegistry bulkheadRegistry;
+    private final MeterRegistry registry;
+    private final EntryGate entryGate;
+
+    public AdmissionSignals collect() {
+        return new AdmissionSignals(
+                bulkheadSaturation(),
+                poolWaitMillis(),
+                orderP99Millis(),
+                entryGate.getActiveCount());
+    }
+
+    private double bulkheadSaturation() {
+        Bulkhead.Metrics metrics = bulkheadRegistry.bulkhead(ORDER_BULKHEAD).getMetrics();
+        int max = metrics.getMaxAllowedConcurrentCalls();
+        if (max <= 0) {
+            return 0;
+        }
+        return 1.0 - (double) metrics.getAvailableConcurrentCalls() / max;
+    }
+
+    private double poolWaitMillis() {
+        return registry.find(HIKARI_ACQUIRE_TIMER).timers().stream()
+                .mapToDouble(timer -> timer.max(TimeUnit.MILLISECONDS))
+                .max()
+                .orElse(0);
+    }
+
+    private double orderP99Millis() {
+        Timer timer = registry.find(ORDER_TIMER).timer();
+        if (timer == null) {
+            return 0;
+        }
+        for (ValueAtPercentile value : timer.takeSnapshot().percentileValues()) {
+            if (value.percentile() == P99) {
+                return value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return 0;
+    }
+}
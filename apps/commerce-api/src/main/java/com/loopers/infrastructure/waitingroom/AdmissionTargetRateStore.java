@@ -0,0 +1,36 @@
+package com.loopers.infrastructure.waitingroom;
+
+import com.loopers.config.redis.RedisConfig;
+import java.time.Duration;
+import java.util.OptionalDouble;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전 인스턴스가 함께 보는 AIMD 목표 입장 속도.
+ * 리더만 조절한 값을 쓰고, 모든 인스턴스는 읽어서 예상 대기시간 계산에 쓴다.
+ * 리더가 바뀌면 새 리더가 이 값에서 이어서 조절한다. 리더가 오래 없으면 만료돼 초기 속도부터 다시 시작한다.
+ */
+@Component
+public class AdmissionTargetRateStore {
+
+    private static final String TARGET_RATE_KEY = "queue:admission:target-rate";
+    private static final Duration TARGET_RATE_TTL = Duration.ofMinutes(5);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public AdmissionTargetRateStore(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public OptionalDouble load() {
+        String value = redisTemplate.opsForValue().get(TARGET_RATE_KEY);
+        return value != null ? OptionalDouble.of(Double.parseDouble(value)) : OptionalDouble.empty();
+    }
+
+    public void save(double targetRate) {
+        redisTemplate.opsForValue().set(TARGET_RATE_KEY, String.valueOf(targetRate), TARGET_RATE_TTL);
+    }
+}
@@ -3,6 +3,8 @@ package com.loopers.infrastructure.waitingroom;
 import com.loopers.config.redis.RedisConfig;
 import com.loopers.domain.waitingroom.EntryGate;
 import com.loopers.domain.waitingroom.WaitingRoomErrorCode;
+import com.loopers.infrastructure.waitingroom.WaitingQueueShards.ActiveCounts;
+import com.loopers.infrastructure.waitingroom.WaitingQueueShards.ShardKeys;
 import com.loopers.infrastructure.waitingroom.metrics.WaitingRoomMetricNames;
 import com.loopers.support.error.CoreException;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -16,18 +18,18 @@ import org.springframework.stereotype.Component;
 @Component
 public class EntryGateRedis implements EntryGate {
 
-    private static final String TOKEN_KEY_PREFIX = "queue:entry-token:";
-    private static final String ACTIVE_SET_KEY = "queue:entry-gate-members";
-
     private final RedisTemplate<String, String> redisTemplate;
+    private final WaitingQueueShards shards;
     private final MeterRegistry registry;
     private final long tokenTtlSeconds;
 
     public EntryGateRedis(
             @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+            WaitingQueueShards shards,
             MeterRegistry registry,
             @Value("${queue.token.ttl-seconds:300}") long tokenTtlSeconds) {
         this.redisTemplate = redisTemplate;
+        this.shards = shards;
         this.registry = registry;
         this.tokenTtlSeconds = tokenTtlSeconds;
     }
@@ -35,22 +37,23 @@ public class EntryGateRedis implements EntryGate {
     @Override
     public String issueToken(Long userId) {
         String token = UUID.randomUUID().toString();
+        ShardKeys shard = shards.shardOf(userId);
         redisTemplate.opsForValue().set(
-                TOKEN_KEY_PREFIX + userId, token, tokenTtlSeconds, TimeUnit.SECONDS);
+                shard.tokenKeyPrefix() + userId, token, tokenTtlSeconds, TimeUnit.SECONDS);
         redisTemplate.opsForZSet().add(
-                ACTIVE_SET_KEY, String.valueOf(userId),
+                shard.activeSetKey(), String.valueOf(userId),
                 System.currentTimeMillis() + tokenTtlSeconds * 1000);
         return token;
     }
 
     @Override
     public String getToken(Long userId) {
-        return redisTemplate.opsForValue().get(TOKEN_KEY_PREFIX + userId);
+        return redisTemplate.opsForValue().get(shards.tokenKeyOf(userId));
     }
 
     @Override
     public void validateToken(Long userId, String token) {
-        String stored = redisTemplate.opsForValue().get(TOKEN_KEY_PREFIX + userId);
+        String stored = redisTemplate.opsForValue().get(shards.tokenKeyOf(userId));
         if (stored == null || !stored.equals(token)) {
             throw new CoreException(WaitingRoomErrorCode.INVALID_TOKEN);
         }
@@ -58,18 +61,17 @@ public class EntryGateRedis implements EntryGate {
 
     @Override
     public void completeEntry(Long userId) {
-        redisTemplate.delete(TOKEN_KEY_PREFIX + userId);
-        redisTemplate.opsForZSet().remove(ACTIVE_SET_KEY, String.valueOf(userId));
+        ShardKeys shard = shards.shardOf(userId);
+        redisTemplate.delete(shard.tokenKeyPrefix() + userId);
+        redisTemplate.opsForZSet().remove(shard.activeSetKey(), String.valueOf(userId));
     }
 
     @Override
     public long getActiveCount() {
-        Long expired = redisTemplate.opsForZSet()
-                .removeRangeByScore(ACTIVE_SET_KEY, 0, System.currentTimeMillis());
-        if (expired != null && expired > 0) {
-            registry.counter(WaitingRoomMetricNames.TOKEN_EXPIRED_TOTAL).increment(expired);
+        ActiveCounts counts = shards.countActive(System.currentTimeMillis());
+        if (counts.expired() > 0) {
+            registry.counter(WaitingRoomMetricNames.TOKEN_EXPIRED_TOTAL).increment(counts.expired());
         }
-        Long count = redisTemplate.opsForZSet().zCard(ACTIVE_SET_KEY);
-        return count != null ? count : 0;
+        return counts.active();
     }
 }
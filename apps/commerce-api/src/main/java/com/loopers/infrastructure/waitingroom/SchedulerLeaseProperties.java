@@ -0,0 +1,23 @@
+package com.loopers.infrastructure.waitingroom;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 대기열 스케줄러 리더 선출 설정 (queue.scheduler.*).
+ * 리더가 죽으면 최대 leaseMs + renewIntervalMs 안에 다른 인스턴스가 리더를 이어받는다.
+ */
+@ConfigurationProperties(prefix = "queue.scheduler")
+public record SchedulerLeaseProperties(
+        Boolean leaderElection,
+        long leaseMs,
+        long renewIntervalMs) {
+
+    public SchedulerLeaseProperties {
+        if (leaderElection == null) leaderElection = true;
+        if (leaseMs <= 0) leaseMs = 3000;
+        if (renewIntervalMs <= 0) renewIntervalMs = 1000;
+        if (renewIntervalMs >= leaseMs) {
+            throw new IllegalArgumentException("queue.scheduler.renew-interval-ms는 lease-ms보다 짧아야 합니다.");
+        }
+    }
+}
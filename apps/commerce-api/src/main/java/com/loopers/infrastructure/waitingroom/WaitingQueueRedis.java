@@ -3,7 +3,12 @@ package com.loopers.infrastructure.waitingroom;
 import com.loopers.config.redis.RedisConfig;
 import com.loopers.domain.waitingroom.WaitingEntry;
 import com.loopers.domain.waitingroom.WaitingQueue;
+import com.loopers.infrastructure.waitingroom.WaitingQueueShards.OtherShardCounts;
+import com.loopers.infrastructure.waitingroom.WaitingQueueShards.ShardKeys;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -13,59 +18,70 @@ import org.springframework.stereotype.Component;
 @Component
 public class WaitingQueueRedis implements WaitingQueue {
 
-    private static final String QUEUE_KEY = "queue:waiting";
     private final RedisTemplate<String, String> redisTemplate;
+    private final WaitingQueueShards shards;
 
     public WaitingQueueRedis(
-            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate) {
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+            WaitingQueueShards shards) {
         this.redisTemplate = redisTemplate;
+        this.shards = shards;
     }
 
     @Override
     public boolean enter(Long userId) {
         Boolean added = redisTemplate.opsForZSet()
-                .addIfAbsent(QUEUE_KEY, String.valueOf(userId), System.currentTimeMillis());
+                .addIfAbsent(shards.keyOf(userId), String.valueOf(userId), System.currentTimeMillis());
         return Boolean.TRUE.equals(added);
     }
 
     @Override
     public Long getRank(Long userId) {
-        return redisTemplate.opsForZSet().rank(QUEUE_KEY, String.valueOf(userId));
+        String key = shards.keyOf(userId);
+        Long rank = redisTemplate.opsForZSet().rank(key, String.valueOf(userId));
+        if (rank == null || !shards.isSharded()) {
+            return rank;
+        }
+        Double score = redisTemplate.opsForZSet().score(key, String.valueOf(userId));
+        if (score == null) {
+            return null;
+        }
+        OtherShardCounts others = shards.countOthers(key, score);
+        return rank + others.ahead();
     }
 
     @Override
     public long getTotalWaiting() {
-        Long size = redisTemplate.opsForZSet().zCard(QUEUE_KEY);
-        return size != null ? size : 0;
+        return shards.totalWaiting();
     }
 
     @Override
     public boolean cancel(Long userId) {
-        Long removed = redisTemplate.opsForZSet().remove(QUEUE_KEY, String.valueOf(userId));
+        Long removed = redisTemplate.opsForZSet().remove(shards.keyOf(userId), String.valueOf(userId));
         return removed != null && removed > 0;
     }
 
     @Override
     public List<Long> popFront(int count) {
-        Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet().popMin(QUEUE_KEY, count);
-        if (tuples == null || tuples.isEmpty()) {
-            return List.of();
-        }
-        return tuples.stream()
-                .map(tuple -> Long.parseLong(tuple.getValue()))
+        return popFrontWithScores(count).stream()
+                .map(WaitingEntry::userId)
                 .toList();
     }
 
     @Override
     public List<WaitingEntry> popFrontWithScores(int count) {
-        Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet().popMin(QUEUE_KEY, count);
-        if (tuples == null || tuples.isEmpty()) {
-            return List.of();
+        List<WaitingEntry> popped = new ArrayList<>();
+        for (Map.Entry<ShardKeys, Integer> quota : shards.quotasByArrival(count).entrySet()) {
+            Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                    .popMin(quota.getKey().queueKey(), quota.getValue());
+            if (tuples == null) {
+                continue;
+            }
+            tuples.forEach(tuple -> popped.add(new WaitingEntry(
+                    Long.parseLong(tuple.getValue()),
+                    tuple.getScore().longValue())));
         }
-        return tuples.stream()
-                .map(tuple -> new WaitingEntry(
-                        Long.parseLong(tuple.getValue()),
-                        tuple.getScore().longValue()))
-                .toList();
+        popped.sort(Comparator.comparingLong(WaitingEntry::enterTimeMillis));
+        return popped;
     }
 }
@@ -0,0 +1,210 @@
+package com.loopers.infrastructure.waitingroom;
+
+import com.loopers.config.redis.RedisConfig;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기열 상태를 K개 샤드로 나눈 라우팅.
+ *
+ * - 유저는 userId mod K 샤드에 들어간다. K=1이면 기존 단일 키(queue:waiting 등)를 그대로 쓴다.
+ * - 샤드 하나의 대기열/입장 토큰/참여 집합/입장 순번 키는 모두 같은 hash tag({i})를 가진다.
+ *   Lua 스크립트는 한 샤드의 키만 다루므로 Cluster에서도 한 슬롯 안에서 실행된다.
+ * - 전체 순위는 다른 샤드에서 내 score보다 먼저 들어온 인원(ZCOUNT)을 더한 근사값이다.
+ * - 꺼내기는 샤드 앞쪽을 score(진입 시각) 기준으로 병합해 샤드별 할당량을 정하므로 대략적인 FIFO가 유지된다.
+ * - 여러 샤드를 읽는 조회는 단일 키 명령의 파이프라인이라 샤드 사이에서는 원자적이지 않다.
+ */
+@Component
+public class WaitingQueueShards {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final List<ShardKeys> shards;
+    private final List<String> keys;
+
+    public WaitingQueueShards(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+            @Value("${queue.waiting.shard-count:1}") int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("queue.waiting.shard-count는 1 이상이어야 합니다.");
+        }
+        this.redisTemplate = redisTemplate;
+        this.shards = shardCount == 1
+                ? List.of(ShardKeys.UNSHARDED)
+                : IntStream.range(0, shardCount).mapToObj(ShardKeys::of).toList();
+        this.keys = shards.stream().map(ShardKeys::queueKey).toList();
+    }
+
+    public boolean isSharded() {
+        return keys.size() > 1;
+    }
+
+    public List<String> keys() {
+        return keys;
+    }
+
+    public List<ShardKeys> shards() {
+        return shards;
+    }
+
+    public ShardKeys shardOf(Long userId) {
+        return shards.get((int) Math.floorMod(userId, (long) shards.size()));
+    }
+
+    public String keyOf(Long userId) {
+        return shardOf(userId).queueKey();
+    }
+
+    public String tokenKeyOf(Long userId) {
+        return shardOf(userId).tokenKeyPrefix() + userId;
+    }
+
+    /**
+     * ownKey를 제외한 샤드에서 score보다 먼저 들어온 인원과 전체 인원을 파이프라인 1회로 센다.
+     */
+    public OtherShardCounts countOthers(String ownKey, double score) {
+        if (!isSharded()) {
+            return OtherShardCounts.NONE;
+        }
+        List<String> others = keys.stream().filter(key -> !key.equals(ownKey)).toList();
+        List<Object> results = pipeline(operations -> {
+            for (String key : others) {
+                operations.opsForZSet().count(key, Double.NEGATIVE_INFINITY, Math.nextDown(score));
+                operations.opsForZSet().zCard(key);
+            }
+        });
+        long ahead = 0;
+        long total = 0;
+        for (int i = 0; i < results.size(); i += 2) {
+            ahead += toLong(results.get(i));
+            total += toLong(results.get(i + 1));
+        }
+        return new OtherShardCounts(ahead, total);
+    }
+
+    public long totalWaiting() {
+        List<Object> results = pipeline(operations -> keys.forEach(key -> operations.opsForZSet().zCard(key)));
+        return sum(results);
+    }
+
+    /**
+     * 샤드별 입장 순번 합. MGET은 Cluster에서 슬롯이 다르면 실패하므로 GET을 파이프라인으로 보낸다.
+     */
+    public long totalAdmitted() {
+        List<Object> results = pipeline(operations ->
+                shards.forEach(shard -> operations.opsForValue().get(shard.admittedSequenceKey())));
+        return results.stream()
+                .mapToLong(value -> value != null ? Long.parseLong(value.toString()) : 0)
+                .sum();
+    }
+
+    /**
+     * 샤드별 참여 집합에서 만료된 인원을 지우고, 지운 인원과 남은 인원을 파이프라인 1회로 센다.
+     */
+    public ActiveCounts countActive(long now) {
+        List<Object> results = pipeline(operations -> shards.forEach(shard -> {
+            operations.opsForZSet().removeRangeByScore(shard.activeSetKey(), 0, now);
+            operations.opsForZSet().zCard(shard.activeSetKey());
+        }));
+        long expired = 0;
+        long active = 0;
+        for (int i = 0; i < results.size(); i += 2) {
+            expired += toLong(results.get(i));
+            active += toLong(results.get(i + 1));
+        }
+        return new ActiveCounts(expired, active);
+    }
+
+    /**
+     * 각 샤드 앞쪽 count명을 진입 시각 순으로 병합해, 전체에서 가장 먼저 온 count명이 샤드별로 몇 명인지 계산한다.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<ShardKeys, Integer> quotasByArrival(int count) {
+        if (!isSharded()) {
+            return Map.of(ShardKeys.UNSHARDED, count);
+        }
+        List<Object> heads = pipeline(operations ->
+                keys.forEach(key -> operations.opsForZSet().rangeWithScores(key, 0, count - 1)));
+
+        record Head(ShardKeys shard, double score) {
+        }
+        List<Head> merged = new ArrayList<>();
+        for (int i = 0; i < shards.size(); i++) {
+            Set<TypedTuple<String>> tuples = (Set<TypedTuple<String>>) heads.get(i);
+            if (tuples == null) {
+                continue;
+            }
+            for (TypedTuple<String> tuple : tuples) {
+                merged.add(new Head(shards.get(i), tuple.getScore()));
+            }
+        }
+        merged.sort(Comparator.comparingDouble(Head::score));
+
+        Map<ShardKeys, Integer> quotas = new LinkedHashMap<>();
+        merged.stream()
+                .limit(count)
+                .forEach(head -> quotas.merge(head.shard(), 1, Integer::sum));
+        return quotas;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> pipeline(Consumer<RedisOperations<String, String>> commands) {
+        return redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                commands.accept((RedisOperations<String, String>) operations);
+                return null;
+            }
+        });
+    }
+
+    private static long sum(List<Object> results) {
+        return results.stream().mapToLong(WaitingQueueShards::toLong).sum();
+    }
+
+    private static long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0;
+    }
+
+    public record OtherShardCounts(long ahead, long total) {
+
+        static final OtherShardCounts NONE = new OtherShardCounts(0, 0);
+    }
+
+    public record ActiveCounts(long expired, long active) {
+    }
+
+    /**
+     * 샤드 하나가 가진 키. 샤딩 시 모든 키에 같은 hash tag가 붙어 같은 슬롯에 놓인다.
+     */
+    public record ShardKeys(String queueKey, String tokenKeyPrefix, String activeSetKey, String admittedSequenceKey) {
+
+        static final ShardKeys UNSHARDED = new ShardKeys(
+                WaitingRoomRedisKeys.QUEUE_KEY,
+                WaitingRoomRedisKeys.TOKEN_KEY_PREFIX,
+                WaitingRoomRedisKeys.ACTIVE_SET_KEY,
+                WaitingRoomRedisKeys.ADMITTED_SEQUENCE_KEY);
+
+        static ShardKeys of(int index) {
+            String tag = "{" + index + "}";
+            return new ShardKeys(
+                    WaitingRoomRedisKeys.QUEUE_KEY + ":" + tag,
+                    WaitingRoomRedisKeys.TOKEN_KEY_PREFIX + tag + ":",
+                    WaitingRoomRedisKeys.ACTIVE_SET_KEY + ":" + tag,
+                    WaitingRoomRedisKeys.ADMITTED_SEQUENCE_KEY + ":" + tag);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.loopers.infrastructure.waitingroom;
+
+/**
+ * 대기열/참여열 Redis 키. Lua 스크립트가 두 영역을 함께 다루므로 한곳에서 관리한다.
+ * 샤딩 시에는 WaitingQueueShards가 샤드별 hash tag를 붙여 쓴다.
+ */
+final class WaitingRoomRedisKeys {
+
+    static final String QUEUE_KEY = "queue:waiting";
+    static final String TOKEN_KEY_PREFIX = "queue:entry-token:";
+    static final String ACTIVE_SET_KEY = "queue:entry-gate-members";
+    static final String ADMITTED_SEQUENCE_KEY = "queue:admitted:seq";
+
+    private WaitingRoomRedisKeys() {
+    }
+}
@@ -0,0 +1,142 @@
+package com.loopers.infrastructure.waitingroom;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.waitingroom.WaitingEntry;
+import com.loopers.domain.waitingroom.WaitingRoomStore;
+import com.loopers.domain.waitingroom.WaitingSnapshot;
+import com.loopers.infrastructure.waitingroom.WaitingQueueShards.OtherShardCounts;
+import com.loopers.infrastructure.waitingroom.WaitingQueueShards.ShardKeys;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기열 복합 연산을 Lua 스크립트로 실행한다. 각 연산은 Redis 왕복 1회로 원자적으로 처리된다.
+ * 대기열이 샤딩되어 있으면 내 샤드는 스크립트로, 다른 샤드 인원은 파이프라인 1회로 더해 전체 순위를 만든다.
+ * 스크립트에 넘기는 키는 모두 한 샤드의 키이므로 Cluster에서도 CROSSSLOT 없이 실행된다.
+ */
+@Component
+public class WaitingRoomRedisStore implements WaitingRoomStore {
+
+    private static final String ENTERED = "ENTERED";
+    private static final String WAITING = "WAITING";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final WaitingQueueShards shards;
+    private final long tokenTtlSeconds;
+    private final DefaultRedisScript<List> enterScript;
+    private final DefaultRedisScript<List> positionScript;
+    private final DefaultRedisScript<List> admitScript;
+
+    public WaitingRoomRedisStore(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+            WaitingQueueShards shards,
+            @Value("${queue.token.ttl-seconds:300}") long tokenTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.shards = shards;
+        this.tokenTtlSeconds = tokenTtlSeconds;
+        this.enterScript = listScript("scripts/waiting-room-enter.lua");
+        this.positionScript = listScript("scripts/waiting-room-position.lua");
+        this.admitScript = listScript("scripts/waiting-room-admit.lua");
+    }
+
+    @Override
+    public WaitingSnapshot enter(Long userId) {
+        String queueKey = shards.keyOf(userId);
+        List<String> result = execute(
+                enterScript,
+                List.of(queueKey),
+                String.valueOf(userId),
+                String.valueOf(System.currentTimeMillis()));
+        return toGlobalSnapshot(queueKey, result.get(0), result.get(1), result.get(2));
+    }
+
+    @Override
+    public WaitingSnapshot findPosition(Long userId) {
+        String queueKey = shards.keyOf(userId);
+        List<String> result = execute(
+                positionScript,
+                List.of(shards.tokenKeyOf(userId), queueKey),
+                String.valueOf(userId));
+        return switch (result.get(0)) {
+            case ENTERED -> WaitingSnapshot.entered(result.get(1));
+            case WAITING -> toGlobalSnapshot(queueKey, result.get(1), result.get(2), result.get(3));
+            default -> WaitingSnapshot.notInQueue();
+        };
+    }
+
+    /**
+     * 토큰은 스크립트 밖에서 미리 만들어 넘기고, 실제로 꺼낸 인원만큼만 사용된다.
+     * 샤딩 시에는 진입 시각 순 할당량만큼 샤드별로 스크립트를 실행한다.
+     */
+    @Override
+    public List<WaitingEntry> admit(int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        List<WaitingEntry> admitted = new ArrayList<>(count);
+        for (Map.Entry<ShardKeys, Integer> quota : shards.quotasByArrival(count).entrySet()) {
+            admitted.addAll(admitFromShard(quota.getKey(), quota.getValue()));
+        }
+        admitted.sort(Comparator.comparingLong(WaitingEntry::enterTimeMillis));
+        return admitted;
+    }
+
+    private List<WaitingEntry> admitFromShard(ShardKeys shard, int count) {
+        List<String> args = new ArrayList<>(count + 4);
+        args.add(String.valueOf(count));
+        args.add(shard.tokenKeyPrefix());
+        args.add(String.valueOf(tokenTtlSeconds));
+        args.add(String.valueOf(System.currentTimeMillis()));
+        for (int i = 0; i < count; i++) {
+            args.add(UUID.randomUUID().toString());
+        }
+
+        List<String> result = execute(
+                admitScript,
+                List.of(shard.queueKey(), shard.activeSetKey(), shard.admittedSequenceKey()),
+                args.toArray());
+
+        List<WaitingEntry> admitted = new ArrayList<>(result.size() / 2);
+        for (int i = 0; i < result.size(); i += 2) {
+            admitted.add(new WaitingEntry(
+                    Long.parseLong(result.get(i)),
+                    (long) Double.parseDouble(result.get(i + 1))));
+        }
+        return admitted;
+    }
+
+    @Override
+    public long getAdmittedSequence() {
+        return shards.totalAdmitted();
+    }
+
+    private WaitingSnapshot toGlobalSnapshot(String queueKey, String rank, String total, String score) {
+        OtherShardCounts others = shards.countOthers(queueKey, Double.parseDouble(score));
+        return WaitingSnapshot.waiting(
+                Long.parseLong(rank) + others.ahead(),
+                Long.parseLong(total) + others.total());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> execute(DefaultRedisScript<List> script, List<String> keys, Object... args) {
+        List<String> result = redisTemplate.execute(script, keys, args);
+        return result != null ? result : List.of();
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static DefaultRedisScript<List> listScript(String location) {
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(location));
+        script.setResultType(List.class);
+        return script;
+    }
+}
@@ -0,0 +1,59 @@
+package com.loopers.infrastructure.waitingroom;
+
+import static com.loopers.infrastructure.waitingroom.metrics.WaitingRoomMetricNames.SCHEDULER_LEADERSHIP_CHANGE_TOTAL;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.support.config.SchedulingConfig;
+import com.loopers.support.lease.RedisLease;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 임대(lease) 기반 대기열 스케줄러 리더 선출.
+ *
+ * 인스턴스마다 스케줄러가 돌면 N대 × 목표 속도로 입장시키므로, 임대를 가진 한 대만 입장 처리를 한다.
+ * - renewIntervalMs마다 임대를 얻거나 연장한다. 로컬에서는 마지막 갱신 후 (leaseMs - renewIntervalMs)까지만 리더로 간주한다.
+ * - 정상 종료 시 임대를 반납해 다른 인스턴스가 다음 갱신 주기에 바로 이어받는다.
+ * - 갱신은 전용 스케줄러에서 돌아, 다른 @Scheduled 작업이 느려도 밀리지 않는다.
+ */
+@Component
+public class WaitingRoomSchedulerLease {
+
+    private static final String LEASE_KEY = "queue:scheduler:leader";
+
+    private final SchedulerLeaseProperties properties;
+    private final RedisLease lease;
+
+    public WaitingRoomSchedulerLease(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+            MeterRegistry registry,
+            SchedulerLeaseProperties properties) {
+        this.properties = properties;
+        this.lease = new RedisLease(
+                redisTemplate, LEASE_KEY, properties.leaseMs(), properties.renewIntervalMs(),
+                transition -> registry.counter(SCHEDULER_LEADERSHIP_CHANGE_TOTAL, "transition", transition).increment());
+    }
+
+    public boolean isLeader() {
+        return !properties.leaderElection() || lease.isHeld();
+    }
+
+    @Scheduled(fixedDelayString = "${queue.scheduler.renew-interval-ms:1000}",
+            scheduler = SchedulingConfig.WAITING_ROOM_SCHEDULER)
+    public void renew() {
+        if (properties.leaderElection()) {
+            lease.acquire();
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        if (properties.leaderElection()) {
+            lease.release();
+        }
+    }
+}
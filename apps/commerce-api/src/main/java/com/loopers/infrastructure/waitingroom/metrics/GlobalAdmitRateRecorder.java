@@ -0,0 +1,42 @@
+package com.loopers.infrastructure.waitingroom.metrics;
+
+import com.loopers.config.redis.RedisConfig;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전 인스턴스 합산 입장 속도.
+ * 초 단위 Redis 카운터에 입장 인원을 더하고, 직전 1초 값을 읽어 전역 입장 속도(명/초)로 노출한다.
+ * 리더 교체나 임대 중첩으로 두 대가 동시에 입장시키는 구간도 그대로 드러난다.
+ */
+@Component
+public class GlobalAdmitRateRecorder {
+
+    private static final String COUNTER_KEY_PREFIX = "queue:admit:count:";
+    private static final Duration COUNTER_TTL = Duration.ofSeconds(10);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public GlobalAdmitRateRecorder(
+            @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public void record(int admittedCount) {
+        if (admittedCount <= 0) {
+            return;
+        }
+        String key = COUNTER_KEY_PREFIX + Instant.now().getEpochSecond();
+        redisTemplate.opsForValue().increment(key, admittedCount);
+        redisTemplate.expire(key, COUNTER_TTL);
+    }
+
+    public double lastSecondRate() {
+        String value = redisTemplate.opsForValue()
+                .get(COUNTER_KEY_PREFIX + (Instant.now().getEpochSecond() - 1));
+        return value != null ? Double.parseDouble(value) : 0;
+    }
+}
@@ -1,10 +1,16 @@
 package com.loopers.infrastructure.waitingroom.metrics;
 
+import static com.loopers.infrastructure.waitingroom.metrics.WaitingRoomMetricNames.ADMIT_RATE_ACTUAL;
+import static com.loopers.infrastructure.waitingroom.metrics.WaitingRoomMetricNames.ADMIT_RATE_GLOBAL;
+import static com.loopers.infrastructure.waitingroom.metrics.WaitingRoomMetricNames.ADMIT_RATE_TARGET;
 import static com.loopers.infrastructure.waitingroom.metrics.WaitingRoomMetricNames.ENTRY_GATE_ACTIVE;
+import static com.loopers.infrastructure.waitingroom.metrics.WaitingRoomMetricNames.SCHEDULER_LEADER;
 import static com.loopers.infrastructure.waitingroom.metrics.WaitingRoomMetricNames.WAITING_SIZE;
 
+import com.loopers.domain.waitingroom.AdmissionPolicy;
 import com.loopers.domain.waitingroom.EntryGate;
 import com.loopers.domain.waitingroom.WaitingQueue;
+import com.loopers.infrastructure.waitingroom.WaitingRoomSchedulerLease;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
@@ -12,7 +18,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 /**
- * 대기열/참여열 Gauge를 애플리케이션 시작 시 한 번만 등록한다.
+ * 대기열/참여열/입장 속도 Gauge를 애플리케이션 시작 시 한 번만 등록한다.
  * Prometheus scrape 주기마다 supplier가 호출되어 Redis에서 현재값을 조회한다.
  */
 @Component
@@ -22,6 +28,9 @@ public class WaitingRoomGaugeConfig {
     private final MeterRegistry registry;
     private final WaitingQueue waitingQueue;
     private final EntryGate entryGate;
+    private final AdmissionPolicy admissionPolicy;
+    private final WaitingRoomSchedulerLease schedulerLease;
+    private final GlobalAdmitRateRecorder globalAdmitRateRecorder;
 
     @PostConstruct
     public void registerGauges() {
@@ -32,5 +41,21 @@ public class WaitingRoomGaugeConfig {
         Gauge.builder(ENTRY_GATE_ACTIVE, entryGate::getActiveCount)
                 .description("현재 참여열 인원")
                 .register(registry);
+
+        Gauge.builder(ADMIT_RATE_TARGET, admissionPolicy::targetRatePerSecond)
+                .description("입장 제어기 목표 속도 (명/초)")
+                .register(registry);
+
+        Gauge.builder(ADMIT_RATE_ACTUAL, admissionPolicy::measuredRatePerSecond)
+                .description("실제 측정 입장 속도 (명/초)")
+                .register(registry);
+
+        Gauge.builder(ADMIT_RATE_GLOBAL, globalAdmitRateRecorder::lastSecondRate)
+                .description("전 인스턴스 합산 입장 속도 (직전 1초, 명/초)")
+                .register(registry);
+
+        Gauge.builder(SCHEDULER_LEADER, () -> schedulerLease.isLeader() ? 1 : 0)
+                .description("이 인스턴스가 대기열 스케줄러 리더인지 (1/0)")
+                .register(registry);
     }
 }
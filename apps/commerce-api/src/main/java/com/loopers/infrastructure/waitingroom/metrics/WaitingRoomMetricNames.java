@@ -9,10 +9,15 @@ public final class WaitingRoomMetricNames {
     public static final String SCHEDULER_RUN_TOTAL = "queue.scheduler.run.total";
     public static final String TOKEN_EXPIRED_TOTAL = "queue.token.expired.total";
     public static final String TOKEN_COMPLETED_TOTAL = "queue.token.completed.total";
+    public static final String SCHEDULER_LEADERSHIP_CHANGE_TOTAL = "queue.scheduler.leadership.change.total";
 
     // Gauge (현재 상태)
     public static final String WAITING_SIZE = "queue.waiting.size";
     public static final String ENTRY_GATE_ACTIVE = "queue.entry_gate.active";
+    public static final String ADMIT_RATE_TARGET = "queue.admit.rate.target";
+    public static final String ADMIT_RATE_ACTUAL = "queue.admit.rate.actual";
+    public static final String ADMIT_RATE_GLOBAL = "queue.admit.rate.global";
+    public static final String SCHEDULER_LEADER = "queue.scheduler.leader";
 
     // Distribution Summary — 신규
     public static final String ADMIT_BATCH_SIZE = "queue.admit.batch.size";
@@ -0,0 +1,44 @@
+package com.loopers.interfaces.api;
+
+import com.loopers.config.jpa.querycount.QueryCounter;
+import com.loopers.config.jpa.querycount.QueryScope;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청마다 SQL 집계 범위를 연다. 범위 이름(endpoint 태그)은 "메서드 경로 패턴"이라 경로 변수 값마다 태그가 늘지 않는다.
+ * datasource.mysql-jpa.query-count.enabled=false면 QueryCounter가 없어 아무것도 하지 않는다.
+ */
+@Component
+public class QueryCountInterceptor implements HandlerInterceptor {
+
+    private static final String SCOPE_ATTRIBUTE = QueryCountInterceptor.class.getName() + ".scope";
+
+    private final QueryCounter queryCounter;
+
+    public QueryCountInterceptor(ObjectProvider<QueryCounter> queryCounter) {
+        this.queryCounter = queryCounter.getIfAvailable();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (queryCounter != null) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String endpoint = request.getMethod() + " " + (pattern != null ? pattern : "unmatched");
+            request.setAttribute(SCOPE_ATTRIBUTE, queryCounter.openRequest(endpoint));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (queryCounter != null && request.getAttribute(SCOPE_ATTRIBUTE) instanceof QueryScope scope) {
+            request.removeAttribute(SCOPE_ATTRIBUTE);
+            queryCounter.close(scope);
+        }
+    }
+}
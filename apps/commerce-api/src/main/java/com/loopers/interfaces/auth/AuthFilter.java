@@ -1,102 +1,153 @@
 package com.loopers.interfaces.auth;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.user.AuthTokenService;
+import com.loopers.domain.user.AuthenticatedUser;
 import com.loopers.domain.user.AuthenticationService;
-import com.loopers.domain.user.UserModel;
 import com.loopers.interfaces.api.ApiResponse;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.Set;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+/**
+ * 요청 인증. Authorization: Bearer 토큰이 있으면 서명만 검증하고(DB 조회 없음),
+ * 없으면 X-Loopers-LoginId/X-Loopers-LoginPw 헤더로 인증한다.
+ * 인증 필수 여부는 {@link AuthRouteRegistry}가 컨트롤러의 @Login 파라미터로부터 판단한다.
+ */
 @Component
-@RequiredArgsConstructor
 public class AuthFilter extends OncePerRequestFilter {
 
     private static final String HEADER_LOGIN_ID = "X-Loopers-LoginId";
     private static final String HEADER_LOGIN_PW = "X-Loopers-LoginPw";
-    private static final Set<String> AUTH_REQUIRED_URLS = Set.of(
-        "/api/v1/users/me",
-        "/api/v1/users/password",
-        "/api/v1/users/me/likes",
-        "/api/v1/users/me/coupons",
-        "/api/v1/users/me/point"
-    );
-    private static final String AUTH_REQUIRED_SUFFIX = "/likes";
-    private static final String AUTH_REQUIRED_PREFIX_ORDERS = "/api/v1/orders";
-    private static final String AUTH_REQUIRED_PREFIX_PAYMENTS = "/api/v1/payments";
-    private static final String AUTH_REQUIRED_PREFIX_COUPONS = "/api/v1/coupons/";
-    private static final String AUTH_REQUIRED_PREFIX_QUEUE = "/api/v1/queue";
+    private static final String AUTH_DURATION_METRIC = "auth.authenticate.duration";
+    private static final String FILTER_OVERHEAD_METRIC = "auth.filter.overhead";
 
     private final AuthenticationService authenticationService;
+    private final AuthTokenService authTokenService;
+    private final AuthRouteRegistry authRouteRegistry;
     private final ObjectMapper objectMapper;
+    private final Timer headerSuccessTimer;
+    private final Timer headerFailureTimer;
+    private final Timer tokenSuccessTimer;
+    private final Timer tokenFailureTimer;
+    private final Timer requiredRouteOverheadTimer;
+    private final Timer optionalRouteOverheadTimer;
+
+    public AuthFilter(AuthenticationService authenticationService,
+                      AuthTokenService authTokenService,
+                      AuthRouteRegistry authRouteRegistry,
+                      ObjectMapper objectMapper,
+                      MeterRegistry registry) {
+        this.authenticationService = authenticationService;
+        this.authTokenService = authTokenService;
+        this.authRouteRegistry = authRouteRegistry;
+        this.objectMapper = objectMapper;
+        this.headerSuccessTimer = authTimer(registry, "header", "success");
+        this.headerFailureTimer = authTimer(registry, "header", "failure");
+        this.tokenSuccessTimer = authTimer(registry, "token", "success");
+        this.tokenFailureTimer = authTimer(registry, "token", "failure");
+        this.requiredRouteOverheadTimer = overheadTimer(registry, "required");
+        this.optionalRouteOverheadTimer = overheadTimer(registry, "optional");
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        if (!requiresAuth(request.getRequestURI())) {
+        long startedAt = System.nanoTime();
+        if (!authRouteRegistry.requiresAuth(request.getMethod(), request.getRequestURI())) {
             tryOptionalAuth(request);
+            recordOverhead(optionalRouteOverheadTimer, startedAt);
             filterChain.doFilter(request, response);
             return;
         }
 
-        String loginId = request.getHeader(HEADER_LOGIN_ID);
-        String password = request.getHeader(HEADER_LOGIN_PW);
-
-        if (loginId == null || loginId.isBlank() || password == null || password.isBlank()) {
-            writeUnauthorizedResponse(response, ErrorType.UNAUTHORIZED.getMessage());
-            return;
-        }
-
+        LoginUser loginUser;
         try {
-            UserModel user = authenticationService.authenticate(loginId, password);
-            request.setAttribute("loginUser",
-                    new LoginUser(user.getId(), user.getLoginId(), user.getName()));
-            filterChain.doFilter(request, response);
+            loginUser = resolveLoginUser(request);
         } catch (CoreException e) {
             writeUnauthorizedResponse(response,
                 e.getCustomMessage() != null ? e.getCustomMessage() : e.getErrorCode().getMessage());
+            recordOverhead(requiredRouteOverheadTimer, startedAt);
+            return;
         }
+        if (loginUser == null) {
+            writeUnauthorizedResponse(response, ErrorType.UNAUTHORIZED.getMessage());
+            recordOverhead(requiredRouteOverheadTimer, startedAt);
+            return;
+        }
+        request.setAttribute("loginUser", loginUser);
+        recordOverhead(requiredRouteOverheadTimer, startedAt);
+        filterChain.doFilter(request, response);
     }
 
-    private boolean requiresAuth(String uri) {
-        if (uri.equals("/api/v1/payments/callback")) {
-            return false;
+    private void tryOptionalAuth(HttpServletRequest request) {
+        try {
+            LoginUser loginUser = resolveLoginUser(request);
+            if (loginUser != null) {
+                request.setAttribute("loginUser", loginUser);
+            }
+        } catch (Exception ignored) {
         }
-        return AUTH_REQUIRED_URLS.contains(uri)
-            || (uri.startsWith("/api/v1/products/") && uri.endsWith(AUTH_REQUIRED_SUFFIX))
-            || uri.startsWith(AUTH_REQUIRED_PREFIX_ORDERS)
-            || uri.startsWith(AUTH_REQUIRED_PREFIX_PAYMENTS)
-            || uri.startsWith(AUTH_REQUIRED_PREFIX_COUPONS)
-            || uri.startsWith(AUTH_REQUIRED_PREFIX_QUEUE);
     }
 
-    private void tryOptionalAuth(HttpServletRequest request) {
+    /**
+     * Bearer 토큰을 우선 검증하고, 없으면 헤더 인증으로 넘어간다. 자격 증명이 아예 없으면 null이다.
+     */
+    private LoginUser resolveLoginUser(HttpServletRequest request) {
+        String token = BearerToken.extract(request.getHeader(BearerToken.AUTHORIZATION_HEADER));
+        if (token != null) {
+            return authenticate(tokenSuccessTimer, tokenFailureTimer,
+                    () -> authTokenService.verifyAccessToken(token));
+        }
+
         String loginId = request.getHeader(HEADER_LOGIN_ID);
         String password = request.getHeader(HEADER_LOGIN_PW);
-
         if (loginId == null || loginId.isBlank() || password == null || password.isBlank()) {
-            return;
+            return null;
         }
+        return authenticate(headerSuccessTimer, headerFailureTimer,
+                () -> authenticationService.authenticateCached(loginId, password));
+    }
 
+    private LoginUser authenticate(Timer successTimer, Timer failureTimer, Supplier<AuthenticatedUser> authenticator) {
+        long startedAt = System.nanoTime();
         try {
-            UserModel user = authenticationService.authenticate(loginId, password);
-            request.setAttribute("loginUser",
-                    new LoginUser(user.getId(), user.getLoginId(), user.getName()));
-        } catch (Exception ignored) {
+            AuthenticatedUser user = authenticator.get();
+            successTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            return new LoginUser(user.id(), user.loginId(), user.name());
+        } catch (RuntimeException e) {
+            failureTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            throw e;
         }
     }
 
+    private static void recordOverhead(Timer timer, long startedAt) {
+        timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer overheadTimer(MeterRegistry registry, String route) {
+        return Timer.builder(FILTER_OVERHEAD_METRIC).tag("route", route)
+                .description("다음 필터로 넘기기 전까지 AuthFilter가 쓴 시간 (경로 판별 + 인증)").register(registry);
+    }
+
+    private static Timer authTimer(MeterRegistry registry, String mode, String result) {
+        return Timer.builder(AUTH_DURATION_METRIC).tag("mode", mode).tag("result", result)
+                .description("요청 인증 소요 시간").register(registry);
+    }
+
     private void writeUnauthorizedResponse(HttpServletResponse response, String message) throws IOException {
         response.setStatus(HttpStatus.UNAUTHORIZED.value());
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
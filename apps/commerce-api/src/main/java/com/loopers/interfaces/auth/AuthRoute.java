@@ -0,0 +1,11 @@
+package com.loopers.interfaces.auth;
+
+/**
+ * 컨트롤러 매핑 하나의 인증 규칙.
+ *
+ * @param method        HTTP 메서드. null이면 모든 메서드에 매핑된 핸들러다.
+ * @param pattern       요청 경로 패턴 (예: /api/v1/products/{productId}/likes)
+ * @param loginRequired 핸들러가 {@link Login} 파라미터를 받으면 true
+ */
+record AuthRoute(String method, String pattern, boolean loginRequired) {
+}
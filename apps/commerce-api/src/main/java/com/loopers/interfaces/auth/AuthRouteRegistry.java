@@ -0,0 +1,77 @@
+package com.loopers.interfaces.auth;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * 컨트롤러 매핑에서 인증 규칙을 만든다.
+ * 핸들러 메서드가 {@link Login} 파라미터를 받으면 그 경로/메서드는 인증 필수, 나머지는 선택 인증이다.
+ * URL 목록을 따로 관리하지 않으므로 실제 라우트와 어긋날 수 없다.
+ */
+@Slf4j
+@Component
+public class AuthRouteRegistry {
+
+    private static final String HANDLER_MAPPING_BEAN = "requestMappingHandlerMapping";
+
+    private volatile AuthRouteTable table;
+
+    public AuthRouteRegistry() {
+        this.table = AuthRouteTable.empty();
+    }
+
+    AuthRouteRegistry(List<AuthRoute> routes) {
+        this.table = AuthRouteTable.compile(routes);
+    }
+
+    /**
+     * 핸들러 매핑이 모두 등록된 뒤 한 번 컴파일한다.
+     * 그 전에 들어온 요청은 선택 인증으로 처리되고, @Login 파라미터 해석 단계에서 막힌다.
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void compile(ContextRefreshedEvent event) {
+        if (!event.getApplicationContext().containsBean(HANDLER_MAPPING_BEAN)) {
+            return;
+        }
+        RequestMappingHandlerMapping handlerMapping = event.getApplicationContext()
+                .getBean(HANDLER_MAPPING_BEAN, RequestMappingHandlerMapping.class);
+        List<AuthRoute> routes = collectRoutes(handlerMapping.getHandlerMethods());
+        this.table = AuthRouteTable.compile(routes);
+        log.info("[Auth] 인증 규칙 컴파일 — 매핑 {}건, 인증 필수 {}건",
+                routes.size(), routes.stream().filter(AuthRoute::loginRequired).count());
+    }
+
+    public boolean requiresAuth(String method, String path) {
+        return table.requiresAuth(method, path);
+    }
+
+    static List<AuthRoute> collectRoutes(Map<RequestMappingInfo, HandlerMethod> handlerMethods) {
+        List<AuthRoute> routes = new ArrayList<>();
+        handlerMethods.forEach((info, handlerMethod) -> {
+            boolean loginRequired = Arrays.stream(handlerMethod.getMethodParameters())
+                    .anyMatch(parameter -> parameter.hasParameterAnnotation(Login.class));
+            Set<RequestMethod> methods = info.getMethodsCondition().getMethods();
+            for (String pattern : info.getPatternValues()) {
+                if (methods.isEmpty()) {
+                    routes.add(new AuthRoute(null, pattern, loginRequired));
+                    continue;
+                }
+                for (RequestMethod method : methods) {
+                    routes.add(new AuthRoute(method.name(), pattern, loginRequired));
+                }
+            }
+        });
+        return routes;
+    }
+}
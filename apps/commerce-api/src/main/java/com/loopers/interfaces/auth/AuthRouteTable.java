@@ -0,0 +1,170 @@
+package com.loopers.interfaces.auth;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 경로 세그먼트 트라이로 컴파일한 인증 규칙.
+ *
+ * - 세그먼트는 리터럴, 단일 변수({id}, *, 부분 와일드카드), 나머지 전체(**, {*path}) 세 종류로 나뉜다.
+ * - 조회는 리터럴 자식을 먼저, 변수 자식을 나중에 보며 되돌아가기(backtracking)로 가장 구체적인 매핑을 찾는다.
+ *   Spring MVC의 패턴 우선순위와 같은 방향이다.
+ * - 요청 경로를 자르지 않고 인덱스와 regionMatches로만 비교하므로 요청당 객체를 만들지 않는다.
+ * - 같은 경로/메서드에 핸들러가 여럿이면(헤더/파라미터 조건 차이) 하나라도 로그인을 요구하면 요구하는 것으로 본다.
+ * - 트라이가 놓친 경로라도 {@link LoginUserArgumentResolver}가 @Login 파라미터에서 다시 막는다.
+ */
+final class AuthRouteTable {
+
+    private static final int NO_MATCH = -1;
+    private static final int OPEN = 0;
+    private static final int REQUIRED = 1;
+    private static final int ALL_METHODS = 0xFF;
+
+    private final Node root;
+
+    private AuthRouteTable(Node root) {
+        this.root = root;
+    }
+
+    static AuthRouteTable empty() {
+        return new AuthRouteTable(new Node());
+    }
+
+    static AuthRouteTable compile(List<AuthRoute> routes) {
+        Node root = new Node();
+        for (AuthRoute route : routes) {
+            int methodMask = route.method() == null ? ALL_METHODS : methodBit(route.method());
+            if (methodMask == 0) {
+                continue;
+            }
+            root.insert(route.pattern(), methodMask, route.loginRequired());
+        }
+        return new AuthRouteTable(root);
+    }
+
+    boolean requiresAuth(String method, String path) {
+        int bit = methodBit(method);
+        if (bit == 0 || path == null || path.isEmpty()) {
+            return false;
+        }
+        return root.match(path, 0, bit) == REQUIRED;
+    }
+
+    /**
+     * HEAD는 Spring MVC처럼 GET 핸들러로 판단한다. switch 분기라 문자열을 만들지 않는다.
+     */
+    private static int methodBit(String method) {
+        if (method == null) {
+            return 0;
+        }
+        return switch (method) {
+            case "GET", "HEAD" -> 1;
+            case "POST" -> 1 << 1;
+            case "PUT" -> 1 << 2;
+            case "PATCH" -> 1 << 3;
+            case "DELETE" -> 1 << 4;
+            case "OPTIONS" -> 1 << 5;
+            case "TRACE" -> 1 << 6;
+            default -> 0;
+        };
+    }
+
+    private static final class Node {
+
+        private String[] literals = new String[0];
+        private Node[] literalChildren = new Node[0];
+        private Node variableChild;
+        private int mappedMethods;
+        private int loginMethods;
+        private int catchAllMappedMethods;
+        private int catchAllLoginMethods;
+
+        void insert(String pattern, int methodMask, boolean loginRequired) {
+            Node node = this;
+            for (String segment : pattern.split("/")) {
+                if (segment.isEmpty()) {
+                    continue;
+                }
+                if (segment.equals("**") || segment.startsWith("{*")) {
+                    node.catchAllMappedMethods |= methodMask;
+                    if (loginRequired) {
+                        node.catchAllLoginMethods |= methodMask;
+                    }
+                    return;
+                }
+                node = isVariable(segment) ? node.variableChild() : node.literalChild(segment);
+            }
+            node.mappedMethods |= methodMask;
+            if (loginRequired) {
+                node.loginMethods |= methodMask;
+            }
+        }
+
+        int match(String path, int position, int bit) {
+            if (position >= path.length()) {
+                if ((mappedMethods & bit) != 0) {
+                    return (loginMethods & bit) != 0 ? REQUIRED : OPEN;
+                }
+                return matchCatchAll(bit);
+            }
+            if (path.charAt(position) != '/') {
+                return NO_MATCH;
+            }
+            int start = position + 1;
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = path.length();
+            }
+            int length = end - start;
+
+            for (int i = 0; i < literals.length; i++) {
+                String literal = literals[i];
+                if (literal.length() == length && path.regionMatches(start, literal, 0, length)) {
+                    int result = literalChildren[i].match(path, end, bit);
+                    if (result != NO_MATCH) {
+                        return result;
+                    }
+                }
+            }
+            if (variableChild != null && length > 0) {
+                int result = variableChild.match(path, end, bit);
+                if (result != NO_MATCH) {
+                    return result;
+                }
+            }
+            return matchCatchAll(bit);
+        }
+
+        private int matchCatchAll(int bit) {
+            if ((catchAllMappedMethods & bit) == 0) {
+                return NO_MATCH;
+            }
+            return (catchAllLoginMethods & bit) != 0 ? REQUIRED : OPEN;
+        }
+
+        private Node literalChild(String segment) {
+            for (int i = 0; i < literals.length; i++) {
+                if (literals[i].equals(segment)) {
+                    return literalChildren[i];
+                }
+            }
+            Node child = new Node();
+            literals = Arrays.copyOf(literals, literals.length + 1);
+            literalChildren = Arrays.copyOf(literalChildren, literalChildren.length + 1);
+            literals[literals.length - 1] = segment;
+            literalChildren[literalChildren.length - 1] = child;
+            return child;
+        }
+
+        private Node variableChild() {
+            if (variableChild == null) {
+                variableChild = new Node();
+            }
+            return variableChild;
+        }
+
+        private static boolean isVariable(String segment) {
+            return segment.indexOf('{') >= 0 || segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0;
+        }
+    }
+}
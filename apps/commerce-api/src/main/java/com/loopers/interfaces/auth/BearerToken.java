@@ -0,0 +1,25 @@
+package com.loopers.interfaces.auth;
+
+/**
+ * Authorization 헤더의 Bearer 토큰 추출.
+ */
+public final class BearerToken {
+
+    public static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String PREFIX = "Bearer ";
+
+    private BearerToken() {
+    }
+
+    /**
+     * Bearer 스킴이 아니거나 값이 비어 있으면 null을 돌려준다.
+     */
+    public static String extract(String authorizationHeader) {
+        if (authorizationHeader == null
+                || !authorizationHeader.regionMatches(true, 0, PREFIX, 0, PREFIX.length())) {
+            return null;
+        }
+        String token = authorizationHeader.substring(PREFIX.length()).trim();
+        return token.isEmpty() ? null : token;
+    }
+}
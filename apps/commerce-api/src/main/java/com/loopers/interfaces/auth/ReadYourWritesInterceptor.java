@@ -0,0 +1,31 @@
+package com.loopers.interfaces.auth;
+
+import com.loopers.config.jpa.routing.ReadYourWritesTracker;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * AuthFilter가 인증한 사용자를 요청 스레드에 묶어, 그 사용자가 쓴 직후의 읽기 전용 트랜잭션이 주 DB에서 읽게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute("loginUser") instanceof LoginUser loginUser) {
+            readYourWritesTracker.bind("user:" + loginUser.id());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        readYourWritesTracker.clear();
+    }
+}
@@ -42,7 +42,7 @@ public class PaymentV1Controller {
     public ApiResponse<Object> handleCallback(
             @RequestBody PgCallbackRequest request
     ) {
-        paymentFacade.handleCallback(
+        paymentFacade.receiveCallback(
                 request.transactionKey(), request.status(), request.reason());
         return ApiResponse.success();
     }
@@ -30,9 +30,11 @@ public interface ProductLikeV1ApiSpec {
 
     @Operation(
         summary = "내가 좋아요한 상품 목록 조회",
-        description = "로그인한 사용자가 좋아요한 상품 목록을 조회합니다."
+        description = "로그인한 사용자가 좋아요한 상품 목록을 최근 순으로 조회합니다. 삭제된 상품은 제외됩니다."
     )
     ApiResponse<ProductLikeV1Dto.ListResponse> getMyLikes(
-        @Parameter(hidden = true) LoginUser loginUser
+        @Parameter(hidden = true) LoginUser loginUser,
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") String cursor,
+        @Parameter(description = "페이지 크기 (1~100)", example = "20") int size
     );
 }
@@ -6,7 +6,6 @@ import com.loopers.interfaces.api.ApiResponse;
 import com.loopers.interfaces.auth.Login;
 import com.loopers.interfaces.auth.LoginUser;
 import com.loopers.interfaces.product.dto.ProductLikeV1Dto;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
@@ -39,14 +38,12 @@ public class ProductLikeV1Controller implements ProductLikeV1ApiSpec {
     @GetMapping("/api/v1/users/me/likes")
     @Override
     public ApiResponse<ProductLikeV1Dto.ListResponse> getMyLikes(
-        @Login LoginUser loginUser
+        @Login LoginUser loginUser,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "20") int size
     ) {
-        List<ProductLikeResult> results = productLikeFacade.getMyLikedProducts(loginUser.id());
+        ProductLikeResult.Slice results = productLikeFacade.getMyLikedProducts(loginUser.id(), cursor, size);
 
-        return ApiResponse.success(
-                new ProductLikeV1Dto.ListResponse(
-                        results.stream()
-                                .map(ProductLikeV1Dto.ListResponse.ListItem::from)
-                                .toList()));
+        return ApiResponse.success(ProductLikeV1Dto.ListResponse.from(results));
     }
 }
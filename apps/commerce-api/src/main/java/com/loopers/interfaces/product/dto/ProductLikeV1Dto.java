@@ -16,8 +16,17 @@ public class ProductLikeV1Dto {
     }
 
     public record ListResponse(
-        List<ListItem> items
+        List<ListItem> items,
+        String nextCursor
     ) {
+        public static ListResponse from(ProductLikeResult.Slice slice) {
+            return new ListResponse(
+                slice.items().stream()
+                    .map(ListItem::from)
+                    .toList(),
+                slice.nextCursor());
+        }
+
         public record ListItem(
             Long productId,
             ZonedDateTime createdAt
@@ -0,0 +1,42 @@
+package com.loopers.interfaces.user;
+
+import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.user.dto.AuthV1Dto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.parameters.RequestBody;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "Auth V1 API", description = "토큰 인증 API 입니다.")
+public interface AuthV1ApiSpec {
+
+    @Operation(
+        summary = "로그인",
+        description = "로그인 ID와 비밀번호로 access/refresh 토큰을 발급합니다. " +
+            "이후 요청은 Authorization: Bearer {accessToken} 헤더로 인증합니다."
+    )
+    ApiResponse<AuthV1Dto.TokenResponse> login(
+        @RequestBody(description = "로그인 요청 정보")
+        AuthV1Dto.LoginRequest request
+    );
+
+    @Operation(
+        summary = "토큰 재발급",
+        description = "refresh 토큰으로 새 access/refresh 토큰을 발급합니다. 사용한 refresh 토큰은 폐기됩니다."
+    )
+    ApiResponse<AuthV1Dto.TokenResponse> refresh(
+        @RequestBody(description = "토큰 재발급 요청 정보")
+        AuthV1Dto.RefreshRequest request
+    );
+
+    @Operation(
+        summary = "로그아웃",
+        description = "refresh 토큰과 Authorization 헤더의 access 토큰을 만료 전까지 폐기합니다."
+    )
+    ApiResponse<Object> logout(
+        @Parameter(hidden = true)
+        String authorization,
+        @RequestBody(description = "로그아웃 요청 정보")
+        AuthV1Dto.LogoutRequest request
+    );
+}
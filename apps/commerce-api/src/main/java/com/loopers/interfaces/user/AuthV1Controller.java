@@ -0,0 +1,45 @@
+package com.loopers.interfaces.user;
+
+import com.loopers.application.user.AuthFacade;
+import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.auth.BearerToken;
+import com.loopers.interfaces.user.dto.AuthV1Dto;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/auth")
+public class AuthV1Controller implements AuthV1ApiSpec {
+
+    private final AuthFacade authFacade;
+
+    @PostMapping("/token")
+    @Override
+    public ApiResponse<AuthV1Dto.TokenResponse> login(
+        @Valid @RequestBody AuthV1Dto.LoginRequest request
+    ) {
+        return ApiResponse.success(AuthV1Dto.TokenResponse.from(
+                authFacade.login(request.loginId(), request.password())));
+    }
+
+    @PostMapping("/token/refresh")
+    @Override
+    public ApiResponse<AuthV1Dto.TokenResponse> refresh(
+        @Valid @RequestBody AuthV1Dto.RefreshRequest request
+    ) {
+        return ApiResponse.success(AuthV1Dto.TokenResponse.from(
+                authFacade.refresh(request.refreshToken())));
+    }
+
+    @PostMapping("/logout")
+    @Override
+    public ApiResponse<Object> logout(
+        @RequestHeader(value = BearerToken.AUTHORIZATION_HEADER, required = false) String authorization,
+        @Valid @RequestBody AuthV1Dto.LogoutRequest request
+    ) {
+        authFacade.logout(BearerToken.extract(authorization), request.refreshToken());
+        return ApiResponse.success();
+    }
+}
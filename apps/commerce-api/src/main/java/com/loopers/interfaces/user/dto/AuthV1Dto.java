@@ -0,0 +1,45 @@
+package com.loopers.interfaces.user.dto;
+
+import com.loopers.application.user.dto.AuthTokenResult;
+import jakarta.validation.constraints.NotBlank;
+
+public class AuthV1Dto {
+
+    public record LoginRequest(
+        @NotBlank(message = "로그인 ID는 필수 입력값입니다.")
+        String loginId,
+
+        @NotBlank(message = "비밀번호는 필수 입력값입니다.")
+        String password
+    ) {
+    }
+
+    public record RefreshRequest(
+        @NotBlank(message = "refresh 토큰은 필수 입력값입니다.")
+        String refreshToken
+    ) {
+    }
+
+    public record LogoutRequest(
+        @NotBlank(message = "refresh 토큰은 필수 입력값입니다.")
+        String refreshToken
+    ) {
+    }
+
+    public record TokenResponse(
+        String tokenType,
+        String accessToken,
+        long accessTokenExpiresAt,
+        String refreshToken,
+        long refreshTokenExpiresAt
+    ) {
+        public static TokenResponse from(AuthTokenResult result) {
+            return new TokenResponse(
+                    "Bearer",
+                    result.accessToken(),
+                    result.accessTokenExpiresAt(),
+                    result.refreshToken(),
+                    result.refreshTokenExpiresAt());
+        }
+    }
+}
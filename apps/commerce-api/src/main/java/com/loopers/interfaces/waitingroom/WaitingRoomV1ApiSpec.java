@@ -6,6 +6,7 @@ import com.loopers.interfaces.waitingroom.dto.WaitingRoomResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "WaitingRoom V1 API", description = "대기열 API 입니다.")
 public interface WaitingRoomV1ApiSpec {
@@ -30,6 +31,16 @@ public interface WaitingRoomV1ApiSpec {
         @Parameter(hidden = true) LoginUser loginUser
     );
 
+    @Operation(
+        summary = "순번 구독 (SSE)",
+        description = "현재 순번을 즉시 보내고, 이후 순번이 바뀔 때마다 position 이벤트를 보냅니다. "
+                + "입장 가능(ENTERED, 토큰 포함)하거나 대기열에서 나가면(NOT_IN_QUEUE) 스트림을 닫습니다. "
+                + "Polling 대신 사용하면 인증과 순번 조회가 연결 시 한 번만 일어납니다."
+    )
+    SseEmitter stream(
+        @Parameter(hidden = true) LoginUser loginUser
+    );
+
     @Operation(
         summary = "대기열 취소",
         description = "대기열에서 나갑니다. 대기열에 없어도 에러가 발생하지 않습니다."
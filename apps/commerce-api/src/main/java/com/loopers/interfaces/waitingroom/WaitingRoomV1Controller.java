@@ -6,18 +6,26 @@ import com.loopers.interfaces.api.ApiResponse;
 import com.loopers.interfaces.auth.Login;
 import com.loopers.interfaces.auth.LoginUser;
 import com.loopers.interfaces.waitingroom.dto.WaitingRoomResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/v1/queue")
 public class WaitingRoomV1Controller implements WaitingRoomV1ApiSpec {
 
+    private static final long STREAM_TIMEOUT_MILLIS = 10 * 60 * 1000L;
+    private static final String POSITION_EVENT = "position";
+
     private final WaitingRoomFacade waitingRoomFacade;
 
     @PostMapping("/enter")
@@ -34,10 +42,38 @@ public class WaitingRoomV1Controller implements WaitingRoomV1ApiSpec {
         return ApiResponse.success(WaitingRoomResponse.PositionResponse.from(result));
     }
 
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Override
+    public SseEmitter stream(@Login LoginUser loginUser) {
+        Long userId = loginUser.id();
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+        Consumer<WaitingRoomResult> listener = result -> send(emitter, result);
+        emitter.onCompletion(() -> waitingRoomFacade.unsubscribe(userId, listener));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> waitingRoomFacade.unsubscribe(userId, listener));
+
+        waitingRoomFacade.subscribe(userId, listener);
+        return emitter;
+    }
+
     @DeleteMapping("/cancel")
     @Override
     public ApiResponse<Object> cancel(@Login LoginUser loginUser) {
         waitingRoomFacade.cancel(loginUser.id());
         return ApiResponse.success();
     }
+
+    private void send(SseEmitter emitter, WaitingRoomResult result) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(POSITION_EVENT)
+                    .data(WaitingRoomResponse.PositionResponse.from(result), MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+            throw new UncheckedIOException(e);
+        }
+        if (!result.isWaiting()) {
+            emitter.complete();
+        }
+    }
 }
@@ -0,0 +1,85 @@
+package com.loopers.support.buffer;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 여러 생산자, 한 소비자용 고정 크기 링 버퍼. 락 없이 CAS 한 번으로 넣는다.
+ *
+ * - 생산자는 tail을 CAS로 한 칸 차지한 뒤 슬롯에 값을 쓴다. 가득 차 있으면 기다리지 않고 false를 돌려준다.
+ * - 소비자는 head부터 값이 채워진 슬롯까지만 꺼낸다. 칸을 차지하고 아직 쓰지 않은 생산자가 있으면 거기서 멈추고
+ *   다음 drain에서 이어 읽는다.
+ * - drainTo는 한 스레드에서만 호출해야 한다.
+ */
+public final class MpscRingBuffer<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * @param capacity 2의 거듭제곱으로 올림한다
+     */
+    public MpscRingBuffer(int capacity) {
+        if (capacity < 1 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("링 버퍼 크기는 1 이상 2^30 이하여야 합니다: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    public boolean offer(T element) {
+        if (element == null) {
+            throw new NullPointerException("링 버퍼에는 null을 넣을 수 없습니다.");
+        }
+        long claimed;
+        do {
+            claimed = tail.get();
+            if (claimed - head.get() > mask) {
+                return false;
+            }
+        } while (!tail.compareAndSet(claimed, claimed + 1));
+        slots.lazySet((int) (claimed & mask), element);
+        return true;
+    }
+
+    /**
+     * 최대 limit개를 꺼내 target에 붙인다.
+     *
+     * @return 꺼낸 수
+     */
+    public int drainTo(List<? super T> target, int limit) {
+        long current = head.get();
+        int drained = 0;
+        while (drained < limit) {
+            int index = (int) (current & mask);
+            T element = slots.get(index);
+            if (element == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            target.add(element);
+            current++;
+            drained++;
+        }
+        head.lazySet(current);
+        return drained;
+    }
+
+    /**
+     * 대략적인 크기. 칸만 차지하고 아직 쓰지 않은 값도 포함한다.
+     */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
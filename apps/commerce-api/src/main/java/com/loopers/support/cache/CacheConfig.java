@@ -11,41 +11,64 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    private static final int SCAN_BATCH_SIZE = 1000;
+
     @Bean
     public RedisCacheManager cacheManager(
             @Qualifier("redisConnectionMaster") LettuceConnectionFactory connectionFactory,
-            ObjectMapper objectMapper) {
-        ObjectMapper cacheMapper = objectMapper.copy()
-                .activateDefaultTyping(
-                        BasicPolymorphicTypeValidator.builder()
-                                .allowIfBaseType(Object.class)
-                                .build(),
-                        DefaultTyping.EVERYTHING,
-                        JsonTypeInfo.As.PROPERTY);
-
+            ObjectMapper objectMapper,
+            CacheSerializerProperties serializerProperties) {
+        CacheValueFormat format = serializerProperties.format();
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
+                .computePrefixWith(cacheName -> cacheName + format.getKeySeparator())
                 .serializeValuesWith(
                         RedisSerializationContext.SerializationPair
-                                .fromSerializer(new GenericJackson2JsonRedisSerializer(cacheMapper)));
+                                .fromSerializer(valueSerializer(objectMapper, serializerProperties)));
 
         Map<String, RedisCacheConfiguration> cacheConfigs = Arrays.stream(CacheType.values())
                 .collect(Collectors.toMap(
                         CacheType::getCacheName,
                         type -> defaultConfig.entryTtl(type.getTtl())));
 
+        // allEntries 무효화가 KEYS 대신 SCAN 커서로 나눠 지우도록 한다
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(
+                connectionFactory, BatchStrategies.scan(SCAN_BATCH_SIZE));
+
         return RedisCacheManager.builder(connectionFactory)
+                .cacheWriter(cacheWriter)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigs)
                 .build();
     }
+
+    static RedisSerializer<Object> valueSerializer(ObjectMapper objectMapper, CacheSerializerProperties properties) {
+        ObjectMapper typedMapper = withDefaultTyping(objectMapper);
+        return switch (properties.format()) {
+            case JSON -> new GenericJackson2JsonRedisSerializer(typedMapper);
+            case SMILE -> new CompactCacheValueSerializer(typedMapper, properties.compressionThresholdBytes());
+        };
+    }
+
+    private static ObjectMapper withDefaultTyping(ObjectMapper objectMapper) {
+        return objectMapper.copy()
+                .activateDefaultTyping(
+                        BasicPolymorphicTypeValidator.builder()
+                                .allowIfBaseType(Object.class)
+                                .build(),
+                        DefaultTyping.EVERYTHING,
+                        JsonTypeInfo.As.PROPERTY);
+    }
 }
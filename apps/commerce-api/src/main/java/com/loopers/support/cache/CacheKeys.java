@@ -0,0 +1,20 @@
+package com.loopers.support.cache;
+
+import java.time.Duration;
+
+/**
+ * RedisCacheHelper로 키 단위로 읽고 지우는 캐시의 키와 TTL. Spring Cache 이름은 CacheType에 둔다.
+ */
+public final class CacheKeys {
+
+    public static final Duration BRAND_NAME_TTL = Duration.ofHours(1);
+
+    private static final String BRAND_NAME_PREFIX = "brand:name:";
+
+    private CacheKeys() {
+    }
+
+    public static String brandName(Long brandId) {
+        return BRAND_NAME_PREFIX + brandId;
+    }
+}
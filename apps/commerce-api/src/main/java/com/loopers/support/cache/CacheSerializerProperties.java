@@ -0,0 +1,17 @@
+package com.loopers.support.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Spring Cache 값 직렬화 설정 (cache.serializer.*).
+ */
+@ConfigurationProperties(prefix = "cache.serializer")
+public record CacheSerializerProperties(
+        CacheValueFormat format,
+        int compressionThresholdBytes) {
+
+    public CacheSerializerProperties {
+        if (format == null) format = CacheValueFormat.SMILE;
+        if (compressionThresholdBytes <= 0) compressionThresholdBytes = 1024;
+    }
+}
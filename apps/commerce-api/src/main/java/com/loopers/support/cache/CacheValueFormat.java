@@ -0,0 +1,18 @@
+package com.loopers.support.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Spring Cache 값 저장 형식.
+ * 형식마다 키 접두사를 달리해, 롤링 배포 중 서로 다른 형식을 쓰는 인스턴스가 상대의 값을 읽지 않게 한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CacheValueFormat {
+
+    JSON("::"),
+    SMILE(":bin::");
+
+    private final String keySeparator;
+}
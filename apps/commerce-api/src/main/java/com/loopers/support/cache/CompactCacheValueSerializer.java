@@ -0,0 +1,111 @@
+package com.loopers.support.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Smile(이진 JSON) + LZ4 캐시 값 직렬화기.
+ *
+ * - 타입 정보는 JSON 형식과 같이 싣되, Smile의 공유 문자열 참조로 반복되는 클래스명/필드명은 첫 등장 이후 1~2바이트가 된다.
+ * - 직렬화 결과가 compressionThresholdBytes 이상이고 LZ4로 줄어들 때만 압축한다.
+ * - 값 앞에 [MAGIC][VERSION][FLAGS] 헤더를 둔다. 모르는 헤더는 역직렬화하지 않고 null을 돌려
+ *   캐시 미스로 처리되게 한다. 형식을 바꿔 배포하는 동안 구버전/신버전 인스턴스가 서로의 값을 덮어쓸 뿐 실패하지 않는다.
+ *
+ * 레이아웃: MAGIC(1) VERSION(1) FLAGS(1) [원본 길이(4), FLAGS에 LZ4가 있을 때] payload
+ */
+public class CompactCacheValueSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xCB;
+    static final byte VERSION = 1;
+    private static final byte FLAG_LZ4 = 0x01;
+    private static final int HEADER_SIZE = 3;
+    private static final int LENGTH_SIZE = Integer.BYTES;
+
+    private final GenericJackson2JsonRedisSerializer delegate;
+    private final int compressionThresholdBytes;
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor decompressor;
+
+    /**
+     * @param typedMapper 기본 타이핑이 켜진 JSON ObjectMapper. 설정은 유지한 채 Smile 팩토리로 복제해 쓴다.
+     */
+    public CompactCacheValueSerializer(ObjectMapper typedMapper, int compressionThresholdBytes) {
+        SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        this.delegate = new GenericJackson2JsonRedisSerializer(typedMapper.copyWith(smileFactory));
+        this.compressionThresholdBytes = compressionThresholdBytes;
+        LZ4Factory factory = LZ4Factory.fastestInstance();
+        this.compressor = factory.fastCompressor();
+        this.decompressor = factory.fastDecompressor();
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        byte[] payload = delegate.serialize(value);
+        if (payload.length >= compressionThresholdBytes) {
+            byte[] compressed = compress(payload);
+            if (compressed != null) {
+                return compressed;
+            }
+        }
+        byte[] out = new byte[HEADER_SIZE + payload.length];
+        writeHeader(out, (byte) 0);
+        System.arraycopy(payload, 0, out, HEADER_SIZE, payload.length);
+        return out;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length < HEADER_SIZE) {
+            return null;
+        }
+        if (bytes[0] != MAGIC || bytes[1] != VERSION) {
+            return null;
+        }
+        if ((bytes[2] & FLAG_LZ4) == 0) {
+            return delegate.deserialize(Arrays.copyOfRange(bytes, HEADER_SIZE, bytes.length));
+        }
+        try {
+            int originalLength = ByteBuffer.wrap(bytes, HEADER_SIZE, LENGTH_SIZE).getInt();
+            byte[] payload = decompressor.decompress(bytes, HEADER_SIZE + LENGTH_SIZE, originalLength);
+            return delegate.deserialize(payload);
+        } catch (RuntimeException e) {
+            throw new SerializationException("캐시 값 LZ4 해제 실패", e);
+        }
+    }
+
+    /**
+     * 압축해도 줄지 않으면 null.
+     */
+    private byte[] compress(byte[] payload) {
+        int offset = HEADER_SIZE + LENGTH_SIZE;
+        int maxLength = compressor.maxCompressedLength(payload.length);
+        byte[] out = new byte[offset + maxLength];
+        int written = compressor.compress(payload, 0, payload.length, out, offset, maxLength);
+        if (LENGTH_SIZE + written >= payload.length) {
+            return null;
+        }
+        writeHeader(out, FLAG_LZ4);
+        ByteBuffer.wrap(out, HEADER_SIZE, LENGTH_SIZE).putInt(payload.length);
+        return Arrays.copyOf(out, offset + written);
+    }
+
+    private static void writeHeader(byte[] out, byte flags) {
+        out[0] = MAGIC;
+        out[1] = VERSION;
+        out[2] = flags;
+    }
+}
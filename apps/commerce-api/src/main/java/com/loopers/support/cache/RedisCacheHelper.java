@@ -3,64 +3,267 @@ package com.loopers.support.cache;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loopers.config.redis.RedisConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+/**
+ * JSON 값 캐시용 RedisTemplate 헬퍼.
+ *
+ * - 여러 키는 MGET 한 번, 여러 값 저장은 파이프라인 한 번으로 처리한다.
+ * - 패턴 삭제는 KEYS 대신 SCAN 커서를 배치 단위로 돌며 UNLINK한다. Redis를 오래 붙잡지 않고, 메모리 해제는 백그라운드에서 한다.
+ * - 모든 연산은 redis.cache.helper.duration{operation} 타이머로 지연을 기록한다.
+ * - Redis 장애는 로그만 남기고 삼킨다. 조회는 빈 결과를 돌려 DB로 넘어가게 한다.
+ */
 @Slf4j
 @Component
 public class RedisCacheHelper {
 
+    private static final String METRIC_NAME = "redis.cache.helper.duration";
+    private static final int SCAN_BATCH_SIZE = 500;
+
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
+    private final Map<Operation, Timer> timers = new EnumMap<>(Operation.class);
 
     public RedisCacheHelper(
             @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            MeterRegistry registry) {
         this.redisTemplate = redisTemplate;
         this.objectMapper = objectMapper;
+        for (Operation operation : Operation.values()) {
+            timers.put(operation, Timer.builder(METRIC_NAME)
+                    .tag("operation", operation.tag)
+                    .description("RedisCacheHelper 연산 지연")
+                    .register(registry));
+        }
     }
 
     public <T> Optional<T> get(String key, TypeReference<T> typeRef) {
-        try {
-            String json = redisTemplate.opsForValue().get(key);
-            if (json == null) return Optional.empty();
-            return Optional.of(objectMapper.readValue(json, typeRef));
-        } catch (Exception e) {
-            log.warn("Redis GET 실패, DB 폴백: key={}", key, e);
-            return Optional.empty();
+        return timers.get(Operation.GET).record(() -> {
+            try {
+                String json = redisTemplate.opsForValue().get(key);
+                if (json == null) return Optional.<T>empty();
+                return Optional.of(objectMapper.readValue(json, typeRef));
+            } catch (Exception e) {
+                log.warn("Redis GET 실패, DB 폴백: key={}", key, e);
+                return Optional.<T>empty();
+            }
+        });
+    }
+
+    /**
+     * MGET 한 번으로 읽는다. 없는 키와 역직렬화에 실패한 키는 결과에서 빠진다.
+     */
+    public <T> Map<String, T> multiGet(Collection<String> keys, TypeReference<T> typeRef) {
+        if (keys.isEmpty()) {
+            return Map.of();
         }
+        return timers.get(Operation.MULTI_GET).record(() -> {
+            List<String> keyList = List.copyOf(keys);
+            List<String> values;
+            try {
+                values = redisTemplate.opsForValue().multiGet(keyList);
+            } catch (Exception e) {
+                log.warn("Redis MGET 실패, DB 폴백: keys={}", keyList.size(), e);
+                return Map.<String, T>of();
+            }
+            Map<String, T> found = new LinkedHashMap<>();
+            if (values == null) {
+                return found;
+            }
+            for (int i = 0; i < keyList.size(); i++) {
+                String json = values.get(i);
+                if (json == null) {
+                    continue;
+                }
+                try {
+                    found.put(keyList.get(i), objectMapper.readValue(json, typeRef));
+                } catch (Exception e) {
+                    log.warn("Redis 값 역직렬화 실패, 무시: key={}", keyList.get(i), e);
+                }
+            }
+            return found;
+        });
     }
 
     public void set(String key, Object value, Duration ttl) {
-        try {
-            redisTemplate.opsForValue().set(
-                    key, objectMapper.writeValueAsString(value), ttl);
-        } catch (Exception e) {
-            log.warn("Redis SET 실패, 무시: key={}", key, e);
+        timers.get(Operation.SET).record(() -> {
+            try {
+                redisTemplate.opsForValue().set(
+                        key, objectMapper.writeValueAsString(value), ttl);
+            } catch (Exception e) {
+                log.warn("Redis SET 실패, 무시: key={}", key, e);
+            }
+        });
+    }
+
+    /**
+     * 같은 TTL로 여러 값을 파이프라인 한 번에 SET EX 한다.
+     */
+    public void multiSet(Map<String, ?> values, Duration ttl) {
+        if (values.isEmpty()) {
+            return;
         }
+        timers.get(Operation.MULTI_SET).record(() -> {
+            try {
+                Map<String, String> serialized = new LinkedHashMap<>();
+                for (Map.Entry<String, ?> entry : values.entrySet()) {
+                    serialized.put(entry.getKey(), objectMapper.writeValueAsString(entry.getValue()));
+                }
+                redisTemplate.executePipelined(new SessionCallback<Object>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                        RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                        serialized.forEach((key, json) -> ops.opsForValue().set(key, json, ttl));
+                        return null;
+                    }
+                });
+            } catch (Exception e) {
+                log.warn("Redis 파이프라인 SET 실패, 무시: keys={}", values.size(), e);
+            }
+        });
+    }
+
+    /**
+     * 여러 ID를 한 번에 캐시에서 읽고, 없는 ID만 loader로 한 번에 불러와 파이프라인으로 채운다.
+     * loader 결과에 없는 ID는 캐시하지 않고 결과에서도 빠진다.
+     *
+     * @return 입력 ID 순서를 따르는 ID → 값
+     */
+    public <K, V> Map<K, V> getAll(
+            Collection<K> ids,
+            Function<K, String> keyOf,
+            TypeReference<V> typeRef,
+            Function<List<K>, Map<K, V>> loader,
+            Duration ttl) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<K, String> keyById = new LinkedHashMap<>();
+        ids.forEach(id -> keyById.put(id, keyOf.apply(id)));
+        Map<String, V> cached = multiGet(keyById.values(), typeRef);
+
+        List<K> missing = new ArrayList<>();
+        keyById.forEach((id, key) -> {
+            if (!cached.containsKey(key)) {
+                missing.add(id);
+            }
+        });
+        Map<K, V> loaded = missing.isEmpty() ? Map.of() : loader.apply(missing);
+        Map<String, V> toCache = new LinkedHashMap<>();
+        loaded.forEach((id, value) -> {
+            String key = keyById.get(id);
+            if (key != null && value != null) {
+                toCache.put(key, value);
+            }
+        });
+        multiSet(toCache, ttl);
+
+        Map<K, V> result = new LinkedHashMap<>();
+        keyById.forEach((id, key) -> {
+            V value = cached.containsKey(key) ? cached.get(key) : loaded.get(id);
+            if (value != null) {
+                result.put(id, value);
+            }
+        });
+        return result;
     }
 
     public void delete(String key) {
-        try {
-            redisTemplate.delete(key);
-        } catch (Exception e) {
-            log.warn("Redis DELETE 실패, 무시: key={}", key, e);
+        timers.get(Operation.DELETE).record(() -> {
+            try {
+                redisTemplate.unlink(key);
+            } catch (Exception e) {
+                log.warn("Redis DELETE 실패, 무시: key={}", key, e);
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 뒤에 지운다. 커밋 전에 지우면 그 사이 읽기가 옛 값을 다시 채울 수 있다.
+     */
+    public void deleteAfterCommit(String key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            delete(key);
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                delete(key);
+            }
+        });
     }
 
-    public void deleteByPattern(String pattern) {
-        try {
-            Set<String> keys = redisTemplate.keys(pattern);
-            if (keys != null && !keys.isEmpty()) {
-                redisTemplate.delete(keys);
+    /**
+     * SCAN으로 SCAN_BATCH_SIZE개씩 모아 UNLINK한다. 순회 중 새로 생긴 키는 지워지지 않을 수 있다.
+     *
+     * @return 삭제한 키 수
+     */
+    public long deleteByPattern(String pattern) {
+        Timer.Sample sample = Timer.start();
+        long deleted = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_BATCH_SIZE).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> batch = new ArrayList<>(SCAN_BATCH_SIZE);
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == SCAN_BATCH_SIZE) {
+                    deleted += unlink(batch);
+                    batch.clear();
+                }
             }
+            deleted += unlink(batch);
         } catch (Exception e) {
             log.warn("Redis DELETE 패턴 실패, 무시: pattern={}", pattern, e);
+        } finally {
+            sample.stop(timers.get(Operation.DELETE_PATTERN));
+        }
+        return deleted;
+    }
+
+    private long unlink(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Long unlinked = redisTemplate.unlink(keys);
+        return unlinked == null ? 0 : unlinked;
+    }
+
+    private enum Operation {
+        GET("get"),
+        MULTI_GET("mget"),
+        SET("set"),
+        MULTI_SET("mset"),
+        DELETE("delete"),
+        DELETE_PATTERN("delete_pattern");
+
+        private final String tag;
+
+        Operation(String tag) {
+            this.tag = tag;
         }
     }
 }
@@ -0,0 +1,34 @@
+package com.loopers.support.config;
+
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * @Scheduled 작업용 스케줄러.
+ *
+ * - taskScheduler: 기본 스케줄러. spring.task.scheduling.* 설정을 따르며 scheduler를 지정하지 않은 작업이 쓴다.
+ * - waitingRoomTaskScheduler: 대기열 리더 임대 갱신과 입장 틱 전용. 콜백 드레인이나 좋아요 flush가 느려져도
+ *   갱신이 밀려 리더가 스스로 물러나거나 입장 간격이 어긋나지 않게 두 작업을 떼어 둔다.
+ */
+@Configuration
+public class SchedulingConfig {
+
+    public static final String WAITING_ROOM_SCHEDULER = "waitingRoomTaskScheduler";
+
+    private static final int WAITING_ROOM_POOL_SIZE = 2;
+
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(name = WAITING_ROOM_SCHEDULER)
+    public ThreadPoolTaskScheduler waitingRoomTaskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(WAITING_ROOM_POOL_SIZE);
+        scheduler.setThreadNamePrefix("waiting-room-scheduling-");
+        return scheduler;
+    }
+}
@@ -0,0 +1,103 @@
+package com.loopers.support.lease;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+/**
+ * 여러 인스턴스 중 한 대만 작업하도록 고르는 Redis 임대(lease).
+ *
+ * - acquire는 키가 비어 있으면 SET NX PX로 임대를 얻고, 이미 내 것이면 만료를 leaseMs로 연장한다.
+ * - 로컬에서는 마지막 갱신 후 (leaseMs - safetyMarginMs)까지만 임대를 가진 것으로 본다.
+ *   갱신이 늦어져도 Redis 임대가 풀리기 전에 스스로 물러나므로 두 대가 동시에 리더가 되지 않는다.
+ * - 얻거나 잃을 때마다 로그를 남기고 onTransition에 "acquired"/"lost"를 넘긴다.
+ * - release는 내 임대일 때만 키를 지워, 다른 인스턴스가 다음 갱신에 바로 이어받게 한다.
+ */
+@Slf4j
+public class RedisLease {
+
+    private static final DefaultRedisScript<Long> ACQUIRE_SCRIPT = longScript("scripts/scheduler-lease-acquire.lua");
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = longScript("scripts/scheduler-lease-release.lua");
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String key;
+    private final long leaseMs;
+    private final long safetyMarginMs;
+    private final Consumer<String> onTransition;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private volatile long heldUntilMillis;
+    private boolean held;
+
+    public RedisLease(
+            RedisTemplate<String, String> redisTemplate,
+            String key,
+            long leaseMs,
+            long safetyMarginMs,
+            Consumer<String> onTransition) {
+        if (safetyMarginMs < 0 || safetyMarginMs >= leaseMs) {
+            throw new IllegalArgumentException("임대 여유 시간은 0 이상, 임대 시간 미만이어야 합니다: key=" + key);
+        }
+        this.redisTemplate = redisTemplate;
+        this.key = key;
+        this.leaseMs = leaseMs;
+        this.safetyMarginMs = safetyMarginMs;
+        this.onTransition = onTransition;
+    }
+
+    /**
+     * 임대를 얻거나 연장한다. Redis 오류는 임대를 잃은 것으로 본다.
+     */
+    public synchronized boolean acquire() {
+        long now = System.currentTimeMillis();
+        boolean acquired;
+        try {
+            Long result = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(key), instanceId, String.valueOf(leaseMs));
+            acquired = result != null && result == 1L;
+        } catch (Exception e) {
+            log.warn("[Lease] 임대 갱신 실패 — 임대를 내려놓는다: key={}", key, e);
+            acquired = false;
+        }
+        heldUntilMillis = acquired ? now + leaseMs - safetyMarginMs : 0;
+        recordTransition(acquired);
+        return acquired;
+    }
+
+    public boolean isHeld() {
+        return System.currentTimeMillis() < heldUntilMillis;
+    }
+
+    public synchronized void release() {
+        if (!held) {
+            return;
+        }
+        heldUntilMillis = 0;
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key), instanceId);
+        } catch (Exception e) {
+            log.warn("[Lease] 임대 반납 실패 — 임대 만료 후 넘어간다: key={}", key, e);
+        }
+        recordTransition(false);
+    }
+
+    private void recordTransition(boolean nowHeld) {
+        if (held == nowHeld) {
+            return;
+        }
+        held = nowHeld;
+        String transition = nowHeld ? "acquired" : "lost";
+        onTransition.accept(transition);
+        log.info("[Lease] 임대 {} — key={}, instance={}", transition, key, instanceId);
+    }
+
+    private static DefaultRedisScript<Long> longScript(String location) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(location));
+        script.setResultType(Long.class);
+        return script;
+    }
+}
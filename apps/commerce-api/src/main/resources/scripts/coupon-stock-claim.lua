@@ -0,0 +1,21 @@
+local issuedKey = KEYS[1]
+local metaKey = KEYS[2]
+local userId = ARGV[1]
+
+local shardCount = tonumber(redis.call('HGET', metaKey, 'shards'))
+if not shardCount then
+    return -1
+end
+
+if redis.call('SADD', issuedKey, userId) == 0 then
+    return -2
+end
+
+if redis.call('PTTL', issuedKey) == -1 then
+    local ttl = redis.call('PTTL', metaKey)
+    if ttl > 0 then
+        redis.call('PEXPIRE', issuedKey, ttl)
+    end
+end
+
+return shardCount
@@ -0,0 +1,7 @@
+local stockKey = KEYS[1]
+
+if redis.call('EXISTS', stockKey) == 0 then
+    return -1
+end
+
+return redis.call('INCR', stockKey)
@@ -0,0 +1,8 @@
+local stockKey = KEYS[1]
+
+local stock = tonumber(redis.call('GET', stockKey))
+if not stock or stock <= 0 then
+    return -1
+end
+
+return redis.call('DECR', stockKey)
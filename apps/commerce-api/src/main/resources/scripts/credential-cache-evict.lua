@@ -0,0 +1,9 @@
+local cacheKey = KEYS[1]
+local versionField = ARGV[1]
+local version = ARGV[2]
+local ttlSeconds = ARGV[3]
+
+redis.call('DEL', cacheKey)
+redis.call('HSET', cacheKey, versionField, version)
+redis.call('EXPIRE', cacheKey, ttlSeconds)
+return 1
@@ -0,0 +1,15 @@
+local cacheKey = KEYS[1]
+local versionField = ARGV[1]
+local version = ARGV[2]
+local credentialField = ARGV[3]
+local value = ARGV[4]
+local ttlSeconds = ARGV[5]
+
+local current = redis.call('HGET', cacheKey, versionField)
+if current and current ~= version then
+    return 0
+end
+
+redis.call('HSET', cacheKey, versionField, version, credentialField, value)
+redis.call('EXPIRE', cacheKey, ttlSeconds)
+return 1
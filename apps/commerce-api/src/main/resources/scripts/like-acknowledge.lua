@@ -0,0 +1,20 @@
+local journalKey = KEYS[1]
+local pendingKey = KEYS[2]
+
+local acknowledged = 0
+for _, entryId in ipairs(ARGV) do
+    local entries = redis.call('XRANGE', journalKey, entryId, entryId)
+    if #entries == 1 then
+        local fields = entries[1][2]
+        for i = 1, #fields, 2 do
+            if fields[i] == 'p' then
+                if redis.call('HINCRBY', pendingKey, fields[i + 1], -1) <= 0 then
+                    redis.call('HDEL', pendingKey, fields[i + 1])
+                end
+            end
+        end
+        redis.call('XDEL', journalKey, entryId)
+        acknowledged = acknowledged + 1
+    end
+end
+return acknowledged
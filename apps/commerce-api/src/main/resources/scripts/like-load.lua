@@ -0,0 +1,11 @@
+local loadingKey = KEYS[1]
+local usersKey = KEYS[2]
+
+if redis.call('EXISTS', usersKey) == 1 then
+    redis.call('DEL', loadingKey)
+    return 0
+end
+
+redis.call('PERSIST', loadingKey)
+redis.call('RENAME', loadingKey, usersKey)
+return 1
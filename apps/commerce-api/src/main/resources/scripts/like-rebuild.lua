@@ -0,0 +1,21 @@
+local loadingKey = KEYS[1]
+local usersKey = KEYS[2]
+local versionKey = KEYS[3]
+local productId = ARGV[1]
+local expectedVersion = ARGV[2]
+
+local version = redis.call('HGET', versionKey, productId) or '0'
+if version ~= expectedVersion or redis.call('EXISTS', usersKey) == 0 then
+    redis.call('DEL', loadingKey)
+    return 0
+end
+
+if redis.call('SCARD', usersKey) == redis.call('SCARD', loadingKey)
+        and #redis.call('SDIFF', usersKey, loadingKey) == 0 then
+    redis.call('DEL', loadingKey)
+    return 0
+end
+
+redis.call('PERSIST', loadingKey)
+redis.call('RENAME', loadingKey, usersKey)
+return 1
@@ -0,0 +1,9 @@
+local states = {}
+for i, usersKey in ipairs(KEYS) do
+    if redis.call('EXISTS', usersKey) == 0 then
+        states[i] = -1
+    else
+        states[i] = redis.call('SISMEMBER', usersKey, ARGV[i])
+    end
+end
+return states
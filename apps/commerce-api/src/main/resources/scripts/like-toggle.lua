@@ -0,0 +1,26 @@
+local usersKey = KEYS[1]
+local journalKey = KEYS[2]
+local versionKey = KEYS[3]
+local pendingKey = KEYS[4]
+local userId = ARGV[1]
+local productId = ARGV[2]
+local liked = ARGV[3]
+local changedAt = ARGV[4]
+
+if redis.call('EXISTS', usersKey) == 0 then
+    return -1
+end
+
+local changed
+if liked == '1' then
+    changed = redis.call('SADD', usersKey, userId)
+else
+    changed = redis.call('SREM', usersKey, userId)
+end
+
+if changed == 1 then
+    redis.call('XADD', journalKey, '*', 'u', userId, 'p', productId, 'op', liked, 't', changedAt)
+    redis.call('HINCRBY', versionKey, productId, 1)
+    redis.call('HINCRBY', pendingKey, productId, 1)
+end
+return changed
@@ -0,0 +1,16 @@
+local leaseKey = KEYS[1]
+local owner = ARGV[1]
+local leaseMs = tonumber(ARGV[2])
+
+local current = redis.call('GET', leaseKey)
+if not current then
+    redis.call('SET', leaseKey, owner, 'PX', leaseMs)
+    return 1
+end
+
+if current == owner then
+    redis.call('PEXPIRE', leaseKey, leaseMs)
+    return 1
+end
+
+return 0
@@ -0,0 +1,8 @@
+local leaseKey = KEYS[1]
+local owner = ARGV[1]
+
+if redis.call('GET', leaseKey) == owner then
+    return redis.call('DEL', leaseKey)
+end
+
+return 0
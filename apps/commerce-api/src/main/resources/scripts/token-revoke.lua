@@ -0,0 +1,11 @@
+local revokedKey = KEYS[1]
+local logKey = KEYS[2]
+local tokenId = ARGV[1]
+local expiresAt = ARGV[2]
+local minLogId = ARGV[3]
+
+local added = redis.call('ZADD', revokedKey, 'NX', expiresAt, tokenId)
+if added == 1 then
+    redis.call('XADD', logKey, 'MINID', '~', minLogId, '*', 't', tokenId)
+end
+return added
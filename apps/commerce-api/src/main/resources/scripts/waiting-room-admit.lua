@@ -0,0 +1,32 @@
+-- 토큰 키는 유저별로 스크립트 안에서 조립한다.
+-- 샤딩 시 모든 키와 토큰 키 접두사가 같은 hash tag를 가져 한 슬롯 안에서만 실행된다. (샤드 1개면 단일 노드/Replica 전제)
+local queueKey = KEYS[1]
+local activeSetKey = KEYS[2]
+local admittedSeqKey = KEYS[3]
+local count = tonumber(ARGV[1])
+local tokenKeyPrefix = ARGV[2]
+local ttlSeconds = tonumber(ARGV[3])
+local now = tonumber(ARGV[4])
+local tokenOffset = 4
+
+local popped = redis.call('ZPOPMIN', queueKey, count)
+local expireAt = now + ttlSeconds * 1000
+local admitted = {}
+
+for i = 1, #popped, 2 do
+    local userId = popped[i]
+    local enteredAt = popped[i + 1]
+    local token = ARGV[tokenOffset + (i + 1) / 2]
+
+    redis.call('SET', tokenKeyPrefix .. userId, token, 'EX', ttlSeconds)
+    redis.call('ZADD', activeSetKey, expireAt, userId)
+
+    admitted[#admitted + 1] = userId
+    admitted[#admitted + 1] = enteredAt
+end
+
+if #admitted > 0 then
+    redis.call('INCRBY', admittedSeqKey, #admitted / 2)
+end
+
+return admitted
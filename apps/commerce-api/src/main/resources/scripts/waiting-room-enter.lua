@@ -0,0 +1,10 @@
+local queueKey = KEYS[1]
+local userId = ARGV[1]
+local timestamp = tonumber(ARGV[2])
+
+redis.call('ZADD', queueKey, 'NX', timestamp, userId)
+
+local rank = redis.call('ZRANK', queueKey, userId)
+local total = redis.call('ZCARD', queueKey)
+local score = redis.call('ZSCORE', queueKey, userId)
+return { tostring(rank), tostring(total), score }
@@ -0,0 +1,17 @@
+local tokenKey = KEYS[1]
+local queueKey = KEYS[2]
+local userId = ARGV[1]
+
+local token = redis.call('GET', tokenKey)
+if token then
+    return { 'ENTERED', token }
+end
+
+local rank = redis.call('ZRANK', queueKey, userId)
+if not rank then
+    return { 'NOT_IN_QUEUE' }
+end
+
+local total = redis.call('ZCARD', queueKey)
+local score = redis.call('ZSCORE', queueKey, userId)
+return { 'WAITING', tostring(rank), tostring(total), score }
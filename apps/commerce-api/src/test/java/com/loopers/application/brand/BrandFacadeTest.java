@@ -9,6 +9,7 @@ import com.loopers.application.brand.dto.BrandResult;
 import com.loopers.domain.brand.BrandModel;
 import com.loopers.domain.brand.BrandService;
 import com.loopers.domain.product.ProductService;
+import com.loopers.support.cache.RedisCacheHelper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -27,6 +28,9 @@ class BrandFacadeTest {
     @Mock
     private ProductService productService;
 
+    @Mock
+    private RedisCacheHelper cacheHelper;
+
     @InjectMocks
     private BrandFacade brandFacade;
 
@@ -73,7 +77,7 @@ class BrandFacadeTest {
     class Update {
 
         @Test
-        @DisplayName("id와 Command의 name을 BrandService.update에 전달한다")
+        @DisplayName("id와 Command의 name을 BrandService.update에 전달하고 브랜드명 캐시를 지운다")
         void update_호출_검증() {
             // arrange
             BrandCriteria.Update criteria = new BrandCriteria.Update("아디다스");
@@ -83,6 +87,7 @@ class BrandFacadeTest {
 
             // assert
             verify(brandService).update(1L, "아디다스");
+            verify(cacheHelper).deleteAfterCommit("brand:name:1");
         }
     }
 
@@ -99,6 +104,7 @@ class BrandFacadeTest {
             // assert
             verify(brandService).delete(1L);
             verify(productService).deleteAllByBrandId(1L);
+            verify(cacheHelper).deleteAfterCommit("brand:name:1");
         }
     }
 }
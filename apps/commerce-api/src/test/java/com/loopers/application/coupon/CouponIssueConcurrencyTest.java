@@ -65,7 +65,7 @@ class CouponIssueConcurrencyTest {
         CouponModel coupon = couponJpaRepository.save(CouponModel.create(
                 "선착순 쿠폰", CouponDiscountType.FIXED, 5000L,
                 null, totalQuantity, ZonedDateTime.now().plusDays(30)));
-        couponIssueLimiter.registerTotalQuantity(coupon.getId(), totalQuantity);
+        couponIssueLimiter.registerTotalQuantity(coupon.getId(), totalQuantity, coupon.getExpiredAt());
 
         ExecutorService executorService = Executors.newFixedThreadPool(32);
         CountDownLatch latch = new CountDownLatch(threadCount);
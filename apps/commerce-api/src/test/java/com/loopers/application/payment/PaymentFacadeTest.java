@@ -6,7 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -15,6 +17,8 @@ import com.loopers.domain.order.OrderErrorCode;
 import com.loopers.domain.order.OrderModel;
 import com.loopers.domain.order.OrderService;
 import com.loopers.domain.payment.CardType;
+import com.loopers.domain.payment.PaymentCallbackBatch;
+import com.loopers.domain.payment.PaymentCallbackService;
 import com.loopers.domain.payment.PaymentGateway;
 import com.loopers.domain.payment.PaymentModel;
 import com.loopers.domain.payment.PaymentService;
@@ -24,6 +28,7 @@ import com.loopers.domain.payment.PgPaymentResult;
 import com.loopers.domain.payment.PgRequestStatus;
 import com.loopers.support.error.CoreException;
 import java.time.ZonedDateTime;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -36,6 +41,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 class PaymentFacadeTest {
 
     @Mock PaymentService paymentService;
+    @Mock PaymentCallbackService paymentCallbackService;
     @Mock PaymentGateway paymentGateway;
     @Mock OrderService orderService;
     @InjectMocks PaymentFacade paymentFacade;
@@ -110,68 +116,132 @@ class PaymentFacadeTest {
         }
     }
 
-    @DisplayName("콜백을 처리할 때, ")
+    @DisplayName("콜백을 수신할 때, ")
     @Nested
-    class HandleCallback {
+    class ReceiveCallback {
 
-        @DisplayName("SUCCESS 콜백이면 Payment 완료 후 Order를 완료한다.")
+        @DisplayName("수신함에 적재만 하고 결제/주문은 건드리지 않는다.")
         @Test
-        void handleCallback_success_completesPaymentAndOrder() {
+        void receiveCallback_appendsToInbox() {
+            // act
+            paymentFacade.receiveCallback("PK_001", "SUCCESS", "정상 승인되었습니다.");
+
+            // assert
+            verify(paymentCallbackService).receive("PK_001", "SUCCESS", "정상 승인되었습니다.");
+            verify(orderService, never()).completeOrder(any());
+        }
+    }
+
+    @DisplayName("수신된 콜백을 배치로 반영할 때, ")
+    @Nested
+    class ApplyPendingCallbacks {
+
+        @DisplayName("완료된 결제의 주문만 모아 한 번에 완료한다.")
+        @Test
+        void applyPendingCallbacks_completesOrdersInBulk() {
             // arrange
-            PaymentModel payment = mockPayment(1L, 1L, 50000, PaymentStatus.COMPLETED);
-            when(paymentService.updateCompleted("PK_001")).thenReturn(payment);
+            PaymentModel completed1 = mockPayment(1L, 1L, 50000, PaymentStatus.COMPLETED);
+            PaymentModel completed2 = mockPayment(2L, 2L, 30000, PaymentStatus.COMPLETED);
+            PaymentModel failed = mockPayment(3L, 3L, 10000, PaymentStatus.FAILED);
+            when(paymentCallbackService.applyPending(100))
+                    .thenReturn(new PaymentCallbackBatch(4, List.of(completed1, completed2, failed)));
+            when(orderService.completeOrders(List.of(1L, 2L))).thenReturn(List.of());
 
             // act
-            paymentFacade.handleCallback("PK_001", "SUCCESS", "정상 승인되었습니다.");
+            int claimed = paymentFacade.applyPendingCallbacks(100);
 
             // assert
-            verify(paymentService).updateCompleted("PK_001");
-            verify(orderService).completeOrder(1L);
+            assertThat(claimed).isEqualTo(4);
+            verify(orderService).completeOrders(List.of(1L, 2L));
+            verify(orderService, never()).completeOrder(any());
         }
 
-        @DisplayName("FAILED 콜백이면 Payment를 실패 처리한다.")
+        @DisplayName("FAILED 결제만 있으면 주문을 완료하지 않는다.")
         @Test
-        void handleCallback_failed_failsPayment() {
+        void applyPendingCallbacks_failedOnly_doesNotCompleteOrders() {
             // arrange
-            PaymentModel payment = mockPayment(1L, 1L, 50000, PaymentStatus.FAILED);
-            when(paymentService.updateFailed(
-                    eq("PK_002"), eq("LIMIT_EXCEEDED"), anyString()))
-                    .thenReturn(payment);
+            PaymentModel failed = mockPayment(1L, 1L, 50000, PaymentStatus.FAILED);
+            when(paymentCallbackService.applyPending(100))
+                    .thenReturn(new PaymentCallbackBatch(1, List.of(failed)));
 
             // act
-            paymentFacade.handleCallback("PK_002", "FAILED",
-                    "한도초과입니다. 다른 카드를 선택해주세요.");
+            paymentFacade.applyPendingCallbacks(100);
 
             // assert
-            verify(paymentService).updateFailed(
-                    eq("PK_002"), eq("LIMIT_EXCEEDED"), anyString());
+            verify(orderService, never()).completeOrders(any());
             verify(orderService, never()).completeOrder(any());
         }
 
-        @DisplayName("SUCCESS 콜백이지만 주문이 이미 취소됐으면 로그를 남긴다.")
+        @DisplayName("주문이 이미 취소돼 건너뛰어지면 환불 필요 로그를 남기고 넘어간다.")
         @Test
-        void handleCallback_success_butOrderCancelled_logsWarning() {
+        void applyPendingCallbacks_orderCancelled_logsWarning() {
             // arrange
             PaymentModel payment = mockPayment(1L, 1L, 50000, PaymentStatus.COMPLETED);
-            when(paymentService.updateCompleted("PK_LATE")).thenReturn(payment);
-            org.mockito.Mockito.doThrow(new CoreException(OrderErrorCode.INVALID_STATUS_TRANSITION))
+            when(paymentCallbackService.applyPending(100))
+                    .thenReturn(new PaymentCallbackBatch(1, List.of(payment)));
+            OrderModel cancelledOrder = mock(OrderModel.class);
+            when(cancelledOrder.isCancelled()).thenReturn(true);
+            when(orderService.completeOrders(List.of(1L))).thenReturn(List.of(cancelledOrder));
+
+            // act
+            int claimed = paymentFacade.applyPendingCallbacks(100);
+
+            // assert
+            assertThat(claimed).isEqualTo(1);
+            verify(cancelledOrder).isCancelled();
+            verify(orderService, never()).completeOrder(any());
+        }
+
+        @DisplayName("일괄 완료가 실패하면 주문마다 다시 반영해, 실패한 주문만 빼고 나머지는 완료한다.")
+        @Test
+        void applyPendingCallbacks_whenBulkFails_completesEachOrder() {
+            // arrange
+            PaymentModel broken = mockPayment(1L, 1L, 50000, PaymentStatus.COMPLETED);
+            PaymentModel healthy = mockPayment(2L, 2L, 30000, PaymentStatus.COMPLETED);
+            when(paymentCallbackService.applyPending(100))
+                    .thenReturn(new PaymentCallbackBatch(2, List.of(broken, healthy)));
+            when(orderService.completeOrders(List.of(1L, 2L)))
+                    .thenThrow(new CoreException(OrderErrorCode.NOT_FOUND));
+            doThrow(new CoreException(OrderErrorCode.NOT_FOUND))
                     .when(orderService).completeOrder(1L);
+            when(orderService.getById(1L)).thenThrow(new CoreException(OrderErrorCode.NOT_FOUND));
+
+            // act
+            int claimed = paymentFacade.applyPendingCallbacks(100);
 
-            OrderModel cancelledOrder = org.mockito.Mockito.mock(OrderModel.class);
-            lenient().when(cancelledOrder.isCancelled()).thenReturn(true);
+            // assert
+            assertThat(claimed).isEqualTo(2);
+            verify(orderService).completeOrder(1L);
+            verify(orderService).completeOrder(2L);
+        }
+
+        @DisplayName("일괄 완료가 실패한 뒤 주문별 반영에서 취소된 주문을 만나면 환불 필요 로그를 남긴다.")
+        @Test
+        void applyPendingCallbacks_whenBulkFailsAndOrderCancelled_logsWarning() {
+            // arrange
+            PaymentModel payment = mockPayment(1L, 1L, 50000, PaymentStatus.COMPLETED);
+            when(paymentCallbackService.applyPending(100))
+                    .thenReturn(new PaymentCallbackBatch(1, List.of(payment)));
+            when(orderService.completeOrders(List.of(1L)))
+                    .thenThrow(new CoreException(OrderErrorCode.INVALID_STATUS_TRANSITION));
+            doThrow(new CoreException(OrderErrorCode.INVALID_STATUS_TRANSITION))
+                    .when(orderService).completeOrder(1L);
+            OrderModel cancelledOrder = mock(OrderModel.class);
+            when(cancelledOrder.isCancelled()).thenReturn(true);
             when(orderService.getById(1L)).thenReturn(cancelledOrder);
 
             // act
-            paymentFacade.handleCallback("PK_LATE", "SUCCESS", "정상 승인되었습니다.");
+            int claimed = paymentFacade.applyPendingCallbacks(100);
 
             // assert
-            verify(orderService).getById(1L);
+            assertThat(claimed).isEqualTo(1);
+            verify(cancelledOrder).isCancelled();
         }
     }
 
     private PaymentModel mockPayment(Long paymentId, Long orderId,
                                      int amount, PaymentStatus status) {
-        PaymentModel payment = org.mockito.Mockito.mock(PaymentModel.class);
+        PaymentModel payment = mock(PaymentModel.class);
         lenient().when(payment.getId()).thenReturn(paymentId);
         lenient().when(payment.getOrderId()).thenReturn(orderId);
         lenient().when(payment.getAmount()).thenReturn(amount);
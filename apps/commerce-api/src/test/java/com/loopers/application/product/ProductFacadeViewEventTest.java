@@ -9,6 +9,7 @@ import com.loopers.domain.brand.BrandModel;
 import com.loopers.domain.brand.BrandService;
 import com.loopers.domain.product.ImageType;
 import com.loopers.domain.product.ProductImageService;
+import com.loopers.domain.product.ProductLikeService;
 import com.loopers.domain.product.ProductModel;
 import com.loopers.domain.product.ProductService;
 import com.loopers.domain.product.event.ProductViewedEvent;
@@ -35,11 +36,13 @@ class ProductFacadeViewEventTest {
     @Mock ProductImageService productImageService;
     @Mock RankService rankService;
     @Mock ApplicationEventPublisher eventPublisher;
+    @Mock ProductLikeService productLikeService;
     ProductFacade productFacade;
 
     @BeforeEach
     void setUp() {
-        productFacade = new ProductFacade(productService, brandService, productImageService, rankService, eventPublisher);
+        productFacade = new ProductFacade(
+                productService, brandService, productImageService, rankService, eventPublisher, productLikeService);
 
         ProductModel stubProduct = mock(ProductModel.class);
         when(stubProduct.getId()).thenReturn(1L);
@@ -1,13 +1,17 @@
 package com.loopers.application.product;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.loopers.application.product.dto.ProductLikeResult;
 import com.loopers.domain.product.ProductLikeModel;
 import com.loopers.domain.product.ProductLikeService;
 import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.dto.ProductLikeInfo;
+import java.time.ZonedDateTime;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -65,45 +69,45 @@ class ProductLikeFacadeTest {
     @Nested
     class GetLikesByUserId {
 
-        @DisplayName("사용자의 좋아요 목록을 조회하면, ProductLikeResult 목록을 반환한다.")
+        @DisplayName("커서를 풀어 한 번에 조회하고, 상품별 존재 확인은 하지 않는다.")
         @Test
-        void getLikesByUserId_returnsProductLikeResultList() {
+        void getLikesByUserId_returnsSliceWithoutPerProductLookup() {
             // arrange
             Long userId = 1L;
+            ProductLikeInfo.Cursor cursor = new ProductLikeInfo.Cursor(ZonedDateTime.now(), 5L);
             List<ProductLikeModel> likes = List.of(
                 ProductLikeModel.create(userId, 10L),
                 ProductLikeModel.create(userId, 20L)
             );
-            when(productLikeService.getLikesByUserId(userId)).thenReturn(likes);
-            when(productService.existsById(10L)).thenReturn(true);
-            when(productService.existsById(20L)).thenReturn(true);
+            when(productLikeService.getActiveLikesByUserId(userId, cursor, 2))
+                .thenReturn(new ProductLikeInfo.Slice(likes, cursor));
 
             // act
-            List<ProductLikeResult> result = productLikeFacade.getMyLikedProducts(userId);
+            ProductLikeResult.Slice result = productLikeFacade.getMyLikedProducts(userId, cursor.encode(), 2);
 
             // assert
-            assertThat(result).hasSize(2);
+            assertAll(
+                () -> assertThat(result.items()).extracting(ProductLikeResult::productId).containsExactly(10L, 20L),
+                () -> assertThat(ProductLikeInfo.Cursor.decode(result.nextCursor())).isEqualTo(cursor),
+                () -> verifyNoInteractions(productService)
+            );
         }
 
-        @DisplayName("삭제된 상품의 좋아요는 목록에서 제외된다.")
+        @DisplayName("마지막 페이지면 nextCursor가 없다.")
         @Test
-        void getLikesByUserId_excludesDeletedProducts() {
+        void getLikesByUserId_whenLastPage_returnsNullCursor() {
             // arrange
-            Long userId = 1L;
-            List<ProductLikeModel> likes = List.of(
-                ProductLikeModel.create(userId, 10L),
-                ProductLikeModel.create(userId, 20L)
-            );
-            when(productLikeService.getLikesByUserId(userId)).thenReturn(likes);
-            when(productService.existsById(10L)).thenReturn(true);
-            when(productService.existsById(20L)).thenReturn(false);
+            when(productLikeService.getActiveLikesByUserId(1L, null, 20))
+                .thenReturn(new ProductLikeInfo.Slice(List.of(), null));
 
             // act
-            List<ProductLikeResult> result = productLikeFacade.getMyLikedProducts(userId);
+            ProductLikeResult.Slice result = productLikeFacade.getMyLikedProducts(1L, null, 20);
 
             // assert
-            assertThat(result).hasSize(1);
-            assertThat(result.get(0).productId()).isEqualTo(10L);
+            assertAll(
+                () -> assertThat(result.items()).isEmpty(),
+                () -> assertThat(result.nextCursor()).isNull()
+            );
         }
     }
 }
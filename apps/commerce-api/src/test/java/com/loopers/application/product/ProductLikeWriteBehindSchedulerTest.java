@@ -0,0 +1,101 @@
+package com.loopers.application.product;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.loopers.infrastructure.product.LikeFlushLease;
+import com.loopers.infrastructure.product.LikeWriteBehindProperties;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ProductLikeWriteBehindSchedulerTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private ProductLikeFacade productLikeFacade;
+
+    @Mock
+    private LikeFlushLease flushLease;
+
+    private ProductLikeWriteBehindScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        LikeWriteBehindProperties properties = new LikeWriteBehindProperties(true, 1000, BATCH_SIZE, 5000, 60000, 100);
+        scheduler = new ProductLikeWriteBehindScheduler(productLikeFacade, flushLease, properties);
+    }
+
+    @DisplayName("좋아요 저널을 반영할 때, ")
+    @Nested
+    class Flush {
+
+        @DisplayName("묶음마다 임대를 연장하고, 묶음이 덜 차면 멈춘다.")
+        @Test
+        void flush_renewsLeaseBeforeEachBatch() {
+            // arrange
+            when(flushLease.tryAcquire()).thenReturn(true);
+            when(productLikeFacade.flushBufferedLikes(BATCH_SIZE)).thenReturn(BATCH_SIZE, BATCH_SIZE, 1);
+
+            // act
+            scheduler.flush();
+
+            // assert
+            verify(flushLease, times(3)).tryAcquire();
+            verify(productLikeFacade, times(3)).flushBufferedLikes(BATCH_SIZE);
+        }
+
+        @DisplayName("도중에 임대를 잃으면, 다음 묶음을 반영하지 않는다.")
+        @Test
+        void flush_whenLeaseLost_stopsBeforeNextBatch() {
+            // arrange
+            when(flushLease.tryAcquire()).thenReturn(true, false);
+            when(productLikeFacade.flushBufferedLikes(BATCH_SIZE)).thenReturn(BATCH_SIZE);
+
+            // act
+            scheduler.flush();
+
+            // assert
+            verify(flushLease, times(2)).tryAcquire();
+            verify(productLikeFacade, times(1)).flushBufferedLikes(BATCH_SIZE);
+        }
+
+        @DisplayName("임대를 얻지 못하면, 반영하지 않는다.")
+        @Test
+        void flush_whenLeaseNotAcquired_skips() {
+            // arrange
+            when(flushLease.tryAcquire()).thenReturn(false);
+
+            // act
+            scheduler.flush();
+
+            // assert
+            verify(productLikeFacade, never()).flushBufferedLikes(BATCH_SIZE);
+        }
+
+        @DisplayName("묶음이 다른 반영과 겹쳐 되돌려지면, 이번 주기를 멈춘다.")
+        @Test
+        void flush_whenBatchConflicts_stops() {
+            // arrange
+            when(flushLease.tryAcquire()).thenReturn(true);
+            when(productLikeFacade.flushBufferedLikes(BATCH_SIZE))
+                .thenThrow(new CoreException(ErrorType.CONFLICT, "겹침"));
+
+            // act
+            scheduler.flush();
+
+            // assert
+            verify(productLikeFacade, times(1)).flushBufferedLikes(BATCH_SIZE);
+        }
+    }
+}
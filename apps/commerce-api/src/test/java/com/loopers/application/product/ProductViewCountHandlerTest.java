@@ -5,9 +5,9 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 
-import com.loopers.domain.product.ProductViewLogRepository;
 import com.loopers.domain.product.ProductViewLogModel;
 import com.loopers.domain.product.event.ProductViewedEvent;
+import com.loopers.infrastructure.product.ProductViewLogWriter;
 import java.time.ZonedDateTime;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,14 +20,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class ProductViewCountHandlerTest {
 
-    @Mock ProductViewLogRepository productViewLogRepository;
+    @Mock ProductViewLogWriter productViewLogWriter;
     ProductViewCountHandler handler;
 
     ProductViewedEvent event;
 
     @BeforeEach
     void setUp() {
-        handler = new ProductViewCountHandler(productViewLogRepository);
+        handler = new ProductViewCountHandler(productViewLogWriter);
         event = new ProductViewedEvent(1L, 100L, ZonedDateTime.now());
     }
 
@@ -35,22 +35,22 @@ class ProductViewCountHandlerTest {
     @Nested
     class Handle {
 
-        @DisplayName("조회 로그를 저장한다.")
+        @DisplayName("조회 로그를 쓰기 버퍼에 넘긴다.")
         @Test
-        void handle_savesViewLog() {
+        void handle_appendsViewLog() {
             // act
             handler.handle(event);
 
             // assert
-            verify(productViewLogRepository).save(any(ProductViewLogModel.class));
+            verify(productViewLogWriter).append(any(ProductViewLogModel.class));
         }
 
         @DisplayName("예외 발생 시 로그만 남기고 전파하지 않는다.")
         @Test
         void handle_whenExceptionOccurs_doesNotPropagate() {
             // arrange
-            doThrow(new RuntimeException("DB 장애"))
-                    .when(productViewLogRepository).save(any(ProductViewLogModel.class));
+            doThrow(new RuntimeException("버퍼 장애"))
+                    .when(productViewLogWriter).append(any(ProductViewLogModel.class));
 
             // act & assert
             assertThatCode(() -> handler.handle(event)).doesNotThrowAnyException();
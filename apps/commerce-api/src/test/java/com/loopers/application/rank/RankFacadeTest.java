@@ -13,11 +13,14 @@ import com.loopers.domain.rank.MonthlyRankService;
 import com.loopers.domain.rank.RankService;
 import com.loopers.domain.rank.WeeklyRankService;
 import com.loopers.domain.rank.dto.RankInfo;
+import com.loopers.support.cache.RedisCacheHelper;
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -47,6 +50,9 @@ class RankFacadeTest {
     @Mock
     private MonthlyRankService monthlyRankService;
 
+    @Mock
+    private RedisCacheHelper cacheHelper;
+
     @InjectMocks
     private RankFacade rankFacade;
 
@@ -291,6 +297,11 @@ class RankFacadeTest {
         Map<Long, String> brandNameMap = Arrays.stream(productIds)
                 .collect(Collectors.toMap(id -> BRAND_ID, id -> "테스트브랜드", (a, b) -> a));
         when(brandService.getNameMapByIds(any())).thenReturn(brandNameMap);
+        when(cacheHelper.<Long, String>getAll(any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    Function<List<Long>, Map<Long, String>> loader = invocation.getArgument(3);
+                    return loader.apply(List.copyOf(invocation.<Collection<Long>>getArgument(0)));
+                });
     }
 
     private ProductModel createProduct(Long productId) {
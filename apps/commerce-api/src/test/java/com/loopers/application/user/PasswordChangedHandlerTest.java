@@ -0,0 +1,73 @@
+package com.loopers.application.user;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+import com.loopers.domain.user.CredentialCache;
+import com.loopers.domain.user.TokenRevocationList;
+import com.loopers.domain.user.event.UserPasswordChangedEvent;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PasswordChangedHandlerTest {
+
+    @Mock CredentialCache credentialCache;
+    @Mock TokenRevocationList tokenRevocationList;
+    PasswordChangedHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new PasswordChangedHandler(credentialCache, tokenRevocationList);
+    }
+
+    @DisplayName("비밀번호 변경 이벤트를 수신할 때, ")
+    @Nested
+    class Handle {
+
+        @DisplayName("해당 로그인 ID의 캐시된 자격 증명을 지우고 새 비밀번호 해시를 버전으로 넘긴다.")
+        @Test
+        void handle_evictsCachedCredential() {
+            // act
+            handler.handle(new UserPasswordChangedEvent(1L, "testuser1", "$2a$10$newHash"));
+
+            // assert
+            verify(credentialCache).evict("testuser1", "$2a$10$newHash");
+        }
+
+        @DisplayName("지금까지 발급된 refresh 토큰을 모두 폐기한다.")
+        @Test
+        void handle_revokesIssuedRefreshTokens() {
+            // arrange
+            long before = Instant.now().toEpochMilli();
+
+            // act
+            handler.handle(new UserPasswordChangedEvent(1L, "testuser1", "$2a$10$newHash"));
+
+            // assert
+            verify(tokenRevocationList).revokeAllIssuedBefore(eq(1L), longThat(cutoff -> cutoff >= before));
+        }
+
+        @DisplayName("refresh 토큰 폐기에 실패해도 예외를 전파하지 않는다.")
+        @Test
+        void handle_whenRevocationFails_doesNotPropagate() {
+            // arrange
+            doThrow(new RuntimeException("Redis 장애"))
+                    .when(tokenRevocationList).revokeAllIssuedBefore(eq(1L), anyLong());
+
+            // act & assert
+            assertThatCode(() -> handler.handle(new UserPasswordChangedEvent(1L, "testuser1", "$2a$10$newHash")))
+                    .doesNotThrowAnyException();
+        }
+    }
+}
@@ -23,6 +23,9 @@ class WaitingRoomFacadeTest {
     @Mock
     WaitingRoomService waitingRoomService;
 
+    @Mock
+    WaitingRoomPositionBroadcaster positionBroadcaster;
+
     @InjectMocks
     WaitingRoomFacade waitingRoomFacade;
 
@@ -88,7 +91,7 @@ class WaitingRoomFacadeTest {
     @Nested
     class Cancel {
 
-        @DisplayName("WaitingRoomService.cancel()을 호출한다.")
+        @DisplayName("WaitingRoomService.cancel()을 호출하고 순번 구독을 닫는다.")
         @Test
         void cancel_delegatesToService() {
             // act
@@ -96,6 +99,7 @@ class WaitingRoomFacadeTest {
 
             // assert
             verify(waitingRoomService).cancel(1L);
+            verify(positionBroadcaster).close(1L);
         }
     }
 }
@@ -0,0 +1,302 @@
+package com.loopers.application.waitingroom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.application.waitingroom.dto.WaitingRoomResult;
+import com.loopers.domain.waitingroom.FakeAdmissionPolicy;
+import com.loopers.domain.waitingroom.FakeEntryGate;
+import com.loopers.domain.waitingroom.FakeWaitingQueue;
+import com.loopers.domain.waitingroom.FakeWaitingRoomStore;
+import com.loopers.domain.waitingroom.WaitingRoomService;
+import com.loopers.domain.waitingroom.WaitingSnapshot;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("WaitingRoomPositionBroadcaster 단위 테스트")
+class WaitingRoomPositionBroadcasterTest {
+
+    private static final int NO_RESYNC = Integer.MAX_VALUE;
+
+    private WaitingRoomPositionBroadcaster broadcaster;
+    private WaitingRoomService waitingRoomService;
+    private FakeWaitingQueue waitingQueue;
+    private FakeAdmissionPolicy admissionPolicy;
+
+    @BeforeEach
+    void setUp() {
+        waitingQueue = new FakeWaitingQueue();
+        FakeEntryGate entryGate = new FakeEntryGate();
+        admissionPolicy = new FakeAdmissionPolicy();
+        waitingRoomService = new WaitingRoomService(
+                waitingQueue, entryGate, new FakeWaitingRoomStore(waitingQueue, entryGate),
+                admissionPolicy, event -> { });
+        broadcaster = new WaitingRoomPositionBroadcaster(waitingRoomService, Runnable::run, NO_RESYNC);
+    }
+
+    private List<WaitingRoomResult> subscribe(Long userId) {
+        List<WaitingRoomResult> received = new ArrayList<>();
+        broadcaster.subscribe(userId, received::add);
+        return received;
+    }
+
+    @DisplayName("구독할 때, ")
+    @Nested
+    class Subscribe {
+
+        @DisplayName("현재 순번을 보내고 대기 중이면 구독자로 등록한다.")
+        @Test
+        void subscribe_returnsCurrentPosition() {
+            // arrange
+            waitingRoomService.enter(1L);
+            waitingRoomService.enter(2L);
+
+            // act
+            List<WaitingRoomResult> received = subscribe(2L);
+
+            // assert
+            assertAll(
+                    () -> assertThat(received).hasSize(1),
+                    () -> assertThat(received.get(0).position()).isEqualTo(2),
+                    () -> assertThat(broadcaster.subscriberCount()).isEqualTo(1));
+        }
+
+        @DisplayName("이미 입장 가능하면 토큰을 보내고 구독하지 않는다.")
+        @Test
+        void subscribe_whenEntered_doesNotRegister() {
+            // arrange
+            waitingRoomService.enter(1L);
+            waitingRoomService.processQueue();
+
+            // act
+            List<WaitingRoomResult> received = subscribe(1L);
+
+            // assert
+            assertAll(
+                    () -> assertThat(received.get(0).status()).isEqualTo("ENTERED"),
+                    () -> assertThat(broadcaster.subscriberCount()).isZero());
+        }
+    }
+
+    @DisplayName("일괄 전송할 때, ")
+    @Nested
+    class Broadcast {
+
+        @DisplayName("입장한 인원만큼 모든 구독자의 순번을 앞당겨 보낸다.")
+        @Test
+        void broadcast_shiftsEveryoneByAdmittedCount() {
+            // arrange
+            for (long userId = 1; userId <= 5; userId++) {
+                waitingRoomService.enter(userId);
+            }
+            List<WaitingRoomResult> fourth = subscribe(4L);
+            List<WaitingRoomResult> fifth = subscribe(5L);
+            waitingRoomService.processQueue(); // 2명 입장
+
+            // act
+            broadcaster.broadcast();
+
+            // assert
+            assertAll(
+                    () -> assertThat(fourth).extracting(WaitingRoomResult::position).containsExactly(4L, 2L),
+                    () -> assertThat(fifth).extracting(WaitingRoomResult::position).containsExactly(5L, 3L));
+        }
+
+        @DisplayName("순번이 바뀌지 않았으면 보내지 않는다.")
+        @Test
+        void broadcast_whenUnchanged_skips() {
+            // arrange
+            waitingRoomService.enter(1L);
+            waitingRoomService.enter(2L);
+            List<WaitingRoomResult> received = subscribe(2L);
+
+            // act
+            broadcaster.broadcast();
+
+            // assert
+            assertThat(received).hasSize(1);
+        }
+
+        @DisplayName("입장 차례가 되면 토큰을 보내고 구독을 해제한다.")
+        @Test
+        void broadcast_whenAdmitted_sendsTokenAndCloses() {
+            // arrange
+            waitingRoomService.enter(1L);
+            waitingRoomService.enter(2L);
+            List<WaitingRoomResult> received = subscribe(2L);
+            waitingRoomService.processQueue();
+
+            // act
+            broadcaster.broadcast();
+
+            // assert
+            WaitingRoomResult last = received.get(received.size() - 1);
+            assertAll(
+                    () -> assertThat(last.status()).isEqualTo("ENTERED"),
+                    () -> assertThat(last.token()).isNotNull(),
+                    () -> assertThat(broadcaster.subscriberCount()).isZero());
+        }
+
+        @DisplayName("앞사람이 취소해 추정 순번이 실제보다 뒤처지면, 재동기화 주기에 실제 순번으로 다시 맞춘다.")
+        @Test
+        void broadcast_whenPeopleAheadCancel_resyncs() {
+            // arrange
+            broadcaster = new WaitingRoomPositionBroadcaster(waitingRoomService, Runnable::run, 1);
+            for (long userId = 1; userId <= 4; userId++) {
+                waitingRoomService.enter(userId);
+            }
+            List<WaitingRoomResult> received = subscribe(4L); // 4번째
+            waitingRoomService.cancel(1L);
+            waitingRoomService.cancel(2L);
+            waitingRoomService.processQueue(); // 3, 4번 입장 — 누적 입장 2명만으로는 추정 순번이 2번째
+
+            // act
+            broadcaster.broadcast();
+
+            // assert
+            assertAll(
+                    () -> assertThat(received.get(received.size() - 1).status()).isEqualTo("ENTERED"),
+                    () -> assertThat(broadcaster.subscriberCount()).isZero());
+        }
+
+        @DisplayName("전송에 실패한 구독자는 해제한다.")
+        @Test
+        void broadcast_whenListenerFails_unsubscribes() {
+            // arrange
+            waitingRoomService.enter(1L);
+            waitingRoomService.enter(2L);
+            waitingRoomService.enter(3L);
+            List<WaitingRoomResult> sent = new ArrayList<>();
+            Consumer<WaitingRoomResult> broken = result -> {
+                if (!sent.isEmpty()) {
+                    throw new IllegalStateException("connection closed");
+                }
+                sent.add(result);
+            };
+            broadcaster.subscribe(3L, broken);
+            admissionPolicy.setBatchSize(1);
+            waitingRoomService.processQueue();
+
+            // act
+            broadcaster.broadcast();
+
+            // assert
+            assertThat(broadcaster.subscriberCount()).isZero();
+        }
+    }
+
+    @DisplayName("전송 순서를 볼 때, ")
+    @Nested
+    class Ordering {
+
+        @DisplayName("구독 시점의 순번과 이후 결과는 작업 하나에서 쌓인 순서대로 보낸다.")
+        @Test
+        void dispatch_sendsInOrderFromSingleTask() {
+            // arrange
+            List<Runnable> tasks = new ArrayList<>();
+            broadcaster = new WaitingRoomPositionBroadcaster(waitingRoomService, tasks::add, NO_RESYNC);
+            for (long userId = 1; userId <= 4; userId++) {
+                waitingRoomService.enter(userId);
+            }
+            List<WaitingRoomResult> received = subscribe(4L);
+            waitingRoomService.processQueue(); // 2명 입장
+            broadcaster.broadcast();
+            broadcaster.close(4L);
+
+            // act
+            int submitted = tasks.size();
+            tasks.forEach(Runnable::run);
+
+            // assert
+            assertAll(
+                    () -> assertThat(submitted).isEqualTo(1),
+                    () -> assertThat(received).extracting(WaitingRoomResult::status)
+                            .containsExactly("WAITING", "WAITING", "NOT_IN_QUEUE"),
+                    () -> assertThat(received.get(1).position()).isEqualTo(2));
+        }
+    }
+
+    @DisplayName("개별 순번 조회는 전송 작업에서 하고, 조회가 끝나기 전 주기에는 그 구독자를 건너뛴다.")
+    @Test
+    void broadcast_resolvesOnSenderAndSkipsWhileResolving() {
+        // arrange
+        List<Runnable> tasks = new ArrayList<>();
+        broadcaster = new WaitingRoomPositionBroadcaster(waitingRoomService, tasks::add, 1);
+        for (long userId = 1; userId <= 3; userId++) {
+            waitingRoomService.enter(userId);
+        }
+        List<WaitingRoomResult> received = subscribe(3L);
+        tasks.remove(0).run();
+        waitingRoomService.cancel(1L);
+
+        // act
+        broadcaster.broadcast();
+        broadcaster.broadcast();
+        int submitted = tasks.size();
+        tasks.remove(0).run();
+        tasks.remove(0).run();
+
+        // assert
+        assertAll(
+                () -> assertThat(submitted).isEqualTo(1),
+                () -> assertThat(received).extracting(WaitingRoomResult::position).containsExactly(3L, 2L));
+    }
+
+    @DisplayName("한 구독자의 순번 조회가 실패해도 다른 구독자에게는 계속 보낸다.")
+    @Test
+    void broadcast_whenResolveFails_continuesOthers() {
+        // arrange
+        Set<Long> failing = new HashSet<>();
+        FakeEntryGate entryGate = new FakeEntryGate();
+        FakeWaitingRoomStore store = new FakeWaitingRoomStore(waitingQueue, entryGate) {
+            @Override
+            public WaitingSnapshot findPosition(Long userId) {
+                if (failing.contains(userId)) {
+                    throw new IllegalStateException("redis down");
+                }
+                return super.findPosition(userId);
+            }
+        };
+        waitingRoomService = new WaitingRoomService(waitingQueue, entryGate, store, admissionPolicy, event -> { });
+        broadcaster = new WaitingRoomPositionBroadcaster(waitingRoomService, Runnable::run, 1);
+        waitingRoomService.enter(1L);
+        waitingRoomService.enter(2L);
+        waitingRoomService.enter(3L);
+        List<WaitingRoomResult> first = subscribe(1L);
+        List<WaitingRoomResult> third = subscribe(3L);
+        failing.add(1L);
+        waitingRoomService.cancel(2L);
+
+        // act
+        broadcaster.broadcast();
+
+        // assert
+        assertAll(
+                () -> assertThat(first).hasSize(1),
+                () -> assertThat(third).extracting(WaitingRoomResult::position).containsExactly(3L, 2L),
+                () -> assertThat(broadcaster.subscriberCount()).isEqualTo(2));
+    }
+
+    @DisplayName("대기열을 취소하면 NOT_IN_QUEUE를 보내고 구독을 닫는다.")
+    @Test
+    void close_sendsNotInQueue() {
+        // arrange
+        waitingRoomService.enter(1L);
+        List<WaitingRoomResult> received = subscribe(1L);
+
+        // act
+        broadcaster.close(1L);
+
+        // assert
+        assertAll(
+                () -> assertThat(received.get(received.size() - 1).status()).isEqualTo("NOT_IN_QUEUE"),
+                () -> assertThat(broadcaster.subscriberCount()).isZero());
+    }
+}
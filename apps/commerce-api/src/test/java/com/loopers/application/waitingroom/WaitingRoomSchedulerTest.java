@@ -2,10 +2,15 @@ package com.loopers.application.waitingroom;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.loopers.domain.waitingroom.WaitingEntry;
 import com.loopers.domain.waitingroom.WaitingRoomService;
+import com.loopers.infrastructure.waitingroom.WaitingRoomSchedulerLease;
+import com.loopers.infrastructure.waitingroom.metrics.GlobalAdmitRateRecorder;
 import com.loopers.infrastructure.waitingroom.metrics.WaitingRoomProcessQueueMetrics;
 import com.loopers.infrastructure.waitingroom.metrics.WaitingRoomSchedulerTimer;
 import java.util.List;
@@ -29,6 +34,12 @@ class WaitingRoomSchedulerTest {
     @Mock
     WaitingRoomProcessQueueMetrics processQueueMetrics;
 
+    @Mock
+    WaitingRoomSchedulerLease schedulerLease;
+
+    @Mock
+    GlobalAdmitRateRecorder globalAdmitRateRecorder;
+
     @InjectMocks
     WaitingRoomScheduler waitingRoomScheduler;
 
@@ -40,6 +51,7 @@ class WaitingRoomSchedulerTest {
             ((Runnable) invocation.getArgument(0)).run();
             return null;
         }).when(schedulerTimer).record(any(Runnable.class));
+        when(schedulerLease.isLeader()).thenReturn(true);
         when(waitingRoomService.processQueue()).thenReturn(List.of());
 
         // act
@@ -50,4 +62,37 @@ class WaitingRoomSchedulerTest {
         verify(waitingRoomService).processQueue();
         verify(processQueueMetrics).recordBatch(List.of());
     }
+
+    @DisplayName("리더일 때 입장 인원을 전역 입장 속도 카운터에 더한다.")
+    @Test
+    void run_whenLeader_recordsGlobalAdmitRate() {
+        // arrange
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(schedulerTimer).record(any(Runnable.class));
+        when(schedulerLease.isLeader()).thenReturn(true);
+        when(waitingRoomService.processQueue()).thenReturn(
+                List.of(new WaitingEntry(1L, 1000L), new WaitingEntry(2L, 1001L)));
+
+        // act
+        waitingRoomScheduler.run();
+
+        // assert
+        verify(globalAdmitRateRecorder).record(2);
+    }
+
+    @DisplayName("리더가 아니면 대기열을 건드리지 않는다.")
+    @Test
+    void run_whenNotLeader_skips() {
+        // arrange
+        when(schedulerLease.isLeader()).thenReturn(false);
+
+        // act
+        waitingRoomScheduler.run();
+
+        // assert
+        verify(schedulerTimer, never()).record(any(Runnable.class));
+        verifyNoInteractions(waitingRoomService, globalAdmitRateRecorder);
+    }
 }
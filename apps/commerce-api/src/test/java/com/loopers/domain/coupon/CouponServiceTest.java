@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import com.loopers.domain.coupon.dto.CouponCommand;
 import com.loopers.support.error.CoreException;
 import java.time.ZonedDateTime;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,12 +21,14 @@ class CouponServiceTest {
     private CouponService couponService;
     private FakeCouponRepository couponRepository;
     private FakeOwnedCouponRepository ownedCouponRepository;
+    private FakeCouponTermsCache couponTermsCache;
 
     @BeforeEach
     void setUp() {
         couponRepository = new FakeCouponRepository();
         ownedCouponRepository = new FakeOwnedCouponRepository();
-        couponService = new CouponService(couponRepository, ownedCouponRepository);
+        couponTermsCache = new FakeCouponTermsCache();
+        couponService = new CouponService(couponRepository, ownedCouponRepository, couponTermsCache);
     }
 
     @DisplayName("쿠폰을 등록할 때, ")
@@ -162,6 +165,45 @@ class CouponServiceTest {
 
     }
 
+    @DisplayName("쿠폰을 일괄 발급할 때, ")
+    @Nested
+    class IssueAll {
+
+        @DisplayName("이미 보유한 사용자와 요청 내 중복은 건너뛰고 새로 발급된 건수를 반환한다")
+        @Test
+        void issueAll_skipsDuplicates() {
+            // arrange
+            CouponModel coupon = couponRepository.save(CouponModel.create(
+                    "발급 쿠폰", CouponDiscountType.FIXED, 5000L,
+                    null, 1000, ZonedDateTime.now().plusDays(30)));
+            couponService.issue(coupon.getId(), 100L);
+
+            // act
+            int inserted = couponService.issueAll(coupon.getId(), List.of(100L, 101L, 102L, 102L));
+
+            // assert
+            assertAll(
+                    () -> assertThat(inserted).isEqualTo(2),
+                    () -> assertThat(ownedCouponRepository.countByCouponId(coupon.getId())).isEqualTo(3));
+        }
+
+        @DisplayName("만료된 쿠폰이면 예외가 발생하고 아무것도 발급하지 않는다")
+        @Test
+        void issueAll_whenExpired_throws() {
+            // arrange
+            CouponModel coupon = couponRepository.save(CouponModel.create(
+                    "만료 쿠폰", CouponDiscountType.FIXED, 5000L,
+                    null, 1000, ZonedDateTime.now().minusDays(1)));
+
+            // act & assert
+            assertAll(
+                    () -> assertThatThrownBy(() -> couponService.issueAll(coupon.getId(), List.of(100L)))
+                            .isInstanceOf(CoreException.class)
+                            .hasFieldOrPropertyWithValue("errorCode", CouponErrorCode.EXPIRED),
+                    () -> assertThat(ownedCouponRepository.countByCouponId(coupon.getId())).isZero());
+        }
+    }
+
     @DisplayName("쿠폰을 사용하고 할인을 계산할 때, ")
     @Nested
     class UseAndCalculateDiscount {
@@ -186,6 +228,148 @@ class CouponServiceTest {
                     () -> assertThat(owned.isUsed()).isTrue(),
                     () -> assertThat(owned.getOrderId()).isEqualTo(1L));
         }
+
+        @DisplayName("발급할 때 사용 조건이 캐시에 들어가므로, 첫 사용에도 보유 쿠폰을 조회하지 않고 UPDATE만 한다")
+        @Test
+        void useAndCalculateDiscount_afterIssue_skipsSelect() {
+            // arrange
+            CouponModel coupon = couponRepository.save(CouponModel.create(
+                    "5000원 할인", CouponDiscountType.FIXED, 5000L,
+                    null, 1000, ZonedDateTime.now().plusDays(30)));
+            OwnedCouponModel owned = couponService.issue(coupon.getId(), 100L);
+
+            // act
+            long discount = couponService.useAndCalculateDiscount(
+                    owned.getId(), 100L, 1L, 50000L);
+
+            // assert
+            assertAll(
+                    () -> assertThat(discount).isEqualTo(5000L),
+                    () -> assertThat(owned.getOrderId()).isEqualTo(1L),
+                    () -> assertThat(ownedCouponRepository.findByIdCalls()).isZero());
+        }
+
+        @DisplayName("배치로 발급한 쿠폰도 사용 조건이 캐시에 들어가, 첫 사용에 보유 쿠폰을 조회하지 않는다")
+        @Test
+        void useAndCalculateDiscount_afterIssueAll_skipsSelect() {
+            // arrange
+            CouponModel coupon = couponRepository.save(CouponModel.create(
+                    "10% 할인", CouponDiscountType.RATE, 10L,
+                    null, 1000, ZonedDateTime.now().plusDays(30)));
+            couponService.issueAll(coupon.getId(), List.of(100L, 200L));
+            OwnedCouponModel owned = ownedCouponRepository.findByCouponIdAndUserId(coupon.getId(), 200L)
+                    .orElseThrow();
+
+            // act
+            long discount = couponService.useAndCalculateDiscount(
+                    owned.getId(), 200L, 1L, 50000L);
+
+            // assert
+            assertAll(
+                    () -> assertThat(discount).isEqualTo(5000L),
+                    () -> assertThat(owned.getOrderId()).isEqualTo(1L),
+                    () -> assertThat(ownedCouponRepository.findByIdCalls()).isZero());
+        }
+
+        @DisplayName("캐시가 비어 있으면 DB에서 읽은 사용 조건을 캐시에 저장한다")
+        @Test
+        void useAndCalculateDiscount_cachesTerms() {
+            // arrange
+            CouponModel coupon = couponRepository.save(CouponModel.create(
+                    "10% 할인", CouponDiscountType.RATE, 10L,
+                    null, 1000, ZonedDateTime.now().plusDays(30)));
+            OwnedCouponModel owned = ownedCouponRepository.save(
+                    OwnedCouponModel.create(coupon, 100L));
+
+            // act
+            long discount = couponService.useAndCalculateDiscount(
+                    owned.getId(), 100L, 1L, 50000L);
+
+            // assert
+            assertAll(
+                    () -> assertThat(discount).isEqualTo(5000L),
+                    () -> assertThat(couponTermsCache.find(owned.getId()))
+                            .contains(CouponTerms.from(owned)));
+        }
+
+        @DisplayName("이미 사용된 쿠폰이면 캐시된 조건이 있어도 ALREADY_USED 예외가 발생한다")
+        @Test
+        void useAndCalculateDiscount_whenAlreadyUsed_throws() {
+            // arrange
+            CouponModel coupon = couponRepository.save(CouponModel.create(
+                    "5000원 할인", CouponDiscountType.FIXED, 5000L,
+                    null, 1000, ZonedDateTime.now().plusDays(30)));
+            OwnedCouponModel owned = ownedCouponRepository.save(
+                    OwnedCouponModel.create(coupon, 100L));
+            couponService.useAndCalculateDiscount(owned.getId(), 100L, 1L, 50000L);
+
+            // act & assert
+            assertThatThrownBy(() -> couponService.useAndCalculateDiscount(
+                    owned.getId(), 100L, 2L, 50000L))
+                    .isInstanceOf(CoreException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", CouponErrorCode.ALREADY_USED);
+        }
+
+        @DisplayName("다른 사용자의 쿠폰이면 NOT_OWNED 예외가 발생하고 사용 처리되지 않는다")
+        @Test
+        void useAndCalculateDiscount_whenNotOwner_throws() {
+            // arrange
+            CouponModel coupon = couponRepository.save(CouponModel.create(
+                    "5000원 할인", CouponDiscountType.FIXED, 5000L,
+                    null, 1000, ZonedDateTime.now().plusDays(30)));
+            OwnedCouponModel owned = ownedCouponRepository.save(
+                    OwnedCouponModel.create(coupon, 100L));
+
+            // act & assert
+            assertAll(
+                    () -> assertThatThrownBy(() -> couponService.useAndCalculateDiscount(
+                            owned.getId(), 200L, 1L, 50000L))
+                            .isInstanceOf(CoreException.class)
+                            .hasFieldOrPropertyWithValue("errorCode", CouponErrorCode.NOT_OWNED),
+                    () -> assertThat(owned.isUsed()).isFalse());
+        }
+
+        @DisplayName("최소 주문 금액에 못 미치면 MIN_ORDER_AMOUNT_NOT_MET 예외가 발생한다")
+        @Test
+        void useAndCalculateDiscount_whenBelowMinOrderAmount_throws() {
+            // arrange
+            CouponModel coupon = couponRepository.save(CouponModel.create(
+                    "5000원 할인", CouponDiscountType.FIXED, 5000L,
+                    30000L, 1000, ZonedDateTime.now().plusDays(30)));
+            OwnedCouponModel owned = ownedCouponRepository.save(
+                    OwnedCouponModel.create(coupon, 100L));
+
+            // act & assert
+            assertThatThrownBy(() -> couponService.useAndCalculateDiscount(
+                    owned.getId(), 100L, 1L, 20000L))
+                    .isInstanceOf(CoreException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", CouponErrorCode.MIN_ORDER_AMOUNT_NOT_MET);
+        }
+
+        @DisplayName("캐시된 조건이 DB와 다르면 캐시를 버리고 DB의 조건으로 사용 처리한다")
+        @Test
+        void useAndCalculateDiscount_whenCacheStale_usesDbTerms() {
+            // arrange
+            CouponModel coupon = couponRepository.save(CouponModel.create(
+                    "5000원 할인", CouponDiscountType.FIXED, 5000L,
+                    null, 1000, ZonedDateTime.now().plusDays(30)));
+            OwnedCouponModel owned = ownedCouponRepository.save(
+                    OwnedCouponModel.create(coupon, 100L));
+            couponTermsCache.put(owned.getId(), new CouponTerms(
+                    coupon.getId(), 100L, CouponDiscountType.FIXED, 9000L,
+                    null, ZonedDateTime.now().plusDays(30)));
+
+            // act
+            long discount = couponService.useAndCalculateDiscount(
+                    owned.getId(), 100L, 1L, 50000L);
+
+            // assert
+            assertAll(
+                    () -> assertThat(discount).isEqualTo(5000L),
+                    () -> assertThat(owned.isUsed()).isTrue(),
+                    () -> assertThat(couponTermsCache.find(owned.getId()))
+                            .contains(CouponTerms.from(owned)));
+        }
     }
 
     @DisplayName("쿠폰을 복원할 때, ")
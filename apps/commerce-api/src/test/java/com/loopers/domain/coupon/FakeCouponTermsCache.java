@@ -0,0 +1,30 @@
+package com.loopers.domain.coupon;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public class FakeCouponTermsCache implements CouponTermsCache {
+
+    private final Map<Long, CouponTerms> store = new HashMap<>();
+
+    @Override
+    public Optional<CouponTerms> find(Long ownedCouponId) {
+        return Optional.ofNullable(store.get(ownedCouponId));
+    }
+
+    @Override
+    public void put(Long ownedCouponId, CouponTerms terms) {
+        store.put(ownedCouponId, terms);
+    }
+
+    @Override
+    public void putAll(Map<Long, CouponTerms> termsByOwnedCouponId) {
+        store.putAll(termsByOwnedCouponId);
+    }
+
+    @Override
+    public void evict(Long ownedCouponId) {
+        store.remove(ownedCouponId);
+    }
+}
@@ -16,6 +16,7 @@ public class FakeOwnedCouponRepository implements OwnedCouponRepository {
 
     private final Map<Long, OwnedCouponModel> store = new HashMap<>();
     private final AtomicLong idGenerator = new AtomicLong(1);
+    private int findByIdCalls;
 
     @Override
     public OwnedCouponModel save(OwnedCouponModel ownedCouponModel) {
@@ -26,11 +27,28 @@ public class FakeOwnedCouponRepository implements OwnedCouponRepository {
         return ownedCouponModel;
     }
 
+    @Override
+    public int saveAllIgnoringDuplicates(CouponModel coupon, List<Long> userIds) {
+        int inserted = 0;
+        for (Long userId : userIds) {
+            if (findByCouponIdAndUserId(coupon.getId(), userId).isEmpty()) {
+                save(OwnedCouponModel.create(coupon, userId));
+                inserted++;
+            }
+        }
+        return inserted;
+    }
+
     @Override
     public Optional<OwnedCouponModel> findById(Long id) {
+        findByIdCalls++;
         return Optional.ofNullable(store.get(id));
     }
 
+    public int findByIdCalls() {
+        return findByIdCalls;
+    }
+
     @Override
     public Optional<OwnedCouponModel> findByCouponIdAndUserId(Long couponId, Long userId) {
         return store.values().stream()
@@ -39,6 +57,14 @@ public class FakeOwnedCouponRepository implements OwnedCouponRepository {
                 .findFirst();
     }
 
+    @Override
+    public Map<Long, Long> findIdsByCouponIdAndUserIds(Long couponId, List<Long> userIds) {
+        return store.values().stream()
+                .filter(owned -> owned.getCouponId().equals(couponId))
+                .filter(owned -> userIds.contains(owned.getUserId()))
+                .collect(Collectors.toMap(OwnedCouponModel::getUserId, OwnedCouponModel::getId));
+    }
+
     @Override
     public List<OwnedCouponModel> findAllByUserId(Long userId) {
         return store.values().stream()
@@ -85,13 +111,18 @@ public class FakeOwnedCouponRepository implements OwnedCouponRepository {
     }
 
     @Override
-    public int useByIdWhenAvailable(Long id, Long orderId, ZonedDateTime usedAt) {
+    public int useIfUsable(Long id, CouponTerms terms, Long orderId, long orderAmount, ZonedDateTime now) {
         OwnedCouponModel owned = store.get(id);
-        if (owned == null || owned.getOrderId() != null) {
+        if (owned == null || owned.getOrderId() != null
+                || !owned.getUserId().equals(terms.userId())
+                || owned.getDiscountType() != terms.discountType()
+                || owned.getDiscountValue() != terms.discountValue()
+                || owned.getExpiredAt().isBefore(now)
+                || (owned.getMinOrderAmount() != null && owned.getMinOrderAmount() > orderAmount)) {
             return 0;
         }
         setField(owned, "orderId", orderId);
-        setField(owned, "usedAt", usedAt);
+        setField(owned, "usedAt", now);
         return 1;
     }
 
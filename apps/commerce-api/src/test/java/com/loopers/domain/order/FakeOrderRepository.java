@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 import org.springframework.data.domain.Page;
@@ -36,6 +37,14 @@ public class FakeOrderRepository implements OrderRepository {
         return Optional.ofNullable(store.get(id));
     }
 
+    @Override
+    public List<OrderModel> findAllByIdIn(List<Long> ids) {
+        return ids.stream()
+            .map(store::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
     @Override
     public List<OrderModel> findAllByUserIdAndCreatedAtBetween(Long userId, ZonedDateTime startAt, ZonedDateTime endAt) {
         return store.values().stream()
@@ -251,6 +251,63 @@ class OrderServiceTest {
         }
     }
 
+    @DisplayName("주문을 일괄 완료할 때, ")
+    @Nested
+    class CompleteOrders {
+
+        @DisplayName("결제 대기 주문을 모두 완료하고 주문별 완료 이벤트를 발행한다")
+        @Test
+        void completeOrders_completesAllPendingOrders() {
+            // arrange
+            OrderModel order1 = orderService.createOrder(1L, createSampleCommands());
+            OrderModel order2 = orderService.createOrder(2L, createSampleCommands());
+
+            // act
+            List<OrderModel> skipped = orderService.completeOrders(
+                    List.of(order1.getId(), order2.getId()));
+
+            // assert
+            assertAll(
+                    () -> assertThat(skipped).isEmpty(),
+                    () -> assertThat(order1.getStatus()).isEqualTo(OrderStatus.ORDERED),
+                    () -> assertThat(order2.getStatus()).isEqualTo(OrderStatus.ORDERED),
+                    () -> assertThat(publishedEvents).hasSize(2)
+                            .allMatch(OrderCompletedEvent.class::isInstance));
+        }
+
+        @DisplayName("결제 대기가 아닌 주문은 건너뛰고 반환한다")
+        @Test
+        void completeOrders_skipsNonPendingOrders() {
+            // arrange
+            OrderModel pending = orderService.createOrder(1L, createSampleCommands());
+            OrderModel cancelled = orderService.createOrder(2L, createSampleCommands());
+            orderService.cancelByPaymentFailure(cancelled.getId());
+
+            // act
+            List<OrderModel> skipped = orderService.completeOrders(
+                    List.of(pending.getId(), cancelled.getId()));
+
+            // assert
+            assertAll(
+                    () -> assertThat(skipped).containsExactly(cancelled),
+                    () -> assertThat(pending.getStatus()).isEqualTo(OrderStatus.ORDERED),
+                    () -> assertThat(cancelled.getStatus()).isEqualTo(OrderStatus.CANCELLED),
+                    () -> assertThat(publishedEvents).hasSize(1));
+        }
+
+        @DisplayName("없는 주문이 섞여 있으면 NOT_FOUND 예외가 발생한다")
+        @Test
+        void completeOrders_whenOrderMissing_throws() {
+            // arrange
+            OrderModel pending = orderService.createOrder(1L, createSampleCommands());
+
+            // act & assert
+            assertThatThrownBy(() -> orderService.completeOrders(List.of(pending.getId(), 999L)))
+                    .isInstanceOf(CoreException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", OrderErrorCode.NOT_FOUND);
+        }
+    }
+
     @DisplayName("결제 실패로 주문을 취소할 때, ")
     @Nested
     class CancelByPaymentFailure {
@@ -0,0 +1,45 @@
+package com.loopers.domain.payment;
+
+import java.lang.reflect.Field;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class FakePaymentCallbackRepository implements PaymentCallbackRepository {
+
+    private final List<PaymentCallbackModel> store = new ArrayList<>();
+    private final AtomicLong idGenerator = new AtomicLong(1);
+
+    @Override
+    public PaymentCallbackModel save(PaymentCallbackModel callback) {
+        if (callback.getId() == null) {
+            setId(callback, idGenerator.getAndIncrement());
+            store.add(callback);
+        }
+        return callback;
+    }
+
+    @Override
+    public List<PaymentCallbackModel> findPendingForUpdate(ZonedDateTime now, int limit) {
+        return store.stream()
+                .filter(callback -> !callback.isProcessed())
+                .filter(callback -> !callback.getNextAttemptAt().isAfter(now))
+                .limit(limit)
+                .toList();
+    }
+
+    public List<PaymentCallbackModel> findAll() {
+        return List.copyOf(store);
+    }
+
+    private void setId(PaymentCallbackModel callback, Long id) {
+        try {
+            Field field = PaymentCallbackModel.class.getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(callback, id);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.loopers.domain.payment;
 
 import java.lang.reflect.Field;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
@@ -39,6 +41,13 @@ public class FakePaymentRepository implements PaymentRepository {
                 .findFirst();
     }
 
+    @Override
+    public List<PaymentModel> findAllByPgTransactionIdIn(Collection<String> pgTransactionIds) {
+        return store.values().stream()
+                .filter(p -> pgTransactionIds.contains(p.getPgTransactionId()))
+                .toList();
+    }
+
     private void setId(PaymentModel payment, Long id) {
         try {
             Field field = payment.getClass().getSuperclass().getDeclaredField("id");
@@ -0,0 +1,184 @@
+package com.loopers.domain.payment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.ZonedDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class PaymentCallbackServiceTest {
+
+    private PaymentCallbackService paymentCallbackService;
+    private FakePaymentCallbackRepository paymentCallbackRepository;
+    private FakePaymentRepository paymentRepository;
+
+    @BeforeEach
+    void setUp() {
+        paymentCallbackRepository = new FakePaymentCallbackRepository();
+        paymentRepository = new FakePaymentRepository();
+        paymentCallbackService = new PaymentCallbackService(paymentCallbackRepository, paymentRepository);
+    }
+
+    private PaymentModel requestedPayment(Long orderId, String transactionKey) {
+        PaymentModel payment = paymentRepository.save(
+                PaymentModel.create(orderId, 50000, CardType.SAMSUNG, "****-****-****-1451"));
+        payment.requested(transactionKey);
+        return payment;
+    }
+
+    @DisplayName("콜백을 수신할 때, ")
+    @Nested
+    class Receive {
+
+        @DisplayName("결제 상태는 바꾸지 않고 미처리 상태로 적재만 한다.")
+        @Test
+        void receive_appendsOnly() {
+            // arrange
+            PaymentModel payment = requestedPayment(1L, "TX_001");
+
+            // act
+            paymentCallbackService.receive("TX_001", "SUCCESS", "정상 승인되었습니다.");
+
+            // assert
+            assertAll(
+                    () -> assertThat(paymentCallbackRepository.findAll()).hasSize(1),
+                    () -> assertThat(paymentCallbackRepository.findAll().get(0).isProcessed()).isFalse(),
+                    () -> assertThat(payment.getStatus()).isEqualTo(PaymentStatus.REQUESTED));
+        }
+    }
+
+    @DisplayName("미처리 콜백을 배치로 반영할 때, ")
+    @Nested
+    class ApplyPending {
+
+        @DisplayName("SUCCESS/FAILED 콜백에 따라 결제를 전이하고 콜백을 처리 완료로 마킹한다.")
+        @Test
+        void applyPending_transitionsPayments() {
+            // arrange
+            PaymentModel approved = requestedPayment(1L, "TX_001");
+            PaymentModel rejected = requestedPayment(2L, "TX_002");
+            paymentCallbackService.receive("TX_001", "SUCCESS", "정상 승인되었습니다.");
+            paymentCallbackService.receive("TX_002", "FAILED", "한도초과입니다.");
+
+            // act
+            PaymentCallbackBatch batch = paymentCallbackService.applyPending(100);
+
+            // assert
+            assertAll(
+                    () -> assertThat(batch.claimedCount()).isEqualTo(2),
+                    () -> assertThat(batch.transitioned()).containsExactly(approved, rejected),
+                    () -> assertThat(approved.getStatus()).isEqualTo(PaymentStatus.COMPLETED),
+                    () -> assertThat(rejected.getStatus()).isEqualTo(PaymentStatus.FAILED),
+                    () -> assertThat(rejected.getFailureCode()).isEqualTo("LIMIT_EXCEEDED"),
+                    () -> assertThat(paymentCallbackRepository.findAll())
+                            .allMatch(PaymentCallbackModel::isProcessed));
+        }
+
+        @DisplayName("같은 transactionKey가 반복되면 먼저 수신된 콜백 1건만 반영한다.")
+        @Test
+        void applyPending_dedupesRepeatedTransactionKeys() {
+            // arrange
+            PaymentModel payment = requestedPayment(1L, "TX_001");
+            paymentCallbackService.receive("TX_001", "SUCCESS", "정상 승인되었습니다.");
+            paymentCallbackService.receive("TX_001", "SUCCESS", "정상 승인되었습니다.");
+            paymentCallbackService.receive("TX_001", "FAILED", "한도초과입니다.");
+
+            // act
+            PaymentCallbackBatch batch = paymentCallbackService.applyPending(100);
+
+            // assert
+            assertAll(
+                    () -> assertThat(batch.claimedCount()).isEqualTo(3),
+                    () -> assertThat(batch.transitioned()).containsExactly(payment),
+                    () -> assertThat(payment.getStatus()).isEqualTo(PaymentStatus.COMPLETED));
+        }
+
+        @DisplayName("이미 터미널 상태인 결제는 전이 대상에서 제외한다.")
+        @Test
+        void applyPending_whenTerminal_skips() {
+            // arrange
+            PaymentModel payment = requestedPayment(1L, "TX_001");
+            payment.complete();
+            paymentCallbackService.receive("TX_001", "FAILED", "한도초과입니다.");
+
+            // act
+            PaymentCallbackBatch batch = paymentCallbackService.applyPending(100);
+
+            // assert
+            assertAll(
+                    () -> assertThat(batch.transitioned()).isEmpty(),
+                    () -> assertThat(payment.getStatus()).isEqualTo(PaymentStatus.COMPLETED),
+                    () -> assertThat(paymentCallbackRepository.findAll().get(0).isProcessed()).isTrue());
+        }
+
+        @DisplayName("거래 키가 저장되기 전에 도착한 콜백은 미처리로 남겼다가, 키가 저장된 뒤 재시도에서 반영한다.")
+        @Test
+        void applyPending_whenCallbackArrivesBeforeTransactionKey_retriesLater() {
+            // arrange
+            PaymentModel payment = paymentRepository.save(
+                    PaymentModel.create(1L, 50000, CardType.SAMSUNG, "****-****-****-1451"));
+            paymentCallbackService.receive("TX_001", "SUCCESS", "정상 승인되었습니다.");
+            ZonedDateTime now = ZonedDateTime.now();
+
+            // act
+            PaymentCallbackBatch early = paymentCallbackService.applyPending(100, now);
+            payment.requested("TX_001");
+            PaymentCallbackBatch beforeRetry = paymentCallbackService.applyPending(100, now);
+            PaymentCallbackBatch retried = paymentCallbackService.applyPending(100, now.plusSeconds(1));
+
+            // assert
+            PaymentCallbackModel callback = paymentCallbackRepository.findAll().get(0);
+            assertAll(
+                    () -> assertThat(early.claimedCount()).isEqualTo(1),
+                    () -> assertThat(early.transitioned()).isEmpty(),
+                    () -> assertThat(beforeRetry.claimedCount()).isZero(),
+                    () -> assertThat(retried.transitioned()).containsExactly(payment),
+                    () -> assertThat(payment.getStatus()).isEqualTo(PaymentStatus.COMPLETED),
+                    () -> assertThat(callback.isProcessed()).isTrue(),
+                    () -> assertThat(callback.isAbandoned()).isFalse(),
+                    () -> assertThat(callback.getAttempts()).isEqualTo(1));
+        }
+
+        @DisplayName("재시도 한도가 지나도 결제를 찾지 못하면 포기하고 abandoned로 돌려준다.")
+        @Test
+        void applyPending_whenUnmatchedTooLong_abandons() {
+            // arrange
+            paymentCallbackService.receive("TX_404", "SUCCESS", "정상 승인되었습니다.");
+            ZonedDateTime expiredAt = ZonedDateTime.now().plus(PaymentCallbackService.MAX_UNMATCHED_AGE);
+
+            // act
+            PaymentCallbackBatch batch = paymentCallbackService.applyPending(100, expiredAt);
+
+            // assert
+            PaymentCallbackModel callback = paymentCallbackRepository.findAll().get(0);
+            assertAll(
+                    () -> assertThat(batch.abandoned()).containsExactly(callback),
+                    () -> assertThat(callback.isProcessed()).isTrue(),
+                    () -> assertThat(callback.isAbandoned()).isTrue());
+        }
+
+        @DisplayName("batchSize를 넘는 콜백은 다음 배치로 남긴다.")
+        @Test
+        void applyPending_respectsBatchSize() {
+            // arrange
+            requestedPayment(1L, "TX_001");
+            requestedPayment(2L, "TX_002");
+            paymentCallbackService.receive("TX_001", "SUCCESS", "정상 승인되었습니다.");
+            paymentCallbackService.receive("TX_002", "SUCCESS", "정상 승인되었습니다.");
+
+            // act
+            PaymentCallbackBatch first = paymentCallbackService.applyPending(1);
+            PaymentCallbackBatch second = paymentCallbackService.applyPending(1);
+            PaymentCallbackBatch third = paymentCallbackService.applyPending(1);
+
+            // assert
+            assertAll(
+                    () -> assertThat(first.claimedCount()).isEqualTo(1),
+                    () -> assertThat(second.claimedCount()).isEqualTo(1),
+                    () -> assertThat(third.claimedCount()).isZero());
+        }
+    }
+}
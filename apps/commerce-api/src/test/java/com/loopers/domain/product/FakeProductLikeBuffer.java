@@ -0,0 +1,116 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.product.dto.ProductLikeInfo;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+public class FakeProductLikeBuffer implements ProductLikeBuffer {
+
+    private final ProductLikeRepository productLikeRepository;
+    private final Map<Long, Set<Long>> usersByProductId = new HashMap<>();
+    private final List<Entry> journal = new ArrayList<>();
+    private long nextEntryId = 1;
+
+    public FakeProductLikeBuffer(ProductLikeRepository productLikeRepository) {
+        this.productLikeRepository = productLikeRepository;
+    }
+
+    public int pendingEntries() {
+        return journal.size();
+    }
+
+    /**
+     * Redis에서 키를 잃은 상황을 흉내 낸다.
+     */
+    public void evict(Long productId) {
+        usersByProductId.remove(productId);
+    }
+
+    @Override
+    public boolean add(Long userId, Long productId) {
+        return record(userId, productId, users(productId).add(userId));
+    }
+
+    @Override
+    public boolean remove(Long userId, Long productId) {
+        return record(userId, productId, users(productId).remove(userId));
+    }
+
+    @Override
+    public boolean contains(Long userId, Long productId) {
+        return users(productId).contains(userId);
+    }
+
+    @Override
+    public Map<Long, Long> countByProductIds(Collection<Long> productIds) {
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        productIds.stream()
+            .filter(usersByProductId::containsKey)
+            .forEach(id -> counts.put(id, (long) usersByProductId.get(id).size()));
+        return counts;
+    }
+
+    @Override
+    public ProductLikeInfo.Journal readJournal(int limit) {
+        List<Entry> entries = journal.subList(0, Math.min(limit, journal.size()));
+        Map<ProductLikeInfo.Relation, ZonedDateTime> changedAt = new LinkedHashMap<>();
+        entries.forEach(entry -> changedAt.put(entry.relation(), entry.changedAt()));
+        List<ProductLikeInfo.BufferedChange> changes = new ArrayList<>();
+        changedAt.forEach((relation, at) -> {
+            Set<Long> users = usersByProductId.get(relation.productId());
+            if (users != null) {
+                changes.add(new ProductLikeInfo.BufferedChange(relation, users.contains(relation.userId()), at));
+            }
+        });
+        return new ProductLikeInfo.Journal(entries.stream().map(Entry::id).toList(), changes);
+    }
+
+    @Override
+    public void acknowledge(ProductLikeInfo.Journal journal) {
+        Set<String> acknowledged = new HashSet<>(journal.entryIds());
+        this.journal.removeIf(entry -> acknowledged.contains(entry.id()));
+    }
+
+    @Override
+    public List<Long> nextProductsToReconcile(int limit) {
+        return usersByProductId.keySet().stream().sorted().limit(limit).toList();
+    }
+
+    @Override
+    public boolean reconcile(Long productId, Supplier<List<Long>> persistedUserIds) {
+        boolean pending = journal.stream().anyMatch(entry -> entry.relation().productId().equals(productId));
+        if (pending || !usersByProductId.containsKey(productId)) {
+            return false;
+        }
+        Set<Long> persisted = new HashSet<>(persistedUserIds.get());
+        if (persisted.equals(usersByProductId.get(productId))) {
+            return false;
+        }
+        usersByProductId.put(productId, persisted);
+        return true;
+    }
+
+    private Set<Long> users(Long productId) {
+        return usersByProductId.computeIfAbsent(
+            productId, id -> new HashSet<>(productLikeRepository.findUserIdsByProductId(id)));
+    }
+
+    private boolean record(Long userId, Long productId, boolean changed) {
+        if (changed) {
+            journal.add(new Entry(String.valueOf(nextEntryId++),
+                new ProductLikeInfo.Relation(userId, productId), ZonedDateTime.now()));
+        }
+        return changed;
+    }
+
+    private record Entry(String id, ProductLikeInfo.Relation relation, ZonedDateTime changedAt) {
+    }
+}
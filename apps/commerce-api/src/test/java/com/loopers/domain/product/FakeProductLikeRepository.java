@@ -1,9 +1,13 @@
 package com.loopers.domain.product;
 
+import com.loopers.domain.product.dto.ProductLikeInfo;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
@@ -11,6 +15,25 @@ public class FakeProductLikeRepository implements ProductLikeRepository {
 
     private final Map<Long, ProductLikeModel> store = new HashMap<>();
     private final AtomicLong idGenerator = new AtomicLong(1);
+    private final Set<Long> deletedProductIds = new HashSet<>();
+    private Runnable beforeNextWrite = () -> { };
+
+    public void markProductDeleted(Long productId) {
+        deletedProductIds.add(productId);
+    }
+
+    /**
+     * 다음 일괄 저장/삭제 직전에 한 번 실행한다. 다른 반영이 그 사이 같은 관계를 바꾼 상황을 흉내 낸다.
+     */
+    public void beforeNextWrite(Runnable action) {
+        beforeNextWrite = action;
+    }
+
+    private void runBeforeNextWrite() {
+        Runnable action = beforeNextWrite;
+        beforeNextWrite = () -> { };
+        action.run();
+    }
 
     @Override
     public ProductLikeModel save(ProductLikeModel productLike) {
@@ -34,6 +57,11 @@ public class FakeProductLikeRepository implements ProductLikeRepository {
             .findFirst();
     }
 
+    @Override
+    public boolean existsByUserIdAndProductId(Long userId, Long productId) {
+        return findByUserIdAndProductId(userId, productId).isPresent();
+    }
+
     @Override
     public void delete(ProductLikeModel productLike) {
         store.remove(productLike.getId());
@@ -46,6 +74,20 @@ public class FakeProductLikeRepository implements ProductLikeRepository {
             .toList();
     }
 
+    @Override
+    public List<ProductLikeModel> findActiveByUserId(Long userId, ProductLikeInfo.Cursor cursor, int limit) {
+        return store.values().stream()
+            .filter(like -> like.getUserId().equals(userId))
+            .filter(like -> !deletedProductIds.contains(like.getProductId()))
+            .filter(like -> cursor == null
+                || like.getCreatedAt().isBefore(cursor.createdAt())
+                || (like.getCreatedAt().isEqual(cursor.createdAt()) && like.getId() < cursor.id()))
+            .sorted(Comparator.comparing(ProductLikeModel::getCreatedAt, Comparator.reverseOrder())
+                .thenComparing(ProductLikeModel::getId, Comparator.reverseOrder()))
+            .limit(limit)
+            .toList();
+    }
+
     @Override
     public long countByProductId(Long productId) {
         return store.values().stream()
@@ -53,6 +95,58 @@ public class FakeProductLikeRepository implements ProductLikeRepository {
             .count();
     }
 
+    @Override
+    public List<Long> findUserIdsByProductId(Long productId) {
+        return store.values().stream()
+            .filter(like -> like.getProductId().equals(productId))
+            .map(ProductLikeModel::getUserId)
+            .toList();
+    }
+
+    @Override
+    public Set<ProductLikeInfo.Relation> findExisting(List<ProductLikeInfo.Relation> relations) {
+        return relations.stream()
+            .filter(relation -> existsByUserIdAndProductId(relation.userId(), relation.productId()))
+            .collect(Collectors.toSet());
+    }
+
+    @Override
+    public int insertAllIgnoringDuplicates(List<ProductLikeInfo.BufferedChange> changes) {
+        runBeforeNextWrite();
+        int inserted = 0;
+        for (ProductLikeInfo.BufferedChange change : changes) {
+            ProductLikeInfo.Relation relation = change.relation();
+            if (existsByUserIdAndProductId(relation.userId(), relation.productId())) {
+                continue;
+            }
+            ProductLikeModel like = ProductLikeModel.create(relation.userId(), relation.productId());
+            try {
+                var createdAtField = ProductLikeModel.class.getDeclaredField("createdAt");
+                createdAtField.setAccessible(true);
+                createdAtField.set(like, change.changedAt());
+            } catch (NoSuchFieldException | IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+            save(like);
+            inserted++;
+        }
+        return inserted;
+    }
+
+    @Override
+    public int deleteAll(List<ProductLikeInfo.Relation> relations) {
+        runBeforeNextWrite();
+        int deleted = 0;
+        for (ProductLikeInfo.Relation relation : relations) {
+            Optional<ProductLikeModel> like = findByUserIdAndProductId(relation.userId(), relation.productId());
+            if (like.isPresent()) {
+                delete(like.get());
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
     @Override
     public Map<Long, Long> countByProductIds(List<Long> productIds) {
         Map<Long, Long> countMap = store.values().stream()
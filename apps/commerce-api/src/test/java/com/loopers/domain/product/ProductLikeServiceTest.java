@@ -2,11 +2,18 @@ package com.loopers.domain.product;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.loopers.domain.product.dto.ProductLikeInfo;
+import com.loopers.domain.product.event.ProductLikedEvent;
+import com.loopers.domain.product.event.ProductUnlikedEvent;
 import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import org.springframework.context.ApplicationEventPublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -24,7 +31,7 @@ class ProductLikeServiceTest {
         productLikeRepository = new FakeProductLikeRepository();
         publishedEvents = new ArrayList<>();
         ApplicationEventPublisher publisher = publishedEvents::add;
-        productLikeService = new ProductLikeService(publisher, productLikeRepository);
+        productLikeService = new ProductLikeService(publisher, productLikeRepository, Optional.empty());
     }
 
     @DisplayName("좋아요를 등록할 때, ")
@@ -135,6 +142,43 @@ class ProductLikeServiceTest {
         }
     }
 
+    @DisplayName("삭제되지 않은 상품의 좋아요를 페이지로 조회할 때, ")
+    @Nested
+    class GetActiveLikesByUserId {
+
+        @DisplayName("삭제된 상품은 빼고 최근 순으로 size개를 돌려주며, nextCursor로 이어서 읽으면 겹치지 않는다.")
+        @Test
+        void getActiveLikesByUserId_pagesByKeyset() {
+            // arrange
+            Long userId = 1L;
+            for (long productId = 1; productId <= 5; productId++) {
+                productLikeRepository.save(ProductLikeModel.create(userId, productId));
+            }
+            productLikeRepository.markProductDeleted(3L);
+
+            // act
+            ProductLikeInfo.Slice first = productLikeService.getActiveLikesByUserId(userId, null, 2);
+            ProductLikeInfo.Slice second = productLikeService.getActiveLikesByUserId(userId, first.nextCursor(), 2);
+
+            // assert
+            assertAll(
+                () -> assertThat(first.likes()).extracting(ProductLikeModel::getProductId).containsExactly(5L, 4L),
+                () -> assertThat(first.nextCursor()).isNotNull(),
+                () -> assertThat(second.likes()).extracting(ProductLikeModel::getProductId).containsExactly(2L, 1L),
+                () -> assertThat(second.nextCursor()).isNull()
+            );
+        }
+
+        @DisplayName("size가 1~100 범위를 벗어나면 BAD_REQUEST 예외가 발생한다.")
+        @Test
+        void getActiveLikesByUserId_whenSizeOutOfRange_throwsBadRequest() {
+            // act & assert
+            assertThatThrownBy(() -> productLikeService.getActiveLikesByUserId(1L, null, 101))
+                .isInstanceOf(CoreException.class)
+                .hasMessageContaining("페이지 크기는");
+        }
+    }
+
     @DisplayName("좋아요 수를 조회할 때, ")
     @Nested
     class CountLikes {
@@ -175,4 +219,165 @@ class ProductLikeServiceTest {
             assertThat(result).containsEntry(30L, 0L);
         }
     }
+
+    @DisplayName("좋아요 버퍼를 쓸 때, ")
+    @Nested
+    class WriteBehind {
+
+        private FakeProductLikeBuffer likeBuffer;
+        private ProductLikeService bufferedService;
+
+        @BeforeEach
+        void setUp() {
+            likeBuffer = new FakeProductLikeBuffer(productLikeRepository);
+            bufferedService = new ProductLikeService(publishedEvents::add, productLikeRepository, Optional.of(likeBuffer));
+        }
+
+        @DisplayName("좋아요/취소는 버퍼에만 기록되고, 같은 요청을 반복하면 CONFLICT/NOT_FOUND 예외가 발생한다.")
+        @Test
+        void likeAndUnlike_recordOnlyInBuffer() {
+            // act
+            bufferedService.like(1L, 10L);
+
+            // assert
+            assertAll(
+                () -> assertThat(productLikeRepository.findByUserIdAndProductId(1L, 10L)).isEmpty(),
+                () -> assertThat(bufferedService.existsByUserIdAndProductId(1L, 10L)).isTrue(),
+                () -> assertThat(bufferedService.getBufferedLikeCounts(List.of(10L))).containsEntry(10L, 1L),
+                () -> assertThat(publishedEvents).isEmpty(),
+                () -> assertThatThrownBy(() -> bufferedService.like(1L, 10L))
+                    .isInstanceOf(CoreException.class)
+                    .hasMessageContaining("이미 좋아요한 상품입니다"),
+                () -> assertThatThrownBy(() -> bufferedService.unlike(2L, 10L))
+                    .isInstanceOf(CoreException.class)
+                    .hasMessageContaining("좋아요 기록이 없습니다")
+            );
+        }
+
+        @DisplayName("처음 건드리는 상품은 DB의 좋아요를 불러와 이어서 센다.")
+        @Test
+        void like_loadsPersistedLikesFirst() {
+            // arrange
+            productLikeRepository.save(ProductLikeModel.create(1L, 10L));
+
+            // act
+            bufferedService.like(2L, 10L);
+
+            // assert
+            assertAll(
+                () -> assertThat(bufferedService.getBufferedLikeCounts(List.of(10L, 20L)))
+                    .containsExactly(Map.entry(10L, 2L)),
+                () -> assertThatThrownBy(() -> bufferedService.like(1L, 10L))
+                    .isInstanceOf(CoreException.class)
+            );
+        }
+
+        @DisplayName("반영하면 관계별 최종 상태만 DB에 쓰고, 실제로 바뀐 관계만 이벤트로 발행한다.")
+        @Test
+        void flushBuffered_coalescesChanges() {
+            // arrange
+            productLikeRepository.save(ProductLikeModel.create(3L, 10L));
+            bufferedService.like(1L, 10L);
+            bufferedService.unlike(1L, 10L);
+            bufferedService.like(1L, 10L);
+            bufferedService.like(2L, 10L);
+            bufferedService.unlike(2L, 10L);
+            bufferedService.unlike(3L, 10L);
+
+            // act
+            ProductLikeInfo.Journal journal = bufferedService.flushBuffered(100);
+            bufferedService.acknowledgeFlushed(journal);
+
+            // assert
+            assertAll(
+                () -> assertThat(journal.entryIds()).hasSize(6),
+                () -> assertThat(productLikeRepository.findUserIdsByProductId(10L)).containsExactly(1L),
+                () -> assertThat(publishedEvents).hasSize(2),
+                () -> assertThat(publishedEvents).hasAtLeastOneElementOfType(ProductLikedEvent.class),
+                () -> assertThat(publishedEvents).hasAtLeastOneElementOfType(ProductUnlikedEvent.class),
+                () -> assertThat(likeBuffer.pendingEntries()).isZero()
+            );
+        }
+
+        @DisplayName("확인 처리 전에 멈췄다가 다시 반영해도 DB와 이벤트가 한 번만 반영된다.")
+        @Test
+        void flushBuffered_replaysIdempotently() {
+            // arrange
+            bufferedService.like(1L, 10L);
+            bufferedService.flushBuffered(100);
+            publishedEvents.clear();
+
+            // act
+            ProductLikeInfo.Journal replayed = bufferedService.flushBuffered(100);
+            bufferedService.acknowledgeFlushed(replayed);
+
+            // assert
+            assertAll(
+                () -> assertThat(replayed.entryIds()).hasSize(1),
+                () -> assertThat(productLikeRepository.findUserIdsByProductId(10L)).containsExactly(1L),
+                () -> assertThat(publishedEvents).isEmpty(),
+                () -> assertThat(likeBuffer.pendingEntries()).isZero()
+            );
+        }
+
+        @DisplayName("다른 반영이 그 사이 같은 관계를 저장했으면, CONFLICT 예외가 발생하고 이벤트를 발행하지 않는다.")
+        @Test
+        void flushBuffered_whenOverlappedByAnotherFlush_throwsConflict() {
+            // arrange
+            bufferedService.like(1L, 10L);
+            bufferedService.like(2L, 10L);
+            productLikeRepository.beforeNextWrite(() -> productLikeRepository.save(ProductLikeModel.create(1L, 10L)));
+
+            // act
+            CoreException exception = assertThrows(CoreException.class, () -> bufferedService.flushBuffered(100));
+
+            // assert
+            assertAll(
+                () -> assertThat(exception.getErrorCode()).isEqualTo(ErrorType.CONFLICT),
+                () -> assertThat(publishedEvents).isEmpty(),
+                () -> assertThat(likeBuffer.pendingEntries()).isEqualTo(2)
+            );
+        }
+
+        @DisplayName("다른 반영이 그 사이 같은 관계를 지웠으면, CONFLICT 예외가 발생하고 이벤트를 발행하지 않는다.")
+        @Test
+        void flushBuffered_whenDeleteOverlapped_throwsConflict() {
+            // arrange
+            ProductLikeModel persisted = productLikeRepository.save(ProductLikeModel.create(1L, 10L));
+            bufferedService.unlike(1L, 10L);
+            productLikeRepository.beforeNextWrite(() -> productLikeRepository.delete(persisted));
+
+            // act
+            CoreException exception = assertThrows(CoreException.class, () -> bufferedService.flushBuffered(100));
+
+            // assert
+            assertAll(
+                () -> assertThat(exception.getErrorCode()).isEqualTo(ErrorType.CONFLICT),
+                () -> assertThat(publishedEvents).isEmpty()
+            );
+        }
+
+        @DisplayName("다시 맞추면 미반영 변경이 없는 상품만 DB 기준으로 바뀐다.")
+        @Test
+        void reconcileBuffered_rebuildsOnlySettledProducts() {
+            // arrange
+            bufferedService.like(1L, 10L);
+            bufferedService.like(1L, 20L);
+            bufferedService.acknowledgeFlushed(bufferedService.flushBuffered(100));
+            productLikeRepository.save(ProductLikeModel.create(2L, 10L));
+            productLikeRepository.save(ProductLikeModel.create(2L, 20L));
+            bufferedService.like(3L, 20L);
+
+            // act
+            int rebuilt = bufferedService.reconcileBuffered(10);
+
+            // assert
+            assertAll(
+                () -> assertThat(rebuilt).isEqualTo(1),
+                () -> assertThat(bufferedService.getBufferedLikeCounts(List.of(10L, 20L)))
+                    .containsEntry(10L, 2L)
+                    .containsEntry(20L, 2L)
+            );
+        }
+    }
 }
@@ -0,0 +1,237 @@
+package com.loopers.domain.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AuthTokenService 단위 테스트")
+class AuthTokenServiceTest {
+
+    private FakeUserRepository userRepository;
+    private FakeAuthTokenCodec authTokenCodec;
+    private FakeTokenRevocationList tokenRevocationList;
+    private AuthTokenService authTokenService;
+    private UserModel user;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = new FakeUserRepository();
+        FakePasswordEncoder passwordEncoder = new FakePasswordEncoder();
+        authTokenCodec = new FakeAuthTokenCodec();
+        tokenRevocationList = new FakeTokenRevocationList();
+        AuthenticationService authenticationService =
+                new AuthenticationService(userRepository, passwordEncoder, new FakeCredentialCache());
+        authTokenService = new AuthTokenService(
+                authenticationService, userRepository, authTokenCodec, tokenRevocationList);
+
+        user = userRepository.save(UserModel.create(
+                "testuser1", passwordEncoder.encode("Test1234!"),
+                "홍길동", LocalDate.of(1990, 1, 15), "test@example.com"));
+    }
+
+    @DisplayName("로그인할 때, ")
+    @Nested
+    class Login {
+
+        @DisplayName("자격 증명이 맞으면 사용자 정보를 담은 access/refresh 토큰을 발급한다.")
+        @Test
+        void login_issuesTokenPair() {
+            // act
+            AuthTokenPair pair = authTokenService.login("testuser1", "Test1234!");
+
+            // assert
+            assertAll(
+                    () -> assertThat(pair.accessToken().claims().type()).isEqualTo(AuthTokenType.ACCESS),
+                    () -> assertThat(pair.refreshToken().claims().type()).isEqualTo(AuthTokenType.REFRESH),
+                    () -> assertThat(pair.accessToken().claims().toAuthenticatedUser())
+                            .isEqualTo(new AuthenticatedUser(user.getId(), "testuser1", "홍길동")));
+        }
+
+        @DisplayName("비밀번호가 틀리면 UNAUTHORIZED 예외가 발생한다.")
+        @Test
+        void login_whenWrongPassword_throws() {
+            // act & assert
+            assertThatThrownBy(() -> authTokenService.login("testuser1", "Wrong1234!"))
+                    .isInstanceOf(CoreException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorType.UNAUTHORIZED);
+        }
+    }
+
+    @DisplayName("access 토큰을 검증할 때, ")
+    @Nested
+    class VerifyAccessToken {
+
+        @DisplayName("유효한 토큰이면 사용자 정보를 돌려준다.")
+        @Test
+        void verify_returnsUser() {
+            // arrange
+            AuthTokenPair pair = authTokenService.login("testuser1", "Test1234!");
+
+            // act
+            AuthenticatedUser result = authTokenService.verifyAccessToken(pair.accessToken().value());
+
+            // assert
+            assertThat(result.loginId()).isEqualTo("testuser1");
+        }
+
+        @DisplayName("refresh 토큰으로는 인증할 수 없다.")
+        @Test
+        void verify_whenRefreshToken_throws() {
+            // arrange
+            AuthTokenPair pair = authTokenService.login("testuser1", "Test1234!");
+
+            // act & assert
+            assertThatThrownBy(() -> authTokenService.verifyAccessToken(pair.refreshToken().value()))
+                    .isInstanceOf(CoreException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorType.UNAUTHORIZED);
+        }
+
+        @DisplayName("만료된 토큰이면 UNAUTHORIZED 예외가 발생한다.")
+        @Test
+        void verify_whenExpired_throws() {
+            // arrange
+            authTokenCodec.setTtlSeconds(-1);
+            AuthTokenPair pair = authTokenService.login("testuser1", "Test1234!");
+
+            // act & assert
+            assertThatThrownBy(() -> authTokenService.verifyAccessToken(pair.accessToken().value()))
+                    .isInstanceOf(CoreException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorType.UNAUTHORIZED);
+        }
+
+        @DisplayName("폐기된 토큰이면 UNAUTHORIZED 예외가 발생한다.")
+        @Test
+        void verify_whenRevoked_throws() {
+            // arrange
+            AuthTokenPair pair = authTokenService.login("testuser1", "Test1234!");
+            authTokenService.revoke(pair.accessToken().value());
+
+            // act & assert
+            assertThatThrownBy(() -> authTokenService.verifyAccessToken(pair.accessToken().value()))
+                    .isInstanceOf(CoreException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorType.UNAUTHORIZED);
+        }
+
+        @DisplayName("서명을 확인할 수 없는 토큰이면 UNAUTHORIZED 예외가 발생한다.")
+        @Test
+        void verify_whenUnknownToken_throws() {
+            // act & assert
+            assertThatThrownBy(() -> authTokenService.verifyAccessToken("forged"))
+                    .isInstanceOf(CoreException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorType.UNAUTHORIZED);
+        }
+    }
+
+    @DisplayName("토큰을 재발급할 때, ")
+    @Nested
+    class Refresh {
+
+        @DisplayName("새 토큰 쌍을 발급하고 사용한 refresh 토큰은 폐기한다.")
+        @Test
+        void refresh_rotatesRefreshToken() {
+            // arrange
+            AuthTokenPair first = authTokenService.login("testuser1", "Test1234!");
+
+            // act
+            AuthTokenPair second = authTokenService.refresh(first.refreshToken().value());
+
+            // assert
+            assertAll(
+                    () -> assertThat(second.refreshToken().value()).isNotEqualTo(first.refreshToken().value()),
+                    () -> assertThat(tokenRevocationList.isRevoked(first.refreshToken().claims().tokenId())).isTrue(),
+                    () -> assertThatThrownBy(() -> authTokenService.refresh(first.refreshToken().value()))
+                            .isInstanceOf(CoreException.class));
+        }
+
+        @DisplayName("같은 refresh 토큰으로 동시에 재발급하면 한 요청만 새 토큰 쌍을 받는다.")
+        @Test
+        void refresh_concurrently_succeedsOnce() throws InterruptedException {
+            // arrange
+            AuthTokenPair pair = authTokenService.login("testuser1", "Test1234!");
+            String refreshToken = pair.refreshToken().value();
+            int threads = 16;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(threads);
+            AtomicInteger succeeded = new AtomicInteger();
+            AtomicInteger rejected = new AtomicInteger();
+
+            // act
+            for (int i = 0; i < threads; i++) {
+                executor.submit(() -> {
+                    try {
+                        start.await();
+                        authTokenService.refresh(refreshToken);
+                        succeeded.incrementAndGet();
+                    } catch (CoreException e) {
+                        rejected.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            start.countDown();
+            done.await(10, TimeUnit.SECONDS);
+            executor.shutdown();
+
+            // assert
+            assertAll(
+                    () -> assertThat(succeeded.get()).isEqualTo(1),
+                    () -> assertThat(rejected.get()).isEqualTo(threads - 1));
+        }
+
+        @DisplayName("비밀번호 변경 등으로 사용자 토큰이 일괄 폐기됐으면 그 전에 발급된 refresh 토큰은 쓸 수 없다.")
+        @Test
+        void refresh_whenRevokedForUser_throws() {
+            // arrange
+            AuthTokenPair pair = authTokenService.login("testuser1", "Test1234!");
+            tokenRevocationList.revokeAllIssuedBefore(user.getId(), pair.refreshToken().claims().issuedAt());
+
+            // act & assert
+            assertThatThrownBy(() -> authTokenService.refresh(pair.refreshToken().value()))
+                    .isInstanceOf(CoreException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorType.UNAUTHORIZED);
+        }
+
+        @DisplayName("일괄 폐기 기준 시각보다 1ms라도 뒤에 발급된 refresh 토큰은 쓸 수 있다.")
+        @Test
+        void refresh_whenIssuedJustAfterCutoff_succeeds() {
+            // arrange
+            AuthTokenPair pair = authTokenService.login("testuser1", "Test1234!");
+            tokenRevocationList.revokeAllIssuedBefore(user.getId(), pair.refreshToken().claims().issuedAt() - 1);
+
+            // act
+            AuthTokenPair refreshed = authTokenService.refresh(pair.refreshToken().value());
+
+            // assert
+            assertThat(refreshed.refreshToken().value()).isNotEqualTo(pair.refreshToken().value());
+        }
+
+        @DisplayName("access 토큰으로는 재발급할 수 없다.")
+        @Test
+        void refresh_whenAccessToken_throws() {
+            // arrange
+            AuthTokenPair pair = authTokenService.login("testuser1", "Test1234!");
+
+            // act & assert
+            assertThatThrownBy(() -> authTokenService.refresh(pair.accessToken().value()))
+                    .isInstanceOf(CoreException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorType.UNAUTHORIZED);
+        }
+    }
+}
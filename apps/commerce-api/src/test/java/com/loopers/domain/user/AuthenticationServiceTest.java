@@ -2,7 +2,11 @@ package com.loopers.domain.user;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.loopers.support.error.CoreException;
@@ -28,6 +32,9 @@ class AuthenticationServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private CredentialCache credentialCache;
+
     @InjectMocks
     private AuthenticationService authenticationService;
 
@@ -108,4 +115,56 @@ class AuthenticationServiceTest {
                 .hasFieldOrPropertyWithValue("errorCode", ErrorType.UNAUTHORIZED);
         }
     }
+
+    @DisplayName("authenticateCached 메서드는")
+    @Nested
+    class AuthenticateCached {
+
+        @Test
+        @DisplayName("캐시에 검증된 자격 증명이 있으면 DB와 비밀번호 비교 없이 반환한다")
+        void authenticateCached_whenHit_skipsRepositoryAndEncoder() {
+            // arrange
+            AuthenticatedUser cached = new AuthenticatedUser(1L, validLoginId, "홍길동");
+            when(credentialCache.find(validLoginId, validPassword)).thenReturn(Optional.of(cached));
+
+            // act
+            AuthenticatedUser result = authenticationService.authenticateCached(validLoginId, validPassword);
+
+            // assert
+            assertThat(result).isEqualTo(cached);
+            verifyNoInteractions(userRepository, passwordEncoder);
+        }
+
+        @Test
+        @DisplayName("캐시에 없으면 인증한 뒤 결과를 캐시에 저장한다")
+        void authenticateCached_whenMiss_authenticatesAndStores() {
+            // arrange
+            when(credentialCache.find(validLoginId, validPassword)).thenReturn(Optional.empty());
+            when(userRepository.findByLoginId(validLoginId)).thenReturn(Optional.of(testUser));
+            when(passwordEncoder.matches(validPassword, encodedPassword)).thenReturn(true);
+
+            // act
+            AuthenticatedUser result = authenticationService.authenticateCached(validLoginId, validPassword);
+
+            // assert
+            assertThat(result.loginId()).isEqualTo(validLoginId);
+            verify(credentialCache).put(validLoginId, validPassword, result, encodedPassword);
+        }
+
+        @Test
+        @DisplayName("인증에 실패하면 캐시에 저장하지 않는다")
+        void authenticateCached_whenInvalid_doesNotStore() {
+            // arrange
+            String wrongPassword = "Wrong1234!@#";
+            when(credentialCache.find(validLoginId, wrongPassword)).thenReturn(Optional.empty());
+            when(userRepository.findByLoginId(validLoginId)).thenReturn(Optional.of(testUser));
+            when(passwordEncoder.matches(wrongPassword, encodedPassword)).thenReturn(false);
+
+            // act & assert
+            assertThatThrownBy(() -> authenticationService.authenticateCached(validLoginId, wrongPassword))
+                .isInstanceOf(CoreException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorType.UNAUTHORIZED);
+            verify(credentialCache, never()).put(anyString(), anyString(), any(), anyString());
+        }
+    }
 }
@@ -0,0 +1,33 @@
+package com.loopers.domain.user;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public class FakeAuthTokenCodec implements AuthTokenCodec {
+
+    private final Map<String, AuthTokenClaims> issued = new HashMap<>();
+    private long ttlSeconds = 900;
+    private int sequence;
+
+    public void setTtlSeconds(long ttlSeconds) {
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    @Override
+    public IssuedAuthToken issue(AuthenticatedUser user, AuthTokenType type, Instant now) {
+        String tokenId = "jti-" + (++sequence);
+        AuthTokenClaims claims = new AuthTokenClaims(
+                tokenId, type, user.id(), user.loginId(), user.name(),
+                now.toEpochMilli(), now.getEpochSecond() + ttlSeconds);
+        String value = "token-" + tokenId;
+        issued.put(value, claims);
+        return new IssuedAuthToken(value, claims);
+    }
+
+    @Override
+    public Optional<AuthTokenClaims> decode(String token) {
+        return Optional.ofNullable(issued.get(token));
+    }
+}
@@ -0,0 +1,31 @@
+package com.loopers.domain.user;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public class FakeCredentialCache implements CredentialCache {
+
+    private final Map<String, Map<String, AuthenticatedUser>> store = new HashMap<>();
+    private final Map<String, String> versions = new HashMap<>();
+
+    @Override
+    public Optional<AuthenticatedUser> find(String loginId, String rawPassword) {
+        return Optional.ofNullable(store.getOrDefault(loginId, Map.of()).get(rawPassword));
+    }
+
+    @Override
+    public void put(String loginId, String rawPassword, AuthenticatedUser user, String credentialVersion) {
+        String current = versions.putIfAbsent(loginId, credentialVersion);
+        if (current != null && !current.equals(credentialVersion)) {
+            return;
+        }
+        store.computeIfAbsent(loginId, key -> new HashMap<>()).put(rawPassword, user);
+    }
+
+    @Override
+    public void evict(String loginId, String credentialVersion) {
+        store.remove(loginId);
+        versions.put(loginId, credentialVersion);
+    }
+}
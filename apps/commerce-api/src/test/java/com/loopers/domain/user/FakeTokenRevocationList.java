@@ -0,0 +1,31 @@
+package com.loopers.domain.user;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class FakeTokenRevocationList implements TokenRevocationList {
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private final Map<Long, Long> revokedBeforeByUser = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean revoke(String tokenId, long expiresAt) {
+        return revoked.putIfAbsent(tokenId, expiresAt) == null;
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        return revoked.containsKey(tokenId);
+    }
+
+    @Override
+    public void revokeAllIssuedBefore(Long userId, long issuedBefore) {
+        revokedBeforeByUser.put(userId, issuedBefore);
+    }
+
+    @Override
+    public boolean isRevokedForUser(Long userId, long issuedAt) {
+        Long revokedBefore = revokedBeforeByUser.get(userId);
+        return revokedBefore != null && issuedAt <= revokedBefore;
+    }
+}
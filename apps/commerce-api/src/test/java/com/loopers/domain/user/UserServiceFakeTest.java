@@ -3,6 +3,7 @@ package com.loopers.domain.user;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.loopers.domain.user.event.UserPasswordChangedEvent;
 import com.loopers.support.error.CoreException;
 import java.util.ArrayList;
 import java.util.List;
@@ -110,6 +111,25 @@ class UserServiceFakeTest {
             assertThat(updated.getPassword()).isEqualTo("ENCODED_NewPass123!@");
         }
 
+        @Test
+        @DisplayName("비밀번호를 바꾸면 비밀번호 변경 이벤트를 발행한다.")
+        void changePassword_publishesPasswordChangedEvent() {
+            // arrange
+            UserModel user = userService.signup(loginId, rawPassword, name, birthDate, email);
+            publishedEvents.clear();
+
+            // act
+            userService.changePassword(loginId, rawPassword, "NewPass123!@");
+
+            // assert
+            assertThat(publishedEvents).singleElement()
+                    .isInstanceOfSatisfying(UserPasswordChangedEvent.class, event -> {
+                        assertThat(event.userId()).isEqualTo(user.getId());
+                        assertThat(event.loginId()).isEqualTo(loginId);
+                        assertThat(event.credentialVersion()).isEqualTo("ENCODED_NewPass123!@");
+                    });
+        }
+
         @Test
         @DisplayName("현재 비밀번호 불일치면 예외")
         void changePassword_현재비밀번호_불일치() {
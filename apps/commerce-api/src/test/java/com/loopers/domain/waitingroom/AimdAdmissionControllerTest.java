@@ -0,0 +1,95 @@
+package com.loopers.domain.waitingroom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AimdAdmissionController 단위 테스트")
+class AimdAdmissionControllerTest {
+
+    private static final AdmissionLimits LIMITS = new AdmissionLimits(0.8, 500, 1000, 1000);
+    private static final AdmissionSignals HEALTHY = new AdmissionSignals(0.1, 5, 200, 10);
+
+    private AimdAdmissionController controller(double initialRate) {
+        return new AimdAdmissionController(5, 100, initialRate, 2, 0.5, LIMITS);
+    }
+
+    @DisplayName("하위 시스템이 여유로울 때, ")
+    @Nested
+    class Healthy {
+
+        @DisplayName("목표 속도를 increaseStep만큼 올린다.")
+        @Test
+        void adjust_increasesAdditively() {
+            AimdAdmissionController controller = controller(20);
+            assertThat(controller.adjust(HEALTHY)).isEqualTo(22);
+            assertThat(controller.adjust(HEALTHY)).isEqualTo(24);
+        }
+
+        @DisplayName("최대 속도를 넘지 않는다.")
+        @Test
+        void adjust_clampsToMaxRate() {
+            AimdAdmissionController controller = controller(99);
+            assertThat(controller.adjust(HEALTHY)).isEqualTo(100);
+        }
+    }
+
+    @DisplayName("과부하 신호가 잡힐 때, ")
+    @Nested
+    class Overloaded {
+
+        @DisplayName("Bulkhead 포화면 목표 속도를 절반으로 줄인다.")
+        @Test
+        void adjust_whenBulkheadSaturated_decreasesMultiplicatively() {
+            AimdAdmissionController controller = controller(40);
+            assertThat(controller.adjust(new AdmissionSignals(0.9, 5, 200, 10))).isEqualTo(20);
+        }
+
+        @DisplayName("커넥션 대기, p99, 참여열 중 하나만 넘어도 줄인다.")
+        @Test
+        void adjust_whenAnyLimitExceeded_decreases() {
+            AimdAdmissionController controller = controller(80);
+            assertThat(controller.adjust(new AdmissionSignals(0.1, 600, 200, 10))).isEqualTo(40);
+            assertThat(controller.adjust(new AdmissionSignals(0.1, 5, 1500, 10))).isEqualTo(20);
+            assertThat(controller.adjust(new AdmissionSignals(0.1, 5, 200, 1000))).isEqualTo(10);
+        }
+
+        @DisplayName("최소 속도 아래로 내려가지 않는다.")
+        @Test
+        void adjust_clampsToMinRate() {
+            AimdAdmissionController controller = controller(6);
+            assertThat(controller.adjust(new AdmissionSignals(1.0, 5, 200, 10))).isEqualTo(5);
+        }
+    }
+
+    @DisplayName("저장된 목표 속도에서 이어갈 때, ")
+    @Nested
+    class Restore {
+
+        @DisplayName("그 값에서 조절을 이어간다.")
+        @Test
+        void restore_continuesFromStoredRate() {
+            AimdAdmissionController controller = controller(20);
+            controller.restore(60);
+            assertThat(controller.adjust(HEALTHY)).isEqualTo(62);
+        }
+
+        @DisplayName("범위를 벗어난 값은 범위 안으로 맞춘다.")
+        @Test
+        void restore_clampsToRange() {
+            AimdAdmissionController controller = controller(20);
+            controller.restore(500);
+            assertThat(controller.targetRate()).isEqualTo(100);
+        }
+    }
+
+    @DisplayName("감소 계수가 0~1 범위가 아니면 예외가 발생한다.")
+    @Test
+    void create_whenInvalidDecreaseFactor_throwsException() {
+        assertThatThrownBy(() -> new AimdAdmissionController(5, 100, 20, 2, 1.5, LIMITS))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,30 @@
+package com.loopers.domain.waitingroom;
+
+public class FakeAdmissionPolicy implements AdmissionPolicy {
+
+    private int batchSize = 2;
+    private double ratePerSecond = 20;
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public void setRatePerSecond(double ratePerSecond) {
+        this.ratePerSecond = ratePerSecond;
+    }
+
+    @Override
+    public int nextBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public double targetRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    @Override
+    public double measuredRatePerSecond() {
+        return ratePerSecond;
+    }
+}
@@ -0,0 +1,53 @@
+package com.loopers.domain.waitingroom;
+
+import java.util.List;
+
+/**
+ * FakeWaitingQueue/FakeEntryGate를 순차 호출로 조합한 참조 구현.
+ * Redis Lua 구현과 동작이 같아야 한다.
+ */
+public class FakeWaitingRoomStore implements WaitingRoomStore {
+
+    private final WaitingQueue waitingQueue;
+    private final EntryGate entryGate;
+    private long admittedSequence;
+
+    public FakeWaitingRoomStore(WaitingQueue waitingQueue, EntryGate entryGate) {
+        this.waitingQueue = waitingQueue;
+        this.entryGate = entryGate;
+    }
+
+    @Override
+    public WaitingSnapshot enter(Long userId) {
+        waitingQueue.enter(userId);
+        return WaitingSnapshot.waiting(waitingQueue.getRank(userId), waitingQueue.getTotalWaiting());
+    }
+
+    @Override
+    public WaitingSnapshot findPosition(Long userId) {
+        String token = entryGate.getToken(userId);
+        if (token != null) {
+            return WaitingSnapshot.entered(token);
+        }
+        Long rank = waitingQueue.getRank(userId);
+        if (rank == null) {
+            return WaitingSnapshot.notInQueue();
+        }
+        return WaitingSnapshot.waiting(rank, waitingQueue.getTotalWaiting());
+    }
+
+    @Override
+    public List<WaitingEntry> admit(int count) {
+        List<WaitingEntry> admitted = waitingQueue.popFrontWithScores(count);
+        for (WaitingEntry entry : admitted) {
+            entryGate.issueToken(entry.userId());
+        }
+        admittedSequence += admitted.size();
+        return admitted;
+    }
+
+    @Override
+    public long getAdmittedSequence() {
+        return admittedSequence;
+    }
+}
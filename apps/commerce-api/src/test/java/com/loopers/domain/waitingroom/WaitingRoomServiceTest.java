@@ -22,6 +22,7 @@ class WaitingRoomServiceTest {
     private WaitingRoomService waitingRoomService;
     private FakeWaitingQueue waitingQueue;
     private FakeEntryGate entryGate;
+    private FakeAdmissionPolicy admissionPolicy;
     private final List<Object> publishedEvents = new ArrayList<>();
     private final ApplicationEventPublisher eventPublisher = publishedEvents::add;
 
@@ -30,7 +31,10 @@ class WaitingRoomServiceTest {
         publishedEvents.clear();
         waitingQueue = new FakeWaitingQueue();
         entryGate = new FakeEntryGate();
-        waitingRoomService = new WaitingRoomService(waitingQueue, entryGate, eventPublisher);
+        admissionPolicy = new FakeAdmissionPolicy();
+        waitingRoomService = new WaitingRoomService(
+                waitingQueue, entryGate, new FakeWaitingRoomStore(waitingQueue, entryGate),
+                admissionPolicy, eventPublisher);
     }
 
     /** 테스트 헬퍼: 대기열에서 꺼내 토큰 발급 (processQueue 없이 직접 조작) */
@@ -149,6 +153,17 @@ class WaitingRoomServiceTest {
                     .satisfies(e -> assertThat(((CoreException) e).getErrorCode())
                             .isEqualTo(WaitingRoomErrorCode.NOT_IN_QUEUE));
         }
+
+        @DisplayName("2-5. 예상 대기시간은 입장 정책의 측정 속도로 계산된다.")
+        @Test
+        void getPosition_usesMeasuredAdmitRate() {
+            for (long i = 1; i <= 41; i++) {
+                waitingRoomService.enter(i);
+            }
+            admissionPolicy.setRatePerSecond(10);
+            WaitingRoomPosition result = waitingRoomService.getPosition(41L);
+            assertThat(result.estimatedWaitSeconds()).isEqualTo(4);
+        }
     }
 
     @DisplayName("(3) N명 꺼내기 — Scheduler → 대기열")
@@ -184,6 +199,28 @@ class WaitingRoomServiceTest {
             assertThat(waitingQueue.getTotalWaiting()).isEqualTo(0);
         }
 
+        @DisplayName("3-5. 입장 정책이 0명을 주면 이번 틱은 건너뛴다.")
+        @Test
+        void processQueue_whenPolicyReturnsZero_skipsTick() {
+            waitingRoomService.enter(1L);
+            admissionPolicy.setBatchSize(0);
+            List<WaitingEntry> admitted = waitingRoomService.processQueue();
+            assertAll(
+                    () -> assertThat(admitted).isEmpty(),
+                    () -> assertThat(waitingQueue.getTotalWaiting()).isEqualTo(1));
+        }
+
+        @DisplayName("3-6. 입장 정책이 정한 인원만큼 꺼낸다.")
+        @Test
+        void processQueue_admitsPolicyBatchSize() {
+            for (long i = 1; i <= 10; i++) {
+                waitingRoomService.enter(i);
+            }
+            admissionPolicy.setBatchSize(7);
+            waitingRoomService.processQueue();
+            assertThat(waitingQueue.getTotalWaiting()).isEqualTo(3);
+        }
+
         @DisplayName("3-4. 먼저 진입한 유저부터 꺼낸다.")
         @Test
         void processQueue_admitsInEntryOrder() {
@@ -0,0 +1,126 @@
+package com.loopers.infrastructure.coupon;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.coupon.CouponErrorCode;
+import com.loopers.domain.coupon.CouponService;
+import com.loopers.support.error.CoreException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+
+@DisplayName("CouponIssueConsumer 단위 테스트")
+@ExtendWith(MockitoExtension.class)
+class CouponIssueConsumerTest {
+
+    @Mock
+    CouponService couponService;
+
+    @Mock
+    CouponIssueDeadLetterPublisher deadLetterPublisher;
+
+    @Mock
+    Acknowledgment ack;
+
+    CouponIssueConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new CouponIssueConsumer(couponService, deadLetterPublisher, new ObjectMapper());
+    }
+
+    private ConsumerRecord<String, byte[]> record(long offset, String json) {
+        return new ConsumerRecord<>("coupon-issued", 0, offset, "key", json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ConsumerRecord<String, byte[]> issued(long offset, long couponId, long userId) {
+        return record(offset, "{\"couponId\":" + couponId + ",\"userId\":" + userId + ",\"issuedAt\":0}");
+    }
+
+    @DisplayName("couponId별로 묶어 쿠폰마다 한 번씩 일괄 발급하고 배치를 한 번 커밋한다.")
+    @Test
+    void consume_groupsByCoupon() {
+        // arrange
+        List<ConsumerRecord<String, byte[]>> records = List.of(
+                issued(0, 1L, 100L), issued(1, 2L, 200L), issued(2, 1L, 101L));
+        when(couponService.issueAll(1L, List.of(100L, 101L))).thenReturn(2);
+        when(couponService.issueAll(2L, List.of(200L))).thenReturn(1);
+
+        // act
+        consumer.consume(records, ack);
+
+        // assert
+        verify(couponService).issueAll(1L, List.of(100L, 101L));
+        verify(couponService).issueAll(2L, List.of(200L));
+        verifyNoInteractions(deadLetterPublisher);
+        verify(ack).acknowledge();
+    }
+
+    @DisplayName("역직렬화할 수 없는 메시지는 DLT로 보내고 나머지는 정상 반영한다.")
+    @Test
+    void consume_whenMalformed_sendsToDeadLetter() {
+        // arrange
+        ConsumerRecord<String, byte[]> malformed = record(0, "not-json");
+        List<ConsumerRecord<String, byte[]>> records = List.of(malformed, issued(1, 1L, 100L));
+        when(couponService.issueAll(1L, List.of(100L))).thenReturn(1);
+
+        // act
+        consumer.consume(records, ack);
+
+        // assert
+        verify(deadLetterPublisher).publish(eq(malformed), anyString());
+        verify(couponService).issueAll(1L, List.of(100L));
+        verify(ack).acknowledge();
+    }
+
+    @DisplayName("쿠폰이 만료되면 해당 쿠폰의 메시지를 모두 DLT로 보내고 배치는 커밋한다.")
+    @Test
+    void consume_whenBusinessFailure_sendsGroupToDeadLetter() {
+        // arrange
+        ConsumerRecord<String, byte[]> first = issued(0, 1L, 100L);
+        ConsumerRecord<String, byte[]> second = issued(1, 1L, 101L);
+        when(couponService.issueAll(1L, List.of(100L, 101L)))
+                .thenThrow(new CoreException(CouponErrorCode.EXPIRED));
+
+        // act
+        consumer.consume(List.of(first, second), ack);
+
+        // assert
+        verify(deadLetterPublisher).publish(eq(first), anyString());
+        verify(deadLetterPublisher).publish(eq(second), anyString());
+        verify(ack).acknowledge();
+    }
+
+    @DisplayName("일시적인 실패는 해당 묶음의 첫 메시지 위치로 BatchListenerFailedException을 던지고 커밋하지 않는다.")
+    @Test
+    void consume_whenTransientFailure_throwsAtGroupStart() {
+        // arrange
+        List<ConsumerRecord<String, byte[]>> records = List.of(
+                issued(0, 1L, 100L), issued(1, 2L, 200L), issued(2, 1L, 101L));
+        when(couponService.issueAll(1L, List.of(100L, 101L))).thenReturn(2);
+        when(couponService.issueAll(2L, List.of(200L))).thenThrow(new IllegalStateException("DB 장애"));
+
+        // act & assert
+        assertThatThrownBy(() -> consumer.consume(records, ack))
+                .isInstanceOf(BatchListenerFailedException.class)
+                .hasFieldOrPropertyWithValue("index", 1);
+        verify(deadLetterPublisher, never()).publish(any(), anyString());
+        verify(ack, never()).acknowledge();
+    }
+}
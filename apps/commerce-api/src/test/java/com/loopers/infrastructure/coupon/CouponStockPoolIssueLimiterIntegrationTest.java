@@ -0,0 +1,161 @@
+package com.loopers.infrastructure.coupon;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.coupon.CouponIssueResult;
+import com.loopers.utils.RedisCleanUp;
+import java.time.ZonedDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@DisplayName("샤드 재고 풀 쿠폰 발급 제한기 통합 테스트")
+@SpringBootTest
+class CouponStockPoolIssueLimiterIntegrationTest {
+
+    private static final Long COUPON_ID = 1L;
+    private static final int SHARD_COUNT = 4;
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private CouponStockPoolIssueLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        redisCleanUp.truncateAll();
+        limiter = new CouponStockPoolIssueLimiter(redisTemplate, SHARD_COUNT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("등록되지 않은 쿠폰이면 NOT_FOUND를 반환한다.")
+    @Test
+    void tryIssue_whenNotRegistered_returnsNotFound() {
+        // act
+        CouponIssueResult result = limiter.tryIssue(COUPON_ID, 100L);
+
+        // assert
+        assertAll(
+                () -> assertThat(result).isEqualTo(CouponIssueResult.NOT_FOUND),
+                () -> assertThat(limiter.getRemainingQuantity(COUPON_ID)).isZero());
+    }
+
+    @DisplayName("같은 유저가 다시 요청하면 재고를 줄이지 않고 ALREADY_ISSUED를 반환한다.")
+    @Test
+    void tryIssue_whenDuplicated_returnsAlreadyIssued() {
+        // arrange
+        limiter.registerTotalQuantity(COUPON_ID, 10, ZonedDateTime.now().plusDays(1));
+        limiter.tryIssue(COUPON_ID, 100L);
+
+        // act
+        CouponIssueResult result = limiter.tryIssue(COUPON_ID, 100L);
+
+        // assert
+        assertAll(
+                () -> assertThat(result).isEqualTo(CouponIssueResult.ALREADY_ISSUED),
+                () -> assertThat(limiter.getRemainingQuantity(COUPON_ID)).isEqualTo(9));
+    }
+
+    @DisplayName("재고가 샤드에 흩어져 있어도 마지막 1장까지 발급하고, 이후에는 QUANTITY_EXHAUSTED를 반환한다.")
+    @Test
+    void tryIssue_drainsEveryShard() {
+        // arrange
+        limiter.registerTotalQuantity(COUPON_ID, 7, ZonedDateTime.now().plusDays(1));
+        for (long userId = 1; userId <= 7; userId++) {
+            limiter.tryIssue(COUPON_ID, userId);
+        }
+
+        // act
+        CouponIssueResult result = limiter.tryIssue(COUPON_ID, 8L);
+
+        // assert
+        assertAll(
+                () -> assertThat(result).isEqualTo(CouponIssueResult.QUANTITY_EXHAUSTED),
+                () -> assertThat(limiter.getRemainingQuantity(COUPON_ID)).isZero(),
+                () -> assertThat(redisTemplate.opsForSet().isMember("coupon:stock:{1}:issued", "8")).isFalse());
+    }
+
+    @DisplayName("롤백하면 재고가 돌아오고 같은 유저가 다시 발급받을 수 있다.")
+    @Test
+    void rollback_restoresStockAndUser() {
+        // arrange
+        limiter.registerTotalQuantity(COUPON_ID, 1, ZonedDateTime.now().plusDays(1));
+        limiter.tryIssue(COUPON_ID, 100L);
+
+        // act
+        limiter.rollback(COUPON_ID, 100L);
+
+        // assert
+        assertAll(
+                () -> assertThat(limiter.getRemainingQuantity(COUPON_ID)).isEqualTo(1),
+                () -> assertThat(limiter.tryIssue(COUPON_ID, 100L)).isEqualTo(CouponIssueResult.SUCCESS));
+    }
+
+    @DisplayName("발급 유저 SET의 만료 시각은 쿠폰 만료 시각을 넘지 않는다.")
+    @Test
+    void tryIssue_boundsIssuedSetTtlToExpiredAt() {
+        // arrange
+        limiter.registerTotalQuantity(COUPON_ID, 10, ZonedDateTime.now().plusHours(1));
+
+        // act
+        limiter.tryIssue(COUPON_ID, 100L);
+
+        // assert
+        Long ttlSeconds = redisTemplate.getExpire("coupon:stock:{1}:issued", TimeUnit.SECONDS);
+        assertThat(ttlSeconds).isBetween(1L, 3600L);
+    }
+
+    @DisplayName("100장 쿠폰에 1000명이 동시 요청하면 정확히 100장만 발급된다.")
+    @Test
+    void tryIssue_concurrency_exactQuantity() throws InterruptedException {
+        // arrange
+        int totalQuantity = 100;
+        int threadCount = 1000;
+        limiter.registerTotalQuantity(COUPON_ID, totalQuantity, ZonedDateTime.now().plusDays(1));
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        // act
+        for (int i = 0; i < threadCount; i++) {
+            long userId = i + 1;
+            executorService.submit(() -> {
+                try {
+                    if (limiter.tryIssue(COUPON_ID, userId) == CouponIssueResult.SUCCESS) {
+                        successCount.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // assert
+        assertAll(
+                () -> assertThat(successCount.get()).isEqualTo(totalQuantity),
+                () -> assertThat(limiter.getRemainingQuantity(COUPON_ID)).isZero(),
+                () -> assertThat(redisTemplate.opsForSet().size("coupon:stock:{1}:issued")).isEqualTo(totalQuantity));
+    }
+}
@@ -0,0 +1,132 @@
+package com.loopers.infrastructure.coupon;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.coupon.CouponDiscountType;
+import com.loopers.domain.coupon.CouponTerms;
+import com.loopers.utils.RedisCleanUp;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@DisplayName("보유 쿠폰 사용 조건 캐시 통합 테스트")
+@SpringBootTest
+class RedisCouponTermsCacheIntegrationTest {
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private RedisCouponTermsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        redisCleanUp.truncateAll();
+        cache = new RedisCouponTermsCache(
+                redisTemplate, new CouponTermsCacheProperties(true, 3600), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("저장한 사용 조건을 그대로 읽고, TTL은 max-ttl-seconds를 넘지 않는다.")
+    @Test
+    void putAndFind_roundTrips() {
+        // arrange
+        CouponTerms terms = new CouponTerms(10L, 100L, CouponDiscountType.RATE, 15L, null,
+                ZonedDateTime.now().plusDays(30).truncatedTo(ChronoUnit.MILLIS));
+
+        // act
+        cache.put(1L, terms);
+        Optional<CouponTerms> found = cache.find(1L);
+
+        // assert
+        assertAll(
+                () -> assertThat(found).isPresent(),
+                () -> assertThat(found.get().discountType()).isEqualTo(CouponDiscountType.RATE),
+                () -> assertThat(found.get().minOrderAmount()).isNull(),
+                () -> assertThat(found.get().expiredAt().toInstant()).isEqualTo(terms.expiredAt().toInstant()),
+                () -> assertThat(redisTemplate.getExpire("coupon:terms:v1:1", TimeUnit.SECONDS))
+                        .isBetween(1L, 3600L));
+    }
+
+    @DisplayName("만료 시각이 max-ttl보다 이르면 만료 시각까지만 보관한다.")
+    @Test
+    void put_boundsTtlToExpiredAt() {
+        // arrange
+        CouponTerms terms = new CouponTerms(10L, 100L, CouponDiscountType.FIXED, 5000L, 30000L,
+                ZonedDateTime.now().plusMinutes(1));
+
+        // act
+        cache.put(1L, terms);
+
+        // assert
+        assertThat(redisTemplate.getExpire("coupon:terms:v1:1", TimeUnit.SECONDS)).isBetween(1L, 60L);
+    }
+
+    @DisplayName("이미 만료된 쿠폰은 저장하지 않는다.")
+    @Test
+    void put_whenExpired_skips() {
+        // arrange
+        CouponTerms terms = new CouponTerms(10L, 100L, CouponDiscountType.FIXED, 5000L, null,
+                ZonedDateTime.now().minusMinutes(1));
+
+        // act
+        cache.put(1L, terms);
+
+        // assert
+        assertThat(cache.find(1L)).isEmpty();
+    }
+
+    @DisplayName("putAll은 만료되지 않은 조건만 한 번에 저장한다.")
+    @Test
+    void putAll_storesUnexpiredTerms() {
+        // arrange
+        CouponTerms live = new CouponTerms(10L, 100L, CouponDiscountType.FIXED, 5000L, null,
+                ZonedDateTime.now().plusDays(1));
+        CouponTerms expired = new CouponTerms(10L, 200L, CouponDiscountType.FIXED, 5000L, null,
+                ZonedDateTime.now().minusMinutes(1));
+
+        // act
+        cache.putAll(Map.of(1L, live, 2L, expired));
+
+        // assert
+        assertAll(
+                () -> assertThat(cache.find(1L)).map(CouponTerms::userId).contains(100L),
+                () -> assertThat(cache.find(2L)).isEmpty(),
+                () -> assertThat(redisTemplate.getExpire("coupon:terms:v1:1", TimeUnit.SECONDS))
+                        .isBetween(1L, 3600L));
+    }
+
+    @DisplayName("evict 이후에는 조회되지 않는다.")
+    @Test
+    void evict_removesEntry() {
+        // arrange
+        cache.put(1L, new CouponTerms(10L, 100L, CouponDiscountType.FIXED, 5000L, null,
+                ZonedDateTime.now().plusDays(1)));
+
+        // act
+        cache.evict(1L);
+
+        // assert
+        assertThat(cache.find(1L)).isEmpty();
+    }
+}
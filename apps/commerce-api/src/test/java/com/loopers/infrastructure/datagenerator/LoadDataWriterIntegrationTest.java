@@ -0,0 +1,60 @@
+package com.loopers.infrastructure.datagenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.utils.DatabaseCleanUp;
+import java.time.LocalDate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DisplayName("LOAD DATA 적재 통합 테스트")
+@SpringBootTest(properties = "app.data-generator.rebuild-secondary-indexes=true")
+class LoadDataWriterIntegrationTest {
+
+    @Autowired
+    private LoadDataWriter loadDataWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        loadDataWriter.close();
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("파이프로 흘린 행을 적재하고, 중복 키 행은 건너뛰며, 보조 인덱스는 적재 후 다시 만든다.")
+    @Test
+    void load_streamsRowsAndRestoresIndexes() {
+        // arrange
+        LocalDate today = LocalDate.of(2025, 1, 2);
+        assertThat(loadDataWriter.isAvailable()).isTrue();
+
+        // act
+        long loaded = loadDataWriter.load(GeneratedTable.RANKING_SCORES, sink -> {
+            sink.add(1L, today, 10.5);
+            sink.add(2L, today, 7.0);
+            sink.add(1L, today, 99.0);
+        });
+
+        // assert
+        assertAll(
+                () -> assertThat(loaded).isEqualTo(2),
+                () -> assertThat(jdbcTemplate.queryForObject(
+                        "SELECT score FROM product_ranking_scores WHERE product_id = 1", Double.class))
+                        .isEqualTo(10.5),
+                () -> assertThat(jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = DATABASE() "
+                                + "AND TABLE_NAME = 'product_ranking_scores' AND INDEX_NAME = 'idx_ranking_date_score'",
+                        Long.class))
+                        .isEqualTo(2));
+    }
+}
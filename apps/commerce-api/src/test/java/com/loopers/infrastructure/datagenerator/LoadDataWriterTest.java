@@ -0,0 +1,24 @@
+package com.loopers.infrastructure.datagenerator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LOAD DATA 행 형식 단위 테스트")
+class LoadDataWriterTest {
+
+    @DisplayName("값은 탭으로 구분하고, NULL 은 \\N 으로, 탭/줄바꿈/백슬래시는 이스케이프해 한 줄로 쓴다.")
+    @Test
+    void appendRow_escapesSpecialCharacters() {
+        // arrange
+        StringBuilder line = new StringBuilder();
+
+        // act
+        LoadDataWriter.appendRow(line, 1L, "a\tb\nc\\d", null, LocalDate.of(2025, 1, 2), 1.5);
+
+        // assert
+        assertThat(line.toString()).isEqualTo("1\ta\\tb\\nc\\\\d\t\\N\t2025-01-02\t1.5\n");
+    }
+}
@@ -0,0 +1,97 @@
+package com.loopers.infrastructure.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.domain.product.ProductViewLogModel;
+import com.loopers.domain.product.ProductViewLogRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ProductViewLogWriterTest {
+
+    private final List<List<ProductViewLogModel>> savedBatches = new CopyOnWriteArrayList<>();
+    private SimpleMeterRegistry registry;
+
+    private final ProductViewLogRepository repository = new ProductViewLogRepository() {
+        @Override
+        public ProductViewLogModel save(ProductViewLogModel viewLog) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int saveAll(List<ProductViewLogModel> viewLogs) {
+            savedBatches.add(List.copyOf(viewLogs));
+            return viewLogs.size();
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    private List<ProductViewLogModel> saved() {
+        return savedBatches.stream().flatMap(List::stream).toList();
+    }
+
+    private static ProductViewLogModel view(long productId) {
+        return ProductViewLogModel.create(productId, 1L, ZonedDateTime.now());
+    }
+
+    @DisplayName("조회 로그를 버퍼에 넣을 때, ")
+    @Nested
+    class Append {
+
+        @DisplayName("버퍼가 가득 차면 버리고 dropped로 센다.")
+        @Test
+        void append_whenFull_drops() throws InterruptedException {
+            // arrange
+            ProductViewLogWriter writer = new ProductViewLogWriter(
+                repository, new ProductViewLogProperties(true, 2, 60_000, 100), registry);
+
+            // act
+            boolean first = writer.append(view(1L));
+            boolean second = writer.append(view(2L));
+            boolean third = writer.append(view(3L));
+            writer.close();
+
+            // assert
+            assertAll(
+                () -> assertThat(List.of(first, second, third)).containsExactly(true, true, false),
+                () -> assertThat(registry.get("product.view.log.rows").tag("result", "dropped").counter().count())
+                    .isEqualTo(1.0),
+                () -> assertThat(saved()).hasSize(2)
+            );
+        }
+
+        @DisplayName("종료할 때 남은 조회를 batch-size 단위의 다중 행 INSERT로 적재한다.")
+        @Test
+        void close_flushesInBatches() throws InterruptedException {
+            // arrange
+            ProductViewLogWriter writer = new ProductViewLogWriter(
+                repository, new ProductViewLogProperties(true, 1024, 60_000, 1000), registry);
+            for (long productId = 1; productId <= 5; productId++) {
+                writer.append(view(productId));
+            }
+
+            // act
+            writer.close();
+
+            // assert
+            assertAll(
+                () -> assertThat(saved())
+                    .extracting(ProductViewLogModel::getProductId)
+                    .containsExactly(1L, 2L, 3L, 4L, 5L),
+                () -> assertThat(registry.get("product.view.log.rows").tag("result", "written").counter().count())
+                    .isEqualTo(5.0)
+            );
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.loopers.infrastructure.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.ProductLikeModel;
+import com.loopers.domain.product.ProductLikeRepository;
+import com.loopers.domain.product.dto.ProductLikeInfo;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@DisplayName("Redis 좋아요 버퍼 통합 테스트")
+@SpringBootTest
+class RedisProductLikeBufferIntegrationTest {
+
+    private static final Long PRODUCT_ID = 10L;
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private ProductLikeRepository productLikeRepository;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private RedisProductLikeBuffer likeBuffer;
+
+    @BeforeEach
+    void setUp() {
+        redisCleanUp.truncateAll();
+        likeBuffer = new RedisProductLikeBuffer(redisTemplate, productLikeRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        likeBuffer.closeReconcileCursor();
+        redisCleanUp.truncateAll();
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("좋아요/취소할 때, ")
+    @Nested
+    class Toggle {
+
+        @DisplayName("처음 건드리는 상품은 DB에서 불러오고, 같은 변경을 반복하면 false를 돌려주며 저널에 남기지 않는다.")
+        @Test
+        void addAndRemove_areIdempotent() {
+            // arrange
+            productLikeRepository.save(ProductLikeModel.create(1L, PRODUCT_ID));
+
+            // act
+            boolean duplicated = likeBuffer.add(1L, PRODUCT_ID);
+            boolean added = likeBuffer.add(2L, PRODUCT_ID);
+            boolean removed = likeBuffer.remove(1L, PRODUCT_ID);
+            boolean removedAgain = likeBuffer.remove(1L, PRODUCT_ID);
+
+            // assert
+            assertAll(
+                    () -> assertThat(duplicated).isFalse(),
+                    () -> assertThat(added).isTrue(),
+                    () -> assertThat(removed).isTrue(),
+                    () -> assertThat(removedAgain).isFalse(),
+                    () -> assertThat(likeBuffer.contains(2L, PRODUCT_ID)).isTrue(),
+                    () -> assertThat(likeBuffer.countByProductIds(List.of(PRODUCT_ID, 99L)))
+                            .containsExactly(Map.entry(PRODUCT_ID, 1L)),
+                    () -> assertThat(redisTemplate.opsForStream().size("like:journal")).isEqualTo(2L));
+        }
+
+        @DisplayName("여러 스레드가 같은 사용자로 동시에 좋아요하면 한 번만 성공한다.")
+        @Test
+        void add_concurrently_succeedsOnce() throws InterruptedException {
+            // arrange
+            int threads = 16;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(threads);
+            AtomicInteger succeeded = new AtomicInteger();
+
+            // act
+            for (int i = 0; i < threads; i++) {
+                executor.submit(() -> {
+                    try {
+                        start.await();
+                        if (likeBuffer.add(1L, PRODUCT_ID)) {
+                            succeeded.incrementAndGet();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            start.countDown();
+            done.await(10, TimeUnit.SECONDS);
+            executor.shutdown();
+
+            // assert
+            assertAll(
+                    () -> assertThat(succeeded.get()).isEqualTo(1),
+                    () -> assertThat(likeBuffer.countByProductIds(List.of(PRODUCT_ID)))
+                            .containsEntry(PRODUCT_ID, 1L));
+        }
+    }
+
+    @DisplayName("저널을 읽고 확인 처리할 때, ")
+    @Nested
+    class ReadJournal {
+
+        @DisplayName("같은 관계는 현재 상태 하나로 합쳐지고, 확인 처리한 항목만 저널에서 빠진다.")
+        @Test
+        void readJournal_coalescesByRelation() {
+            // arrange
+            likeBuffer.add(1L, PRODUCT_ID);
+            likeBuffer.remove(1L, PRODUCT_ID);
+            likeBuffer.add(2L, PRODUCT_ID);
+
+            // act
+            ProductLikeInfo.Journal journal = likeBuffer.readJournal(100);
+            likeBuffer.add(3L, PRODUCT_ID);
+            likeBuffer.acknowledge(journal);
+
+            // assert
+            assertAll(
+                    () -> assertThat(journal.entryIds()).hasSize(3),
+                    () -> assertThat(journal.changes())
+                            .extracting(change -> change.relation().userId(), ProductLikeInfo.BufferedChange::liked)
+                            .containsExactly(
+                                    tuple(1L, false),
+                                    tuple(2L, true)),
+                    () -> assertThat(likeBuffer.readJournal(100).changes())
+                            .extracting(change -> change.relation().userId())
+                            .containsExactly(3L),
+                    () -> assertThat(redisTemplate.opsForHash().get("like:pending", PRODUCT_ID.toString()))
+                            .isEqualTo("1"));
+        }
+    }
+
+    @DisplayName("DB와 맞출 때, ")
+    @Nested
+    class Reconcile {
+
+        @DisplayName("미반영 변경이 없으면 DB 기준으로 다시 만들고, 있으면 건너뛴다.")
+        @Test
+        void reconcile_rebuildsOnlyWhenSettled() {
+            // arrange
+            likeBuffer.add(1L, PRODUCT_ID);
+            likeBuffer.acknowledge(likeBuffer.readJournal(100));
+            likeBuffer.add(1L, 20L);
+
+            // act
+            List<Long> candidates = likeBuffer.nextProductsToReconcile(10);
+            boolean rebuilt = likeBuffer.reconcile(PRODUCT_ID, () -> List.of(5L, 6L));
+            boolean skipped = likeBuffer.reconcile(20L, () -> List.of());
+
+            // assert
+            assertAll(
+                    () -> assertThat(candidates).containsExactlyInAnyOrder(PRODUCT_ID, 20L),
+                    () -> assertThat(rebuilt).isTrue(),
+                    () -> assertThat(skipped).isFalse(),
+                    () -> assertThat(likeBuffer.contains(5L, PRODUCT_ID)).isTrue(),
+                    () -> assertThat(likeBuffer.countByProductIds(List.of(PRODUCT_ID, 20L)))
+                            .containsEntry(PRODUCT_ID, 2L)
+                            .containsEntry(20L, 1L));
+        }
+    }
+}
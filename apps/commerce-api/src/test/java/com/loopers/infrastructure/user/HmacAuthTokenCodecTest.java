@@ -0,0 +1,77 @@
+package com.loopers.infrastructure.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.domain.user.AuthTokenClaims;
+import com.loopers.domain.user.AuthTokenType;
+import com.loopers.domain.user.AuthenticatedUser;
+import com.loopers.domain.user.IssuedAuthToken;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("HmacAuthTokenCodec 단위 테스트")
+class HmacAuthTokenCodecTest {
+
+    private static final Instant NOW = Instant.ofEpochMilli(1_700_000_000_123L);
+    private static final AuthenticatedUser USER = new AuthenticatedUser(1L, "testuser1", "홍길동");
+
+    private final HmacAuthTokenCodec codec =
+            new HmacAuthTokenCodec(new AuthTokenProperties("test-secret", 900, 3600));
+
+    @DisplayName("발급한 토큰을 그대로 복원하고, 발급 시각은 밀리초로, 만료 시각은 타입별 유효 시간을 더한 초로 담는다.")
+    @Test
+    void decode_roundTrip() {
+        // arrange
+        IssuedAuthToken access = codec.issue(USER, AuthTokenType.ACCESS, NOW);
+        IssuedAuthToken refresh = codec.issue(USER, AuthTokenType.REFRESH, NOW);
+
+        // act
+        AuthTokenClaims decoded = codec.decode(access.value()).orElseThrow();
+
+        // assert
+        assertAll(
+                () -> assertThat(decoded).isEqualTo(access.claims()),
+                () -> assertThat(decoded.toAuthenticatedUser()).isEqualTo(USER),
+                () -> assertThat(access.claims().issuedAt()).isEqualTo(1_700_000_000_123L),
+                () -> assertThat(access.claims().expiresAt()).isEqualTo(1_700_000_000L + 900),
+                () -> assertThat(refresh.claims().expiresAt()).isEqualTo(1_700_000_000L + 3600),
+                () -> assertThat(access.claims().tokenId()).isNotEqualTo(refresh.claims().tokenId()));
+    }
+
+    @DisplayName("payload를 바꾸면 서명이 맞지 않아 복원하지 않는다.")
+    @Test
+    void decode_whenPayloadTampered_returnsEmpty() {
+        // arrange
+        String token = codec.issue(USER, AuthTokenType.ACCESS, NOW).value();
+        String other = codec.issue(new AuthenticatedUser(2L, "attacker", "공격자"), AuthTokenType.ACCESS, NOW).value();
+        String tampered = other.substring(0, other.lastIndexOf('.')) + token.substring(token.lastIndexOf('.'));
+
+        // act & assert
+        assertThat(codec.decode(tampered)).isEmpty();
+    }
+
+    @DisplayName("다른 키로 서명한 토큰은 복원하지 않는다.")
+    @Test
+    void decode_whenSignedWithOtherKey_returnsEmpty() {
+        // arrange
+        HmacAuthTokenCodec otherCodec = new HmacAuthTokenCodec(new AuthTokenProperties("other-secret", 900, 3600));
+        String token = otherCodec.issue(USER, AuthTokenType.ACCESS, NOW).value();
+
+        // act & assert
+        assertThat(codec.decode(token)).isEmpty();
+    }
+
+    @DisplayName("형식이 깨진 문자열은 예외 없이 빈 값을 돌려준다.")
+    @Test
+    void decode_whenMalformed_returnsEmpty() {
+        // act & assert
+        assertAll(
+                () -> assertThat(codec.decode(null)).isEmpty(),
+                () -> assertThat(codec.decode("")).isEmpty(),
+                () -> assertThat(codec.decode("no-delimiter")).isEmpty(),
+                () -> assertThat(codec.decode("payload.")).isEmpty(),
+                () -> assertThat(codec.decode("!!!.@@@")).isEmpty());
+    }
+}
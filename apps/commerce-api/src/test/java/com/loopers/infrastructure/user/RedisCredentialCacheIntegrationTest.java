@@ -0,0 +1,110 @@
+package com.loopers.infrastructure.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.user.AuthenticatedUser;
+import com.loopers.utils.RedisCleanUp;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@DisplayName("RedisCredentialCache 통합 테스트")
+@SpringBootTest
+class RedisCredentialCacheIntegrationTest {
+
+    private static final String LOGIN_ID = "testuser1";
+    private static final String PASSWORD = "Test1234!@#";
+    private static final String NEW_PASSWORD = "NewPass123!@";
+    private static final String OLD_HASH = "$2a$10$oldPasswordHash";
+    private static final String NEW_HASH = "$2a$10$newPasswordHash";
+    private static final AuthenticatedUser USER = new AuthenticatedUser(1L, LOGIN_ID, "홍길동");
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private RedisCredentialCache credentialCache;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        credentialCache = new RedisCredentialCache(
+                redisTemplate, new CredentialCacheProperties(true, 60, "test-secret"), registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("저장한 자격 증명은 같은 비밀번호로만 조회되고, 적중/미스가 메트릭에 기록된다.")
+    @Test
+    void find_matchesOnlySamePassword() {
+        // arrange
+        credentialCache.put(LOGIN_ID, PASSWORD, USER, OLD_HASH);
+
+        // act & assert
+        assertAll(
+                () -> assertThat(credentialCache.find(LOGIN_ID, PASSWORD))
+                        .contains(USER),
+                () -> assertThat(credentialCache.find(LOGIN_ID, "Other1234!@#")).isEmpty(),
+                () -> assertThat(registry.counter("auth.credential.cache.requests", "result", "hit").count())
+                        .isEqualTo(1),
+                () -> assertThat(registry.counter("auth.credential.cache.requests", "result", "miss").count())
+                        .isEqualTo(1));
+    }
+
+    @DisplayName("비밀번호 원문은 Redis에 저장되지 않는다.")
+    @Test
+    void put_doesNotStoreRawPassword() {
+        // act
+        credentialCache.put(LOGIN_ID, PASSWORD, USER, OLD_HASH);
+
+        // assert
+        assertThat(redisTemplate.opsForHash().keys("auth:credential:" + LOGIN_ID))
+                .noneMatch(field -> field.toString().contains(PASSWORD));
+    }
+
+    @DisplayName("무효화하면 해당 로그인 ID의 자격 증명이 모두 사라진다.")
+    @Test
+    void evict_removesAllCredentials() {
+        // arrange
+        credentialCache.put(LOGIN_ID, PASSWORD, USER, OLD_HASH);
+
+        // act
+        credentialCache.evict(LOGIN_ID, NEW_HASH);
+
+        // assert
+        assertThat(credentialCache.find(LOGIN_ID, PASSWORD)).isEmpty();
+    }
+
+    @DisplayName("이전 비밀번호로 검증한 인증이 비밀번호 변경 뒤에 저장하면, 저장되지 않고 새 비밀번호 저장만 남는다.")
+    @Test
+    void put_afterPasswordChange_rejectsOldCredentialVersion() {
+        // arrange — 이전 비밀번호 검증이 끝난 직후 비밀번호 변경이 커밋되고 캐시가 무효화된다
+        credentialCache.put(LOGIN_ID, PASSWORD, USER, OLD_HASH);
+        credentialCache.evict(LOGIN_ID, NEW_HASH);
+
+        // act — 변경 전에 시작된 인증이 늦게 저장한다
+        credentialCache.put(LOGIN_ID, PASSWORD, USER, OLD_HASH);
+        credentialCache.put(LOGIN_ID, NEW_PASSWORD, USER, NEW_HASH);
+
+        // assert
+        assertAll(
+                () -> assertThat(credentialCache.find(LOGIN_ID, PASSWORD)).isEmpty(),
+                () -> assertThat(credentialCache.find(LOGIN_ID, NEW_PASSWORD)).contains(USER),
+                () -> assertThat(redisTemplate.getExpire("auth:credential:" + LOGIN_ID)).isPositive());
+    }
+}
@@ -0,0 +1,202 @@
+package com.loopers.infrastructure.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.utils.RedisCleanUp;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@DisplayName("RedisTokenRevocationList 통합 테스트")
+@SpringBootTest
+class RedisTokenRevocationListIntegrationTest {
+
+    private static final AuthTokenProperties PROPERTIES = new AuthTokenProperties("test-secret", 900, 3600);
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private SimpleMeterRegistry registry;
+    private RedisTokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        revocationList = new RedisTokenRevocationList(redisTemplate, PROPERTIES, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("폐기하지 않은 토큰은 Bloom filter에서 걸러져 Redis를 조회하지 않는다.")
+    @Test
+    void isRevoked_whenNotRevoked_skipsRedis() {
+        // act
+        boolean revoked = revocationList.isRevoked("jti-unknown");
+
+        // assert
+        assertAll(
+                () -> assertThat(revoked).isFalse(),
+                () -> assertThat(registry.counter("auth.token.revocation.lookups", "result", "bloom_negative").count())
+                        .isEqualTo(1),
+                () -> assertThat(registry.counter("auth.token.revocation.lookups", "result", "redis").count())
+                        .isZero());
+    }
+
+    @DisplayName("같은 인스턴스에서 폐기한 토큰은 즉시 폐기된 것으로 본다.")
+    @Test
+    void isRevoked_whenRevokedLocally_returnsTrue() {
+        // arrange
+        revocationList.revoke("jti-1", Instant.now().getEpochSecond() + 60);
+
+        // act & assert
+        assertThat(revocationList.isRevoked("jti-1")).isTrue();
+    }
+
+    @DisplayName("여러 인스턴스가 같은 토큰을 동시에 폐기하면 한 호출만 true를 받는다.")
+    @Test
+    void revoke_concurrently_claimsOnce() throws InterruptedException {
+        // arrange
+        int threads = 16;
+        long expiresAt = Instant.now().getEpochSecond() + 60;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicInteger claimed = new AtomicInteger();
+
+        // act
+        for (int i = 0; i < threads; i++) {
+            RedisTokenRevocationList instance =
+                    new RedisTokenRevocationList(redisTemplate, PROPERTIES, new SimpleMeterRegistry());
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    if (instance.revoke("jti-shared", expiresAt)) {
+                        claimed.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        done.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // assert
+        assertThat(claimed.get()).isEqualTo(1);
+    }
+
+    @DisplayName("다른 인스턴스에서 폐기한 토큰은 동기화 후 폐기된 것으로 본다.")
+    @Test
+    void sync_picksUpRemoteRevocations() {
+        // arrange
+        RedisTokenRevocationList otherInstance =
+                new RedisTokenRevocationList(redisTemplate, PROPERTIES, new SimpleMeterRegistry());
+        otherInstance.revoke("jti-remote", Instant.now().getEpochSecond() + 60);
+        boolean beforeSync = revocationList.isRevoked("jti-remote");
+
+        // act
+        revocationList.sync();
+
+        // assert
+        assertAll(
+                () -> assertThat(beforeSync).isFalse(),
+                () -> assertThat(revocationList.isRevoked("jti-remote")).isTrue());
+    }
+
+    @DisplayName("처음 동기화한 뒤에는 ZSET 전체가 아니라 폐기 로그의 새 항목만 읽는다.")
+    @Test
+    void sync_afterFirstSync_readsOnlyRevocationLog() {
+        // arrange
+        RedisTokenRevocationList otherInstance =
+                new RedisTokenRevocationList(redisTemplate, PROPERTIES, new SimpleMeterRegistry());
+        revocationList.sync();
+        otherInstance.revoke("jti-remote", Instant.now().getEpochSecond() + 60);
+        // ZSET에서 지워도 로그로 반영되는지 본다. 전체를 다시 읽었다면 Bloom filter에 들어가지 않는다
+        redisTemplate.opsForZSet().remove(RedisTokenRevocationList.REVOKED_KEY, "jti-remote");
+
+        // act
+        revocationList.sync();
+        revocationList.isRevoked("jti-remote");
+
+        // assert
+        assertAll(
+                () -> assertThat(registry.counter("auth.token.revocation.lookups", "result", "redis").count())
+                        .isEqualTo(1),
+                () -> assertThat(redisTemplate.opsForStream().size(RedisTokenRevocationList.REVOCATION_LOG_KEY))
+                        .isEqualTo(1L));
+    }
+
+    @DisplayName("이미 폐기된 토큰을 다시 폐기하면 폐기 로그에 남기지 않는다.")
+    @Test
+    void revoke_whenAlreadyRevoked_doesNotAppendLog() {
+        // arrange
+        long expiresAt = Instant.now().getEpochSecond() + 60;
+        revocationList.revoke("jti-1", expiresAt);
+
+        // act
+        boolean again = revocationList.revoke("jti-1", expiresAt);
+
+        // assert
+        assertAll(
+                () -> assertThat(again).isFalse(),
+                () -> assertThat(redisTemplate.opsForStream().size(RedisTokenRevocationList.REVOCATION_LOG_KEY))
+                        .isEqualTo(1L));
+    }
+
+    @DisplayName("사용자별 기준 시각까지 발급된 토큰은 폐기된 것으로 보고, 1ms라도 뒤에 발급된 토큰은 통과시킨다.")
+    @Test
+    void isRevokedForUser_comparesIssuedAtWithCutoff() {
+        // arrange
+        long cutoff = Instant.now().toEpochMilli();
+
+        // act
+        revocationList.revokeAllIssuedBefore(1L, cutoff);
+
+        // assert
+        assertAll(
+                () -> assertThat(revocationList.isRevokedForUser(1L, cutoff - 60_000)).isTrue(),
+                () -> assertThat(revocationList.isRevokedForUser(1L, cutoff)).isTrue(),
+                () -> assertThat(revocationList.isRevokedForUser(1L, cutoff + 1)).isFalse(),
+                () -> assertThat(revocationList.isRevokedForUser(2L, cutoff - 60_000)).isFalse());
+    }
+
+    @DisplayName("동기화할 때 만료가 지난 토큰은 목록에서 지운다.")
+    @Test
+    void sync_removesExpiredEntries() {
+        // arrange
+        long now = Instant.now().getEpochSecond();
+        revocationList.revoke("jti-expired", now - 1);
+        revocationList.revoke("jti-live", now + 60);
+
+        // act
+        revocationList.sync();
+
+        // assert
+        assertThat(redisTemplate.opsForZSet().range(RedisTokenRevocationList.REVOKED_KEY, 0, -1))
+                .containsExactly("jti-live");
+    }
+}
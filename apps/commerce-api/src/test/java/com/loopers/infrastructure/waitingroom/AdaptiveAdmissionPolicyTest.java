@@ -0,0 +1,100 @@
+package com.loopers.infrastructure.waitingroom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.loopers.domain.waitingroom.AdmissionSignals;
+import java.util.OptionalDouble;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AdaptiveAdmissionPolicyTest {
+
+    private static final AdmissionSignals HEALTHY = new AdmissionSignals(0.1, 5, 200, 10);
+
+    @Mock
+    private AdmissionSignalCollector signalCollector;
+
+    @Mock
+    private WaitingRoomSchedulerLease schedulerLease;
+
+    @Mock
+    private AdmissionTargetRateStore targetRateStore;
+
+    private AdaptiveAdmissionPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        // 기본값: 초기 20명/초, 여유 시 +2, 범위 5~100
+        AdmissionControlProperties properties = new AdmissionControlProperties(0, 0, 0, 0, 0, 0, 0, null);
+        policy = new AdaptiveAdmissionPolicy(properties, signalCollector, schedulerLease, targetRateStore);
+    }
+
+    @DisplayName("목표 속도를 조절할 때, ")
+    @Nested
+    class Adjust {
+
+        @DisplayName("리더는 저장된 값에서 이어서 조절하고, 결과를 저장한다.")
+        @Test
+        void adjust_whenLeader_continuesFromStoredRateAndSaves() {
+            // arrange
+            when(targetRateStore.load()).thenReturn(OptionalDouble.of(50));
+            when(schedulerLease.isLeader()).thenReturn(true);
+            when(signalCollector.collect()).thenReturn(HEALTHY);
+
+            // act
+            policy.adjust();
+
+            // assert
+            assertAll(
+                () -> assertThat(policy.targetRatePerSecond()).isEqualTo(52),
+                () -> verify(targetRateStore).save(52)
+            );
+        }
+
+        @DisplayName("리더가 아니면 저장된 값만 읽고, 조절하거나 저장하지 않는다.")
+        @Test
+        void adjust_whenNotLeader_onlyReadsStoredRate() {
+            // arrange
+            when(targetRateStore.load()).thenReturn(OptionalDouble.of(50));
+            when(schedulerLease.isLeader()).thenReturn(false);
+
+            // act
+            policy.adjust();
+
+            // assert
+            assertAll(
+                () -> assertThat(policy.targetRatePerSecond()).isEqualTo(50),
+                () -> assertThat(policy.admitRatePerSecond()).isEqualTo(50),
+                () -> verify(targetRateStore, never()).save(anyDouble()),
+                () -> verifyNoInteractions(signalCollector)
+            );
+        }
+
+        @DisplayName("저장된 값이 없으면 초기 속도에서 시작한다.")
+        @Test
+        void adjust_whenNothingStored_startsFromInitialRate() {
+            // arrange
+            when(targetRateStore.load()).thenReturn(OptionalDouble.empty());
+            when(schedulerLease.isLeader()).thenReturn(true);
+            when(signalCollector.collect()).thenReturn(HEALTHY);
+
+            // act
+            policy.adjust();
+
+            // assert
+            verify(targetRateStore).save(22);
+        }
+    }
+}
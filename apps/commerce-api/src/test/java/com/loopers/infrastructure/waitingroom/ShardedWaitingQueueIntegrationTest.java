@@ -0,0 +1,171 @@
+package com.loopers.infrastructure.waitingroom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.domain.waitingroom.EntryGate;
+import com.loopers.domain.waitingroom.WaitingEntry;
+import com.loopers.domain.waitingroom.WaitingQueue;
+import com.loopers.domain.waitingroom.WaitingRoomStore;
+import com.loopers.domain.waitingroom.WaitingSnapshot;
+import com.loopers.infrastructure.waitingroom.WaitingQueueShards.ShardKeys;
+import com.loopers.utils.RedisCleanUp;
+import io.lettuce.core.cluster.SlotHash;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+@DisplayName("샤딩된 대기열 통합 테스트 (K=4)")
+@SpringBootTest
+@TestPropertySource(properties = "queue.waiting.shard-count=4")
+class ShardedWaitingQueueIntegrationTest {
+
+    @Autowired
+    private WaitingQueue waitingQueue;
+
+    @Autowired
+    private WaitingRoomStore waitingRoomStore;
+
+    @Autowired
+    private EntryGate entryGate;
+
+    @Autowired
+    private WaitingQueueShards shards;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    /** 같은 밀리초 진입은 샤드 간 순위가 겹칠 수 있으므로, 진입 시각을 벌려 순서를 확정한다. */
+    private void enterInOrder(Long... userIds) throws InterruptedException {
+        for (Long userId : userIds) {
+            waitingQueue.enter(userId);
+            Thread.sleep(2);
+        }
+    }
+
+    @DisplayName("유저는 userId 기준으로 서로 다른 샤드 키에 나뉘어 들어간다.")
+    @Test
+    void enter_distributesAcrossShards() {
+        // act & assert
+        assertAll(
+                () -> assertThat(shards.keys()).hasSize(4),
+                () -> assertThat(shards.keyOf(1L)).isNotEqualTo(shards.keyOf(2L)),
+                () -> assertThat(shards.keyOf(1L)).isEqualTo(shards.keyOf(5L)));
+    }
+
+    @DisplayName("샤드 하나의 대기열/토큰/참여 집합/입장 순번 키는 같은 Cluster 슬롯에 놓인다.")
+    @Test
+    void shardKeys_shareSlot() {
+        // act & assert
+        for (ShardKeys shard : shards.shards()) {
+            int slot = SlotHash.getSlot(shard.queueKey());
+            assertAll(
+                    () -> assertThat(SlotHash.getSlot(shard.tokenKeyPrefix() + 12345)).isEqualTo(slot),
+                    () -> assertThat(SlotHash.getSlot(shard.activeSetKey())).isEqualTo(slot),
+                    () -> assertThat(SlotHash.getSlot(shard.admittedSequenceKey())).isEqualTo(slot));
+        }
+    }
+
+    @DisplayName("전체 순위/인원 조회 시, ")
+    @Nested
+    class Rank {
+
+        @DisplayName("샤드별 ZCOUNT 합으로 진입 순서대로의 전체 순위를 구한다.")
+        @Test
+        void getRank_sumsAcrossShards() throws InterruptedException {
+            // arrange
+            enterInOrder(1L, 2L, 3L, 4L, 5L, 6L);
+
+            // act & assert
+            assertAll(
+                    () -> assertThat(waitingQueue.getRank(1L)).isZero(),
+                    () -> assertThat(waitingQueue.getRank(4L)).isEqualTo(3),
+                    () -> assertThat(waitingQueue.getRank(6L)).isEqualTo(5),
+                    () -> assertThat(waitingQueue.getRank(99L)).isNull(),
+                    () -> assertThat(waitingQueue.getTotalWaiting()).isEqualTo(6));
+        }
+
+        @DisplayName("Lua 조회도 다른 샤드 인원을 더한 전체 순위를 반환한다.")
+        @Test
+        void findPosition_sumsAcrossShards() throws InterruptedException {
+            // arrange
+            enterInOrder(1L, 2L, 3L);
+
+            // act
+            WaitingSnapshot entered = waitingRoomStore.enter(4L);
+            WaitingSnapshot position = waitingRoomStore.findPosition(2L);
+
+            // assert
+            assertAll(
+                    () -> assertThat(entered.rank()).isEqualTo(3),
+                    () -> assertThat(entered.totalWaiting()).isEqualTo(4),
+                    () -> assertThat(position.rank()).isEqualTo(1),
+                    () -> assertThat(position.totalWaiting()).isEqualTo(4));
+        }
+    }
+
+    @DisplayName("꺼낼 때, ")
+    @Nested
+    class Pop {
+
+        @DisplayName("샤드와 무관하게 진입 시각 순으로 꺼낸다.")
+        @Test
+        void popFront_keepsArrivalOrderAcrossShards() throws InterruptedException {
+            // arrange
+            enterInOrder(4L, 1L, 2L, 8L, 3L);
+
+            // act
+            List<Long> first = waitingQueue.popFront(3);
+            List<Long> rest = waitingQueue.popFront(10);
+
+            // assert
+            assertAll(
+                    () -> assertThat(first).containsExactly(4L, 1L, 2L),
+                    () -> assertThat(rest).containsExactly(8L, 3L),
+                    () -> assertThat(waitingQueue.getTotalWaiting()).isZero());
+        }
+
+        @DisplayName("Lua 입장도 진입 시각 순으로 꺼내고 토큰을 발급한다.")
+        @Test
+        void admit_keepsArrivalOrderAcrossShards() throws InterruptedException {
+            // arrange
+            enterInOrder(3L, 6L, 1L, 4L);
+
+            // act
+            List<WaitingEntry> admitted = waitingRoomStore.admit(3);
+
+            // assert
+            assertAll(
+                    () -> assertThat(admitted).extracting(WaitingEntry::userId).containsExactly(3L, 6L, 1L),
+                    () -> assertThat(waitingRoomStore.findPosition(1L).isEntryReady()).isTrue(),
+                    () -> assertThat(waitingRoomStore.findPosition(4L).rank()).isZero());
+        }
+
+        @DisplayName("입장 순번과 참여 인원은 모든 샤드를 더한 값이다.")
+        @Test
+        void admit_sumsAdmittedAndActiveAcrossShards() throws InterruptedException {
+            // arrange
+            enterInOrder(1L, 2L, 3L, 4L);
+            List<WaitingEntry> admitted = waitingRoomStore.admit(3);
+
+            // act
+            entryGate.completeEntry(admitted.get(0).userId());
+
+            // assert
+            assertAll(
+                    () -> assertThat(waitingRoomStore.getAdmittedSequence()).isEqualTo(3),
+                    () -> assertThat(entryGate.getActiveCount()).isEqualTo(2),
+                    () -> assertThat(entryGate.getToken(2L)).isNotNull());
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.loopers.infrastructure.waitingroom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.domain.waitingroom.EntryGate;
+import com.loopers.domain.waitingroom.FakeEntryGate;
+import com.loopers.domain.waitingroom.FakeWaitingQueue;
+import com.loopers.domain.waitingroom.FakeWaitingRoomStore;
+import com.loopers.domain.waitingroom.WaitingEntry;
+import com.loopers.domain.waitingroom.WaitingRoomStore;
+import com.loopers.domain.waitingroom.WaitingSnapshot;
+import com.loopers.utils.RedisCleanUp;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Lua 스크립트 구현(WaitingRoomRedisStore)이 Fake 조합(FakeWaitingQueue + FakeEntryGate)과
+ * 같은 입력에 같은 결과를 내는지 검증한다.
+ * Redis는 같은 score일 때 member 사전순으로 정렬하므로, userId는 자릿수가 같은 값만 사용한다.
+ */
+@DisplayName("WaitingRoomRedisStore Lua 스크립트 동작 동등성 테스트")
+@SpringBootTest
+class WaitingRoomRedisStoreParityTest {
+
+    @Autowired
+    private WaitingRoomStore redisStore;
+
+    @Autowired
+    private EntryGate entryGate;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private FakeWaitingRoomStore fakeStore;
+
+    @BeforeEach
+    void setUp() {
+        fakeStore = new FakeWaitingRoomStore(new FakeWaitingQueue(), new FakeEntryGate());
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    private void enterBoth(Long... userIds) {
+        for (Long userId : userIds) {
+            assertSameSnapshot(redisStore.enter(userId), fakeStore.enter(userId));
+        }
+    }
+
+    private void assertSameSnapshot(WaitingSnapshot actual, WaitingSnapshot expected) {
+        assertAll(
+                () -> assertThat(actual.rank()).isEqualTo(expected.rank()),
+                () -> assertThat(actual.totalWaiting()).isEqualTo(expected.totalWaiting()),
+                () -> assertThat(actual.isEntryReady()).isEqualTo(expected.isEntryReady()));
+    }
+
+    private List<Long> userIds(List<WaitingEntry> entries) {
+        return entries.stream().map(WaitingEntry::userId).toList();
+    }
+
+    @DisplayName("진입(enter-and-position)")
+    @Nested
+    class Enter {
+
+        @DisplayName("순차 진입과 중복 진입에서 순위/전체 인원이 Fake와 같다.")
+        @Test
+        void enter_matchesFake() {
+            // act & assert
+            enterBoth(101L, 102L, 103L, 102L, 104L, 101L);
+        }
+    }
+
+    @DisplayName("순위 조회(position-or-token)")
+    @Nested
+    class FindPosition {
+
+        @DisplayName("대기 중, 입장 완료, 대기열에 없음 세 경우 모두 Fake와 같다.")
+        @Test
+        void findPosition_matchesFake() {
+            // arrange
+            enterBoth(101L, 102L, 103L, 104L);
+            redisStore.admit(1);
+            fakeStore.admit(1);
+
+            // act & assert
+            for (Long userId : List.of(101L, 102L, 103L, 104L, 999L)) {
+                assertSameSnapshot(redisStore.findPosition(userId), fakeStore.findPosition(userId));
+            }
+        }
+    }
+
+    @DisplayName("입장(pop-and-issue-tokens)")
+    @Nested
+    class Admit {
+
+        @DisplayName("꺼내는 순서와 인원이 Fake와 같고, 남은 인원보다 많이 요청해도 있는 만큼만 꺼낸다.")
+        @Test
+        void admit_matchesFake() {
+            // arrange
+            enterBoth(101L, 102L, 103L, 104L, 105L);
+
+            // act
+            List<WaitingEntry> redisFirst = redisStore.admit(2);
+            List<WaitingEntry> fakeFirst = fakeStore.admit(2);
+            List<WaitingEntry> redisRest = redisStore.admit(10);
+            List<WaitingEntry> fakeRest = fakeStore.admit(10);
+
+            // assert
+            assertAll(
+                    () -> assertThat(userIds(redisFirst)).isEqualTo(userIds(fakeFirst)),
+                    () -> assertThat(userIds(redisRest)).isEqualTo(userIds(fakeRest)),
+                    () -> assertThat(redisStore.admit(1)).isEmpty());
+        }
+
+        @DisplayName("스크립트로 발급한 토큰은 EntryGate에서 검증되고 활성 인원에 포함된다.")
+        @Test
+        void admit_issuesTokensVisibleToEntryGate() {
+            // arrange
+            enterBoth(101L, 102L, 103L);
+
+            // act
+            redisStore.admit(2);
+
+            // assert
+            String token = redisStore.findPosition(101L).token();
+            assertAll(
+                    () -> assertThat(token).isEqualTo(entryGate.getToken(101L)),
+                    () -> assertThatCode(() -> entryGate.validateToken(101L, token)).doesNotThrowAnyException(),
+                    () -> assertThat(entryGate.getToken(103L)).isNull(),
+                    () -> assertThat(entryGate.getActiveCount()).isEqualTo(2));
+        }
+    }
+}
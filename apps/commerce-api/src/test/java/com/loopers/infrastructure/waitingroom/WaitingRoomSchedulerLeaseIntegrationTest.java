@@ -0,0 +1,159 @@
+package com.loopers.infrastructure.waitingroom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.support.config.SchedulingConfig;
+import com.loopers.utils.RedisCleanUp;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.context.TestPropertySource;
+
+@DisplayName("대기열 스케줄러 리더 임대 통합 테스트")
+@SpringBootTest
+@TestPropertySource(properties = "queue.scheduler.leader-election=false") // 컨텍스트의 임대 빈이 같은 키를 잡지 않도록
+class WaitingRoomSchedulerLeaseIntegrationTest {
+
+    private static final SchedulerLeaseProperties PROPERTIES = new SchedulerLeaseProperties(true, 600, 200);
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @Autowired
+    @Qualifier("taskScheduler")
+    private ThreadPoolTaskScheduler defaultScheduler;
+
+    @Autowired
+    @Qualifier(SchedulingConfig.WAITING_ROOM_SCHEDULER)
+    private ThreadPoolTaskScheduler waitingRoomScheduler;
+
+    private WaitingRoomSchedulerLease instanceA;
+    private WaitingRoomSchedulerLease instanceB;
+    private SimpleMeterRegistry registryA;
+
+    @BeforeEach
+    void setUp() {
+        redisCleanUp.truncateAll();
+        registryA = new SimpleMeterRegistry();
+        instanceA = new WaitingRoomSchedulerLease(redisTemplate, registryA, PROPERTIES);
+        instanceB = new WaitingRoomSchedulerLease(redisTemplate, new SimpleMeterRegistry(), PROPERTIES);
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("먼저 임대를 얻은 인스턴스만 리더가 되고, 갱신해도 리더가 유지된다.")
+    @Test
+    void renew_onlyOneLeader() {
+        // act
+        instanceA.renew();
+        instanceB.renew();
+        instanceA.renew();
+
+        // assert
+        assertAll(
+                () -> assertThat(instanceA.isLeader()).isTrue(),
+                () -> assertThat(instanceB.isLeader()).isFalse(),
+                () -> assertThat(registryA.counter("queue.scheduler.leadership.change.total",
+                        "transition", "acquired").count()).isEqualTo(1));
+    }
+
+    @DisplayName("리더가 갱신을 멈추면 임대 만료 후 다른 인스턴스가 리더를 이어받는다.")
+    @Test
+    void renew_failsOverAfterLeaseExpiry() throws InterruptedException {
+        // arrange
+        instanceA.renew();
+
+        // act
+        Thread.sleep(PROPERTIES.leaseMs() + 100);
+        instanceB.renew();
+        instanceA.renew();
+
+        // assert
+        assertAll(
+                () -> assertThat(instanceB.isLeader()).isTrue(),
+                () -> assertThat(instanceA.isLeader()).isFalse(),
+                () -> assertThat(registryA.counter("queue.scheduler.leadership.change.total",
+                        "transition", "lost").count()).isEqualTo(1));
+    }
+
+    @DisplayName("기본 스케줄러의 스레드가 모두 막혀 있어도, 전용 스케줄러의 갱신으로 리더 임대를 잃지 않는다.")
+    @Test
+    void renew_keepsLeaseWhileDefaultSchedulerIsBlocked() throws Exception {
+        // arrange
+        Scheduled scheduled = WaitingRoomSchedulerLease.class.getMethod("renew").getAnnotation(Scheduled.class);
+        ScheduledFuture<?> renewal = waitingRoomScheduler.scheduleWithFixedDelay(
+                instanceA::renew, Duration.ofMillis(PROPERTIES.renewIntervalMs()));
+        CountDownLatch unblock = new CountDownLatch(1);
+        int blockers = defaultScheduler.getPoolSize();
+        CountDownLatch blocked = new CountDownLatch(blockers);
+        for (int i = 0; i < blockers; i++) {
+            defaultScheduler.execute(() -> {
+                blocked.countDown();
+                try {
+                    unblock.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        // act
+        boolean allBlocked = blocked.await(1, TimeUnit.SECONDS);
+        boolean lostLease = false;
+        long blockUntil = System.currentTimeMillis() + PROPERTIES.leaseMs() * 3;
+        try {
+            Thread.sleep(PROPERTIES.renewIntervalMs());
+            while (System.currentTimeMillis() < blockUntil) {
+                lostLease |= !instanceA.isLeader();
+                Thread.sleep(50);
+            }
+        } finally {
+            unblock.countDown();
+            renewal.cancel(false);
+        }
+
+        // assert
+        boolean lostDuringBlock = lostLease;
+        assertAll(
+                () -> assertThat(scheduled.scheduler()).isEqualTo(SchedulingConfig.WAITING_ROOM_SCHEDULER),
+                () -> assertThat(allBlocked).isTrue(),
+                () -> assertThat(lostDuringBlock).isFalse());
+    }
+
+    @DisplayName("리더가 임대를 반납하면 다음 갱신에서 바로 다른 인스턴스가 리더가 된다.")
+    @Test
+    void release_handsOverImmediately() {
+        // arrange
+        instanceA.renew();
+
+        // act
+        instanceA.release();
+        instanceB.renew();
+
+        // assert
+        assertAll(
+                () -> assertThat(instanceA.isLeader()).isFalse(),
+                () -> assertThat(instanceB.isLeader()).isTrue());
+    }
+}
@@ -7,12 +7,14 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.user.AuthTokenService;
+import com.loopers.domain.user.AuthenticatedUser;
 import com.loopers.domain.user.AuthenticationService;
-import com.loopers.domain.user.UserModel;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.servlet.FilterChain;
-import java.time.LocalDate;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -31,6 +33,9 @@ class AuthFilterTest {
     @Mock
     private AuthenticationService authenticationService;
 
+    @Mock
+    private AuthTokenService authTokenService;
+
     @Mock
     private FilterChain filterChain;
 
@@ -39,7 +44,12 @@ class AuthFilterTest {
 
     @BeforeEach
     void setUp() {
-        authFilter = new AuthFilter(authenticationService, objectMapper);
+        AuthRouteRegistry authRouteRegistry = new AuthRouteRegistry(List.of(
+            new AuthRoute("GET", "/api/v1/users/me", true),
+            new AuthRoute("POST", "/api/v1/users/signup", false),
+            new AuthRoute("GET", "/api/v1/products/{productId}", false)));
+        authFilter = new AuthFilter(
+            authenticationService, authTokenService, authRouteRegistry, objectMapper, new SimpleMeterRegistry());
     }
 
     @DisplayName("인증 필요 URL에 유효한 헤더가 있으면, LoginUser attribute를 설정하고 filterChain을 진행한다")
@@ -51,10 +61,8 @@ class AuthFilterTest {
         request.addHeader("X-Loopers-LoginPw", "Test1234!");
         MockHttpServletResponse response = new MockHttpServletResponse();
 
-        UserModel userModel = UserModel.create(
-            "testuser1", "encoded", "홍길동", LocalDate.of(1990, 1, 15), "test@example.com"
-        );
-        when(authenticationService.authenticate("testuser1", "Test1234!")).thenReturn(userModel);
+        when(authenticationService.authenticateCached("testuser1", "Test1234!"))
+            .thenReturn(new AuthenticatedUser(1L, "testuser1", "홍길동"));
 
         // act
         authFilter.doFilterInternal(request, response, filterChain);
@@ -93,7 +101,7 @@ class AuthFilterTest {
         request.addHeader("X-Loopers-LoginPw", "Wrong1234!");
         MockHttpServletResponse response = new MockHttpServletResponse();
 
-        when(authenticationService.authenticate("testuser1", "Wrong1234!"))
+        when(authenticationService.authenticateCached("testuser1", "Wrong1234!"))
             .thenThrow(new CoreException(ErrorType.UNAUTHORIZED, "로그인 ID 또는 비밀번호가 일치하지 않습니다."));
 
         // act
@@ -115,9 +123,8 @@ class AuthFilterTest {
         request.addHeader("X-Loopers-LoginPw", "Test1234!");
         MockHttpServletResponse response = new MockHttpServletResponse();
 
-        UserModel userModel = UserModel.create(
-                "testuser1", "encoded", "홍길동", LocalDate.of(1990, 1, 15), "test@example.com");
-        when(authenticationService.authenticate("testuser1", "Test1234!")).thenReturn(userModel);
+        when(authenticationService.authenticateCached("testuser1", "Test1234!"))
+                .thenReturn(new AuthenticatedUser(1L, "testuser1", "홍길동"));
 
         // act
         authFilter.doFilterInternal(request, response, filterChain);
@@ -138,7 +145,7 @@ class AuthFilterTest {
         request.addHeader("X-Loopers-LoginPw", "Wrong!");
         MockHttpServletResponse response = new MockHttpServletResponse();
 
-        when(authenticationService.authenticate("testuser1", "Wrong!"))
+        when(authenticationService.authenticateCached("testuser1", "Wrong!"))
                 .thenThrow(new CoreException(ErrorType.UNAUTHORIZED));
 
         // act
@@ -163,6 +170,77 @@ class AuthFilterTest {
         // assert
         assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
         verify(filterChain).doFilter(request, response);
-        verify(authenticationService, never()).authenticate(anyString(), anyString());
+        verify(authenticationService, never()).authenticateCached(anyString(), anyString());
+    }
+
+    @DisplayName("Bearer 토큰이 있을 때, ")
+    @Nested
+    class WithBearerToken {
+
+        @DisplayName("유효한 토큰이면, 헤더 인증 없이 LoginUser attribute를 설정한다")
+        @Test
+        void setsLoginUser_whenValidBearerToken() throws Exception {
+            // arrange
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/me");
+            request.addHeader("Authorization", "Bearer valid-token");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            when(authTokenService.verifyAccessToken("valid-token"))
+                .thenReturn(new AuthenticatedUser(1L, "testuser1", "홍길동"));
+
+            // act
+            authFilter.doFilterInternal(request, response, filterChain);
+
+            // assert
+            LoginUser loginUser = (LoginUser) request.getAttribute("loginUser");
+            assertThat(loginUser).isEqualTo(new LoginUser(1L, "testuser1", "홍길동"));
+            verify(filterChain).doFilter(request, response);
+            verify(authenticationService, never()).authenticateCached(anyString(), anyString());
+        }
+
+        @DisplayName("토큰 검증에 실패하면, 로그인 헤더가 있어도 401을 반환한다")
+        @Test
+        void returns401_whenBearerTokenInvalid() throws Exception {
+            // arrange
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/me");
+            request.addHeader("Authorization", "Bearer expired-token");
+            request.addHeader("X-Loopers-LoginId", "testuser1");
+            request.addHeader("X-Loopers-LoginPw", "Test1234!");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            when(authTokenService.verifyAccessToken("expired-token"))
+                .thenThrow(new CoreException(ErrorType.UNAUTHORIZED, "유효하지 않은 토큰입니다."));
+
+            // act
+            authFilter.doFilterInternal(request, response, filterChain);
+
+            // assert
+            assertThat(response.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+            assertThat(response.getContentAsString()).contains("유효하지 않은 토큰입니다.");
+            verify(filterChain, never()).doFilter(request, response);
+            verify(authenticationService, never()).authenticateCached(anyString(), anyString());
+        }
+
+        @DisplayName("Bearer 스킴이 아니면, 로그인 헤더 인증으로 진행한다")
+        @Test
+        void fallsBackToHeaders_whenNotBearerScheme() throws Exception {
+            // arrange
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/me");
+            request.addHeader("Authorization", "Basic dGVzdDp0ZXN0");
+            request.addHeader("X-Loopers-LoginId", "testuser1");
+            request.addHeader("X-Loopers-LoginPw", "Test1234!");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            when(authenticationService.authenticateCached("testuser1", "Test1234!"))
+                .thenReturn(new AuthenticatedUser(1L, "testuser1", "홍길동"));
+
+            // act
+            authFilter.doFilterInternal(request, response, filterChain);
+
+            // assert
+            assertThat(request.getAttribute("loginUser")).isNotNull();
+            verify(filterChain).doFilter(request, response);
+            verify(authTokenService, never()).verifyAccessToken(anyString());
+        }
     }
 }
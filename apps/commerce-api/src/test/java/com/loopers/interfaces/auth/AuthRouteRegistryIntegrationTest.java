@@ -0,0 +1,37 @@
+package com.loopers.interfaces.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@DisplayName("AuthRouteRegistry 통합 테스트")
+@SpringBootTest
+class AuthRouteRegistryIntegrationTest {
+
+    @Autowired
+    private AuthRouteRegistry authRouteRegistry;
+
+    @DisplayName("실제 컨트롤러 매핑에서 @Login 핸들러 경로만 인증 필수로 컴파일된다.")
+    @Test
+    void compilesRulesFromControllers() {
+        // act & assert
+        assertAll(
+                () -> assertThat(authRouteRegistry.requiresAuth("GET", "/api/v1/users/me")).isTrue(),
+                () -> assertThat(authRouteRegistry.requiresAuth("PATCH", "/api/v1/users/password")).isTrue(),
+                () -> assertThat(authRouteRegistry.requiresAuth("GET", "/api/v1/users/me/likes")).isTrue(),
+                () -> assertThat(authRouteRegistry.requiresAuth("GET", "/api/v1/users/me/coupons")).isTrue(),
+                () -> assertThat(authRouteRegistry.requiresAuth("POST", "/api/v1/products/1/likes")).isTrue(),
+                () -> assertThat(authRouteRegistry.requiresAuth("GET", "/api/v1/orders/1")).isTrue(),
+                () -> assertThat(authRouteRegistry.requiresAuth("POST", "/api/v1/payments")).isTrue(),
+                () -> assertThat(authRouteRegistry.requiresAuth("POST", "/api/v1/coupons/1/issue")).isTrue(),
+                () -> assertThat(authRouteRegistry.requiresAuth("POST", "/api/v1/queue/enter")).isTrue(),
+                () -> assertThat(authRouteRegistry.requiresAuth("POST", "/api/v1/payments/callback")).isFalse(),
+                () -> assertThat(authRouteRegistry.requiresAuth("GET", "/api/v1/products/1")).isFalse(),
+                () -> assertThat(authRouteRegistry.requiresAuth("POST", "/api/v1/users/signup")).isFalse(),
+                () -> assertThat(authRouteRegistry.requiresAuth("POST", "/api/v1/auth/token")).isFalse());
+    }
+}
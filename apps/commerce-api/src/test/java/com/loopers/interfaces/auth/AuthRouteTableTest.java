@@ -0,0 +1,80 @@
+package com.loopers.interfaces.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AuthRouteTable 단위 테스트")
+class AuthRouteTableTest {
+
+    private final AuthRouteTable table = AuthRouteTable.compile(List.of(
+            new AuthRoute("GET", "/api/v1/products", false),
+            new AuthRoute("GET", "/api/v1/products/{productId}", false),
+            new AuthRoute("POST", "/api/v1/products/{productId}/likes", true),
+            new AuthRoute("DELETE", "/api/v1/products/{productId}/likes", true),
+            new AuthRoute("GET", "/api/v1/coupons/{couponId}", false),
+            new AuthRoute("GET", "/api/v1/coupons/me", true),
+            new AuthRoute("POST", "/api/v1/payments", true),
+            new AuthRoute("POST", "/api/v1/payments/callback", false),
+            new AuthRoute(null, "/api/v1/orders/**", true)));
+
+    @DisplayName("경로를 판별할 때, ")
+    @Nested
+    class RequiresAuth {
+
+        @DisplayName("@Login 핸들러에 매핑된 경로/메서드만 인증 필수다.")
+        @Test
+        void requiresAuth_onlyForLoginHandlers() {
+            // act & assert
+            assertAll(
+                    () -> assertThat(table.requiresAuth("POST", "/api/v1/products/1/likes")).isTrue(),
+                    () -> assertThat(table.requiresAuth("DELETE", "/api/v1/products/1/likes")).isTrue(),
+                    () -> assertThat(table.requiresAuth("GET", "/api/v1/products/1/likes")).isFalse(),
+                    () -> assertThat(table.requiresAuth("GET", "/api/v1/products/1")).isFalse(),
+                    () -> assertThat(table.requiresAuth("GET", "/api/v1/products")).isFalse());
+        }
+
+        @DisplayName("리터럴 세그먼트가 변수 세그먼트보다 우선한다.")
+        @Test
+        void requiresAuth_prefersLiteralSegments() {
+            // act & assert
+            assertAll(
+                    () -> assertThat(table.requiresAuth("GET", "/api/v1/coupons/me")).isTrue(),
+                    () -> assertThat(table.requiresAuth("GET", "/api/v1/coupons/10")).isFalse(),
+                    () -> assertThat(table.requiresAuth("POST", "/api/v1/payments")).isTrue(),
+                    () -> assertThat(table.requiresAuth("POST", "/api/v1/payments/callback")).isFalse());
+        }
+
+        @DisplayName("** 패턴은 하위 경로 전체와 모든 메서드에 적용된다.")
+        @Test
+        void requiresAuth_catchAllPattern() {
+            // act & assert
+            assertAll(
+                    () -> assertThat(table.requiresAuth("GET", "/api/v1/orders")).isTrue(),
+                    () -> assertThat(table.requiresAuth("PATCH", "/api/v1/orders/1/items/2/cancel")).isTrue());
+        }
+
+        @DisplayName("HEAD는 GET 핸들러 기준으로 판단한다.")
+        @Test
+        void requiresAuth_headFollowsGet() {
+            // act & assert
+            assertThat(table.requiresAuth("HEAD", "/api/v1/coupons/me")).isTrue();
+        }
+
+        @DisplayName("매핑되지 않은 경로나 메서드는 인증 필수가 아니다.")
+        @Test
+        void requiresAuth_whenUnmapped_returnsFalse() {
+            // act & assert
+            assertAll(
+                    () -> assertThat(table.requiresAuth("GET", "/api/v1/unknown")).isFalse(),
+                    () -> assertThat(table.requiresAuth("OPTIONS", "/api/v1/payments")).isFalse(),
+                    () -> assertThat(table.requiresAuth("POST", "/api/v1/products//likes")).isFalse(),
+                    () -> assertThat(table.requiresAuth("POST", "/api/v1/payments/")).isFalse(),
+                    () -> assertThat(table.requiresAuth("GET", "")).isFalse());
+        }
+    }
+}
@@ -92,7 +92,8 @@ class CouponV1ApiE2ETest {
         CouponModel coupon = couponJpaRepository.save(
                 CouponModel.create(name, type, value, null, 100,
                         ZonedDateTime.now().plusMonths(3)));
-        couponIssueLimiter.registerTotalQuantity(coupon.getId(), coupon.getTotalQuantity());
+        couponIssueLimiter.registerTotalQuantity(
+                coupon.getId(), coupon.getTotalQuantity(), coupon.getExpiredAt());
         return coupon;
     }
 
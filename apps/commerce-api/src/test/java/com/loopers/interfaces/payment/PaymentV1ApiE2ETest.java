@@ -20,6 +20,8 @@ import com.loopers.interfaces.payment.dto.PgCallbackRequest;
 import com.loopers.interfaces.user.dto.UserV1Dto;
 import com.loopers.utils.DatabaseCleanUp;
 import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -101,6 +103,21 @@ class PaymentV1ApiE2ETest {
         return headers;
     }
 
+    private <T> T await(Supplier<T> supplier, Predicate<T> condition) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        T value = supplier.get();
+        while (!condition.test(value) && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            value = supplier.get();
+        }
+        return value;
+    }
+
     @DisplayName("POST /api/v1/payments/callback")
     @Nested
     class HandleCallback {
@@ -123,10 +140,13 @@ class PaymentV1ApiE2ETest {
                             100000, "SUCCESS", "정상 승인되었습니다.")),
                     new ParameterizedTypeReference<>() {});
 
-            // assert
-            PaymentModel updatedPayment = paymentJpaRepository
-                    .findByOrderIdAndDeletedAtIsNull(orderId).orElseThrow();
-            OrderModel updatedOrder = orderJpaRepository.findById(orderId).orElseThrow();
+            // assert — 콜백은 수신함에 적재되고 워커가 비동기로 반영한다
+            PaymentModel updatedPayment = await(
+                    () -> paymentJpaRepository.findByOrderIdAndDeletedAtIsNull(orderId).orElseThrow(),
+                    PaymentModel::isTerminal);
+            OrderModel updatedOrder = await(
+                    () -> orderJpaRepository.findById(orderId).orElseThrow(),
+                    order -> !order.isPendingPayment());
 
             assertAll(
                     () -> assertThat(response.getStatusCode().is2xxSuccessful()).isTrue(),
@@ -155,8 +175,9 @@ class PaymentV1ApiE2ETest {
                     new ParameterizedTypeReference<ApiResponse<Object>>() {});
 
             // assert
-            PaymentModel updatedPayment = paymentJpaRepository
-                    .findByOrderIdAndDeletedAtIsNull(orderId).orElseThrow();
+            PaymentModel updatedPayment = await(
+                    () -> paymentJpaRepository.findByOrderIdAndDeletedAtIsNull(orderId).orElseThrow(),
+                    PaymentModel::isTerminal);
 
             assertAll(
                     () -> assertThat(response.getStatusCode().is2xxSuccessful()).isTrue(),
@@ -307,6 +307,39 @@ class ProductLikeV1ApiE2ETest {
             );
         }
 
+        @DisplayName("삭제된 상품은 빼고 최근 순으로 size개씩 주며, nextCursor로 다음 페이지를 읽는다.")
+        @Test
+        void returnsPagesByCursor_excludingDeletedProducts() {
+            // arrange
+            Long brandId = productJpaRepository.findById(productId).orElseThrow().getBrandId();
+            ProductModel deleted = productJpaRepository.save(ProductModel.create(brandId, "에어포스", 120000, 100));
+            ProductModel latest = productJpaRepository.save(ProductModel.create(brandId, "조던", 200000, 100));
+            likeProduct(productId);
+            likeProduct(deleted.getId());
+            likeProduct(latest.getId());
+            deleted.delete();
+            productJpaRepository.save(deleted);
+
+            // act
+            ParameterizedTypeReference<ApiResponse<ProductLikeV1Dto.ListResponse>> responseType = new ParameterizedTypeReference<>() {};
+            ResponseEntity<ApiResponse<ProductLikeV1Dto.ListResponse>> first =
+                testRestTemplate.exchange(ENDPOINT_MY_LIKES + "?size=1", HttpMethod.GET, new HttpEntity<>(null, authHeaders()), responseType);
+            String nextCursor = first.getBody().data().nextCursor();
+            ResponseEntity<ApiResponse<ProductLikeV1Dto.ListResponse>> second =
+                testRestTemplate.exchange(ENDPOINT_MY_LIKES + "?size=1&cursor=" + nextCursor, HttpMethod.GET,
+                    new HttpEntity<>(null, authHeaders()), responseType);
+
+            // assert
+            assertAll(
+                () -> assertThat(first.getBody().data().items()).extracting(ProductLikeV1Dto.ListResponse.ListItem::productId)
+                    .containsExactly(latest.getId()),
+                () -> assertThat(nextCursor).isNotNull(),
+                () -> assertThat(second.getBody().data().items()).extracting(ProductLikeV1Dto.ListResponse.ListItem::productId)
+                    .containsExactly(productId),
+                () -> assertThat(second.getBody().data().nextCursor()).isNull()
+            );
+        }
+
         @DisplayName("좋아요 후 취소하면, 목록에서 사라진다.")
         @Test
         void returnsEmptyList_afterUnlike() {
@@ -99,21 +99,22 @@ class ProductLikeV1ControllerTest {
         @Test
         void getMyLikes_returnsListResponse() {
             // arrange
-            List<ProductLikeResult> results = List.of(
+            ProductLikeResult.Slice results = new ProductLikeResult.Slice(List.of(
                 new ProductLikeResult(1L, 1L, 10L, ZonedDateTime.now()),
                 new ProductLikeResult(2L, 1L, 20L, ZonedDateTime.now())
-            );
-            when(productLikeFacade.getMyLikedProducts(1L)).thenReturn(results);
+            ), "next");
+            when(productLikeFacade.getMyLikedProducts(1L, null, 2)).thenReturn(results);
 
             // act
-            ApiResponse<ProductLikeV1Dto.ListResponse> response = productLikeV1Controller.getMyLikes(loginUser);
+            ApiResponse<ProductLikeV1Dto.ListResponse> response = productLikeV1Controller.getMyLikes(loginUser, null, 2);
 
             // assert
             assertAll(
                 () -> assertThat(response.meta().result()).isEqualTo(ApiResponse.Metadata.Result.SUCCESS),
                 () -> assertThat(response.data().items()).hasSize(2),
                 () -> assertThat(response.data().items().get(0).productId()).isEqualTo(10L),
-                () -> assertThat(response.data().items().get(1).productId()).isEqualTo(20L)
+                () -> assertThat(response.data().items().get(1).productId()).isEqualTo(20L),
+                () -> assertThat(response.data().nextCursor()).isEqualTo("next")
             );
         }
 
@@ -121,15 +122,17 @@ class ProductLikeV1ControllerTest {
         @Test
         void getMyLikes_returnsEmptyList_whenNoLikes() {
             // arrange
-            when(productLikeFacade.getMyLikedProducts(1L)).thenReturn(List.of());
+            when(productLikeFacade.getMyLikedProducts(1L, null, 20))
+                .thenReturn(new ProductLikeResult.Slice(List.of(), null));
 
             // act
-            ApiResponse<ProductLikeV1Dto.ListResponse> response = productLikeV1Controller.getMyLikes(loginUser);
+            ApiResponse<ProductLikeV1Dto.ListResponse> response = productLikeV1Controller.getMyLikes(loginUser, null, 20);
 
             // assert
             assertAll(
                 () -> assertThat(response.meta().result()).isEqualTo(ApiResponse.Metadata.Result.SUCCESS),
-                () -> assertThat(response.data().items()).isEmpty()
+                () -> assertThat(response.data().items()).isEmpty(),
+                () -> assertThat(response.data().nextCursor()).isNull()
             );
         }
     }
@@ -0,0 +1,157 @@
+package com.loopers.interfaces.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.user.dto.AuthV1Dto;
+import com.loopers.interfaces.user.dto.UserV1Dto;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class AuthV1ApiE2ETest {
+
+    private static final String ENDPOINT_SIGNUP = "/api/v1/users/signup";
+    private static final String ENDPOINT_TOKEN = "/api/v1/auth/token";
+    private static final String ENDPOINT_REFRESH = "/api/v1/auth/token/refresh";
+    private static final String ENDPOINT_LOGOUT = "/api/v1/auth/logout";
+    private static final String ENDPOINT_MY_INFO = "/api/v1/users/me";
+
+    private final TestRestTemplate testRestTemplate;
+    private final DatabaseCleanUp databaseCleanUp;
+    private final RedisCleanUp redisCleanUp;
+
+    @Autowired
+    public AuthV1ApiE2ETest(
+        TestRestTemplate testRestTemplate,
+        DatabaseCleanUp databaseCleanUp,
+        RedisCleanUp redisCleanUp
+    ) {
+        this.testRestTemplate = testRestTemplate;
+        this.databaseCleanUp = databaseCleanUp;
+        this.redisCleanUp = redisCleanUp;
+    }
+
+    @BeforeEach
+    void setUp() {
+        testRestTemplate.exchange(ENDPOINT_SIGNUP, HttpMethod.POST,
+            new HttpEntity<>(new UserV1Dto.SignupRequest("testuser1", "Test1234!", "홍길동", "19900101", "test@example.com")),
+            new ParameterizedTypeReference<ApiResponse<UserV1Dto.SignupResponse>>() {});
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    private ResponseEntity<ApiResponse<AuthV1Dto.TokenResponse>> login(String loginId, String password) {
+        return testRestTemplate.exchange(ENDPOINT_TOKEN, HttpMethod.POST,
+            new HttpEntity<>(new AuthV1Dto.LoginRequest(loginId, password)),
+            new ParameterizedTypeReference<>() {});
+    }
+
+    private ResponseEntity<ApiResponse<UserV1Dto.MyInfoResponse>> getMyInfo(String accessToken) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(accessToken);
+        return testRestTemplate.exchange(ENDPOINT_MY_INFO, HttpMethod.GET, new HttpEntity<>(headers),
+            new ParameterizedTypeReference<>() {});
+    }
+
+    @DisplayName("POST /api/v1/auth/token")
+    @Nested
+    class Login {
+
+        @DisplayName("발급받은 access 토큰만으로 인증 API를 호출할 수 있다.")
+        @Test
+        void accessTokenAuthenticatesRequests() {
+            // arrange
+            AuthV1Dto.TokenResponse tokens = login("testuser1", "Test1234!").getBody().data();
+
+            // act
+            ResponseEntity<ApiResponse<UserV1Dto.MyInfoResponse>> response = getMyInfo(tokens.accessToken());
+
+            // assert
+            assertAll(
+                () -> assertThat(tokens.tokenType()).isEqualTo("Bearer"),
+                () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+                () -> assertThat(response.getBody().data().loginId()).isEqualTo("testuser1")
+            );
+        }
+
+        @DisplayName("비밀번호가 틀리면, 401 UNAUTHORIZED 응답을 받는다.")
+        @Test
+        void returns401_whenWrongPassword() {
+            // act
+            ResponseEntity<ApiResponse<AuthV1Dto.TokenResponse>> response = login("testuser1", "Wrong1234!");
+
+            // assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        }
+    }
+
+    @DisplayName("POST /api/v1/auth/token/refresh")
+    @Nested
+    class Refresh {
+
+        @DisplayName("refresh 토큰은 한 번만 사용할 수 있다.")
+        @Test
+        void refreshTokenIsSingleUse() {
+            // arrange
+            AuthV1Dto.TokenResponse tokens = login("testuser1", "Test1234!").getBody().data();
+            HttpEntity<AuthV1Dto.RefreshRequest> request =
+                new HttpEntity<>(new AuthV1Dto.RefreshRequest(tokens.refreshToken()));
+            ParameterizedTypeReference<ApiResponse<AuthV1Dto.TokenResponse>> responseType = new ParameterizedTypeReference<>() {};
+
+            // act
+            ResponseEntity<ApiResponse<AuthV1Dto.TokenResponse>> first =
+                testRestTemplate.exchange(ENDPOINT_REFRESH, HttpMethod.POST, request, responseType);
+            ResponseEntity<ApiResponse<AuthV1Dto.TokenResponse>> second =
+                testRestTemplate.exchange(ENDPOINT_REFRESH, HttpMethod.POST, request, responseType);
+
+            // assert
+            assertAll(
+                () -> assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK),
+                () -> assertThat(getMyInfo(first.getBody().data().accessToken()).getStatusCode()).isEqualTo(HttpStatus.OK),
+                () -> assertThat(second.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED)
+            );
+        }
+    }
+
+    @DisplayName("POST /api/v1/auth/logout")
+    @Nested
+    class Logout {
+
+        @DisplayName("로그아웃한 access 토큰으로는 더 이상 인증할 수 없다.")
+        @Test
+        void revokesAccessToken() {
+            // arrange
+            AuthV1Dto.TokenResponse tokens = login("testuser1", "Test1234!").getBody().data();
+            HttpHeaders headers = new HttpHeaders();
+            headers.setBearerAuth(tokens.accessToken());
+
+            // act
+            testRestTemplate.exchange(ENDPOINT_LOGOUT, HttpMethod.POST,
+                new HttpEntity<>(new AuthV1Dto.LogoutRequest(tokens.refreshToken()), headers),
+                new ParameterizedTypeReference<ApiResponse<Object>>() {});
+
+            // assert
+            assertThat(getMyInfo(tokens.accessToken()).getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        }
+    }
+}
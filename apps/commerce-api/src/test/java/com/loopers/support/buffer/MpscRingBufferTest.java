@@ -0,0 +1,114 @@
+package com.loopers.support.buffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class MpscRingBufferTest {
+
+    @DisplayName("생성할 때, ")
+    @Nested
+    class Create {
+
+        @DisplayName("크기는 2의 거듭제곱으로 올림하고, 0 이하면 예외가 발생한다.")
+        @Test
+        void create_roundsUpToPowerOfTwo() {
+            // act & assert
+            assertAll(
+                () -> assertThat(new MpscRingBuffer<String>(5).capacity()).isEqualTo(8),
+                () -> assertThat(new MpscRingBuffer<String>(8).capacity()).isEqualTo(8),
+                () -> assertThatThrownBy(() -> new MpscRingBuffer<String>(0))
+                    .isInstanceOf(IllegalArgumentException.class)
+            );
+        }
+    }
+
+    @DisplayName("넣고 꺼낼 때, ")
+    @Nested
+    class OfferAndDrain {
+
+        @DisplayName("가득 차면 false를 돌려주고, 꺼낸 만큼 다시 넣을 수 있으며 넣은 순서대로 나온다.")
+        @Test
+        void offer_whenFull_returnsFalse() {
+            // arrange
+            MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+            for (int i = 0; i < 4; i++) {
+                buffer.offer(i);
+            }
+
+            // act
+            boolean overflow = buffer.offer(4);
+            List<Integer> first = new ArrayList<>();
+            buffer.drainTo(first, 3);
+            boolean afterDrain = buffer.offer(5);
+            List<Integer> rest = new ArrayList<>();
+            buffer.drainTo(rest, 10);
+
+            // assert
+            assertAll(
+                () -> assertThat(overflow).isFalse(),
+                () -> assertThat(first).containsExactly(0, 1, 2),
+                () -> assertThat(afterDrain).isTrue(),
+                () -> assertThat(rest).containsExactly(3, 5),
+                () -> assertThat(buffer.size()).isZero()
+            );
+        }
+
+        @DisplayName("여러 생산자가 동시에 넣어도 받아들인 값은 빠짐없이 한 번씩 나온다.")
+        @Test
+        void offer_concurrently_losesNothingAccepted() throws InterruptedException {
+            // arrange
+            int producers = 8;
+            int perProducer = 10_000;
+            MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(1024);
+            ExecutorService executor = Executors.newFixedThreadPool(producers);
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(producers);
+            for (int p = 0; p < producers; p++) {
+                int base = p * perProducer;
+                executor.submit(() -> {
+                    try {
+                        start.await();
+                        for (int i = 0; i < perProducer; i++) {
+                            while (!buffer.offer(base + i)) {
+                                Thread.onSpinWait();
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+
+            // act
+            start.countDown();
+            List<Integer> drained = new ArrayList<>();
+            while (done.getCount() > 0 || buffer.size() > 0) {
+                buffer.drainTo(drained, 256);
+            }
+            done.await(10, TimeUnit.SECONDS);
+            executor.shutdown();
+
+            // assert
+            Set<Integer> distinct = new HashSet<>(drained);
+            assertAll(
+                () -> assertThat(drained).hasSize(producers * perProducer),
+                () -> assertThat(distinct).hasSize(producers * perProducer)
+            );
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.loopers.support.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.loopers.application.product.dto.ProductResult;
+import java.time.ZonedDateTime;
+import java.time.chrono.ChronoZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+@DisplayName("캐시 값 직렬화기 단위 테스트")
+class CompactCacheValueSerializerTest {
+
+    static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    static ProductResult.ListPage listPage(int size) {
+        ZonedDateTime now = ZonedDateTime.now();
+        List<ProductResult> items = new ArrayList<>(LongStream.rangeClosed(1, size)
+                .mapToObj(id -> new ProductResult(id, id % 10 + 1, "브랜드" + (id % 10 + 1), "상품 " + id,
+                        10_000 + (int) id * 100, 50, id * 3, "https://cdn.loopers.com/products/" + id + "/thumb.jpg",
+                        now.minusDays(id), now, null))
+                .toList());
+        return new ProductResult.ListPage(0, size, 1_000, 1_000 / size, items);
+    }
+
+    private CacheSerializerProperties properties(CacheValueFormat format, int threshold) {
+        return new CacheSerializerProperties(format, threshold);
+    }
+
+    @DisplayName("SMILE 형식으로 직렬화할 때, ")
+    @Nested
+    class Smile {
+
+        @DisplayName("임계값보다 작은 값은 압축하지 않고 헤더 + Smile로 저장하며, 그대로 복원된다.")
+        @Test
+        void serialize_belowThreshold_roundTrips() {
+            // arrange
+            RedisSerializer<Object> serializer =
+                    CacheConfig.valueSerializer(OBJECT_MAPPER, properties(CacheValueFormat.SMILE, 64 * 1024));
+            ProductResult.ListPage page = listPage(3);
+
+            // act
+            byte[] bytes = serializer.serialize(page);
+            Object restored = serializer.deserialize(bytes);
+
+            // assert
+            assertAll(
+                    () -> assertThat(bytes[0]).isEqualTo(CompactCacheValueSerializer.MAGIC),
+                    () -> assertThat(bytes[1]).isEqualTo(CompactCacheValueSerializer.VERSION),
+                    () -> assertThat(bytes[2]).isZero(),
+                    () -> assertThat(restored).usingRecursiveComparison()
+                            .withComparatorForType(ChronoZonedDateTime.timeLineOrder(), ZonedDateTime.class)
+                            .isEqualTo(page));
+        }
+
+        @DisplayName("임계값 이상인 목록 페이지는 LZ4로 압축되어 JSON보다 작고, 그대로 복원된다.")
+        @Test
+        void serialize_aboveThreshold_compresses() {
+            // arrange
+            RedisSerializer<Object> compact =
+                    CacheConfig.valueSerializer(OBJECT_MAPPER, properties(CacheValueFormat.SMILE, 1024));
+            RedisSerializer<Object> json =
+                    CacheConfig.valueSerializer(OBJECT_MAPPER, properties(CacheValueFormat.JSON, 1024));
+            ProductResult.ListPage page = listPage(20);
+
+            // act
+            byte[] bytes = compact.serialize(page);
+            Object restored = compact.deserialize(bytes);
+
+            // assert
+            assertAll(
+                    () -> assertThat(bytes[2]).isEqualTo((byte) 1),
+                    () -> assertThat(bytes.length).isLessThan(json.serialize(page).length / 2),
+                    () -> assertThat(restored).usingRecursiveComparison()
+                            .withComparatorForType(ChronoZonedDateTime.timeLineOrder(), ZonedDateTime.class)
+                            .isEqualTo(page));
+        }
+
+        @DisplayName("모르는 버전이나 헤더 없는 값은 캐시 미스(null)로 처리한다.")
+        @Test
+        void deserialize_unknownHeader_returnsNull() {
+            // arrange
+            RedisSerializer<Object> serializer =
+                    CacheConfig.valueSerializer(OBJECT_MAPPER, properties(CacheValueFormat.SMILE, 1024));
+            byte[] nextVersion = serializer.serialize(listPage(1));
+            nextVersion[1] = (byte) (CompactCacheValueSerializer.VERSION + 1);
+            byte[] legacyJson = CacheConfig.valueSerializer(OBJECT_MAPPER, properties(CacheValueFormat.JSON, 1024))
+                    .serialize(listPage(1));
+
+            // act & assert
+            assertAll(
+                    () -> assertThat(serializer.deserialize(nextVersion)).isNull(),
+                    () -> assertThat(serializer.deserialize(legacyJson)).isNull());
+        }
+    }
+}
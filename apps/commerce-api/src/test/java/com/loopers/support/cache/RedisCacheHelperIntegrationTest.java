@@ -0,0 +1,166 @@
+package com.loopers.support.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.utils.RedisCleanUp;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("RedisCacheHelper 통합 테스트")
+@SpringBootTest
+class RedisCacheHelperIntegrationTest {
+
+    private static final TypeReference<String> STRING = new TypeReference<>() {};
+
+    @Autowired
+    private RedisCacheHelper cacheHelper;
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        redisCleanUp.truncateAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("multiSet/multiGet 할 때, ")
+    @Nested
+    class MultiGetAndSet {
+
+        @DisplayName("파이프라인으로 저장한 값을 TTL과 함께 MGET으로 읽고, 없는 키는 결과에서 빠진다.")
+        @Test
+        void multiSetThenMultiGet() {
+            // arrange
+            Map<String, String> values = new LinkedHashMap<>();
+            values.put("test:a", "A");
+            values.put("test:b", "B");
+
+            // act
+            cacheHelper.multiSet(values, Duration.ofMinutes(1));
+            Map<String, String> found = cacheHelper.multiGet(List.of("test:a", "test:missing", "test:b"), STRING);
+
+            // assert
+            assertAll(
+                    () -> assertThat(found).containsExactly(Map.entry("test:a", "A"), Map.entry("test:b", "B")),
+                    () -> assertThat(redisTemplate.getExpire("test:a", TimeUnit.SECONDS)).isBetween(1L, 60L),
+                    () -> assertThat(meterRegistry.get("redis.cache.helper.duration")
+                            .tag("operation", "mget").timer().count()).isPositive());
+        }
+    }
+
+    @DisplayName("getAll 할 때, ")
+    @Nested
+    class GetAll {
+
+        @DisplayName("캐시에 없는 ID만 loader로 한 번에 불러오고, 다음 호출부터는 캐시에서 읽는다.")
+        @Test
+        void getAll_loadsOnlyMissing() {
+            // arrange
+            cacheHelper.set("test:name:1", "cached-1", Duration.ofMinutes(1));
+            List<List<Long>> loaderCalls = new ArrayList<>();
+
+            // act
+            Map<Long, String> first = cacheHelper.getAll(
+                    List.of(1L, 2L, 3L), id -> "test:name:" + id, STRING,
+                    ids -> {
+                        loaderCalls.add(ids);
+                        return ids.stream().filter(id -> id != 3L)
+                                .collect(Collectors.toMap(id -> id, id -> "loaded-" + id));
+                    },
+                    Duration.ofMinutes(1));
+            Map<Long, String> second = cacheHelper.getAll(
+                    List.of(1L, 2L), id -> "test:name:" + id, STRING,
+                    ids -> {
+                        loaderCalls.add(ids);
+                        return Map.of();
+                    },
+                    Duration.ofMinutes(1));
+
+            // assert
+            assertAll(
+                    () -> assertThat(first).containsExactly(Map.entry(1L, "cached-1"), Map.entry(2L, "loaded-2")),
+                    () -> assertThat(second).containsExactly(Map.entry(1L, "cached-1"), Map.entry(2L, "loaded-2")),
+                    () -> assertThat(loaderCalls).containsExactly(List.of(2L, 3L)));
+        }
+    }
+
+    @DisplayName("deleteAfterCommit 할 때, ")
+    @Nested
+    class DeleteAfterCommit {
+
+        @DisplayName("트랜잭션 안에서는 커밋될 때까지 키를 남겨 두고, 커밋 뒤에 지운다.")
+        @Test
+        void deleteAfterCommit_deletesOnlyAfterCommit() {
+            // arrange
+            cacheHelper.set("test:name:1", "old", Duration.ofMinutes(1));
+
+            // act
+            Boolean presentBeforeCommit = transactionTemplate.execute(status -> {
+                cacheHelper.deleteAfterCommit("test:name:1");
+                return redisTemplate.hasKey("test:name:1");
+            });
+
+            // assert
+            assertAll(
+                    () -> assertThat(presentBeforeCommit).isTrue(),
+                    () -> assertThat(redisTemplate.hasKey("test:name:1")).isFalse());
+        }
+    }
+
+    @DisplayName("deleteByPattern 할 때, ")
+    @Nested
+    class DeleteByPattern {
+
+        @DisplayName("SCAN 배치 크기를 넘는 키도 패턴에 맞는 것만 모두 지운다.")
+        @Test
+        void deleteByPattern_deletesAcrossBatches() {
+            // arrange
+            IntStream.range(0, 1200).forEach(i -> redisTemplate.opsForValue().set("product:list:" + i, "v"));
+            redisTemplate.opsForValue().set("brand:list:all", "v");
+
+            // act
+            long deleted = cacheHelper.deleteByPattern("product:list:*");
+
+            // assert
+            assertAll(
+                    () -> assertThat(deleted).isEqualTo(1200),
+                    () -> assertThat(redisTemplate.hasKey("product:list:0")).isFalse(),
+                    () -> assertThat(redisTemplate.hasKey("brand:list:all")).isTrue());
+        }
+    }
+}
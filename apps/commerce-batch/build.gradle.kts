@@ -1,3 +1,6 @@
+// benchmarks 모듈이 StagingUpsertWriter 등을 참조할 수 있도록 plain jar 도 만든다
+tasks.named<Jar>("jar") { enabled = true }
+
 dependencies {
     // commerce-api: rank/metrics 도메인 공유
     implementation(project(":apps:commerce-api"))
@@ -1,9 +1,9 @@
 package com.loopers.interfaces.consumer;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loopers.application.metrics.MetricsAggregationService;
 import com.loopers.confg.kafka.KafkaConfig;
+import com.loopers.confg.kafka.KafkaEventDecoder;
+import com.loopers.confg.kafka.KafkaEventEnvelope;
 import com.loopers.confg.kafka.KafkaTopics;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -19,7 +19,7 @@ import org.springframework.stereotype.Component;
 public class CatalogEventConsumer {
 
     private final MetricsAggregationService metricsAggregationService;
-    private final ObjectMapper objectMapper;
+    private final KafkaEventDecoder kafkaEventDecoder;
 
     @KafkaListener(
             topics = KafkaTopics.CATALOG_EVENTS,
@@ -29,20 +29,23 @@ public class CatalogEventConsumer {
     public void consume(List<ConsumerRecord<String, byte[]>> records, Acknowledgment ack) {
         for (ConsumerRecord<String, byte[]> record : records) {
             try {
-                JsonNode node = objectMapper.readTree(record.value());
-                String eventId = node.get("eventId").asText();
-                String eventType = node.get("eventType").asText();
-                Long productId = node.get("data").get("productId").asLong();
+                KafkaEventEnvelope event = kafkaEventDecoder.decode(record.value());
+                String eventId = event.eventId();
+                if (!event.hasProductId()) {
+                    log.warn("[CatalogConsumer] productId 누락 — eventId={}", eventId);
+                    continue;
+                }
+                Long productId = event.productId();
 
-                switch (eventType) {
-                    case "PRODUCT_VIEWED" ->
+                switch (event.eventType()) {
+                    case PRODUCT_VIEWED ->
                             metricsAggregationService.incrementViewCount(eventId, productId);
-                    case "PRODUCT_LIKED" ->
+                    case PRODUCT_LIKED ->
                             metricsAggregationService.addLikeCount(eventId, productId, 1);
-                    case "PRODUCT_UNLIKED" ->
+                    case PRODUCT_UNLIKED ->
                             metricsAggregationService.addLikeCount(eventId, productId, -1);
                     default ->
-                            log.warn("[CatalogConsumer] 알 수 없는 eventType={}", eventType);
+                            log.warn("[CatalogConsumer] 처리하지 않는 eventType={} — eventId={}", event.eventType(), eventId);
                 }
             } catch (Exception e) {
                 log.error("[CatalogConsumer] 메시지 처리 실패 — offset={}", record.offset(), e);
@@ -1,11 +1,11 @@
 package com.loopers.interfaces.consumer;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loopers.application.metrics.MetricsAggregationService;
 import com.loopers.confg.kafka.KafkaConfig;
+import com.loopers.confg.kafka.KafkaEventDecoder;
+import com.loopers.confg.kafka.KafkaEventEnvelope;
+import com.loopers.confg.kafka.KafkaEventType;
 import com.loopers.confg.kafka.KafkaTopics;
-import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,7 +20,7 @@ import org.springframework.stereotype.Component;
 public class OrderEventConsumer {
 
     private final MetricsAggregationService metricsAggregationService;
-    private final ObjectMapper objectMapper;
+    private final KafkaEventDecoder kafkaEventDecoder;
 
     @KafkaListener(
             topics = KafkaTopics.ORDER_EVENTS,
@@ -30,22 +30,17 @@ public class OrderEventConsumer {
     public void consume(List<ConsumerRecord<String, byte[]>> records, Acknowledgment ack) {
         for (ConsumerRecord<String, byte[]> record : records) {
             try {
-                JsonNode node = objectMapper.readTree(record.value());
-                String eventId = node.get("eventId").asText();
-                String eventType = node.get("eventType").asText();
+                KafkaEventEnvelope event = kafkaEventDecoder.decode(record.value());
+                String eventId = event.eventId();
 
-                if ("ORDER_COMPLETED".equals(eventType)) {
-                    JsonNode data = node.get("data");
-                    JsonNode productIdsNode = data.get("productIds");
-                    if (productIdsNode == null || !productIdsNode.isArray()) {
+                if (event.eventType() == KafkaEventType.ORDER_COMPLETED) {
+                    if (event.productIds() == null) {
                         log.warn("[OrderConsumer] productIds 누락 — eventId={}", eventId);
                         continue;
                     }
-                    List<Long> productIds = new ArrayList<>();
-                    productIdsNode.forEach(n -> productIds.add(n.asLong()));
-                    metricsAggregationService.addSalesCount(eventId, productIds);
+                    metricsAggregationService.addSalesCount(eventId, event.productIdList());
                 } else {
-                    log.warn("[OrderConsumer] 알 수 없는 eventType={}", eventType);
+                    log.warn("[OrderConsumer] 처리하지 않는 eventType={} — eventId={}", event.eventType(), eventId);
                 }
             } catch (Exception e) {
                 log.error("[OrderConsumer] 메시지 처리 실패 — offset={}", record.offset(), e);
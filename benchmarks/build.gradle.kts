@@ -0,0 +1,103 @@
+import groovy.json.JsonSlurper
+
+plugins {
+    id("me.champeau.jmh")
+}
+
+/**
+ * JMH 마이크로벤치마크.
+ *
+ * - 실행: ./gradlew :benchmarks:jmh (특정 벤치마크만: -PjmhIncludes=RankWeightVersion)
+ * - Redis를 거치는 벤치마크는 docker/infra-compose.yml의 Redis를 띄우고 실행한다 (다른 주소: -PbenchmarkRedis=host:port).
+ * - 결과: build/results/jmh/results.json
+ * - 기준선과 비교: ./gradlew :benchmarks:jmhCompare (-PjmhRegressionThreshold=0.10)
+ * - 기준선 갱신: ./gradlew :benchmarks:jmhUpdateBaseline 후 baseline/jmh-baseline.json 을 커밋한다.
+ *   기준선은 같은 장비/JDK에서 잰 결과끼리만 비교한다.
+ */
+dependencies {
+    jmhImplementation(project(":apps:commerce-api"))
+    jmhImplementation(project(":apps:commerce-batch"))
+    jmhImplementation(project(":modules:jpa"))
+    jmhImplementation(project(":modules:kafka"))
+
+    jmhImplementation("org.springframework.boot:spring-boot-starter-web")
+    jmhImplementation("org.springframework.boot:spring-boot-starter-batch")
+    jmhImplementation("org.springframework.data:spring-data-redis")
+    jmhImplementation("com.fasterxml.jackson.core:jackson-databind")
+    jmhImplementation("io.micrometer:micrometer-core")
+}
+
+val jmhResults = layout.buildDirectory.file("results/jmh/results.json")
+val jmhBaseline = layout.projectDirectory.file("baseline/jmh-baseline.json")
+
+jmh {
+    jmhVersion = project.properties["jmhVersion"] as String
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    resultFormat = "JSON"
+    resultsFile = jmhResults
+    (project.findProperty("jmhIncludes") as String?)?.let { includes = listOf(it) }
+    (project.findProperty("benchmarkRedis") as String?)?.let { jvmArgsAppend = listOf("-Dbenchmark.redis=$it") }
+}
+
+tasks.register<Copy>("jmhUpdateBaseline") {
+    group = "benchmark"
+    description = "마지막 JMH 결과를 baseline/jmh-baseline.json 으로 복사한다."
+    from(jmhResults)
+    into(jmhBaseline.asFile.parentFile)
+    rename { jmhBaseline.asFile.name }
+}
+
+tasks.register("jmhCompare") {
+    group = "benchmark"
+    description = "마지막 JMH 결과를 기준선과 비교하고, 임계값 이상 느려진 벤치마크가 있으면 실패한다."
+    val threshold = (project.findProperty("jmhRegressionThreshold") as String?)?.toDouble() ?: 0.10
+    val resultsFile = jmhResults.get().asFile
+    val baselineFile = jmhBaseline.asFile
+    doLast {
+        if (!baselineFile.exists()) {
+            throw GradleException("기준선이 없습니다: ${baselineFile.path} (jmhUpdateBaseline 으로 먼저 만든다)")
+        }
+        if (!resultsFile.exists()) {
+            throw GradleException("JMH 결과가 없습니다: ${resultsFile.path} (jmh 를 먼저 실행한다)")
+        }
+        val baseline = readScores(baselineFile)
+        val current = readScores(resultsFile)
+        val regressions = mutableListOf<String>()
+        current.forEach { (key, now) ->
+            val before = baseline[key]
+            if (before == null) {
+                println("NEW      $key ${"%.3f".format(now.score)} ${now.unit}")
+                return@forEach
+            }
+            val change = (now.score - before.score) / before.score
+            // avgt/sample/ss 는 낮을수록, thrpt 는 높을수록 좋다
+            val worse = if (now.mode == "thrpt") -change else change
+            val status = if (worse > threshold) "REGRESS" else "OK"
+            println("%-8s %s %.3f -> %.3f %s (%+.1f%%)".format(status, key, before.score, now.score, now.unit, change * 100))
+            if (worse > threshold) regressions += key
+        }
+        if (regressions.isNotEmpty()) {
+            throw GradleException("기준선 대비 ${(threshold * 100).toInt()}% 이상 느려진 벤치마크: $regressions")
+        }
+    }
+}
+
+data class JmhScore(val mode: String, val score: Double, val unit: String)
+
+@Suppress("UNCHECKED_CAST")
+fun readScores(file: File): Map<String, JmhScore> {
+    val runs = JsonSlurper().parse(file) as List<Map<String, Any?>>
+    return runs.associate { run ->
+        val params = (run["params"] as Map<String, Any?>?)
+            ?.entries?.sortedBy { it.key }?.joinToString(",", "(", ")") { "${it.key}=${it.value}" }
+            ?: ""
+        val metric = run["primaryMetric"] as Map<String, Any?>
+        "${run["benchmark"]}$params" to JmhScore(
+            run["mode"] as String,
+            (metric["score"] as Number).toDouble(),
+            metric["scoreUnit"] as String,
+        )
+    }
+}
@@ -0,0 +1,53 @@
+package com.loopers.application.product.dto;
+
+import com.loopers.domain.product.ProductModel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 상품 목록 페이지 조립. 브랜드 10개 중 1개는 비활성(맵에 없음)이라 걸러진다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductResultBenchmark {
+
+    private static final int BRANDS = 10;
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private List<ProductModel> products;
+    private Map<Long, String> brandNameMap;
+    private Map<Long, Long> likeCountMap;
+
+    @Setup
+    public void setUp() {
+        products = new ArrayList<>(pageSize);
+        likeCountMap = new HashMap<>();
+        for (int i = 0; i < pageSize; i++) {
+            products.add(ProductModel.create((long) i % BRANDS + 1, "상품 " + i, 10_000 + i * 100, 50));
+            likeCountMap.put((long) i, (long) i * 3);
+        }
+        brandNameMap = new HashMap<>();
+        for (long brandId = 1; brandId < BRANDS; brandId++) {
+            brandNameMap.put(brandId, "브랜드" + brandId);
+        }
+    }
+
+    @Benchmark
+    public List<ProductResult> fromWithActiveBrand() {
+        return ProductResult.fromWithActiveBrand(products, brandNameMap, likeCountMap);
+    }
+}
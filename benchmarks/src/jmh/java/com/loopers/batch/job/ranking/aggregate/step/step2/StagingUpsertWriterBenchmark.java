@@ -0,0 +1,58 @@
+package com.loopers.batch.job.ranking.aggregate.step.step2;
+
+import com.loopers.batch.job.ranking.aggregate.RankAggregateStagingDao;
+import com.loopers.batch.job.ranking.aggregate.RankAggregateStagingRow;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.batch.item.Chunk;
+
+/**
+ * 청크 1,000행을 상품별로 접는 비용. DB 호출 대신 접힌 행을 들고만 있는다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StagingUpsertWriterBenchmark {
+
+    private static final int CHUNK_SIZE = 1_000;
+
+    @Param({"50", "1000"})
+    public int distinctProducts;
+
+    private Chunk<RankAggregateStagingRow> chunk;
+    private StagingUpsertWriter writer;
+    private List<RankAggregateStagingRow> lastFolded;
+
+    @Setup
+    public void setUp() {
+        LocalDate today = LocalDate.now();
+        List<RankAggregateStagingRow> rows = new ArrayList<>(CHUNK_SIZE);
+        for (int i = 0; i < CHUNK_SIZE; i++) {
+            rows.add(new RankAggregateStagingRow(
+                    (long) i % distinctProducts, i, i / 2, i / 10, i * 0.5, today.minusDays(i % 7)));
+        }
+        chunk = new Chunk<>(rows);
+        writer = new StagingUpsertWriter("bench", new RankAggregateStagingDao(null) {
+            @Override
+            public void upsertChunk(String jobRunId, List<RankAggregateStagingRow> folded) {
+                lastFolded = folded;
+            }
+        });
+    }
+
+    @Benchmark
+    public List<RankAggregateStagingRow> write() {
+        writer.write(chunk);
+        return lastFolded;
+    }
+}
@@ -0,0 +1,64 @@
+package com.loopers.confg.kafka;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * commerce-streamer 컨슈머의 메시지 해석 비용. 주문 완료 이벤트(상품 5개) 한 건 기준이다.
+ * readTree는 예전 컨슈머가 쓰던 방식, readValue는 KafkaEventMessage로 바로 바인딩하는 방식,
+ * decode는 지금 컨슈머가 쓰는 KafkaEventDecoder 토큰 스트리밍 방식이다. 할당량은 -prof gc로 본다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class KafkaEventMessageBenchmark {
+
+    private ObjectMapper objectMapper;
+    private KafkaEventDecoder decoder;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = JsonMapper.builder().addModule(new JavaTimeModule()).build();
+        KafkaEventMessage message = KafkaEventMessage.of("ORDER_COMPLETED", Map.of(
+                "orderId", 123_456L,
+                "userId", 42L,
+                "productIds", List.of(101L, 202L, 303L, 404L, 505L)));
+        payload = objectMapper.writeValueAsBytes(message);
+        decoder = new KafkaEventDecoder(objectMapper);
+    }
+
+    @Benchmark
+    public List<Long> readTree() throws Exception {
+        JsonNode node = objectMapper.readTree(payload);
+        node.get("eventId").asText();
+        node.get("eventType").asText();
+        List<Long> productIds = new ArrayList<>();
+        node.get("data").get("productIds").forEach(n -> productIds.add(n.asLong()));
+        return productIds;
+    }
+
+    @Benchmark
+    public KafkaEventMessage readValue() throws Exception {
+        return objectMapper.readValue(payload, KafkaEventMessage.class);
+    }
+
+    @Benchmark
+    public List<Long> decode() throws Exception {
+        KafkaEventEnvelope event = decoder.decode(payload);
+        return event.productIdList();
+    }
+}
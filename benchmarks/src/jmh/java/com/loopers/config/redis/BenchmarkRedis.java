@@ -0,0 +1,57 @@
+package com.loopers.config.redis;
+
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/**
+ * Redis를 거치는 벤치마크용 연결. docker/infra-compose.yml의 redis-master(localhost:6379)를 기본으로 쓴다.
+ *
+ * - 다른 Redis: ./gradlew :benchmarks:jmh -PbenchmarkRedis=host:port
+ * - 개발 데이터와 섞이지 않도록 DB 15를 쓰고, 벤치마크가 끝나면 그 DB를 비운다.
+ */
+public final class BenchmarkRedis implements AutoCloseable {
+
+    private static final String ADDRESS_PROPERTY = "benchmark.redis";
+    private static final String DEFAULT_ADDRESS = "localhost:6379";
+    private static final int DATABASE = 15;
+
+    private final LettuceConnectionFactory connectionFactory;
+    private final RedisTemplate<String, String> template;
+
+    public BenchmarkRedis() {
+        String[] address = System.getProperty(ADDRESS_PROPERTY, DEFAULT_ADDRESS).split(":");
+        RedisStandaloneConfiguration configuration =
+                new RedisStandaloneConfiguration(address[0], Integer.parseInt(address[1]));
+        configuration.setDatabase(DATABASE);
+        this.connectionFactory = new LettuceConnectionFactory(configuration);
+        this.connectionFactory.afterPropertiesSet();
+
+        StringRedisSerializer serializer = new StringRedisSerializer();
+        this.template = new RedisTemplate<>();
+        this.template.setKeySerializer(serializer);
+        this.template.setValueSerializer(serializer);
+        this.template.setHashKeySerializer(serializer);
+        this.template.setHashValueSerializer(serializer);
+        this.template.setConnectionFactory(connectionFactory);
+        this.template.afterPropertiesSet();
+    }
+
+    public RedisTemplate<String, String> template() {
+        return template;
+    }
+
+    public void flush() {
+        template.execute(connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        }, true);
+    }
+
+    @Override
+    public void close() {
+        flush();
+        connectionFactory.destroy();
+    }
+}
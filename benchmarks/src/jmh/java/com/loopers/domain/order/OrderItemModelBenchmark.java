@@ -0,0 +1,37 @@
+package com.loopers.domain.order;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderItemModelBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int itemCount;
+
+    private List<OrderItemModel> items;
+
+    @Setup
+    public void setUp() {
+        items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(OrderItemModel.create((long) i + 1, 10_000 + i * 100, i % 3 + 1, "상품" + i, "브랜드"));
+        }
+    }
+
+    @Benchmark
+    public int calculateTotalPrice() {
+        return OrderItemModel.calculateTotalPrice(items);
+    }
+}
@@ -0,0 +1,46 @@
+package com.loopers.domain.rank;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 집계 스케줄러가 상품마다 호출하는 가중치 점수 계산. 한 번에 1,000개 상품을 계산한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RankWeightVersionBenchmark {
+
+    private static final int PRODUCTS = 1_000;
+
+    private final RankWeightVersion version = new RankWeightVersion("v1", 0.1, 0.2, 0.7);
+    private final long[] views = new long[PRODUCTS];
+    private final long[] likes = new long[PRODUCTS];
+    private final long[] orders = new long[PRODUCTS];
+
+    @Setup
+    public void setUp() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < PRODUCTS; i++) {
+            views[i] = random.nextLong(100_000);
+            likes[i] = random.nextLong(10_000);
+            orders[i] = random.nextLong(1_000);
+        }
+    }
+
+    @Benchmark
+    public double computeScore() {
+        double sum = 0;
+        for (int i = 0; i < PRODUCTS; i++) {
+            sum += version.computeScore(views[i], likes[i], orders[i]);
+        }
+        return sum;
+    }
+}
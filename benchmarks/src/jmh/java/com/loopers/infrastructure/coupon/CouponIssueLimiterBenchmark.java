@@ -0,0 +1,67 @@
+package com.loopers.infrastructure.coupon;
+
+import com.loopers.config.redis.BenchmarkRedis;
+import com.loopers.domain.coupon.CouponIssueLimiter;
+import com.loopers.domain.coupon.CouponIssueResult;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 기존 ZSET 스크립트와 샤드 재고 풀의 선착순 발급 처리량. Redis가 필요하다 (BenchmarkRedis 참고).
+ * 반복마다 새 쿠폰을 넉넉한 수량으로 등록해, 소진 응답이 섞이지 않은 발급 비용만 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(64)
+public class CouponIssueLimiterBenchmark {
+
+    private static final int TOTAL_QUANTITY = 10_000_000;
+
+    @Param({"zset", "stock-pool-1", "stock-pool-4", "stock-pool-16"})
+    public String limiterType;
+
+    private BenchmarkRedis redis;
+    private CouponIssueLimiter limiter;
+    private final AtomicLong nextCouponId = new AtomicLong(1);
+    private final AtomicLong nextUserId = new AtomicLong(1);
+    private volatile Long couponId;
+
+    @Setup
+    public void setUp() {
+        redis = new BenchmarkRedis();
+        redis.flush();
+        limiter = limiterType.equals("zset")
+                ? new CouponRedisIssueLimiter(redis.template())
+                : new CouponStockPoolIssueLimiter(redis.template(),
+                        Integer.parseInt(limiterType.substring("stock-pool-".length())));
+    }
+
+    @Setup(Level.Iteration)
+    public void registerCoupon() {
+        couponId = nextCouponId.getAndIncrement();
+        limiter.registerTotalQuantity(couponId, TOTAL_QUANTITY, ZonedDateTime.now().plusDays(1));
+    }
+
+    @TearDown
+    public void tearDown() {
+        redis.close();
+    }
+
+    @Benchmark
+    public CouponIssueResult tryIssue() {
+        return limiter.tryIssue(couponId, nextUserId.getAndIncrement());
+    }
+}
@@ -0,0 +1,61 @@
+package com.loopers.infrastructure.user;
+
+import com.loopers.domain.user.AuthTokenService;
+import com.loopers.domain.user.AuthTokenType;
+import com.loopers.domain.user.AuthenticatedUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * 요청당 인증 비용 비교.
+ * - header: X-Loopers-LoginId/LoginPw 경로에서 자격 증명 캐시가 없을 때의 BCrypt 비교 (DB 조회는 빠져 있다)
+ * - token: access 토큰 서명 검증 + 폐기 목록 Bloom filter. 폐기되지 않은 토큰은 Redis를 거치지 않으므로 연결을 만들지 않는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+public class AuthThroughputBenchmark {
+
+    private static final String PASSWORD = "Test1234!";
+
+    private BCryptPasswordEncoderImpl passwordEncoder;
+    private String encodedPassword;
+    private AuthTokenService authTokenService;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoderImpl();
+        encodedPassword = passwordEncoder.encode(PASSWORD);
+
+        AuthTokenProperties properties = new AuthTokenProperties("benchmark-secret", 900, 3600);
+        HmacAuthTokenCodec codec = new HmacAuthTokenCodec(properties);
+        RedisTokenRevocationList revocationList =
+                new RedisTokenRevocationList(new RedisTemplate<>(), properties, new SimpleMeterRegistry());
+        // access 토큰 검증은 로그인/사용자 조회를 쓰지 않는다
+        authTokenService = new AuthTokenService(null, null, codec, revocationList);
+        accessToken = codec.issue(new AuthenticatedUser(1L, "benchuser1", "홍길동"), AuthTokenType.ACCESS,
+                Instant.now().getEpochSecond()).value();
+    }
+
+    @Benchmark
+    public boolean header() {
+        return passwordEncoder.matches(PASSWORD, encodedPassword);
+    }
+
+    @Benchmark
+    public AuthenticatedUser token() {
+        return authTokenService.verifyAccessToken(accessToken);
+    }
+}
@@ -0,0 +1,61 @@
+package com.loopers.infrastructure.waitingroom;
+
+import com.loopers.config.redis.BenchmarkRedis;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 샤드 수(K)별 대기열 진입/순위 조회 처리량. Redis가 필요하다 (BenchmarkRedis 참고).
+ * Redis 한 대에서는 노드 분산 효과가 없으므로, 샤딩으로 늘어나는 조회 비용(다른 샤드 ZCOUNT 파이프라인)을 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(32)
+public class WaitingQueueShardBenchmark {
+
+    private static final int WAITING_USERS = 20_000;
+
+    @Param({"1", "2", "4", "8", "16"})
+    public int shardCount;
+
+    private BenchmarkRedis redis;
+    private WaitingQueueRedis queue;
+    private final AtomicLong nextUserId = new AtomicLong(WAITING_USERS + 1);
+
+    @Setup
+    public void setUp() {
+        redis = new BenchmarkRedis();
+        redis.flush();
+        queue = new WaitingQueueRedis(redis.template(), new WaitingQueueShards(redis.template(), shardCount));
+        for (long userId = 1; userId <= WAITING_USERS; userId++) {
+            queue.enter(userId);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        redis.close();
+    }
+
+    @Benchmark
+    public boolean enter() {
+        return queue.enter(nextUserId.getAndIncrement());
+    }
+
+    @Benchmark
+    public Long getRank() {
+        return queue.getRank(ThreadLocalRandom.current().nextLong(1, WAITING_USERS + 1));
+    }
+}
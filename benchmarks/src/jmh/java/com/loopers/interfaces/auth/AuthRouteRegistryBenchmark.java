@@ -0,0 +1,67 @@
+package com.loopers.interfaces.auth;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * AuthFilter가 요청마다 묻는 인증 필수 여부 판별. 실제 API와 비슷한 라우트 표에 대해 경로 8개를 조회한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthRouteRegistryBenchmark {
+
+    private static final String[][] REQUESTS = {
+            {"GET", "/api/v1/products"},
+            {"GET", "/api/v1/products/12345"},
+            {"POST", "/api/v1/products/12345/likes"},
+            {"GET", "/api/v1/users/me"},
+            {"POST", "/api/v1/orders"},
+            {"GET", "/api/v1/orders/987/items"},
+            {"GET", "/api/v1/rankings"},
+            {"GET", "/api/v1/unknown/path"},
+    };
+
+    private AuthRouteRegistry registry;
+
+    @Setup
+    public void setUp() {
+        List<AuthRoute> routes = new ArrayList<>(List.of(
+                new AuthRoute("GET", "/api/v1/products", false),
+                new AuthRoute("GET", "/api/v1/products/{productId}", false),
+                new AuthRoute("POST", "/api/v1/products/{productId}/likes", true),
+                new AuthRoute("DELETE", "/api/v1/products/{productId}/likes", true),
+                new AuthRoute("GET", "/api/v1/users/me", true),
+                new AuthRoute("POST", "/api/v1/users/signup", false),
+                new AuthRoute("POST", "/api/v1/orders", true),
+                new AuthRoute("GET", "/api/v1/orders", true),
+                new AuthRoute("GET", "/api/v1/orders/{orderId}", true),
+                new AuthRoute("GET", "/api/v1/orders/{orderId}/items", true),
+                new AuthRoute("GET", "/api/v1/rankings", false),
+                new AuthRoute("GET", "/api/v1/brands/{brandId}", false),
+                new AuthRoute("POST", "/api/v1/coupons/{couponId}/issue", true),
+                new AuthRoute("GET", "/api/v1/users/me/coupons", true),
+                new AuthRoute("POST", "/api/v1/payments", true),
+                new AuthRoute(null, "/api/v1/queue/{queueId}/enter", true)));
+        for (int i = 0; i < 40; i++) {
+            routes.add(new AuthRoute("GET", "/api-admin/v1/resource" + i + "/{id}", false));
+        }
+        registry = new AuthRouteRegistry(routes);
+    }
+
+    @Benchmark
+    public void requiresAuth(Blackhole blackhole) {
+        for (String[] request : REQUESTS) {
+            blackhole.consume(registry.requiresAuth(request[0], request[1]));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.loopers.support.cache;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.loopers.application.product.dto.ProductResult;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * 상품 목록 페이지 캐시 값의 형식별 직렬화/역직렬화. SMILE_LZ4는 크기와 무관하게 항상 압축한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheValueSerializerBenchmark {
+
+    @Param({"JSON", "SMILE", "SMILE_LZ4"})
+    public String format;
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private RedisSerializer<Object> serializer;
+    private ProductResult.ListPage page;
+    private byte[] serialized;
+
+    @Setup
+    public void setUp() {
+        JsonMapper objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        CacheSerializerProperties properties = format.equals("SMILE_LZ4")
+                ? new CacheSerializerProperties(CacheValueFormat.SMILE, 1)
+                : new CacheSerializerProperties(CacheValueFormat.valueOf(format), Integer.MAX_VALUE);
+        serializer = CacheConfig.valueSerializer(objectMapper, properties);
+
+        ZonedDateTime now = ZonedDateTime.now();
+        List<ProductResult> items = new ArrayList<>(LongStream.rangeClosed(1, pageSize)
+                .mapToObj(id -> new ProductResult(id, id % 10 + 1, "브랜드" + (id % 10 + 1), "상품 " + id,
+                        10_000 + (int) id * 100, 50, id * 3, "https://cdn.loopers.com/products/" + id + "/thumb.jpg",
+                        now.minusDays(id), now, null))
+                .toList());
+        page = new ProductResult.ListPage(0, pageSize, 1_000, 1_000 / pageSize, items);
+        serialized = serializer.serialize(page);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(page);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(serialized);
+    }
+}
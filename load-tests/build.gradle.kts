@@ -0,0 +1,38 @@
+/**
+ * 실제 commerce-api 를 Testcontainers(MySQL/Redis/Kafka) 위에 띄워 시나리오 부하를 걸고 SLO 를 검증한다.
+ *
+ * - 실행: ./gradlew :load-tests:loadTest -Ploadtest.scale=small -Ploadtest.duration-seconds=30 -Ploadtest.concurrency=64
+ * - 시드 데이터: BulkDataGeneratorService 가 기동 시 scale 에 맞는 건수로 만든다.
+ * - SLO: src/test/resources/slo.properties (-Ploadtest.slo.<키>=값 으로 덮어쓴다)
+ * - 결과: build/reports/loadtest/<시나리오>/ 아래 summary.json 과 엔드포인트별 HdrHistogram(.hgrm)
+ */
+dependencies {
+    testImplementation(project(":apps:commerce-api"))
+    testImplementation(testFixtures(project(":modules:jpa")))
+    testImplementation(testFixtures(project(":modules:redis")))
+    testImplementation("org.testcontainers:kafka")
+    testImplementation("org.hdrhistogram:HdrHistogram:${project.properties["hdrHistogramVersion"]}")
+    testAnnotationProcessor("org.projectlombok:lombok")
+}
+
+// 일반 test 태스크로는 돌지 않는다
+tasks.test { enabled = false }
+
+tasks.register<Test>("loadTest") {
+    group = "verification"
+    description = "commerce-api 시나리오 부하 테스트를 실행하고 SLO 를 검증한다."
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("loadtest")
+    }
+    systemProperty("user.timezone", "Asia/Seoul")
+    systemProperty("spring.profiles.active", "test")
+    systemProperty("loadtest.report-dir", layout.buildDirectory.dir("reports/loadtest").get().asFile.path)
+    project.properties
+        .filterKeys { it.startsWith("loadtest.") }
+        .forEach { (key, value) -> systemProperty(key, value.toString()) }
+    jvmArgs("-Xshare:off")
+    outputs.upToDateWhen { false }
+    testLogging { showStandardStreams = true }
+}
@@ -0,0 +1,104 @@
+package com.loopers.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 실제 HTTP 로 commerce-api 를 호출하고, 호출마다 지연과 상태 코드를 LatencyRecorder 에 남긴다.
+ *
+ * - endpoint 는 리포트와 SLO 키에 쓰는 이름이다. 경로 변수가 달라도 같은 이름으로 묶는다.
+ * - 응답은 ApiResponse 의 data 노드를 돌려준다. 2xx 가 아니면 null 이다.
+ * - 연결 실패/타임아웃은 상태 코드 -1 로 기록한다.
+ */
+final class ApiClient {
+
+    static final String BULK_USER_PASSWORD = "Test1234!";
+    private static final String ADMIN_LDAP = "loopers.admin";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final LatencyRecorder recorder;
+
+    ApiClient(String baseUrl, ObjectMapper objectMapper, LatencyRecorder recorder) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.recorder = recorder;
+    }
+
+    JsonNode get(String endpoint, String path, String... headers) {
+        return send(endpoint, request(path, headers).GET());
+    }
+
+    JsonNode post(String endpoint, String path, Object body, String... headers) {
+        return send(endpoint, request(path, headers)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(toJson(body))));
+    }
+
+    /**
+     * BulkDataGeneratorService 가 만든 bulk{n} 사용자로 로그인해 Authorization 헤더 값을 돌려준다.
+     */
+    String login(int userNumber) {
+        JsonNode data = post("auth-token", "/api/v1/auth/token",
+                Map.of("loginId", "bulk" + userNumber, "password", BULK_USER_PASSWORD));
+        if (data == null) {
+            throw new IllegalStateException("로그인에 실패했습니다: bulk" + userNumber);
+        }
+        return "Bearer " + data.get("accessToken").asText();
+    }
+
+    JsonNode postAsAdmin(String endpoint, String path, Object body) {
+        return post(endpoint, path, body, "X-Loopers-Ldap", ADMIN_LDAP);
+    }
+
+    private HttpRequest.Builder request(String path, String... headers) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT);
+        if (headers.length > 0) {
+            builder.headers(headers);
+        }
+        return builder;
+    }
+
+    private JsonNode send(String endpoint, HttpRequest.Builder builder) {
+        long startedAt = System.nanoTime();
+        int status = -1;
+        try {
+            HttpResponse<String> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+            status = response.statusCode();
+            if (status / 100 != 2) {
+                return null;
+            }
+            return objectMapper.readTree(response.body()).get("data");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (IOException e) {
+            return null;
+        } finally {
+            recorder.record(endpoint, System.nanoTime() - startedAt, status);
+        }
+    }
+
+    private String toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.loopers.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.CommerceApiApplication;
+import com.loopers.loadtest.LatencyRecorder.EndpointSummary;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.StreamSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * 실제 애플리케이션을 띄워 대표 시나리오별 부하를 걸고 SLO 를 검증한다.
+ *
+ * - MySQL/Redis/Kafka 는 Testcontainers 로 띄우고, 시드 데이터는 BulkDataGeneratorRunner 가 기동 시 만든다.
+ * - 시나리오마다 warmup 동안 같은 부하를 건 뒤 기록을 시작한다.
+ * - 결과는 loadtest.report-dir/{scenario}/ 에 남고, slo.properties 목표치를 넘으면 실패한다.
+ */
+@Slf4j
+@Tag("loadtest")
+@SpringBootTest(classes = CommerceApiApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class CommerceLoadTest {
+
+    private static final LoadTestSettings SETTINGS = LoadTestSettings.fromSystemProperties();
+    private static final SloPolicy SLO = SloPolicy.load();
+    private static final int SAMPLE_PAGES = 5;
+    private static final int PAGE_SIZE = 20;
+    private static final Duration QUEUE_POLL_INTERVAL = Duration.ofMillis(500);
+    private static final Duration QUEUE_MAX_WAIT = Duration.ofSeconds(60);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private LatencyRecorder recorder;
+    private ApiClient client;
+    private LoadRunner runner;
+
+    @DynamicPropertySource
+    static void seedScale(DynamicPropertyRegistry registry) {
+        LoadScale scale = SETTINGS.scale();
+        registry.add("app.data-generator.enabled", () -> true);
+        registry.add("app.data-generator.mode", () -> "load-data");
+        registry.add("app.data-generator.parallelism", () -> 4);
+        registry.add("app.data-generator.brand-count", scale::brandCount);
+        registry.add("app.data-generator.product-count", scale::productCount);
+        registry.add("app.data-generator.user-count", scale::userCount);
+        registry.add("app.data-generator.like-count", scale::likeCount);
+        registry.add("app.data-generator.order-count", scale::orderCount);
+    }
+
+    @BeforeEach
+    void setUp() {
+        recorder = new LatencyRecorder();
+        client = new ApiClient("http://localhost:" + port, objectMapper, recorder);
+        runner = new LoadRunner();
+    }
+
+    @DisplayName("상품 탐색: 목록 → 상세 → 브랜드 조회를 반복한다.")
+    @Test
+    void productBrowsing() {
+        // arrange
+        List<JsonNode> products = sampleProducts();
+        LoadRunner.VirtualUser browse = (userIndex, iteration) -> {
+            JsonNode product = products.get(ThreadLocalRandom.current().nextInt(products.size()));
+            client.get("product-list", "/api/v1/products?brandId=%d&sort=latest&page=%d&size=%d"
+                    .formatted(product.get("brandId").asLong(),
+                            ThreadLocalRandom.current().nextInt(SAMPLE_PAGES), PAGE_SIZE));
+            client.get("product-detail", "/api/v1/products/" + product.get("id").asLong());
+            client.get("brand-detail", "/api/v1/brands/" + product.get("brandId").asLong());
+        };
+
+        // act
+        List<EndpointSummary> summaries = measure(() -> runner.runFor(SETTINGS.concurrency(), SETTINGS.duration(), browse),
+                () -> runner.runFor(SETTINGS.concurrency(), SETTINGS.warmup(), browse));
+
+        // assert
+        assertSlo("browse", summaries);
+    }
+
+    @DisplayName("선착순 주문: 대기열 진입 → 입장 폴링 → 입장 토큰으로 같은 상품을 주문한다.")
+    @Test
+    void flashSaleOrdering() {
+        // arrange
+        JsonNode hotProduct = sampleProducts().getFirst();
+        Map<String, Object> orderRequest = Map.of(
+                "items", List.of(Map.of(
+                        "productId", hotProduct.get("id").asLong(),
+                        "quantity", 1,
+                        "expectedPrice", hotProduct.get("price").asInt())));
+
+        // act
+        List<EndpointSummary> summaries = measure(() -> runner.runEach(
+                SETTINGS.flashSaleUsers(), SETTINGS.concurrency(), (userIndex, iteration) -> {
+                    String authorization = client.login(userIndex + 1);
+                    String entryToken = awaitEntry(authorization);
+                    if (entryToken != null) {
+                        client.post("order-create", "/api/v1/orders", orderRequest,
+                                "Authorization", authorization, "X-Entry-Token", entryToken);
+                    }
+                }), () -> {});
+
+        // assert
+        assertSlo("flash-sale", summaries);
+    }
+
+    @DisplayName("쿠폰 드롭: 수량이 참여자의 절반인 쿠폰을 모든 참여자가 동시에 발급 요청한다.")
+    @Test
+    void couponDrop() {
+        // arrange
+        JsonNode coupon = client.postAsAdmin("admin-coupon-create", "/api-admin/v1/coupons", Map.of(
+                "name", "load-test-drop",
+                "discountType", "FIXED",
+                "discountValue", 1000L,
+                "minOrderAmount", 0L,
+                "totalQuantity", Math.max(1, SETTINGS.couponDropUsers() / 2),
+                "expiredAt", ZonedDateTime.now().plusDays(1)));
+        assertThat(coupon).as("쿠폰 생성 실패").isNotNull();
+        long couponId = coupon.get("id").asLong();
+        List<String> authorizations = new ArrayList<>(SETTINGS.couponDropUsers());
+        for (int i = 1; i <= SETTINGS.couponDropUsers(); i++) {
+            authorizations.add(client.login(i));
+        }
+
+        // act
+        List<EndpointSummary> summaries = measure(() -> runner.runEach(
+                SETTINGS.couponDropUsers(), SETTINGS.concurrency(), (userIndex, iteration) ->
+                        client.post("coupon-issue", "/api/v1/coupons/%d/issue".formatted(couponId), Map.of(),
+                                "Authorization", authorizations.get(userIndex))), () -> {});
+
+        // assert
+        assertSlo("coupon-drop", summaries);
+    }
+
+    @DisplayName("랭킹 조회: 오늘 일간 랭킹의 앞쪽 페이지를 반복 조회한다.")
+    @Test
+    void rankingReads() {
+        // arrange
+        LoadRunner.VirtualUser read = (userIndex, iteration) -> client.get("ranking-read",
+                "/api/v1/rankings?period=DAILY&page=%d&size=%d"
+                        .formatted(ThreadLocalRandom.current().nextInt(SAMPLE_PAGES) + 1, PAGE_SIZE));
+
+        // act
+        List<EndpointSummary> summaries = measure(() -> runner.runFor(SETTINGS.concurrency(), SETTINGS.duration(), read),
+                () -> runner.runFor(SETTINGS.concurrency(), SETTINGS.warmup(), read));
+
+        // assert
+        assertSlo("ranking", summaries);
+    }
+
+    private List<EndpointSummary> measure(Runnable load, Runnable warmup) {
+        warmup.run();
+        recorder.start();
+        load.run();
+        recorder.stop();
+        return recorder.summarize();
+    }
+
+    private void assertSlo(String scenario, List<EndpointSummary> summaries) {
+        Path report = recorder.writeReport(SETTINGS.reportDir(), scenario, summaries);
+        log.info("[loadtest] {} (scale={}, concurrency={}, failedIterations={}) → {}",
+                scenario, SETTINGS.scale(), SETTINGS.concurrency(), runner.failedIterations(), report);
+        summaries.forEach(summary -> log.info("[loadtest]   {}",
+                "%-20s count=%d rps=%.1f p50=%.1fms p99=%.1fms p99.9=%.1fms max=%.1fms 4xx=%d 5xx=%d".formatted(
+                        summary.endpoint(), summary.count(), summary.rps(), summary.p50Ms(), summary.p99Ms(),
+                        summary.p999Ms(), summary.maxMs(), summary.clientErrors(), summary.serverErrors())));
+
+        assertThat(SLO.violations(scenario, summaries)).as("SLO 위반: " + scenario).isEmpty();
+    }
+
+    /**
+     * 측정 전 목록 몇 페이지에서 상품을 모은다. 기록 시작 전이라 지연에는 잡히지 않는다.
+     */
+    private List<JsonNode> sampleProducts() {
+        List<JsonNode> products = new ArrayList<>();
+        for (int page = 0; page < SAMPLE_PAGES; page++) {
+            JsonNode data = client.get("sample", "/api/v1/products?sort=latest&page=%d&size=%d".formatted(page, PAGE_SIZE));
+            if (data != null) {
+                StreamSupport.stream(data.get("items").spliterator(), false).forEach(products::add);
+            }
+        }
+        assertThat(products).as("시드 상품이 없습니다.").isNotEmpty();
+        return products;
+    }
+
+    private String awaitEntry(String authorization) throws InterruptedException {
+        JsonNode position = client.post("queue-enter", "/api/v1/queue/enter", Map.of(),
+                "Authorization", authorization);
+        long deadline = System.nanoTime() + QUEUE_MAX_WAIT.toNanos();
+        while (position != null && "WAITING".equals(position.get("status").asText())
+                && System.nanoTime() - deadline < 0) {
+            Thread.sleep(QUEUE_POLL_INTERVAL);
+            position = client.get("queue-position", "/api/v1/queue/position", "Authorization", authorization);
+        }
+        if (position == null || !"ENTERED".equals(position.get("status").asText())) {
+            return null;
+        }
+        return position.get("token").asText();
+    }
+}
@@ -0,0 +1,124 @@
+package com.loopers.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 엔드포인트별 응답 지연 분포와 결과 건수를 모은다.
+ *
+ * - 지연은 마이크로초 단위로 HdrHistogram(유효 숫자 3자리)에 기록한다. 평균 대신 꼬리 지연을 그대로 본다.
+ * - 4xx 는 비즈니스 거절(재고 소진, 중복 발급 등)로 보고 서버 오류율에 넣지 않는다.
+ * - start() 이전 기록은 워밍업으로 보고 버린다.
+ */
+final class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final Map<String, Stats> endpoints = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+    private volatile long startedAt;
+    private volatile long stoppedAt;
+
+    void start() {
+        endpoints.clear();
+        startedAt = System.nanoTime();
+        recording = true;
+    }
+
+    void stop() {
+        stoppedAt = System.nanoTime();
+        recording = false;
+    }
+
+    void record(String endpoint, long elapsedNanos, int status) {
+        if (!recording) {
+            return;
+        }
+        Stats stats = endpoints.computeIfAbsent(endpoint, ignored -> new Stats());
+        stats.histogram.recordValue(
+                Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS));
+        if (status >= 500 || status < 0) {
+            stats.serverErrors.increment();
+        } else if (status >= 400) {
+            stats.clientErrors.increment();
+        }
+    }
+
+    List<EndpointSummary> summarize() {
+        double seconds = Math.max(stoppedAt - startedAt, 1) / 1e9;
+        return endpoints.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> {
+                    Histogram histogram = entry.getValue().histogram;
+                    long count = histogram.getTotalCount();
+                    return new EndpointSummary(
+                            entry.getKey(),
+                            count,
+                            count / seconds,
+                            histogram.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                            histogram.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                            histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                            histogram.getMaxValue() / MICROS_PER_MILLI,
+                            entry.getValue().clientErrors.sum(),
+                            entry.getValue().serverErrors.sum());
+                })
+                .toList();
+    }
+
+    /**
+     * reportDir/scenario/ 아래에 summary.json 과 엔드포인트별 퍼센타일 분포(.hgrm, ms 단위)를 쓴다.
+     */
+    Path writeReport(Path reportDir, String scenario, List<EndpointSummary> summaries) {
+        Path dir = reportDir.resolve(scenario);
+        try {
+            Files.createDirectories(dir);
+            for (Map.Entry<String, Stats> entry : endpoints.entrySet()) {
+                try (PrintStream out = new PrintStream(
+                        Files.newOutputStream(dir.resolve(entry.getKey() + ".hgrm")))) {
+                    entry.getValue().histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+                }
+            }
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(dir.resolve("summary.json").toFile(), summaries);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return dir;
+    }
+
+    record EndpointSummary(
+            String endpoint,
+            long count,
+            double rps,
+            double p50Ms,
+            double p99Ms,
+            double p999Ms,
+            double maxMs,
+            long clientErrors,
+            long serverErrors) {
+
+        double serverErrorRate() {
+            return count == 0 ? 0 : (double) serverErrors / count;
+        }
+    }
+
+    private static final class Stats {
+
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder clientErrors = new LongAdder();
+        private final LongAdder serverErrors = new LongAdder();
+    }
+}
@@ -0,0 +1,71 @@
+package com.loopers.loadtest;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가상 스레드로 가상 사용자를 돌린다.
+ *
+ * - runFor: concurrency 명이 duration 동안 닫힌 루프로 반복한다. 조회성 시나리오용.
+ * - runEach: users 명이 한 번씩 여정을 수행하되, 동시에 최대 concurrency 명만 진행한다. 선착순 시나리오용.
+ * - 개별 반복에서 난 예외는 세기만 하고 다음 반복을 이어간다. 실패 자체는 ApiClient 가 상태 코드로 기록한다.
+ */
+final class LoadRunner {
+
+    private final AtomicLong failedIterations = new AtomicLong();
+
+    long failedIterations() {
+        return failedIterations.get();
+    }
+
+    void runFor(int concurrency, Duration duration, VirtualUser user) {
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                int userIndex = i;
+                executor.submit(() -> {
+                    long iteration = 0;
+                    while (System.nanoTime() - deadline < 0) {
+                        runSafely(user, userIndex, iteration++);
+                    }
+                });
+            }
+        }
+    }
+
+    void runEach(int users, int concurrency, VirtualUser user) {
+        Semaphore permits = new Semaphore(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < users; i++) {
+                int userIndex = i;
+                permits.acquireUninterruptibly();
+                executor.submit(() -> {
+                    try {
+                        runSafely(user, userIndex, 0);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+    }
+
+    private void runSafely(VirtualUser user, int userIndex, long iteration) {
+        try {
+            user.iterate(userIndex, iteration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            failedIterations.incrementAndGet();
+        }
+    }
+
+    @FunctionalInterface
+    interface VirtualUser {
+
+        void iterate(int userIndex, long iteration) throws InterruptedException;
+    }
+}
@@ -0,0 +1,48 @@
+package com.loopers.loadtest;
+
+/**
+ * 시드 데이터 규모. BulkDataGeneratorService 의 app.data-generator.* 건수로 그대로 들어간다.
+ *
+ * - SMALL: 로컬에서 1~2분 안에 시드가 끝나는 규모
+ * - MEDIUM: CI 야간 실행용
+ * - FULL: application.yml 기본값과 같은 규모
+ */
+enum LoadScale {
+    SMALL(20, 5_000, 1_000, 20_000, 5_000),
+    MEDIUM(50, 30_000, 5_000, 150_000, 30_000),
+    FULL(100, 100_000, 10_000, 500_000, 100_000);
+
+    private final int brandCount;
+    private final int productCount;
+    private final int userCount;
+    private final int likeCount;
+    private final int orderCount;
+
+    LoadScale(int brandCount, int productCount, int userCount, int likeCount, int orderCount) {
+        this.brandCount = brandCount;
+        this.productCount = productCount;
+        this.userCount = userCount;
+        this.likeCount = likeCount;
+        this.orderCount = orderCount;
+    }
+
+    int brandCount() {
+        return brandCount;
+    }
+
+    int productCount() {
+        return productCount;
+    }
+
+    int userCount() {
+        return userCount;
+    }
+
+    int likeCount() {
+        return likeCount;
+    }
+
+    int orderCount() {
+        return orderCount;
+    }
+}
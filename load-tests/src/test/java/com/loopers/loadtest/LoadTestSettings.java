@@ -0,0 +1,45 @@
+package com.loopers.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * 부하 테스트 실행 설정. loadTest 태스크가 -Ploadtest.* 를 시스템 프로퍼티로 넘긴다.
+ *
+ * @param scale            시드 데이터 규모 (loadtest.scale, 기본 small)
+ * @param duration         시간 기반 시나리오의 측정 구간 (loadtest.duration-seconds, 기본 30)
+ * @param warmup           측정 전에 같은 부하를 걸어 JIT/커넥션 풀/캐시를 데우는 구간 (loadtest.warmup-seconds, 기본 10)
+ * @param concurrency      시간 기반 시나리오의 동시 가상 사용자 수 (loadtest.concurrency, 기본 64)
+ * @param flashSaleUsers   선착순 주문 시나리오에 참여하는 사용자 수 (loadtest.flash-sale-users, 기본 200)
+ * @param couponDropUsers  쿠폰 드롭 시나리오에 참여하는 사용자 수 (loadtest.coupon-drop-users, 기본 500)
+ * @param reportDir        리포트 출력 디렉터리 (loadtest.report-dir)
+ */
+record LoadTestSettings(
+        LoadScale scale,
+        Duration duration,
+        Duration warmup,
+        int concurrency,
+        int flashSaleUsers,
+        int couponDropUsers,
+        Path reportDir) {
+
+    static LoadTestSettings fromSystemProperties() {
+        LoadScale scale = LoadScale.valueOf(
+                System.getProperty("loadtest.scale", "small").toUpperCase(Locale.ROOT));
+        int flashSaleUsers = Integer.getInteger("loadtest.flash-sale-users", 200);
+        int couponDropUsers = Integer.getInteger("loadtest.coupon-drop-users", 500);
+        if (Math.max(flashSaleUsers, couponDropUsers) > scale.userCount()) {
+            throw new IllegalArgumentException(
+                    "참여 사용자 수가 시드 사용자 수(" + scale.userCount() + ")보다 많습니다.");
+        }
+        return new LoadTestSettings(
+                scale,
+                Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 30)),
+                Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 10)),
+                Integer.getInteger("loadtest.concurrency", 64),
+                flashSaleUsers,
+                couponDropUsers,
+                Path.of(System.getProperty("loadtest.report-dir", "build/reports/loadtest")));
+    }
+}
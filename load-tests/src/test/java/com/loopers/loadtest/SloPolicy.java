@@ -0,0 +1,83 @@
+package com.loopers.loadtest;
+
+import com.loopers.loadtest.LatencyRecorder.EndpointSummary;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * slo.properties 의 목표치로 시나리오 결과를 판정한다.
+ *
+ * - 키: {scenario}.{endpoint}.p99-ms / {scenario}.{endpoint}.min-rps / {scenario}.{endpoint}.max-server-error-rate
+ * - 엔드포인트에 max-server-error-rate 가 없으면 default.max-server-error-rate 를 쓴다.
+ * - 시스템 프로퍼티 loadtest.slo.{키} 가 있으면 파일 값보다 우선한다.
+ * - 목표치가 있는데 한 번도 호출되지 않은 엔드포인트도 위반으로 본다. 시나리오가 깨져 측정이 빠지는 것을 막는다.
+ */
+final class SloPolicy {
+
+    private static final String RESOURCE = "/slo.properties";
+    private static final String OVERRIDE_PREFIX = "loadtest.slo.";
+
+    private final Properties properties;
+
+    private SloPolicy(Properties properties) {
+        this.properties = properties;
+    }
+
+    static SloPolicy load() {
+        Properties properties = new Properties();
+        try (InputStream in = SloPolicy.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException(RESOURCE + " 를 찾을 수 없습니다.");
+            }
+            properties.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        System.getProperties().stringPropertyNames().stream()
+                .filter(key -> key.startsWith(OVERRIDE_PREFIX))
+                .forEach(key -> properties.setProperty(
+                        key.substring(OVERRIDE_PREFIX.length()), System.getProperty(key)));
+        return new SloPolicy(properties);
+    }
+
+    List<String> violations(String scenario, List<EndpointSummary> summaries) {
+        List<String> violations = new ArrayList<>();
+        String scenarioPrefix = scenario + ".";
+        properties.stringPropertyNames().stream()
+                .filter(key -> key.startsWith(scenarioPrefix))
+                .map(key -> key.substring(scenarioPrefix.length(), key.lastIndexOf('.')))
+                .distinct()
+                .filter(endpoint -> summaries.stream().noneMatch(summary -> summary.endpoint().equals(endpoint)))
+                .forEach(endpoint -> violations.add(endpoint + ": 측정된 호출이 없습니다."));
+
+        for (EndpointSummary summary : summaries) {
+            String prefix = scenarioPrefix + summary.endpoint() + ".";
+            Double p99Ms = number(prefix + "p99-ms");
+            if (p99Ms != null && summary.p99Ms() > p99Ms) {
+                violations.add("%s: p99 %.1fms > %.1fms".formatted(summary.endpoint(), summary.p99Ms(), p99Ms));
+            }
+            Double minRps = number(prefix + "min-rps");
+            if (minRps != null && summary.rps() < minRps) {
+                violations.add("%s: 처리량 %.1f rps < %.1f rps".formatted(summary.endpoint(), summary.rps(), minRps));
+            }
+            Double maxErrorRate = number(prefix + "max-server-error-rate");
+            if (maxErrorRate == null) {
+                maxErrorRate = number("default.max-server-error-rate");
+            }
+            if (maxErrorRate != null && summary.serverErrorRate() > maxErrorRate) {
+                violations.add("%s: 서버 오류율 %.4f > %.4f".formatted(
+                        summary.endpoint(), summary.serverErrorRate(), maxErrorRate));
+            }
+        }
+        return violations;
+    }
+
+    private Double number(String key) {
+        String value = properties.getProperty(key);
+        return value == null ? null : Double.valueOf(value.trim());
+    }
+}
@@ -11,6 +11,8 @@ dependencies {
     annotationProcessor("com.querydsl:querydsl-apt::jakarta")
     annotationProcessor("jakarta.persistence:jakarta.persistence-api")
     annotationProcessor("jakarta.annotation:jakarta.annotation-api")
+    // metrics
+    implementation("io.micrometer:micrometer-core")
     // jdbc-mysql
     runtimeOnly("com.mysql:mysql-connector-j")
 
@@ -1,12 +1,18 @@
 package com.loopers.config.jpa;
 
+import com.loopers.config.jpa.querycount.QueryCountDataSource;
+import com.loopers.config.jpa.querycount.QueryCounter;
+import com.loopers.config.jpa.routing.ReplicaDataSource;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
 @Configuration
 class DataSourceConfig {
@@ -16,9 +22,30 @@ class DataSourceConfig {
         return new HikariConfig();
     }
 
-    @Primary
     @Bean
     HikariDataSource mySqlMainDataSource(@Qualifier("mySqlMainHikariConfig") HikariConfig hikariConfig) {
         return new HikariDataSource(hikariConfig);
     }
+
+    /**
+     * 실제 커넥션은 첫 SQL 실행 때 얻는다. 그때까지 트랜잭션 매니저가 setReadOnly(true)를 걸어 두었고
+     * 복제본 라우팅이 켜져 있으면 복제본에서, 아니면 주 DB에서 얻는다.
+     * SQL 없이 끝나는 트랜잭션(캐시 적중 등)은 커넥션을 빌리지 않는다.
+     * SQL 집계가 켜져 있으면 두 대상 모두 QueryCountDataSource로 감싼다.
+     */
+    @Primary
+    @Bean
+    LazyConnectionDataSourceProxy dataSource(
+            @Qualifier("mySqlMainDataSource") HikariDataSource mainDataSource,
+            ObjectProvider<ReplicaDataSource> replicaDataSource,
+            ObjectProvider<QueryCounter> queryCounter) {
+        QueryCounter counter = queryCounter.getIfAvailable();
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(counted(mainDataSource, counter));
+        replicaDataSource.ifAvailable(replica -> proxy.setReadOnlyDataSource(counted(replica, counter)));
+        return proxy;
+    }
+
+    private static DataSource counted(DataSource dataSource, QueryCounter counter) {
+        return counter == null ? dataSource : new QueryCountDataSource(dataSource, counter);
+    }
 }
@@ -0,0 +1,28 @@
+package com.loopers.config.jpa.querycount;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * datasource.mysql-jpa.query-count.enabled=true일 때만 QueryCounter를 만든다.
+ * DataSourceConfig는 QueryCounter가 있으면 주 DB/복제본 DataSource를 QueryCountDataSource로 감싼다.
+ */
+@Configuration
+@EnableConfigurationProperties(QueryCountProperties.class)
+public class QueryCountConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "datasource.mysql-jpa.query-count.enabled", havingValue = "true")
+    public QueryCounter queryCounter(QueryCountProperties properties, MeterRegistry registry) {
+        return new QueryCounter(properties, registry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "datasource.mysql-jpa.query-count.enabled", havingValue = "true")
+    QueryCountTransactionListener queryCountTransactionListener(QueryCounter counter) {
+        return new QueryCountTransactionListener(counter);
+    }
+}
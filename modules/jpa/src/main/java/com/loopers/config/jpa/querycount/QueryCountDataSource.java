@@ -0,0 +1,181 @@
+package com.loopers.config.jpa.querycount;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 커넥션과 Statement를 JDK 프록시로 감싸 execute* 호출의 시간과 행 수를 QueryCounter에 넘긴다.
+ *
+ * - Statement는 표본 범위가 열려 있을 때 만든 것만 감싼다. 그 밖의 SQL은 커넥션 프록시 한 단계만 거친다.
+ * - 행 수는 갱신 결과(int/long/배치 합)에서 얻는다. count-rows가 켜져 있으면 ResultSet.next()도 센다.
+ */
+public class QueryCountDataSource extends DelegatingDataSource {
+
+    private final QueryCounter counter;
+
+    public QueryCountDataSource(DataSource target, QueryCounter counter) {
+        super(target);
+        this.counter = counter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                QueryCountDataSource.class.getClassLoader(), new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "QueryCount[" + target + "]";
+                }
+                default -> {
+                    // 아래로 진행
+                }
+            }
+            Object result = QueryCountDataSource.invoke(target, method, args);
+            if (!(result instanceof Statement) || !counter.isActive()) {
+                return result;
+            }
+            Class<? extends Statement> type = switch (result) {
+                case CallableStatement ignored -> CallableStatement.class;
+                case PreparedStatement ignored -> PreparedStatement.class;
+                default -> Statement.class;
+            };
+            String sql = type == Statement.class ? null : (String) args[0];
+            return wrapStatement((Statement) result, type, sql);
+        }
+
+        private Object wrapStatement(Statement statement, Class<? extends Statement> type, String sql) {
+            return Proxy.newProxyInstance(
+                    QueryCountDataSource.class.getClassLoader(), new Class<?>[]{type},
+                    new StatementHandler(statement, sql));
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private String sql;
+
+        StatementHandler(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "addBatch" -> {
+                    // Statement.addBatch(String)은 실행할 SQL을 따로 받는다
+                    if (args != null && args.length == 1) {
+                        sql = (String) args[0];
+                    }
+                    return QueryCountDataSource.invoke(target, method, args);
+                }
+                case "getResultSet" -> {
+                    return wrapResultSet((ResultSet) QueryCountDataSource.invoke(target, method, args));
+                }
+                default -> {
+                    if (!name.startsWith("execute")) {
+                        return QueryCountDataSource.invoke(target, method, args);
+                    }
+                }
+            }
+
+            String executed = args != null && args.length > 0 && args[0] instanceof String text ? text : sql;
+            long start = System.nanoTime();
+            Object result = QueryCountDataSource.invoke(target, method, args);
+            long elapsed = System.nanoTime() - start;
+            counter.recordStatement(executed, elapsed, affectedRows(result));
+            return result instanceof ResultSet resultSet ? wrapResultSet(resultSet) : result;
+        }
+
+        private long affectedRows(Object result) {
+            return switch (result) {
+                case Integer count -> Math.max(count, 0);
+                case Long count -> Math.max(count, 0);
+                case int[] counts -> {
+                    long sum = 0;
+                    for (int count : counts) {
+                        sum += Math.max(count, 0);
+                    }
+                    yield sum;
+                }
+                case long[] counts -> {
+                    long sum = 0;
+                    for (long count : counts) {
+                        sum += Math.max(count, 0);
+                    }
+                    yield sum;
+                }
+                case null, default -> 0;
+            };
+        }
+
+        private ResultSet wrapResultSet(ResultSet resultSet) {
+            if (resultSet == null || !counter.countRows()) {
+                return resultSet;
+            }
+            return (ResultSet) Proxy.newProxyInstance(
+                    QueryCountDataSource.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                    (proxy, method, args) -> {
+                        Object result = QueryCountDataSource.invoke(resultSet, method, args);
+                        if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                            counter.addRows(1);
+                        }
+                        return result;
+                    });
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.loopers.config.jpa.querycount;
+
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 요청/트랜잭션 단위 SQL 계측 설정 (datasource.mysql-jpa.query-count.*).
+ *
+ * @param enabled          false면 JDBC 프록시를 만들지 않는다 (계측 비용 0)
+ * @param sampleRate       계측할 요청/트랜잭션 비율 (0~1). 표본에서 빠진 범위 안의 SQL은 세지 않는다
+ * @param statementBudget  한 범위에서 허용하는 SQL 수. 넘으면 경고 로그와 db.scope.budget.exceeded 카운터를 남긴다
+ * @param budgets          범위 이름(예: "GET /api/v1/products/{productId}")별 statementBudget 덮어쓰기
+ * @param countRows        ResultSet.next()를 세어 조회 행 수도 기록한다. 행마다 프록시 호출이 붙으므로 기본은 끈다
+ * @param maxFingerprints  db.query.duration 타이머의 (endpoint, query) 조합 상한. 넘으면 query="other"로 묶는다
+ */
+@ConfigurationProperties(prefix = "datasource.mysql-jpa.query-count")
+public record QueryCountProperties(
+        Boolean enabled,
+        Double sampleRate,
+        int statementBudget,
+        Map<String, Integer> budgets,
+        boolean countRows,
+        int maxFingerprints) {
+
+    public QueryCountProperties {
+        if (enabled == null) enabled = false;
+        if (sampleRate == null) sampleRate = 1.0;
+        if (statementBudget <= 0) statementBudget = 20;
+        if (budgets == null) budgets = Map.of();
+        if (maxFingerprints <= 0) maxFingerprints = 500;
+    }
+
+    int budgetOf(String scopeName) {
+        return budgets.getOrDefault(scopeName, statementBudget);
+    }
+}
@@ -0,0 +1,47 @@
+package com.loopers.config.jpa.querycount;
+
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * 새로 시작한 트랜잭션(최외곽 또는 REQUIRES_NEW)마다 SQL 집계 범위를 열고, 커밋/롤백 때 닫는다.
+ * 범위 이름은 "클래스.메서드"다 (패키지는 뗀다).
+ */
+class QueryCountTransactionListener implements TransactionExecutionListener {
+
+    private final QueryCounter counter;
+
+    QueryCountTransactionListener(QueryCounter counter) {
+        this.counter = counter;
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (beginFailure == null && transaction.isNewTransaction()) {
+            counter.openTransaction(transaction, shortName(transaction.getTransactionName()));
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (transaction.isNewTransaction()) {
+            counter.closeTransaction(transaction);
+        }
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
+        if (transaction.isNewTransaction()) {
+            counter.closeTransaction(transaction);
+        }
+    }
+
+    static String shortName(String transactionName) {
+        if (transactionName == null || transactionName.isEmpty()) {
+            return "unnamed";
+        }
+        int methodDot = transactionName.lastIndexOf('.');
+        int classDot = methodDot > 0 ? transactionName.lastIndexOf('.', methodDot - 1) : -1;
+        return transactionName.substring(classDot + 1);
+    }
+}
@@ -0,0 +1,246 @@
+package com.loopers.config.jpa.querycount;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청/트랜잭션 범위별 SQL 수·행 수·DB 시간 집계 (N+1 탐지).
+ *
+ * - 범위는 스레드별 스택으로 관리한다. HTTP 요청 안의 트랜잭션은 요청 범위 위에 쌓이고, SQL 한 건은 열린 모든 범위에 더해진다.
+ * - 표본 여부는 가장 바깥 범위를 열 때 sample-rate로 정하고 안쪽 범위는 따른다. 표본에서 빠지면 SQL 프록시도 바로 통과한다.
+ * - SQL은 리터럴을 ?로, IN 목록을 in (?)로 접어 지문(q + 해시)을 만든다. 지문과 원문 대응은 처음 볼 때 한 번 로그로 남긴다.
+ * - 지표
+ *   - db.query.duration{endpoint, query}: 지문별 실행 시간. 조합이 max-fingerprints를 넘으면 query="other"로 묶는다
+ *   - db.scope.statements / db.scope.rows / db.scope.time {scope, name}: 범위 하나의 SQL 수, 행 수, DB 시간
+ *   - db.scope.budget.exceeded{scope, name}: SQL 수가 예산을 넘은 범위 수. 넘으면 반복된 지문을 경고 로그로 남긴다
+ */
+@Slf4j
+public class QueryCounter {
+
+    private static final String OVERFLOW_FINGERPRINT = "other";
+    private static final int REPEATED_FINGERPRINTS_IN_LOG = 3;
+    private static final int SQL_LENGTH_IN_LOG = 200;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^'\\\\]|\\\\.|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final QueryCountProperties properties;
+    private final MeterRegistry registry;
+    private final ThreadLocal<Deque<QueryScope>> scopes = ThreadLocal.withInitial(ArrayDeque::new);
+    private final Map<String, String> fingerprintBySql = new ConcurrentHashMap<>();
+    private final Map<String, String> sqlByFingerprint = new ConcurrentHashMap<>();
+    private final Map<String, Timer> queryTimers = new ConcurrentHashMap<>();
+
+    public QueryCounter(QueryCountProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        this.registry = registry;
+    }
+
+    /**
+     * HTTP 요청 범위를 연다. 같은 스레드에 이전 요청이 닫지 못한 범위가 남아 있으면 버린다.
+     */
+    public QueryScope openRequest(String endpoint) {
+        Deque<QueryScope> stack = scopes.get();
+        if (!stack.isEmpty()) {
+            log.debug("닫히지 않은 SQL 집계 범위 {}개를 버린다", stack.size());
+            stack.clear();
+        }
+        return open(QueryScope.Kind.REQUEST, endpoint, null);
+    }
+
+    /**
+     * 트랜잭션 범위를 연다. owner는 closeTransaction에서 같은 범위를 찾는 데 쓴다.
+     */
+    public QueryScope openTransaction(Object owner, String name) {
+        return open(QueryScope.Kind.TRANSACTION, name, owner);
+    }
+
+    public void close(QueryScope scope) {
+        Deque<QueryScope> stack = scopes.get();
+        if (stack.removeFirstOccurrence(scope)) {
+            publish(scope);
+        }
+        if (stack.isEmpty()) {
+            scopes.remove();
+        }
+    }
+
+    public void closeTransaction(Object owner) {
+        for (QueryScope scope : scopes.get()) {
+            if (scope.owner() == owner) {
+                close(scope);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 표본으로 뽑힌 범위가 열려 있는지. false면 SQL 프록시는 아무것도 재지 않는다.
+     */
+    public boolean isActive() {
+        QueryScope top = scopes.get().peekFirst();
+        return top != null && top.sampled();
+    }
+
+    void recordStatement(String sql, long nanos, long rows) {
+        Deque<QueryScope> stack = scopes.get();
+        QueryScope top = stack.peekFirst();
+        if (top == null || !top.sampled()) {
+            return;
+        }
+        String fingerprint = fingerprintOf(sql);
+        for (QueryScope scope : stack) {
+            scope.recordStatement(fingerprint, nanos, rows);
+        }
+        queryTimer(stack.peekLast().name(), fingerprint).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void addRows(long rows) {
+        QueryScope top = scopes.get().peekFirst();
+        if (top == null || !top.sampled()) {
+            return;
+        }
+        for (QueryScope scope : scopes.get()) {
+            scope.addRows(rows);
+        }
+    }
+
+    boolean countRows() {
+        return properties.countRows();
+    }
+
+    private QueryScope open(QueryScope.Kind kind, String name, Object owner) {
+        Deque<QueryScope> stack = scopes.get();
+        QueryScope outer = stack.peekFirst();
+        boolean sampled = outer != null ? outer.sampled() : sample();
+        QueryScope scope = new QueryScope(kind, name, owner, sampled);
+        stack.push(scope);
+        return scope;
+    }
+
+    private boolean sample() {
+        double rate = properties.sampleRate();
+        return rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    private void publish(QueryScope scope) {
+        if (!scope.sampled()) {
+            return;
+        }
+        String kind = scope.kind().tag();
+        DistributionSummary.builder("db.scope.statements")
+                .tags("scope", kind, "name", scope.name())
+                .description("범위 하나에서 실행한 SQL 수")
+                .register(registry)
+                .record(scope.statements());
+        DistributionSummary.builder("db.scope.rows")
+                .tags("scope", kind, "name", scope.name())
+                .description("범위 하나에서 읽거나 바꾼 행 수")
+                .register(registry)
+                .record(scope.rows());
+        Timer.builder("db.scope.time")
+                .tags("scope", kind, "name", scope.name())
+                .description("범위 하나에서 SQL 실행에 쓴 시간")
+                .register(registry)
+                .record(scope.elapsedNanos(), TimeUnit.NANOSECONDS);
+
+        int budget = properties.budgetOf(scope.name());
+        if (scope.statements() <= budget) {
+            return;
+        }
+        Counter.builder("db.scope.budget.exceeded")
+                .tags("scope", kind, "name", scope.name())
+                .description("SQL 수가 예산을 넘은 범위 수")
+                .register(registry)
+                .increment();
+        log.warn("SQL 예산 초과 {} [{}]: statements={} (budget {}), rows={}, db={}ms, wall={}ms, 반복={}",
+                kind, scope.name(), scope.statements(), budget, scope.rows(),
+                TimeUnit.NANOSECONDS.toMillis(scope.elapsedNanos()),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - scope.startedAt()),
+                repeatedFingerprints(scope));
+    }
+
+    /**
+     * 같은 지문이 여러 번 실행된 것 중 많은 순으로 몇 개. N+1이면 여기에 연관 조회가 찍힌다.
+     */
+    private String repeatedFingerprints(QueryScope scope) {
+        return scope.statementsByFingerprint().entrySet().stream()
+                .filter(entry -> entry.getValue() > 1)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(REPEATED_FINGERPRINTS_IN_LOG)
+                .map(entry -> entry.getKey() + " x" + entry.getValue() + " "
+                        + abbreviate(sqlByFingerprint.getOrDefault(entry.getKey(), "")))
+                .collect(Collectors.joining(" | ", "[", "]"));
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= SQL_LENGTH_IN_LOG ? sql : sql.substring(0, SQL_LENGTH_IN_LOG) + "...";
+    }
+
+    private String fingerprintOf(String sql) {
+        if (sql == null) {
+            return OVERFLOW_FINGERPRINT;
+        }
+        String cached = fingerprintBySql.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+        String normalized = normalize(sql);
+        String fingerprint = "q" + Integer.toHexString(normalized.hashCode());
+        // 리터럴을 박은 SQL이 끝없이 들어와도 캐시가 커지지 않게 막는다
+        if (fingerprintBySql.size() < properties.maxFingerprints() * 4) {
+            fingerprintBySql.put(sql, fingerprint);
+        }
+        if (sqlByFingerprint.size() < properties.maxFingerprints()
+                && sqlByFingerprint.putIfAbsent(fingerprint, normalized) == null) {
+            log.info("SQL 지문 {} = {}", fingerprint, normalized);
+        }
+        return fingerprint;
+    }
+
+    static String normalize(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("in (?)");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+    }
+
+    private Timer queryTimer(String endpoint, String fingerprint) {
+        String key = endpoint + '\u0000' + fingerprint;
+        Timer timer = queryTimers.get(key);
+        if (timer != null) {
+            return timer;
+        }
+        if (queryTimers.size() >= properties.maxFingerprints()) {
+            fingerprint = OVERFLOW_FINGERPRINT;
+            key = endpoint + '\u0000' + OVERFLOW_FINGERPRINT;
+        }
+        String query = fingerprint;
+        return queryTimers.computeIfAbsent(key, ignored -> Timer.builder("db.query.duration")
+                .tags("endpoint", endpoint, "query", query)
+                .description("SQL 지문별 실행 시간")
+                .register(registry));
+    }
+
+    /**
+     * 테스트와 진단용: 현재 스레드에 열린 범위 수.
+     */
+    int openScopes() {
+        return scopes.get().size();
+    }
+}
@@ -0,0 +1,90 @@
+package com.loopers.config.jpa.querycount;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 한 요청 또는 한 트랜잭션 동안 실행된 SQL 집계. 만든 스레드에서만 쓴다.
+ * 표본에서 빠진 범위(sampled=false)는 스택 자리만 차지하고 아무것도 세지 않는다.
+ */
+public final class QueryScope {
+
+    enum Kind {
+        REQUEST("request"),
+        TRANSACTION("transaction");
+
+        private final String tag;
+
+        Kind(String tag) {
+            this.tag = tag;
+        }
+
+        String tag() {
+            return tag;
+        }
+    }
+
+    private final Kind kind;
+    private final String name;
+    private final Object owner;
+    private final boolean sampled;
+    private final long startedAt = System.nanoTime();
+    private final Map<String, Integer> statementsByFingerprint = new HashMap<>();
+    private long statements;
+    private long rows;
+    private long elapsedNanos;
+
+    QueryScope(Kind kind, String name, Object owner, boolean sampled) {
+        this.kind = kind;
+        this.name = name;
+        this.owner = owner;
+        this.sampled = sampled;
+    }
+
+    void recordStatement(String fingerprintId, long nanos, long affectedRows) {
+        statements++;
+        rows += affectedRows;
+        elapsedNanos += nanos;
+        statementsByFingerprint.merge(fingerprintId, 1, Integer::sum);
+    }
+
+    void addRows(long fetchedRows) {
+        rows += fetchedRows;
+    }
+
+    Kind kind() {
+        return kind;
+    }
+
+    String name() {
+        return name;
+    }
+
+    Object owner() {
+        return owner;
+    }
+
+    boolean sampled() {
+        return sampled;
+    }
+
+    long startedAt() {
+        return startedAt;
+    }
+
+    long statements() {
+        return statements;
+    }
+
+    long rows() {
+        return rows;
+    }
+
+    long elapsedNanos() {
+        return elapsedNanos;
+    }
+
+    Map<String, Integer> statementsByFingerprint() {
+        return statementsByFingerprint;
+    }
+}
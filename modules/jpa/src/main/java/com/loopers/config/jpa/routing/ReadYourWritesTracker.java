@@ -0,0 +1,57 @@
+package com.loopers.config.jpa.routing;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쓰기 직후 같은 사용자의 읽기를 잠시 주 DB로 보내기 위한 기록.
+ *
+ * - 요청 스레드에 bind(subject)로 사용자를 묶어 두면, 쓰기 트랜잭션 커밋 시 그 사용자의 마지막 쓰기 시각을 남긴다.
+ * - sticky-window-ms 동안 그 사용자의 읽기 전용 트랜잭션은 복제본 대신 주 DB에서 읽는다.
+ * - 기록은 인스턴스 메모리에만 있으므로, 같은 사용자의 다음 요청이 다른 인스턴스로 가면 적용되지 않는다.
+ */
+public class ReadYourWritesTracker {
+
+    private static final int PRUNE_THRESHOLD = 10_000;
+    private static final ThreadLocal<String> SUBJECT = new ThreadLocal<>();
+
+    private final long windowNanos;
+    private final Map<String, Long> lastWriteAt = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(long stickyWindowMs) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(stickyWindowMs);
+    }
+
+    public void bind(String subject) {
+        SUBJECT.set(subject);
+    }
+
+    public void clear() {
+        SUBJECT.remove();
+    }
+
+    /**
+     * 현재 스레드에 묶인 사용자의 쓰기를 기록한다. 묶인 사용자가 없으면 아무것도 하지 않는다.
+     */
+    public void markWrite() {
+        String subject = SUBJECT.get();
+        if (subject == null || windowNanos == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        lastWriteAt.put(subject, now);
+        if (lastWriteAt.size() > PRUNE_THRESHOLD) {
+            lastWriteAt.values().removeIf(writtenAt -> now - writtenAt >= windowNanos);
+        }
+    }
+
+    public boolean isSticky() {
+        String subject = SUBJECT.get();
+        if (subject == null) {
+            return false;
+        }
+        Long writtenAt = lastWriteAt.get(subject);
+        return writtenAt != null && System.nanoTime() - writtenAt < windowNanos;
+    }
+}
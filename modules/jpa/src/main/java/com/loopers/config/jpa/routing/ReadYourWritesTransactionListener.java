@@ -0,0 +1,23 @@
+package com.loopers.config.jpa.routing;
+
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * 쓰기 트랜잭션(최외곽, readOnly 아님)이 커밋되면 현재 사용자의 쓰기를 기록한다.
+ */
+class ReadYourWritesTransactionListener implements TransactionExecutionListener {
+
+    private final ReadYourWritesTracker tracker;
+
+    ReadYourWritesTransactionListener(ReadYourWritesTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure == null && transaction.isNewTransaction() && !transaction.isReadOnly()) {
+            tracker.markWrite();
+        }
+    }
+}
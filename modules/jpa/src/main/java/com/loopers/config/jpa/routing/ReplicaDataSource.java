@@ -0,0 +1,157 @@
+package com.loopers.config.jpa.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * 읽기 전용 트랜잭션용 DataSource. LazyConnectionDataSourceProxy의 readOnlyDataSource로 쓰인다.
+ *
+ * - 건강하고 지연이 max-lag-seconds 이하인 복제본 중 두 개를 무작위로 골라 활성 커넥션이 적은 쪽을 쓴다.
+ * - 현재 사용자가 sticky-window-ms 안에 쓴 적이 있거나, 쓸 수 있는 복제본이 없거나,
+ *   복제본 커넥션 획득에 실패하면 주 DB 커넥션을 돌려준다. 실패한 복제본은 다음 상태 확인까지 제외한다.
+ * - health-check-interval-ms마다 복제본 상태와 지연을 다시 확인한다.
+ * - 라우팅 결과는 datasource.routing{target, reason}, 복제본 상태는 datasource.replica.* 게이지로 남긴다.
+ */
+@Slf4j
+public class ReplicaDataSource extends AbstractDataSource implements DisposableBean {
+
+    private static final String METRIC_PREFIX = "datasource.";
+
+    private final DataSource primary;
+    private final List<ReplicaNode> replicas;
+    private final ReadYourWritesTracker tracker;
+    private final long maxLagSeconds;
+    private final ScheduledExecutorService healthChecker;
+    private final Counter replicaRoutes;
+    private final Counter stickyRoutes;
+    private final Counter unavailableRoutes;
+    private final Counter errorRoutes;
+
+    ReplicaDataSource(
+            DataSource primary,
+            List<ReplicaNode> replicas,
+            ReadYourWritesTracker tracker,
+            ReplicaRoutingProperties properties,
+            MeterRegistry registry) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.tracker = tracker;
+        this.maxLagSeconds = properties.maxLagSeconds();
+        this.replicaRoutes = routeCounter(registry, "replica", "available");
+        this.stickyRoutes = routeCounter(registry, "primary", "sticky");
+        this.unavailableRoutes = routeCounter(registry, "primary", "no_replica");
+        this.errorRoutes = routeCounter(registry, "primary", "replica_error");
+        for (ReplicaNode node : this.replicas) {
+            Gauge.builder(METRIC_PREFIX + "replica.lag.seconds", node, ReplicaNode::lagSeconds)
+                    .tag("replica", node.name())
+                    .description("마지막으로 확인한 복제 지연 (복제 중단 시 Long.MAX_VALUE)")
+                    .register(registry);
+            Gauge.builder(METRIC_PREFIX + "replica.available", node, n -> n.isAvailable(maxLagSeconds) ? 1 : 0)
+                    .tag("replica", node.name())
+                    .description("읽기 라우팅 대상 여부 (건강 + 허용 지연 이내)")
+                    .register(registry);
+        }
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.healthChecker.scheduleWithFixedDelay(
+                this::refreshHealth, 0, properties.healthCheckIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (tracker.isSticky()) {
+            stickyRoutes.increment();
+            return primary.getConnection();
+        }
+        ReplicaNode node = choose();
+        if (node == null) {
+            unavailableRoutes.increment();
+            return primary.getConnection();
+        }
+        try {
+            Connection connection = node.dataSource().getConnection();
+            replicaRoutes.increment();
+            return connection;
+        } catch (SQLException e) {
+            log.warn("복제본 커넥션 획득 실패, 주 DB로 전환: replica={}", node.name(), e);
+            node.markDown();
+            errorRoutes.increment();
+            return primary.getConnection();
+        }
+    }
+
+    /**
+     * 복제본 풀은 설정된 계정으로만 열린다. 다른 계정으로 주 DB에 붙으면 라우팅 규칙을 벗어나므로 막는다.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("계정별 커넥션은 지원하지 않습니다.");
+    }
+
+    void refreshHealth() {
+        for (ReplicaNode node : replicas) {
+            boolean wasAvailable = node.isAvailable(maxLagSeconds);
+            node.refresh();
+            boolean available = node.isAvailable(maxLagSeconds);
+            if (wasAvailable != available) {
+                log.info("복제본 라우팅 상태 변경: replica={}, available={}, healthy={}, lagSeconds={}",
+                        node.name(), available, node.isHealthy(), node.lagSeconds());
+            }
+        }
+    }
+
+    /**
+     * 쓸 수 있는 복제본 중 무작위 두 개를 뽑아 활성 커넥션이 적은 쪽. 없으면 null.
+     */
+    private ReplicaNode choose() {
+        List<ReplicaNode> candidates = new ArrayList<>(replicas.size());
+        for (ReplicaNode node : replicas) {
+            if (node.isAvailable(maxLagSeconds)) {
+                candidates.add(node);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = (first + 1 + random.nextInt(candidates.size() - 1)) % candidates.size();
+        ReplicaNode a = candidates.get(first);
+        ReplicaNode b = candidates.get(second);
+        return a.activeConnections() <= b.activeConnections() ? a : b;
+    }
+
+    @Override
+    public void destroy() {
+        healthChecker.shutdownNow();
+        replicas.forEach(node -> node.dataSource().close());
+    }
+
+    private static Counter routeCounter(MeterRegistry registry, String target, String reason) {
+        return Counter.builder(METRIC_PREFIX + "routing")
+                .tag("target", target)
+                .tag("reason", reason)
+                .description("읽기 전용 커넥션 라우팅 결과")
+                .register(registry);
+    }
+}
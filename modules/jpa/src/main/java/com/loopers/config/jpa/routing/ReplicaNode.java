@@ -0,0 +1,92 @@
+package com.loopers.config.jpa.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 복제본 하나의 커넥션 풀과 마지막으로 확인한 상태.
+ */
+@Slf4j
+final class ReplicaNode {
+
+    static final long LAG_UNKNOWN = Long.MAX_VALUE;
+    private static final String REPLICA_STATUS_QUERY = "SHOW REPLICA STATUS";
+    private static final String LAG_COLUMN = "Seconds_Behind_Source";
+
+    private final String name;
+    private final HikariDataSource dataSource;
+    private volatile boolean healthy = true;
+    private volatile long lagSeconds;
+    private volatile boolean checkFailing;
+
+    ReplicaNode(String name, HikariDataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    String name() {
+        return name;
+    }
+
+    HikariDataSource dataSource() {
+        return dataSource;
+    }
+
+    boolean isHealthy() {
+        return healthy;
+    }
+
+    long lagSeconds() {
+        return lagSeconds;
+    }
+
+    boolean isAvailable(long maxLagSeconds) {
+        return healthy && lagSeconds <= maxLagSeconds;
+    }
+
+    int activeConnections() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return pool == null ? 0 : pool.getActiveConnections();
+    }
+
+    void markDown() {
+        healthy = false;
+    }
+
+    /**
+     * SHOW REPLICA STATUS로 지연을 확인한다.
+     * 결과 행이 없으면 복제 설정이 없는 단독 서버(로컬/테스트)로 보고 지연 0,
+     * Seconds_Behind_Source가 NULL이면 복제가 멈춘 것으로 보고 지연을 알 수 없음으로 둔다.
+     * 확인이 실패하기 시작할 때 원인을 한 번 남기고, 다시 성공하면 복구를 남긴다.
+     */
+    void refresh() {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(REPLICA_STATUS_QUERY)) {
+            long lag = 0;
+            if (resultSet.next()) {
+                lag = resultSet.getLong(LAG_COLUMN);
+                if (resultSet.wasNull()) {
+                    lag = LAG_UNKNOWN;
+                }
+            }
+            lagSeconds = lag;
+            healthy = true;
+            if (checkFailing) {
+                checkFailing = false;
+                log.info("복제본 상태 확인 복구: replica={}", name);
+            }
+        } catch (SQLException e) {
+            healthy = false;
+            if (!checkFailing) {
+                checkFailing = true;
+                log.warn("복제본 상태 확인 실패, 라우팅에서 제외: replica={}", name, e);
+            }
+        }
+    }
+}
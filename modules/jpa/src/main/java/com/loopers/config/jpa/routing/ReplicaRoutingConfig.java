@@ -0,0 +1,67 @@
+package com.loopers.config.jpa.routing;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+public class ReplicaRoutingConfig {
+
+    private static final String REPLICA_POOL_PREFIX = "mysql-replica-";
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaRoutingProperties properties) {
+        return new ReadYourWritesTracker(properties.stickyWindowMs());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "datasource.mysql-jpa.routing.enabled", havingValue = "true")
+    public ReplicaDataSource replicaDataSource(
+            @Qualifier("mySqlMainHikariConfig") HikariConfig mainConfig,
+            @Qualifier("mySqlMainDataSource") HikariDataSource primary,
+            ReadYourWritesTracker tracker,
+            ReplicaRoutingProperties properties,
+            MeterRegistry registry) {
+        List<ReplicaNode> nodes = properties.replicas().stream()
+                .map(replica -> new ReplicaNode(replica.name(),
+                        new HikariDataSource(replicaConfig(mainConfig, replica, registry))))
+                .toList();
+        return new ReplicaDataSource(primary, nodes, tracker, properties, registry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "datasource.mysql-jpa.routing.enabled", havingValue = "true")
+    ReadYourWritesTransactionListener readYourWritesTransactionListener(ReadYourWritesTracker tracker) {
+        return new ReadYourWritesTransactionListener(tracker);
+    }
+
+    /**
+     * main 풀 설정을 복사하고 복제본 값만 덮어쓴다.
+     * 복제본 하나가 죽어 있어도 기동은 계속되도록 초기 연결 실패를 기다리지 않는다.
+     */
+    static HikariConfig replicaConfig(
+            HikariConfig mainConfig, ReplicaRoutingProperties.Replica replica, MeterRegistry registry) {
+        HikariConfig config = new HikariConfig();
+        mainConfig.copyStateTo(config);
+        config.setPoolName(REPLICA_POOL_PREFIX + replica.name());
+        config.setJdbcUrl(replica.jdbcUrl());
+        if (replica.username() != null) config.setUsername(replica.username());
+        if (replica.password() != null) config.setPassword(replica.password());
+        if (replica.maximumPoolSize() > 0) {
+            config.setMaximumPoolSize(replica.maximumPoolSize());
+            config.setMinimumIdle(Math.min(config.getMinimumIdle(), replica.maximumPoolSize()));
+        }
+        config.setReadOnly(true);
+        config.setInitializationFailTimeout(-1);
+        config.setMetricsTrackerFactory(null);
+        config.setMetricRegistry(registry);
+        return config;
+    }
+}
@@ -0,0 +1,31 @@
+package com.loopers.config.jpa.routing;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 읽기 전용 트랜잭션의 복제본 라우팅 설정 (datasource.mysql-jpa.routing.*).
+ * 복제본 커넥션 풀은 main 풀 설정을 복사한 뒤 jdbc-url/계정/풀 크기만 덮어쓴다.
+ */
+@ConfigurationProperties(prefix = "datasource.mysql-jpa.routing")
+public record ReplicaRoutingProperties(
+        Boolean enabled,
+        Long maxLagSeconds,
+        long healthCheckIntervalMs,
+        long stickyWindowMs,
+        List<Replica> replicas) {
+
+    public ReplicaRoutingProperties {
+        if (enabled == null) enabled = false;
+        if (maxLagSeconds == null) maxLagSeconds = 1L;
+        if (healthCheckIntervalMs <= 0) healthCheckIntervalMs = 1000;
+        if (stickyWindowMs < 0) stickyWindowMs = 0;
+        if (replicas == null) replicas = List.of();
+    }
+
+    /**
+     * @param maximumPoolSize 0이면 main 풀 크기를 따른다
+     */
+    public record Replica(String name, String jdbcUrl, String username, String password, int maximumPoolSize) {
+    }
+}
@@ -0,0 +1,127 @@
+package com.loopers.config.jpa.querycount;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("QueryCounter 단위 테스트")
+class QueryCounterTest {
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    private QueryCounter counter(double sampleRate, int budget) {
+        return new QueryCounter(new QueryCountProperties(true, sampleRate, budget, Map.of(), false, 500), registry);
+    }
+
+    @DisplayName("SQL 지문을 만들 때, ")
+    @Nested
+    class Normalize {
+
+        @DisplayName("문자열/숫자 리터럴은 ?로, IN 목록은 in (?)로 접고 공백과 대소문자를 맞춘다.")
+        @Test
+        void normalize_foldsLiteralsAndInLists() {
+            // arrange
+            String first = "SELECT p1_0.id FROM product p1_0 WHERE p1_0.brand_id = 3 AND p1_0.name = 'it''s'";
+            String second = "select p1_0.id\n  from product p1_0 where p1_0.brand_id = 12 and p1_0.name = 'x'";
+            String inList = "select * from likes where product_id IN (?, ?, ?)";
+
+            // act
+            String normalizedFirst = QueryCounter.normalize(first);
+            String normalizedSecond = QueryCounter.normalize(second);
+            String normalizedInList = QueryCounter.normalize(inList);
+
+            // assert
+            assertAll(
+                    () -> assertThat(normalizedFirst).isEqualTo(normalizedSecond),
+                    () -> assertThat(normalizedFirst)
+                            .isEqualTo("select p1_0.id from product p1_0 where p1_0.brand_id = ? and p1_0.name = ?"),
+                    () -> assertThat(normalizedInList).isEqualTo("select * from likes where product_id in (?)"));
+        }
+    }
+
+    @DisplayName("범위를 닫을 때, ")
+    @Nested
+    class CloseScope {
+
+        @DisplayName("요청 안의 트랜잭션 SQL은 두 범위 모두에 더해지고, 예산을 넘은 범위만 카운터가 오른다.")
+        @Test
+        void close_recordsNestedScopesAndBudget() {
+            // arrange
+            QueryCounter counter = counter(1.0, 3);
+            Object transaction = new Object();
+            QueryScope request = counter.openRequest("GET /api/v1/products");
+            counter.recordStatement("select * from brand where id = 1", 1_000, 0);
+            counter.openTransaction(transaction, "ProductFacade.getProducts");
+            for (long id = 1; id <= 3; id++) {
+                counter.recordStatement("select * from product where id = " + id, 1_000, 0);
+            }
+
+            // act
+            counter.closeTransaction(transaction);
+            counter.close(request);
+
+            // assert
+            assertAll(
+                    () -> assertThat(registry.get("db.scope.statements")
+                            .tags("scope", "request", "name", "GET /api/v1/products").summary().totalAmount())
+                            .isEqualTo(4),
+                    () -> assertThat(registry.get("db.scope.statements")
+                            .tags("scope", "transaction", "name", "ProductFacade.getProducts").summary().totalAmount())
+                            .isEqualTo(3),
+                    () -> assertThat(registry.get("db.scope.budget.exceeded")
+                            .tags("scope", "request").counter().count()).isEqualTo(1),
+                    () -> assertThat(registry.find("db.scope.budget.exceeded")
+                            .tags("scope", "transaction").counter()).isNull(),
+                    () -> assertThat(registry.get("db.query.duration")
+                            .tag("endpoint", "GET /api/v1/products").timers()).hasSize(2),
+                    () -> assertThat(counter.openScopes()).isZero());
+        }
+
+        @DisplayName("표본에서 빠진 요청은 안쪽 트랜잭션까지 아무것도 세지 않는다.")
+        @Test
+        void close_whenNotSampled_recordsNothing() {
+            // arrange
+            QueryCounter counter = counter(0.0, 1);
+            Object transaction = new Object();
+            QueryScope request = counter.openRequest("GET /api/v1/products");
+            counter.openTransaction(transaction, "ProductFacade.getProducts");
+
+            // act
+            boolean active = counter.isActive();
+            counter.recordStatement("select 1", 1_000, 0);
+            counter.recordStatement("select 2", 1_000, 0);
+            counter.closeTransaction(transaction);
+            counter.close(request);
+
+            // assert
+            assertAll(
+                    () -> assertThat(active).isFalse(),
+                    () -> assertThat(registry.find("db.scope.statements").summary()).isNull(),
+                    () -> assertThat(registry.find("db.query.duration").timer()).isNull());
+        }
+    }
+
+    @DisplayName("트랜잭션 이름은 패키지를 떼고 클래스.메서드만 남긴다.")
+    @Test
+    void shortName_dropsPackage() {
+        // act
+        String named = QueryCountTransactionListener.shortName("com.loopers.application.order.OrderFacade.placeOrder");
+        String unnamed = QueryCountTransactionListener.shortName(null);
+
+        // assert
+        assertAll(
+                () -> assertThat(named).isEqualTo("OrderFacade.placeOrder"),
+                () -> assertThat(unnamed).isEqualTo("unnamed"));
+    }
+}
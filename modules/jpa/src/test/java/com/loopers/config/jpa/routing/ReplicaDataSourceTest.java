@@ -0,0 +1,206 @@
+package com.loopers.config.jpa.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 주 DB/복제본 역할의 MySQL 컨테이너 두 개로 라우팅을 확인한다.
+ * 실제 복제는 걸지 않고, 각 DB의 node_marker 테이블에 자기 이름을 넣어 어느 쪽에서 읽었는지 구분한다.
+ */
+@DisplayName("읽기 전용 복제본 라우팅 통합 테스트")
+class ReplicaDataSourceTest {
+
+    private static final MySQLContainer<?> primaryContainer = mySqlContainer();
+    private static final MySQLContainer<?> replicaContainer = mySqlContainer();
+
+    private static HikariConfig mainConfig;
+    private static HikariDataSource primary;
+
+    private SimpleMeterRegistry registry;
+    private final List<ReplicaDataSource> replicaDataSources = new ArrayList<>();
+
+    @BeforeAll
+    static void startContainers() throws SQLException {
+        primaryContainer.start();
+        replicaContainer.start();
+
+        mainConfig = new HikariConfig();
+        mainConfig.setJdbcUrl(primaryContainer.getJdbcUrl());
+        mainConfig.setUsername(primaryContainer.getUsername());
+        mainConfig.setPassword(primaryContainer.getPassword());
+        mainConfig.setPoolName("mysql-main-pool");
+        mainConfig.setMaximumPoolSize(4);
+        mainConfig.setConnectionTimeout(1000);
+        primary = new HikariDataSource(mainConfig);
+
+        createMarker(primary, "primary");
+        HikariConfig replicaConfig = new HikariConfig();
+        mainConfig.copyStateTo(replicaConfig);
+        replicaConfig.setJdbcUrl(replicaContainer.getJdbcUrl());
+        replicaConfig.setPoolName("replica-setup");
+        try (HikariDataSource replica = new HikariDataSource(replicaConfig)) {
+            createMarker(replica, "replica");
+        }
+    }
+
+    @AfterAll
+    static void stopContainers() {
+        primary.close();
+        replicaContainer.stop();
+        primaryContainer.stop();
+    }
+
+    @AfterEach
+    void tearDown() {
+        replicaDataSources.forEach(ReplicaDataSource::destroy);
+    }
+
+    private static MySQLContainer<?> mySqlContainer() {
+        return new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+                .withDatabaseName("loopers")
+                .withUsername("test")
+                .withPassword("test");
+    }
+
+    private static ReplicaRoutingProperties.Replica replica(String name, String jdbcUrl) {
+        return new ReplicaRoutingProperties.Replica(name, jdbcUrl, null, null, 2);
+    }
+
+    private static void createMarker(DataSource dataSource, String name) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS node_marker (name VARCHAR(20))");
+            statement.execute("DELETE FROM node_marker");
+            statement.execute("INSERT INTO node_marker VALUES ('" + name + "')");
+        }
+    }
+
+    private ReplicaDataSource replicaDataSource(ReadYourWritesTracker tracker, ReplicaRoutingProperties.Replica... replicas) {
+        registry = new SimpleMeterRegistry();
+        ReplicaRoutingProperties properties = new ReplicaRoutingProperties(
+                true, 1L, 60_000, 60_000, List.of(replicas));
+        List<ReplicaNode> nodes = properties.replicas().stream()
+                .map(replica -> new ReplicaNode(replica.name(),
+                        new HikariDataSource(ReplicaRoutingConfig.replicaConfig(mainConfig, replica, registry))))
+                .toList();
+        ReplicaDataSource dataSource = new ReplicaDataSource(primary, nodes, tracker, properties, registry);
+        dataSource.refreshHealth();
+        replicaDataSources.add(dataSource);
+        return dataSource;
+    }
+
+    private static String readMarker(DataSource dataSource, boolean readOnly) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(readOnly);
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SELECT name FROM node_marker")) {
+                resultSet.next();
+                return resultSet.getString(1);
+            } finally {
+                connection.setReadOnly(false);
+            }
+        }
+    }
+
+    @DisplayName("읽기 전용 커넥션은 복제본에서, 쓰기 커넥션은 주 DB에서 얻고, 복제본 풀 지표를 풀 이름별로 남긴다.")
+    @Test
+    void routesReadOnlyConnectionsToReplica() throws SQLException {
+        // arrange
+        ReplicaDataSource replicas = replicaDataSource(
+                new ReadYourWritesTracker(60_000), replica("r1", replicaContainer.getJdbcUrl()));
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(replicas);
+
+        // act
+        String readOnly = readMarker(proxy, true);
+        String readWrite = readMarker(proxy, false);
+
+        // assert
+        assertAll(
+                () -> assertThat(readOnly).isEqualTo("replica"),
+                () -> assertThat(readWrite).isEqualTo("primary"),
+                () -> assertThat(registry.find("hikaricp.connections").tag("pool", "mysql-replica-r1").gauge())
+                        .isNotNull(),
+                () -> assertThat(registry.get("datasource.routing").tag("target", "replica").counter().count())
+                        .isEqualTo(1));
+    }
+
+    @DisplayName("쓴 직후의 사용자는 sticky-window 동안 주 DB에서 읽고, 다른 사용자는 복제본에서 읽는다.")
+    @Test
+    void routesToPrimary_withinStickyWindowAfterWrite() throws SQLException {
+        // arrange
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(60_000);
+        ReplicaDataSource replicas = replicaDataSource(tracker, replica("r1", replicaContainer.getJdbcUrl()));
+        tracker.bind("user:1");
+        tracker.markWrite();
+
+        // act
+        String writer = readMarker(replicas, true);
+        tracker.bind("user:2");
+        String other = readMarker(replicas, true);
+        tracker.clear();
+
+        // assert
+        assertAll(
+                () -> assertThat(writer).isEqualTo("primary"),
+                () -> assertThat(other).isEqualTo("replica"));
+    }
+
+    @DisplayName("응답하지 않는 복제본은 상태 확인 후 제외하고, 쓸 수 있는 복제본이 없으면 주 DB에서 읽는다.")
+    @Test
+    void fallsBackToPrimary_whenReplicaIsDown() throws SQLException {
+        // arrange
+        String deadUrl = "jdbc:mysql://localhost:1/loopers?connectTimeout=200";
+        ReplicaDataSource mixed = replicaDataSource(
+                new ReadYourWritesTracker(60_000),
+                replica("dead", deadUrl), replica("r1", replicaContainer.getJdbcUrl()));
+        ReplicaDataSource allDead = replicaDataSource(new ReadYourWritesTracker(60_000), replica("dead", deadUrl));
+
+        // act
+        List<String> mixedReads = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            mixedReads.add(readMarker(mixed, true));
+        }
+        String allDeadRead = readMarker(allDead, true);
+
+        // assert
+        assertAll(
+                () -> assertThat(mixedReads).containsOnly("replica"),
+                () -> assertThat(allDeadRead).isEqualTo("primary"),
+                () -> assertThat(registry.get("datasource.replica.available").tag("replica", "dead").gauge().value())
+                        .isZero());
+    }
+
+    @DisplayName("계정을 지정한 커넥션 요청은 SQLFeatureNotSupportedException으로 거절한다.")
+    @Test
+    void getConnectionWithCredentials_throwsSqlFeatureNotSupported() {
+        // arrange
+        ReplicaDataSource replicas = replicaDataSource(
+                new ReadYourWritesTracker(60_000), replica("r1", replicaContainer.getJdbcUrl()));
+
+        // act & assert
+        assertThatThrownBy(() -> replicas.getConnection("other", "secret"))
+                .isInstanceOf(SQLFeatureNotSupportedException.class);
+    }
+}
@@ -5,6 +5,8 @@ plugins {
 
 dependencies {
     api("org.springframework.kafka:spring-kafka")
+    // metrics
+    implementation("io.micrometer:micrometer-core")
 
     testImplementation("org.springframework.kafka:spring-kafka-test")
     testImplementation("org.testcontainers:kafka")
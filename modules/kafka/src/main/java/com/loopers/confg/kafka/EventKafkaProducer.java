@@ -0,0 +1,131 @@
+package com.loopers.confg.kafka;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
+
+/**
+ * KafkaEventMessage 전용 고처리량 프로듀서.
+ *
+ * - 토픽 정책(EventProducerProperties.Policy)마다 프로듀서를 하나씩 처음 보낼 때 만든다. 공용 KafkaTemplate과 달리
+ *   linger/batch/compression을 정책대로 걸고, 값은 KafkaEventMessageSerializer로 쓴다.
+ * - 응답을 기다리는 전송 수를 세어, 상한에 닿으면 버려도 되는 이벤트(조회 등)를 표본만 남기고 버린다.
+ * - 지표
+ *   - kafka.event.send{topic, eventType, result=sent|failed|dropped}: 전송 결과 수
+ *   - kafka.event.send.latency{topic}: send 호출부터 브로커 응답까지
+ *   - kafka.event.in.flight: 응답을 기다리는 전송 수
+ *   - kafka.producer.*: 프로듀서 자체 지표 (batch.size.avg, compression.rate.avg, record.queue.time.avg 등)
+ */
+@Slf4j
+public class EventKafkaProducer {
+
+    private static final String SEND_METRIC = "kafka.event.send";
+
+    private final KafkaProperties kafkaProperties;
+    private final EventProducerProperties properties;
+    private final MeterRegistry registry;
+    private final Map<EventProducerProperties.Policy, DefaultKafkaProducerFactory<String, KafkaEventMessage>> factories =
+            new ConcurrentHashMap<>();
+    private final Map<String, KafkaTemplate<String, KafkaEventMessage>> templates = new ConcurrentHashMap<>();
+    private final Map<String, Timer> latencyTimers = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public EventKafkaProducer(KafkaProperties kafkaProperties, EventProducerProperties properties, MeterRegistry registry) {
+        this.kafkaProperties = kafkaProperties;
+        this.properties = properties;
+        this.registry = registry;
+        Gauge.builder("kafka.event.in.flight", inFlight, AtomicInteger::get)
+                .description("브로커 응답을 기다리는 이벤트 전송 수")
+                .register(registry);
+    }
+
+    /**
+     * 비동기로 보낸다. 실패는 지표와 로그로만 남긴다.
+     *
+     * @return 부하 때문에 버렸으면 false
+     */
+    public boolean send(String topic, String key, KafkaEventMessage message) {
+        if (shouldShed(message)) {
+            count(topic, message, "dropped");
+            return false;
+        }
+        KafkaTemplate<String, KafkaEventMessage> template = templates.computeIfAbsent(topic, this::createTemplate);
+        long start = System.nanoTime();
+        inFlight.incrementAndGet();
+        try {
+            template.send(topic, key, message).whenComplete((result, e) -> {
+                inFlight.decrementAndGet();
+                latencyTimer(topic).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                if (e != null) {
+                    count(topic, message, "failed");
+                    log.warn("[Kafka] 이벤트 전송 실패 (유실 허용) — topic={}, eventType={}", topic, message.eventType(), e);
+                } else {
+                    count(topic, message, "sent");
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.decrementAndGet();
+            count(topic, message, "failed");
+            throw e;
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void close() {
+        factories.values().forEach(DefaultKafkaProducerFactory::destroy);
+    }
+
+    private boolean shouldShed(KafkaEventMessage message) {
+        if (inFlight.get() < properties.maxInFlight() || !properties.shedEventTypes().contains(message.eventType())) {
+            return false;
+        }
+        double rate = properties.shedSampleRate();
+        return rate <= 0.0 || ThreadLocalRandom.current().nextDouble() >= rate;
+    }
+
+    private KafkaTemplate<String, KafkaEventMessage> createTemplate(String topic) {
+        EventProducerProperties.Policy policy = properties.policyOf(topic);
+        return new KafkaTemplate<>(factories.computeIfAbsent(policy, this::createFactory));
+    }
+
+    private DefaultKafkaProducerFactory<String, KafkaEventMessage> createFactory(EventProducerProperties.Policy policy) {
+        Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties());
+        props.put(ProducerConfig.LINGER_MS_CONFIG, policy.lingerMs());
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, policy.batchSize());
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, policy.compressionType());
+        props.put(ProducerConfig.CLIENT_ID_CONFIG, props.getOrDefault(ProducerConfig.CLIENT_ID_CONFIG, "event")
+                + "-event-" + policy.compressionType() + "-" + policy.lingerMs() + "ms");
+        DefaultKafkaProducerFactory<String, KafkaEventMessage> factory = new DefaultKafkaProducerFactory<>(
+                props, new StringSerializer(), new KafkaEventMessageSerializer());
+        factory.addListener(new MicrometerProducerListener<>(registry));
+        log.info("[Kafka] 이벤트 프로듀서 생성 — linger.ms={}, batch.size={}, compression={}",
+                policy.lingerMs(), policy.batchSize(), policy.compressionType());
+        return factory;
+    }
+
+    private Timer latencyTimer(String topic) {
+        return latencyTimers.computeIfAbsent(topic, ignored -> Timer.builder("kafka.event.send.latency")
+                .tag("topic", topic)
+                .description("이벤트 send 호출부터 브로커 응답까지")
+                .register(registry));
+    }
+
+    private void count(String topic, KafkaEventMessage message, String result) {
+        registry.counter(SEND_METRIC, "topic", topic, "eventType", message.eventType(), "result", result).increment();
+    }
+}
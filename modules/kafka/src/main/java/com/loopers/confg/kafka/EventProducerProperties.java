@@ -0,0 +1,54 @@
+package com.loopers.confg.kafka;
+
+import java.util.Map;
+import java.util.Set;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 이벤트 전용 프로듀서 설정 (kafka.event-producer.*).
+ *
+ * - 토픽별로 linger/batch/compression 정책을 정한다. 정하지 않은 항목은 defaults를 따른다.
+ *   같은 정책을 쓰는 토픽끼리는 프로듀서 하나를 공유한다.
+ * - 응답을 기다리는 전송이 maxInFlight 이상이면 shedEventTypes에 든 이벤트는 shedSampleRate 비율만 보내고 나머지는 버린다.
+ *   다른 이벤트는 그대로 보낸다 (프로듀서 buffer.memory / max.block.ms가 상한).
+ */
+@ConfigurationProperties(prefix = "kafka.event-producer")
+public record EventProducerProperties(
+        int maxInFlight,
+        Set<String> shedEventTypes,
+        Double shedSampleRate,
+        Policy defaults,
+        Map<String, Policy> topics) {
+
+    public EventProducerProperties {
+        if (maxInFlight <= 0) maxInFlight = 10_000;
+        if (shedEventTypes == null) shedEventTypes = Set.of("PRODUCT_VIEWED");
+        if (shedSampleRate == null) shedSampleRate = 0.0;
+        if (shedSampleRate < 0.0 || shedSampleRate > 1.0) {
+            throw new IllegalArgumentException("kafka.event-producer.shed-sample-rate는 0 이상 1 이하여야 합니다.");
+        }
+        if (defaults == null) defaults = new Policy(null, null, null);
+        defaults = defaults.orElse(new Policy(10, 65_536, "lz4"));
+        if (topics == null) topics = Map.of();
+    }
+
+    public Policy policyOf(String topic) {
+        Policy policy = topics.get(topic);
+        return policy == null ? defaults : policy.orElse(defaults);
+    }
+
+    /**
+     * @param lingerMs        linger.ms: 배치를 채우려고 기다리는 최대 시간
+     * @param batchSize       batch.size: 파티션별 배치 최대 바이트
+     * @param compressionType compression.type: none, gzip, snappy, lz4, zstd
+     */
+    public record Policy(Integer lingerMs, Integer batchSize, String compressionType) {
+
+        Policy orElse(Policy fallback) {
+            return new Policy(
+                    lingerMs != null ? lingerMs : fallback.lingerMs(),
+                    batchSize != null ? batchSize : fallback.batchSize(),
+                    compressionType != null ? compressionType : fallback.compressionType());
+        }
+    }
+}
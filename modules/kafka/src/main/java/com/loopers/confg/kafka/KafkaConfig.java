@@ -1,6 +1,7 @@
 package com.loopers.confg.kafka;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -18,7 +19,7 @@ import java.util.Map;
 
 @EnableKafka
 @Configuration
-@EnableConfigurationProperties(KafkaProperties.class)
+@EnableConfigurationProperties({KafkaProperties.class, EventProducerProperties.class})
 public class KafkaConfig {
     public static final String BATCH_LISTENER = "BATCH_LISTENER_DEFAULT";
     public static final String SINGLE_LISTENER = "SINGLE_LISTENER_DEFAULT";
@@ -47,6 +48,20 @@ public class KafkaConfig {
         return new KafkaTemplate<>(producerFactory);
     }
 
+    @Bean
+    public EventKafkaProducer eventKafkaProducer(
+            KafkaProperties kafkaProperties,
+            EventProducerProperties eventProducerProperties,
+            MeterRegistry meterRegistry
+    ) {
+        return new EventKafkaProducer(kafkaProperties, eventProducerProperties, meterRegistry);
+    }
+
+    @Bean
+    public KafkaEventDecoder kafkaEventDecoder(ObjectMapper objectMapper) {
+        return new KafkaEventDecoder(objectMapper);
+    }
+
     @Bean
     public ByteArrayJsonMessageConverter jsonMessageConverter(ObjectMapper objectMapper) {
         return new ByteArrayJsonMessageConverter(objectMapper);
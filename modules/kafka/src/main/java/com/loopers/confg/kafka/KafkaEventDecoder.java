@@ -0,0 +1,98 @@
+package com.loopers.confg.kafka;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * KafkaEventMessage JSON을 토큰 단위로 읽어 KafkaEventEnvelope로 만든다.
+ *
+ * - JsonNode 트리를 만들지 않는다. eventId, eventType, data.productId, data.productIds만 읽고 나머지는 건너뛴다.
+ * - 필드 이름은 JsonFactory 심볼 테이블이 정규화한 문자열이라 레코드마다 새로 만들지 않는다.
+ * - eventType은 파서 버퍼에서 바로 KafkaEventType으로 바꾼다.
+ * - eventId나 eventType이 없으면 JsonParseException을 던진다.
+ */
+public class KafkaEventDecoder {
+
+    private static final int INITIAL_PRODUCT_IDS = 8;
+
+    private final JsonFactory jsonFactory;
+
+    public KafkaEventDecoder() {
+        this(new ObjectMapper());
+    }
+
+    public KafkaEventDecoder(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    public KafkaEventEnvelope decode(byte[] payload) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "이벤트 메시지가 JSON 객체가 아니다");
+            }
+            String eventId = null;
+            KafkaEventType eventType = null;
+            long productId = KafkaEventEnvelope.NO_PRODUCT;
+            long[] productIds = null;
+
+            String field;
+            while ((field = parser.nextFieldName()) != null) {
+                JsonToken token = parser.nextToken();
+                switch (field) {
+                    case "eventId" -> eventId = token == JsonToken.VALUE_NULL ? null : parser.getText();
+                    case "eventType" -> eventType = token == JsonToken.VALUE_STRING
+                            ? KafkaEventType.of(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength())
+                            : null;
+                    case "data" -> {
+                        if (token != JsonToken.START_OBJECT) {
+                            parser.skipChildren();
+                            continue;
+                        }
+                        String dataField;
+                        while ((dataField = parser.nextFieldName()) != null) {
+                            JsonToken dataToken = parser.nextToken();
+                            switch (dataField) {
+                                case "productId" -> productId = dataToken.isNumeric()
+                                        ? parser.getLongValue()
+                                        : KafkaEventEnvelope.NO_PRODUCT;
+                                case "productIds" -> productIds = readLongs(parser, dataToken);
+                                default -> parser.skipChildren();
+                            }
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+            if (eventId == null || eventType == null) {
+                throw new JsonParseException(parser, "eventId 또는 eventType이 없다");
+            }
+            return new KafkaEventEnvelope(eventId, eventType, productId, productIds);
+        }
+    }
+
+    private static long[] readLongs(JsonParser parser, JsonToken token) throws IOException {
+        if (token != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        long[] values = new long[INITIAL_PRODUCT_IDS];
+        int size = 0;
+        JsonToken element;
+        while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (!element.isNumeric()) {
+                parser.skipChildren();
+                continue;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = parser.getLongValue();
+        }
+        return size == values.length ? values : Arrays.copyOf(values, size);
+    }
+}
@@ -0,0 +1,31 @@
+package com.loopers.confg.kafka;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 컨슈머가 쓰는 필드만 뽑은 KafkaEventMessage.
+ *
+ * @param productId  data.productId. 없으면 NO_PRODUCT
+ * @param productIds data.productIds. 없으면 null
+ */
+public record KafkaEventEnvelope(
+        String eventId,
+        KafkaEventType eventType,
+        long productId,
+        long[] productIds
+) {
+    public static final long NO_PRODUCT = -1L;
+
+    public boolean hasProductId() {
+        return productId != NO_PRODUCT;
+    }
+
+    public List<Long> productIdList() {
+        List<Long> values = new ArrayList<>(productIds.length);
+        for (long value : productIds) {
+            values.add(value);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,103 @@
+package com.loopers.confg.kafka;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Map;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.JacksonUtils;
+
+/**
+ * KafkaEventMessage 전용 직렬화기.
+ *
+ * - 리플렉션 없이 JsonGenerator로 필드를 바로 쓴다. 형태는 JsonSerializer가 쓰던 것과 같다.
+ *   occurredAt은 예전처럼 epoch 초.나노초 숫자로 쓴다.
+ * - 출력 버퍼는 스레드마다 INITIAL_BUFFER_BYTES로 미리 잡아 두고 재사용한다.
+ *   MAX_RETAINED_BUFFER_BYTES보다 큰 메시지를 쓴 버퍼는 버려 메모리를 붙잡지 않는다.
+ * - data 값은 null, 숫자, 문자열, 불리언, 컬렉션을 직접 쓰고 그 밖의 타입은 ObjectMapper에 맡긴다.
+ */
+public class KafkaEventMessageSerializer implements Serializer<KafkaEventMessage> {
+
+    static final int INITIAL_BUFFER_BYTES = 512;
+    static final int MAX_RETAINED_BUFFER_BYTES = 64 * 1024;
+
+    private final JsonFactory jsonFactory;
+    private final ThreadLocal<ByteArrayBuilder> buffers =
+            ThreadLocal.withInitial(() -> new ByteArrayBuilder(INITIAL_BUFFER_BYTES));
+
+    public KafkaEventMessageSerializer() {
+        this(JacksonUtils.enhancedObjectMapper());
+    }
+
+    public KafkaEventMessageSerializer(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    @Override
+    public byte[] serialize(String topic, KafkaEventMessage message) {
+        if (message == null) {
+            return null;
+        }
+        ByteArrayBuilder buffer = buffers.get();
+        buffer.reset();
+        try (JsonGenerator generator = jsonFactory.createGenerator(buffer)) {
+            generator.writeStartObject();
+            generator.writeStringField("eventId", message.eventId());
+            generator.writeStringField("eventType", message.eventType());
+            generator.writeFieldName("occurredAt");
+            writeTimestamp(generator, message.occurredAt());
+            generator.writeFieldName("data");
+            writeValue(generator, message.data());
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new SerializationException("KafkaEventMessage 직렬화 실패: eventType=" + message.eventType(), e);
+        }
+        byte[] bytes = buffer.toByteArray();
+        if (bytes.length > MAX_RETAINED_BUFFER_BYTES) {
+            buffers.remove();
+        }
+        return bytes;
+    }
+
+    private static void writeTimestamp(JsonGenerator generator, ZonedDateTime occurredAt) throws IOException {
+        if (occurredAt == null) {
+            generator.writeNull();
+            return;
+        }
+        Instant instant = occurredAt.toInstant();
+        String nanos = Integer.toString(instant.getNano());
+        generator.writeNumber(instant.getEpochSecond() + "." + "0".repeat(9 - nanos.length()) + nanos);
+    }
+
+    private static void writeValue(JsonGenerator generator, Object value) throws IOException {
+        switch (value) {
+            case null -> generator.writeNull();
+            case String text -> generator.writeString(text);
+            case Long number -> generator.writeNumber(number);
+            case Integer number -> generator.writeNumber(number);
+            case Boolean flag -> generator.writeBoolean(flag);
+            case Map<?, ?> map -> {
+                generator.writeStartObject();
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    generator.writeFieldName(String.valueOf(entry.getKey()));
+                    writeValue(generator, entry.getValue());
+                }
+                generator.writeEndObject();
+            }
+            case Collection<?> values -> {
+                generator.writeStartArray();
+                for (Object element : values) {
+                    writeValue(generator, element);
+                }
+                generator.writeEndArray();
+            }
+            default -> generator.writeObject(value);
+        }
+    }
+}
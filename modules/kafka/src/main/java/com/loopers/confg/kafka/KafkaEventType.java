@@ -0,0 +1,37 @@
+package com.loopers.confg.kafka;
+
+/**
+ * KafkaEventMessage.eventType 값. 컨슈머는 문자열 대신 이 값으로 분기한다.
+ * 모르는 값은 UNKNOWN으로 읽어 새 이벤트가 먼저 배포돼도 컨슈머가 멈추지 않게 한다.
+ */
+public enum KafkaEventType {
+    PRODUCT_VIEWED,
+    PRODUCT_LIKED,
+    PRODUCT_UNLIKED,
+    ORDER_COMPLETED,
+    UNKNOWN;
+
+    private static final KafkaEventType[] KNOWN = {PRODUCT_VIEWED, PRODUCT_LIKED, PRODUCT_UNLIKED, ORDER_COMPLETED};
+
+    /**
+     * 파서 버퍼의 문자를 그대로 비교한다. 레코드마다 문자열을 만들지 않는다.
+     */
+    public static KafkaEventType of(char[] text, int offset, int length) {
+        for (KafkaEventType type : KNOWN) {
+            String name = type.name();
+            if (name.length() == length && matches(name, text, offset)) {
+                return type;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    private static boolean matches(String name, char[] text, int offset) {
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) != text[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -5,6 +5,7 @@ public final class KafkaTopics {
     public static final String CATALOG_EVENTS = "catalog-events";
     public static final String ORDER_EVENTS = "order-events";
     public static final String COUPON_ISSUED = "coupon-issued";
+    public static final String COUPON_ISSUED_DLT = "coupon-issued.DLT";
 
     private KafkaTopics() {}
 }
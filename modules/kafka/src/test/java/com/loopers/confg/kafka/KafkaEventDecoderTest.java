@@ -0,0 +1,90 @@
+package com.loopers.confg.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class KafkaEventDecoderTest {
+
+    private final KafkaEventMessageSerializer serializer = new KafkaEventMessageSerializer();
+    private final KafkaEventDecoder decoder = new KafkaEventDecoder();
+
+    @DisplayName("이벤트 메시지를 해석할 때, ")
+    @Nested
+    class Decode {
+
+        @DisplayName("상품 이벤트는 eventId, eventType, productId를 읽는다.")
+        @Test
+        void decode_catalogEvent() throws Exception {
+            // arrange
+            byte[] payload = serializer.serialize(KafkaTopics.CATALOG_EVENTS,
+                    KafkaEventMessage.of("PRODUCT_LIKED", Map.of("productId", 10L, "userId", 1L)));
+
+            // act
+            KafkaEventEnvelope event = decoder.decode(payload);
+
+            // assert
+            assertAll(
+                    () -> assertThat(event.eventId()).isNotBlank(),
+                    () -> assertThat(event.eventType()).isEqualTo(KafkaEventType.PRODUCT_LIKED),
+                    () -> assertThat(event.hasProductId()).isTrue(),
+                    () -> assertThat(event.productId()).isEqualTo(10L),
+                    () -> assertThat(event.productIds()).isNull());
+        }
+
+        @DisplayName("주문 이벤트는 productIds를 순서대로 읽고, 중첩된 다른 필드는 건너뛴다.")
+        @Test
+        void decode_orderEvent() throws Exception {
+            // arrange
+            List<Long> productIds = List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+            byte[] payload = serializer.serialize(KafkaTopics.ORDER_EVENTS,
+                    KafkaEventMessage.of("ORDER_COMPLETED", Map.of(
+                            "orderId", 100L,
+                            "items", List.of(Map.of("productId", 99L, "quantity", 2)),
+                            "productIds", productIds)));
+
+            // act
+            KafkaEventEnvelope event = decoder.decode(payload);
+
+            // assert
+            assertAll(
+                    () -> assertThat(event.eventType()).isEqualTo(KafkaEventType.ORDER_COMPLETED),
+                    () -> assertThat(event.hasProductId()).isFalse(),
+                    () -> assertThat(event.productIdList()).containsExactlyElementsOf(productIds));
+        }
+
+        @DisplayName("모르는 eventType은 UNKNOWN으로 읽는다.")
+        @Test
+        void decode_unknownEventType() throws Exception {
+            // arrange
+            byte[] payload = serializer.serialize(KafkaTopics.CATALOG_EVENTS,
+                    KafkaEventMessage.of("PRODUCT_SHARED", Map.of("productId", 10L)));
+
+            // act
+            KafkaEventEnvelope event = decoder.decode(payload);
+
+            // assert
+            assertThat(event.eventType()).isEqualTo(KafkaEventType.UNKNOWN);
+        }
+
+        @DisplayName("eventId가 없으면 JsonParseException이 발생한다.")
+        @Test
+        void decode_withoutEventId_throws() {
+            // arrange
+            byte[] payload = "{\"eventType\":\"PRODUCT_VIEWED\",\"data\":{\"productId\":1}}"
+                    .getBytes(StandardCharsets.UTF_8);
+
+            // act & assert
+            assertThatThrownBy(() -> decoder.decode(payload))
+                    .isInstanceOf(JsonParseException.class);
+        }
+    }
+}
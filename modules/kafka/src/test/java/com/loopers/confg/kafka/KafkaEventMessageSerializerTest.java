@@ -0,0 +1,77 @@
+package com.loopers.confg.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+class KafkaEventMessageSerializerTest {
+
+    private static final ZonedDateTime OCCURRED_AT =
+            ZonedDateTime.of(2026, 3, 1, 12, 30, 15, 123_456_789, ZoneId.of("Asia/Seoul"));
+
+    private final KafkaEventMessageSerializer serializer = new KafkaEventMessageSerializer();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @DisplayName("직렬화할 때, ")
+    @Nested
+    class Serialize {
+
+        @DisplayName("JsonSerializer가 쓰던 것과 같은 JSON을 만든다.")
+        @Test
+        void serialize_matchesJsonSerializer() throws Exception {
+            // arrange
+            Map<String, Object> data = new HashMap<>();
+            data.put("orderId", 10L);
+            data.put("userId", null);
+            data.put("totalPrice", 35_000);
+            data.put("productIds", List.of(1L, 2L, 3L));
+            data.put("note", "\"따옴표\"와 줄바꿈\n");
+            KafkaEventMessage message = new KafkaEventMessage("event-1", "ORDER_COMPLETED", OCCURRED_AT, data);
+
+            // act
+            byte[] actual = serializer.serialize("order-events", message);
+            byte[] expected;
+            try (JsonSerializer<KafkaEventMessage> jsonSerializer = new JsonSerializer<>()) {
+                expected = jsonSerializer.serialize("order-events", message);
+            }
+
+            // assert
+            JsonNode actualTree = objectMapper.readTree(actual);
+            assertAll(
+                    () -> assertThat(actualTree).isEqualTo(objectMapper.readTree(expected)),
+                    () -> assertThat(actualTree.get("data").get("productIds").size()).isEqualTo(3));
+        }
+
+        @DisplayName("버퍼를 재사용해도 이전 메시지가 섞이지 않는다.")
+        @Test
+        void serialize_reusesBufferWithoutLeaking() throws Exception {
+            // arrange
+            KafkaEventMessage large = new KafkaEventMessage(
+                    "event-1", "PRODUCT_VIEWED", OCCURRED_AT, Map.of("payload", "x".repeat(2_000)));
+            KafkaEventMessage small = new KafkaEventMessage(
+                    "event-2", "PRODUCT_VIEWED", OCCURRED_AT, Map.of("productId", 1L));
+
+            // act
+            serializer.serialize("catalog-events", large);
+            byte[] bytes = serializer.serialize("catalog-events", small);
+
+            // assert
+            JsonNode tree = objectMapper.readTree(bytes);
+            assertAll(
+                    () -> assertThat(tree.get("eventId").asText()).isEqualTo("event-2"),
+                    () -> assertThat(tree.get("data").has("payload")).isFalse(),
+                    () -> assertThat(tree.get("data").get("productId").asLong()).isEqualTo(1L));
+        }
+    }
+}
@@ -5,6 +5,7 @@ plugins {
 
 dependencies {
     api("org.springframework.boot:spring-boot-starter-data-redis")
+    implementation("io.micrometer:micrometer-core")
 
     testFixturesImplementation("com.redis:testcontainers-redis")
 }
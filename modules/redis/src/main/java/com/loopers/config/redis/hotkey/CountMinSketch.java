@@ -0,0 +1,81 @@
+package com.loopers.config.redis.hotkey;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 키 접근 빈도를 고정 크기 메모리로 근사하는 Count-Min Sketch.
+ *
+ * - depth개 행마다 서로 다른 시드로 해시해 카운터를 올리고, 추정값은 행들 중 최솟값이다(과대 추정만 발생).
+ * - 카운터는 lock 없이 AtomicIntegerArray로 올린다.
+ * - halve()로 전체를 절반으로 줄여 오래된 접근의 영향을 지운다(윈도우 감쇠).
+ */
+final class CountMinSketch {
+
+    private static final int[] SEEDS = {0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F};
+
+    private final int depth;
+    private final int mask;
+    private final AtomicIntegerArray counters;
+
+    CountMinSketch(int width) {
+        if (width < 1 || Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("width는 2의 거듭제곱이어야 합니다: " + width);
+        }
+        this.depth = SEEDS.length;
+        this.mask = width - 1;
+        this.counters = new AtomicIntegerArray(depth * width);
+    }
+
+    /**
+     * 카운터를 1 올리고 올린 뒤의 추정 빈도를 돌려준다.
+     */
+    int increment(String key) {
+        int base = fnv1a(key);
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int index = row * (mask + 1) + (mix(base ^ SEEDS[row]) & mask);
+            int count = counters.incrementAndGet(index);
+            if (count < estimate) {
+                estimate = count;
+            }
+        }
+        return estimate;
+    }
+
+    int estimate(String key) {
+        int base = fnv1a(key);
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int index = row * (mask + 1) + (mix(base ^ SEEDS[row]) & mask);
+            estimate = Math.min(estimate, counters.get(index));
+        }
+        return estimate;
+    }
+
+    /**
+     * 모든 카운터를 절반으로 줄인다. 동시에 올라가는 카운터와 경합해도 추정이 약간 흔들릴 뿐이다.
+     */
+    void halve() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, counters.get(i) >>> 1);
+        }
+    }
+
+    private static int fnv1a(String key) {
+        int hash = 0x811C9DC5;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x01000193;
+        }
+        return hash;
+    }
+
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
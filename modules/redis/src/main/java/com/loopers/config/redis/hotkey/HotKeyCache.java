@@ -0,0 +1,159 @@
+package com.loopers.config.redis.hotkey;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클라이언트 측 핫 키 감지 + 로컬 복제.
+ *
+ * - Redis 조회를 get(redisKey, loader)로 감싸면 키 접근 빈도를 Count-Min Sketch로 센다.
+ * - 접두사 정책의 threshold를 넘은 키는 조회 결과를 policy의 local-ttl-ms 동안 인스턴스 메모리에 두고,
+ *   그동안의 조회는 Redis로 가지 않는다. 한 키가 샤드 하나의 CPU를 독차지하는 것을 막는다.
+ * - 윈도우(window-ms)가 지날 때마다 sketch를 절반으로 줄이고 만료된 로컬 항목을 지운다.
+ *   따라서 빈도는 "이번 윈도우 접근 수 + 이전 빈도의 절반"이다.
+ * - 로컬 항목 수는 max-local-entries로 제한하고, 넘치면 새 항목은 보관하지 않는다.
+ * - 로컬 값은 여러 스레드가 공유하므로 loader는 불변 값을 돌려줘야 한다.
+ */
+@Component
+public class HotKeyCache {
+
+    private static final String METRIC_PREFIX = "redis.hotkey.";
+    private static final Object NULL_VALUE = new Object();
+    private static final char VARIANT_DELIMITER = '\u0000';
+
+    private final boolean enabled;
+    private final int sampleRate;
+    private final long windowNanos;
+    private final int maxLocalEntries;
+    private final List<PolicyState> policies;
+    private final CountMinSketch sketch;
+    private final Map<String, LocalEntry> localEntries = new ConcurrentHashMap<>();
+    private final AtomicLong windowStartedAt = new AtomicLong(System.nanoTime());
+
+    public HotKeyCache(HotKeyProperties properties, MeterRegistry registry) {
+        this.enabled = properties.enabled();
+        this.sampleRate = properties.sampleRate();
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(properties.windowMs());
+        this.maxLocalEntries = properties.maxLocalEntries();
+        this.sketch = new CountMinSketch(Integer.highestOneBit(properties.sketchWidth()));
+        this.policies = properties.policies().stream()
+                .sorted(Comparator.comparingInt((HotKeyProperties.Policy policy) -> policy.prefix().length())
+                        .reversed())
+                .map(policy -> new PolicyState(policy, registry))
+                .toList();
+        Gauge.builder(METRIC_PREFIX + "local.entries", localEntries, Map::size)
+                .description("로컬에 복제된 핫 키 항목 수")
+                .register(registry);
+    }
+
+    public <T> T get(String redisKey, Supplier<T> loader) {
+        return get(redisKey, "", loader);
+    }
+
+    /**
+     * redisKey의 접근 빈도를 세고, 핫 키면 (redisKey, variant)별 조회 결과를 로컬에 잠시 보관한다.
+     * variant는 같은 키에 대한 서로 다른 조회(예: ZSET 범위)를 구분한다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String redisKey, String variant, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        PolicyState policy = policyOf(redisKey);
+        if (policy == null) {
+            return loader.get();
+        }
+
+        boolean hot = record(redisKey, policy);
+        String localKey = variant.isEmpty() ? redisKey : redisKey + VARIANT_DELIMITER + variant;
+        long now = System.nanoTime();
+        LocalEntry entry = localEntries.get(localKey);
+        if (entry != null) {
+            if (entry.expiresAt() - now > 0) {
+                policy.localHits.increment();
+                return entry.value() == NULL_VALUE ? null : (T) entry.value();
+            }
+            localEntries.remove(localKey, entry);
+        }
+
+        T value = loader.get();
+        if (hot && localEntries.size() < maxLocalEntries) {
+            LocalEntry promoted = new LocalEntry(value == null ? NULL_VALUE : value, now + policy.localTtlNanos);
+            if (localEntries.put(localKey, promoted) == null) {
+                policy.promotions.increment();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 이 인스턴스가 쓴 값을 바로 읽어야 할 때 로컬 복제본을 지운다. 다른 인스턴스의 복제본은 TTL로 만료된다.
+     */
+    public void invalidate(String redisKey) {
+        String variantPrefix = redisKey + VARIANT_DELIMITER;
+        localEntries.keySet().removeIf(key -> key.equals(redisKey) || key.startsWith(variantPrefix));
+    }
+
+    private PolicyState policyOf(String redisKey) {
+        for (PolicyState policy : policies) {
+            if (redisKey.startsWith(policy.prefix)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+    private boolean record(String redisKey, PolicyState policy) {
+        rotateWindowIfElapsed();
+        int estimate = sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0
+                ? sketch.estimate(redisKey)
+                : sketch.increment(redisKey);
+        return (long) estimate * sampleRate >= policy.threshold;
+    }
+
+    private void rotateWindowIfElapsed() {
+        long startedAt = windowStartedAt.get();
+        long now = System.nanoTime();
+        if (now - startedAt < windowNanos || !windowStartedAt.compareAndSet(startedAt, now)) {
+            return;
+        }
+        sketch.halve();
+        localEntries.values().removeIf(entry -> entry.expiresAt() - now <= 0);
+    }
+
+    private record LocalEntry(Object value, long expiresAt) {
+    }
+
+    private static final class PolicyState {
+
+        private final String prefix;
+        private final long threshold;
+        private final long localTtlNanos;
+        private final Counter promotions;
+        private final Counter localHits;
+
+        PolicyState(HotKeyProperties.Policy policy, MeterRegistry registry) {
+            this.prefix = policy.prefix();
+            this.threshold = policy.threshold();
+            this.localTtlNanos = TimeUnit.MILLISECONDS.toNanos(policy.localTtlMs());
+            this.promotions = Counter.builder(METRIC_PREFIX + "promotions")
+                    .tag("prefix", policy.prefix())
+                    .description("핫 키로 판정되어 로컬에 복제된 횟수")
+                    .register(registry);
+            this.localHits = Counter.builder(METRIC_PREFIX + "local.hits")
+                    .tag("prefix", policy.prefix())
+                    .description("Redis 대신 로컬 복제본으로 응답한 횟수")
+                    .register(registry);
+        }
+    }
+}
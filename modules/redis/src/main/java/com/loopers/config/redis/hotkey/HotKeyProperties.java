@@ -0,0 +1,46 @@
+package com.loopers.config.redis.hotkey;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 핫 키 감지 설정 (datasource.redis.hot-key.*).
+ *
+ * - policies에 등록된 접두사로 시작하는 키만 감지/복제 대상이다. 여러 개가 맞으면 가장 긴 접두사를 쓴다.
+ * - threshold는 window-ms 동안 이 인스턴스에서의 접근 횟수 기준이다.
+ * - sample-rate가 N이면 접근 N번 중 1번꼴로만 sketch를 갱신하고 추정값에 N을 곱한다.
+ */
+@ConfigurationProperties(prefix = "datasource.redis.hot-key")
+public record HotKeyProperties(
+        Boolean enabled,
+        int sampleRate,
+        long windowMs,
+        int sketchWidth,
+        int maxLocalEntries,
+        List<Policy> policies) {
+
+    public HotKeyProperties {
+        if (enabled == null) enabled = false;
+        if (sampleRate <= 0) sampleRate = 1;
+        if (windowMs <= 0) windowMs = 1000;
+        if (sketchWidth <= 0) sketchWidth = 4096;
+        if (maxLocalEntries <= 0) maxLocalEntries = 1000;
+        if (policies == null) policies = List.of();
+    }
+
+    /**
+     * @param prefix     대상 키 접두사
+     * @param threshold  윈도우당 접근 횟수가 이 값 이상이면 핫 키로 본다
+     * @param localTtlMs 핫 키 값을 로컬에 보관하는 시간. 이 시간만큼 다른 인스턴스의 쓰기가 늦게 보인다
+     */
+    public record Policy(String prefix, long threshold, long localTtlMs) {
+
+        public Policy {
+            if (prefix == null || prefix.isBlank()) {
+                throw new IllegalArgumentException("hot-key policy의 prefix는 필수입니다.");
+            }
+            if (threshold <= 0) threshold = 1000;
+            if (localTtlMs <= 0) localTtlMs = 500;
+        }
+    }
+}
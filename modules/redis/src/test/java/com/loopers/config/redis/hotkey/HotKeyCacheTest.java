@@ -0,0 +1,128 @@
+package com.loopers.config.redis.hotkey;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("HotKeyCache 단위 테스트")
+class HotKeyCacheTest {
+
+    private SimpleMeterRegistry registry;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        loads = new AtomicInteger();
+    }
+
+    private HotKeyCache cache(boolean enabled, long threshold) {
+        return new HotKeyCache(new HotKeyProperties(enabled, 1, 60_000, 1024, 100,
+                List.of(new HotKeyProperties.Policy("ranking:", threshold, 60_000))), registry);
+    }
+
+    private String load() {
+        return "value-" + loads.incrementAndGet();
+    }
+
+    @DisplayName("threshold에 닿기 전까지는 매번 Redis에서 읽고, 닿은 뒤에는 로컬 복제본으로 응답한다.")
+    @Test
+    void get_promotesHotKey() {
+        // arrange
+        HotKeyCache cache = cache(true, 3);
+
+        // act
+        cache.get("ranking:all:v1:20250101", this::load);
+        cache.get("ranking:all:v1:20250101", this::load);
+        String promoted = cache.get("ranking:all:v1:20250101", this::load);
+        String local = cache.get("ranking:all:v1:20250101", this::load);
+
+        // assert
+        assertAll(
+                () -> assertThat(loads.get()).isEqualTo(3),
+                () -> assertThat(local).isEqualTo(promoted),
+                () -> assertThat(registry.get("redis.hotkey.promotions").tag("prefix", "ranking:").counter().count())
+                        .isEqualTo(1),
+                () -> assertThat(registry.get("redis.hotkey.local.hits").tag("prefix", "ranking:").counter().count())
+                        .isEqualTo(1));
+    }
+
+    @DisplayName("같은 키라도 variant가 다르면 복제본을 따로 둔다.")
+    @Test
+    void get_separatesVariants() {
+        // arrange
+        HotKeyCache cache = cache(true, 1);
+        String firstPage = cache.get("ranking:all:v1:20250101", "0:9", this::load);
+
+        // act
+        String secondPage = cache.get("ranking:all:v1:20250101", "10:19", this::load);
+
+        // assert
+        assertAll(
+                () -> assertThat(secondPage).isNotEqualTo(firstPage),
+                () -> assertThat(cache.get("ranking:all:v1:20250101", "0:9", this::load)).isEqualTo(firstPage));
+    }
+
+    @DisplayName("정책에 없는 접두사와 비활성화 상태에서는 항상 Redis에서 읽는다.")
+    @Test
+    void get_whenNoPolicyOrDisabled_passesThrough() {
+        // arrange
+        HotKeyCache enabled = cache(true, 1);
+        HotKeyCache disabled = cache(false, 1);
+
+        // act
+        enabled.get("queue:waiting", this::load);
+        enabled.get("queue:waiting", this::load);
+        disabled.get("ranking:all:v1:20250101", this::load);
+        disabled.get("ranking:all:v1:20250101", this::load);
+
+        // assert
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @DisplayName("invalidate하면 모든 variant의 복제본을 지우고 다시 Redis에서 읽는다.")
+    @Test
+    void invalidate_removesAllVariants() {
+        // arrange
+        HotKeyCache cache = cache(true, 1);
+        cache.get("ranking:all:v1:20250101", "0:9", this::load);
+        cache.get("ranking:all:v1:20250101", "zcard", this::load);
+
+        // act
+        cache.invalidate("ranking:all:v1:20250101");
+        cache.get("ranking:all:v1:20250101", "0:9", this::load);
+        cache.get("ranking:all:v1:20250101", "zcard", this::load);
+
+        // assert
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @DisplayName("Count-Min Sketch는 과소 추정하지 않고, halve 후에는 절반으로 줄어든다.")
+    @Test
+    void countMinSketch_neverUnderestimates() {
+        // arrange
+        CountMinSketch sketch = new CountMinSketch(64);
+        for (int i = 0; i < 500; i++) {
+            sketch.increment("key:" + (i % 50));
+        }
+        for (int i = 0; i < 100; i++) {
+            sketch.increment("hot");
+        }
+
+        // act
+        int before = sketch.estimate("hot");
+        sketch.halve();
+        int after = sketch.estimate("hot");
+
+        // assert
+        assertAll(
+                () -> assertThat(before).isGreaterThanOrEqualTo(100),
+                () -> assertThat(after).isBetween(before / 2 - 1, before / 2));
+    }
+}